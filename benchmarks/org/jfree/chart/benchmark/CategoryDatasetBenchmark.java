@@ -0,0 +1,162 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * CategoryDatasetBenchmark.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.category.DenseCategoryDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to look up values in {@link DefaultCategoryDataset}
+ * and {@link DenseCategoryDataset}, by index and by key.  Each invocation
+ * looks up every value in the dataset and the results are reported per
+ * lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class CategoryDatasetBenchmark {
+
+    /** The number of rows. */
+    static final int ROWS = 10;
+
+    /** The number of columns. */
+    static final int COLUMNS = 1000;
+
+    /** The dataset class. */
+    @Param({"default", "dense"})
+    public String implementation;
+
+    /** The dataset. */
+    private CategoryDataset dataset;
+
+    /** The row keys. */
+    private Comparable[] rowKeys;
+
+    /** The column keys. */
+    private Comparable[] columnKeys;
+
+    /**
+     * Creates the dataset.
+     */
+    @Setup
+    public void setUp() {
+        this.rowKeys = new Comparable[ROWS];
+        for (int r = 0; r < ROWS; r++) {
+            this.rowKeys[r] = "R" + r;
+        }
+        this.columnKeys = new Comparable[COLUMNS];
+        for (int c = 0; c < COLUMNS; c++) {
+            this.columnKeys[c] = "C" + c;
+        }
+        if ("default".equals(this.implementation)) {
+            DefaultCategoryDataset d = new DefaultCategoryDataset();
+            for (int r = 0; r < ROWS; r++) {
+                for (int c = 0; c < COLUMNS; c++) {
+                    d.addValue(r * c, this.rowKeys[r], this.columnKeys[c]);
+                }
+            }
+            this.dataset = d;
+        }
+        else {
+            DenseCategoryDataset d = new DenseCategoryDataset(ROWS, COLUMNS);
+            for (int r = 0; r < ROWS; r++) {
+                for (int c = 0; c < COLUMNS; c++) {
+                    d.addValue(r * c, this.rowKeys[r], this.columnKeys[c]);
+                }
+            }
+            this.dataset = d;
+        }
+    }
+
+    /**
+     * Looks up every value by index.
+     *
+     * @return The sum of the values.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS * COLUMNS)
+    public double getValueByIndex() {
+        double total = 0.0;
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                total += this.dataset.getValue(r, c).doubleValue();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Looks up every value by key.
+     *
+     * @return The sum of the values.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS * COLUMNS)
+    public double getValueByKey() {
+        double total = 0.0;
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                total += this.dataset.getValue(this.rowKeys[r],
+                        this.columnKeys[c]).doubleValue();
+            }
+        }
+        return total;
+    }
+
+}
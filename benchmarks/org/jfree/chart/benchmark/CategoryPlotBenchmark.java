@@ -0,0 +1,165 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * CategoryPlotBenchmark.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.category.CategoryItemRenderer;
+import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.renderer.category.StackedBarRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to draw a {@link CategoryPlot} (without chart
+ * entities) for the main category renderers and several data sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class CategoryPlotBenchmark {
+
+    /** The number of categories (there are three series). */
+    @Param({"100", "5000"})
+    public int categoryCount;
+
+    /** The renderer. */
+    @Param({"bar", "stackedBar", "line"})
+    public String renderer;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image that the chart is drawn on. */
+    private BufferedImage image;
+
+    /** The graphics device for the image. */
+    private Graphics2D g2;
+
+    /** The chart area. */
+    private Rectangle2D area;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(1L);
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int c = 0; c < this.categoryCount; c++) {
+            for (int r = 0; r < 3; r++) {
+                dataset.addValue(random.nextDouble() * 100.0, "R" + r,
+                        "C" + c);
+            }
+        }
+        CategoryAxis categoryAxis = new CategoryAxis("Category");
+        categoryAxis.setTickLabelsVisible(this.categoryCount <= 100);
+        CategoryPlot plot = new CategoryPlot(dataset, categoryAxis,
+                new NumberAxis("Value"), createRenderer(this.renderer));
+        this.chart = new JFreeChart(plot);
+        this.image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        this.g2 = this.image.createGraphics();
+        this.area = new Rectangle2D.Double(0, 0, 800, 600);
+    }
+
+    /**
+     * Creates a renderer.
+     *
+     * @param name  the renderer name.
+     *
+     * @return The renderer.
+     */
+    private static CategoryItemRenderer createRenderer(String name) {
+        if ("bar".equals(name)) {
+            return new BarRenderer();
+        }
+        else if ("stackedBar".equals(name)) {
+            return new StackedBarRenderer();
+        }
+        else if ("line".equals(name)) {
+            return new LineAndShapeRenderer();
+        }
+        throw new IllegalArgumentException("Unknown renderer: " + name);
+    }
+
+    /**
+     * Releases the graphics device.
+     */
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        this.chart.draw(this.g2, this.area);
+        return this.image;
+    }
+
+}
@@ -0,0 +1,218 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ChartOutputBenchmark.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.imagemap.ImageMapUtilities;
+import org.jfree.chart.imagemap.ImageMapWriter;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.urls.StandardXYURLGenerator;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to write a chart as a PNG or JPEG image (which
+ * includes drawing the chart) and to generate an HTML image map for it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ChartOutputBenchmark {
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /**
+     * The rendering info for the chart (with 2000 entities that have
+     * tool tips and URLs).
+     */
+    private ChartRenderingInfo info;
+
+    /** The image map writer. */
+    private ImageMapWriter mapWriter;
+
+    /** A stream that counts and discards the bytes written to it. */
+    private CountingOutputStream out;
+
+    /**
+     * Creates the chart and the rendering info.
+     *
+     * @throws IOException if there is a problem writing the chart.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(1L);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int s = 0; s < 2; s++) {
+            XYSeries series = new XYSeries("S" + s);
+            double y = 100.0;
+            for (int i = 0; i < 1000; i++) {
+                y += random.nextGaussian();
+                series.add(i, y);
+            }
+            dataset.addSeries(series);
+        }
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setBaseToolTipGenerator(new StandardXYToolTipGenerator());
+        renderer.setURLGenerator(new StandardXYURLGenerator());
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        ((NumberAxis) plot.getRangeAxis()).setAutoRangeIncludesZero(false);
+        this.chart = new JFreeChart(plot);
+        this.out = new CountingOutputStream();
+        this.mapWriter = new ImageMapWriter();
+        this.info = new ChartRenderingInfo();
+        ChartUtilities.writeChartAsPNG(this.out, this.chart, 800, 600,
+                this.info);
+    }
+
+    /**
+     * Writes the chart as a PNG image.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is a problem writing the chart.
+     */
+    @Benchmark
+    public long writeChartAsPNG() throws IOException {
+        this.out.reset();
+        ChartUtilities.writeChartAsPNG(this.out, this.chart, 800, 600);
+        return this.out.getCount();
+    }
+
+    /**
+     * Writes the chart as a JPEG image.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is a problem writing the chart.
+     */
+    @Benchmark
+    public long writeChartAsJPEG() throws IOException {
+        this.out.reset();
+        ChartUtilities.writeChartAsJPEG(this.out, this.chart, 800, 600);
+        return this.out.getCount();
+    }
+
+    /**
+     * Generates the HTML image map for the chart.
+     *
+     * @return The image map.
+     */
+    @Benchmark
+    public String getImageMap() {
+        return ImageMapUtilities.getImageMap("chart", this.info);
+    }
+
+    /**
+     * Writes the HTML image map for the chart to a stream.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is a problem writing the map.
+     */
+    @Benchmark
+    public long writeImageMap() throws IOException {
+        this.out.reset();
+        this.mapWriter.writeImageMap(this.out, "chart", this.info);
+        return this.out.getCount();
+    }
+
+    /**
+     * An output stream that counts and discards the bytes written to it.
+     */
+    static class CountingOutputStream extends OutputStream {
+
+        /** The number of bytes written. */
+        private long count;
+
+        @Override
+        public void write(int b) {
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.count += len;
+        }
+
+        /**
+         * Returns the number of bytes written since the last reset.
+         *
+         * @return The number of bytes.
+         */
+        long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Resets the count to zero.
+         */
+        void reset() {
+            this.count = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,182 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DatasetBoundsBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken by {@link DatasetUtilities} to find the domain
+ * and range bounds for the standard datasets, both through the shortcuts
+ * that the datasets provide and by iterating over the items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class DatasetBoundsBenchmark {
+
+    /** The number of items in each series. */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /** An XY dataset with two series. */
+    private XYSeriesCollection xyDataset;
+
+    /** A time series dataset with two series. */
+    private TimeSeriesCollection timeDataset;
+
+    /** A category dataset with two rows. */
+    private DefaultCategoryDataset categoryDataset;
+
+    /**
+     * Creates the datasets.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(1L);
+        this.xyDataset = new XYSeriesCollection();
+        this.timeDataset = new TimeSeriesCollection();
+        this.categoryDataset = new DefaultCategoryDataset();
+        for (int s = 0; s < 2; s++) {
+            XYSeries xySeries = new XYSeries("S" + s, false, true);
+            TimeSeries timeSeries = new TimeSeries("S" + s);
+            RegularTimePeriod period = new Millisecond();
+            for (int i = 0; i < this.itemCount; i++) {
+                double y = random.nextGaussian();
+                xySeries.add(i, y, false);
+                timeSeries.add(period, y, false);
+                period = period.next();
+                if (i < 5000) {
+                    this.categoryDataset.addValue(y, "S" + s, "C" + i);
+                }
+            }
+            this.xyDataset.addSeries(xySeries);
+            this.timeDataset.addSeries(timeSeries);
+        }
+    }
+
+    /**
+     * Finds the domain bounds of an XY dataset.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range xyDomainBounds() {
+        return DatasetUtilities.findDomainBounds(this.xyDataset);
+    }
+
+    /**
+     * Finds the range bounds of an XY dataset.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range xyRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.xyDataset);
+    }
+
+    /**
+     * Finds the range bounds of an XY dataset by iterating over the items.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range xyRangeBoundsByIteration() {
+        return DatasetUtilities.iterateRangeBounds(this.xyDataset);
+    }
+
+    /**
+     * Finds the domain bounds of a time series dataset.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range timeSeriesDomainBounds() {
+        return DatasetUtilities.findDomainBounds(this.timeDataset);
+    }
+
+    /**
+     * Finds the domain bounds of a time series dataset by iterating over the
+     * items.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range timeSeriesDomainBoundsByIteration() {
+        return DatasetUtilities.iterateDomainBounds(this.timeDataset);
+    }
+
+    /**
+     * Finds the range bounds of a category dataset (with up to 5000
+     * columns).
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range categoryRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.categoryDataset);
+    }
+
+}
@@ -0,0 +1,193 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------------
+ * DelimitedDataReaderBenchmark.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.io.DelimitedDataReader;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to read an x-column and three y-columns from a CSV file
+ * into a {@link DefaultXYDataset}:  line by line with
+ * <code>String.substring()</code> and <code>Double.valueOf()</code> for
+ * each field, as {@link org.jfree.data.io.CSV} does ("lines"), and with
+ * {@link DelimitedDataReader} on one thread ("serial") and in parallel
+ * ("parallel").
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class DelimitedDataReaderBenchmark {
+
+    /** The number of rows in the file. */
+    @Param({"1000000"})
+    public int rowCount;
+
+    /** The reading method. */
+    @Param({"lines", "serial", "parallel"})
+    public String mode;
+
+    /** The file. */
+    private File file;
+
+    /**
+     * Writes the file.
+     *
+     * @throws IOException if there is a problem writing the file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.file = File.createTempFile("DelimitedDataReaderBenchmark",
+                ".csv");
+        Random random = new Random(1L);
+        Writer out = new BufferedWriter(new FileWriter(this.file));
+        try {
+            out.write("x,a,b,c\n");
+            for (int i = 0; i < this.rowCount; i++) {
+                out.write(i + "," + random.nextGaussian() + ","
+                        + random.nextInt(100000) / 100.0 + ","
+                        + random.nextInt(1000) + "\n");
+            }
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Deletes the file.
+     */
+    @TearDown
+    public void tearDown() {
+        this.file.delete();
+    }
+
+    /**
+     * Reads the file.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    @Benchmark
+    public XYDataset read() throws IOException {
+        if ("lines".equals(this.mode)) {
+            return readLines();
+        }
+        DelimitedDataReader reader = new DelimitedDataReader();
+        reader.setParallel("parallel".equals(this.mode));
+        return reader.readXYDataset(this.file, 0, new int[] {1, 2, 3});
+    }
+
+    /**
+     * Reads the file one line at a time.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    private XYDataset readLines() throws IOException {
+        List<double[]> rows = new ArrayList<double[]>();
+        BufferedReader in = new BufferedReader(new FileReader(this.file));
+        try {
+            in.readLine();
+            String line = in.readLine();
+            while (line != null) {
+                double[] row = new double[4];
+                int start = 0;
+                for (int k = 0; k < 4; k++) {
+                    int end = line.indexOf(',', start);
+                    if (end < 0) {
+                        end = line.length();
+                    }
+                    row[k] = Double.valueOf(line.substring(start, end));
+                    start = end + 1;
+                }
+                rows.add(row);
+                line = in.readLine();
+            }
+        }
+        finally {
+            in.close();
+        }
+        double[][] columns = new double[4][rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            double[] row = rows.get(i);
+            for (int k = 0; k < 4; k++) {
+                columns[k][i] = row[k];
+            }
+        }
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        for (int k = 1; k < 4; k++) {
+            dataset.addSeries("S" + k, new double[][] {columns[0],
+                    columns[k]});
+        }
+        return dataset;
+    }
+
+}
@@ -0,0 +1,141 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * EntityCollectionBenchmark.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.SpatialEntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time for hit-testing (finding the entity at a point) in
+ * {@link StandardEntityCollection} and {@link SpatialEntityCollection}.
+ * Each invocation tests {@link #POINTS} points, and the results are
+ * reported per point.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityCollectionBenchmark {
+
+    /** The number of points tested per invocation. */
+    static final int POINTS = 100;
+
+    /** The number of entities. */
+    @Param({"1000", "100000"})
+    public int entityCount;
+
+    /** The entity collection class. */
+    @Param({"standard", "spatial"})
+    public String implementation;
+
+    /** The entities. */
+    private EntityCollection entities;
+
+    /** The x-coordinates of the points to test. */
+    private double[] x;
+
+    /** The y-coordinates of the points to test. */
+    private double[] y;
+
+    /**
+     * Creates the entities (small squares scattered over an 800 x 600
+     * area, like the items in a scatter plot) and the points to test.
+     */
+    @Setup
+    public void setUp() {
+        if ("standard".equals(this.implementation)) {
+            this.entities = new StandardEntityCollection();
+        }
+        else {
+            this.entities = new SpatialEntityCollection();
+        }
+        Random random = new Random(1L);
+        for (int i = 0; i < this.entityCount; i++) {
+            this.entities.add(new ChartEntity(new Rectangle2D.Double(
+                    random.nextDouble() * 800.0, random.nextDouble() * 600.0,
+                    6.0, 6.0)));
+        }
+        this.x = new double[POINTS];
+        this.y = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            this.x[i] = random.nextDouble() * 800.0;
+            this.y[i] = random.nextDouble() * 600.0;
+        }
+    }
+
+    /**
+     * Finds the entity at each test point.
+     *
+     * @return The number of points that hit an entity.
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int getEntity() {
+        int hits = 0;
+        for (int i = 0; i < POINTS; i++) {
+            if (this.entities.getEntity(this.x[i], this.y[i]) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+}
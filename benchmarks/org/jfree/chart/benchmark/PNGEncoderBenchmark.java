@@ -0,0 +1,149 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * PNGEncoderBenchmark.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.encoders.FastPNGEncoder;
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.KeypointPNGEncoderAdapter;
+import org.jfree.chart.encoders.SunPNGEncoderAdapter;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to encode an 800x600 chart image with each of the PNG
+ * encoders ("imageio" is {@link SunPNGEncoderAdapter}, "keypoint" is
+ * {@link KeypointPNGEncoderAdapter} and the others are
+ * {@link FastPNGEncoder} with its default settings, compression level 1,
+ * adaptive filtering and the palette disabled).  The chart is drawn once,
+ * so only the encoding is timed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class PNGEncoderBenchmark {
+
+    /** The encoder. */
+    @Param({"imageio", "keypoint", "fast", "fastLevel1", "fastAdaptive",
+            "fastNoPalette"})
+    public String encoder;
+
+    /** Draw the chart with anti-aliasing? */
+    @Param({"false", "true"})
+    public boolean antiAlias;
+
+    /** The chart image. */
+    private BufferedImage image;
+
+    /** The image encoder. */
+    private ImageEncoder imageEncoder;
+
+    /**
+     * Draws the chart image and creates the encoder.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(1L);
+        XYSeries series = new XYSeries("Series 1");
+        for (int i = 0; i < 1000; i++) {
+            series.add(i, Math.sin(i / 50.0) + random.nextDouble() * 0.2);
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("PNG Benchmark",
+                "X", "Y", new XYSeriesCollection(series));
+        chart.setAntiAlias(this.antiAlias);
+        chart.setTextAntiAlias(this.antiAlias);
+        this.image = chart.createBufferedImage(800, 600,
+                BufferedImage.TYPE_INT_ARGB, null);
+        if ("imageio".equals(this.encoder)) {
+            this.imageEncoder = new SunPNGEncoderAdapter();
+        }
+        else if ("keypoint".equals(this.encoder)) {
+            this.imageEncoder = new KeypointPNGEncoderAdapter();
+            this.imageEncoder.setEncodingAlpha(true);
+        }
+        else {
+            FastPNGEncoder fast = new FastPNGEncoder();
+            if ("fastLevel1".equals(this.encoder)) {
+                fast.setCompressionLevel(1);
+            }
+            else if ("fastAdaptive".equals(this.encoder)) {
+                fast.setFilter(FastPNGEncoder.FILTER_ADAPTIVE);
+            }
+            else if ("fastNoPalette".equals(this.encoder)) {
+                fast.setPaletteEnabled(false);
+            }
+            this.imageEncoder = fast;
+        }
+    }
+
+    /**
+     * Encodes the chart image.
+     *
+     * @return The encoded image.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return this.imageEncoder.encode(this.image);
+    }
+
+}
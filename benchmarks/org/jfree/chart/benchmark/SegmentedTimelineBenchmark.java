@@ -0,0 +1,313 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * SegmentedTimelineBenchmark.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.axis.SegmentedTimeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link SegmentedTimeline} translations for a Monday through
+ * Friday timeline with ten holidays per year, as used by trading-calendar
+ * date axes.  The "legacy" implementation is a subclass that restores the
+ * translations used before the exceptions were indexed (they iterate over
+ * all the exceptions), so that the two can be compared in the same run.
+ * Each invocation performs {@link #COUNT} translations and the results are
+ * reported per translation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class SegmentedTimelineBenchmark {
+
+    /** The number of translations per invocation. */
+    static final int COUNT = 1000;
+
+    /** The number of holidays per year. */
+    static final int HOLIDAYS_PER_YEAR = 10;
+
+    /** The number of years covered by the holidays. */
+    @Param({"20", "100"})
+    public int years;
+
+    /** The implementation ("current" or "legacy"). */
+    @Param({"current", "legacy"})
+    public String implementation;
+
+    private SegmentedTimeline timeline;
+
+    private long[] holidays;
+
+    private long[] milliseconds;
+
+    private long[] timelineValues;
+
+    @Setup
+    public void setup() {
+        this.timeline = "legacy".equals(this.implementation)
+                ? new LegacySegmentedTimeline() : createTimeline();
+        this.holidays = createHolidays(this.timeline, this.years);
+        this.timeline.addExceptions(this.holidays);
+        Random random = new Random(1L);
+        long first = this.holidays[0];
+        long last = this.holidays[this.holidays.length - 1];
+        this.milliseconds = new long[COUNT];
+        this.timelineValues = new long[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            long m = first + (long) (random.nextDouble() * (last - first));
+            this.milliseconds[i] = m;
+            this.timelineValues[i] = this.timeline.toTimelineValue(m);
+        }
+    }
+
+    /**
+     * Creates a Monday through Friday timeline.
+     *
+     * @return The timeline.
+     */
+    static SegmentedTimeline createTimeline() {
+        return SegmentedTimeline.newMondayThroughFridayTimeline();
+    }
+
+    /**
+     * Returns the (sorted) holidays, ten weekdays per year starting in 2000.
+     *
+     * @param timeline  the timeline.
+     * @param years  the number of years.
+     *
+     * @return The holidays.
+     */
+    static long[] createHolidays(SegmentedTimeline timeline, int years) {
+        Random random = new Random(42L);
+        long start = timeline.getStartTime() + 36524L
+                * SegmentedTimeline.DAY_SEGMENT_SIZE;  // 1-Jan-2000 (approx)
+        List result = new ArrayList();
+        for (int day = 0; day < years * 365; day++) {
+            long m = start + day * SegmentedTimeline.DAY_SEGMENT_SIZE;
+            if (timeline.containsDomainValue(m)
+                    && random.nextInt(261) < HOLIDAYS_PER_YEAR) {
+                result.add(new Long(m));
+            }
+        }
+        long[] array = new long[result.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ((Long) result.get(i)).longValue();
+        }
+        return array;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long toTimelineValue() {
+        long result = 0L;
+        for (int i = 0; i < COUNT; i++) {
+            result += this.timeline.toTimelineValue(this.milliseconds[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long toMillisecond() {
+        long result = 0L;
+        for (int i = 0; i < COUNT; i++) {
+            result += this.timeline.toMillisecond(this.timelineValues[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int containsDomainValue() {
+        int result = 0;
+        for (int i = 0; i < COUNT; i++) {
+            if (this.timeline.containsDomainValue(this.milliseconds[i])) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds all the holidays to a new timeline, one at a time for the legacy
+     * implementation and with the bulk loader for the current one.
+     *
+     * @return The timeline.
+     */
+    @Benchmark
+    public SegmentedTimeline addExceptions() {
+        if ("legacy".equals(this.implementation)) {
+            SegmentedTimeline result = new LegacySegmentedTimeline();
+            for (int i = 0; i < this.holidays.length; i++) {
+                result.addException(this.holidays[i]);
+            }
+            return result;
+        }
+        SegmentedTimeline result = createTimeline();
+        result.addExceptions(this.holidays);
+        return result;
+    }
+
+    /**
+     * A Monday through Friday timeline with the translations that were used
+     * before the exception segments were indexed.
+     */
+    static class LegacySegmentedTimeline extends SegmentedTimeline {
+
+        /**
+         * Creates a Monday through Friday timeline.
+         */
+        LegacySegmentedTimeline() {
+            super(DAY_SEGMENT_SIZE, 5, 2);
+            setStartTime(firstMondayAfter1900());
+        }
+
+        @Override
+        public long toMillisecond(long timelineValue) {
+
+            // calculate the result as if no exceptions
+            Segment result = getSegment(getStartTime() + timelineValue
+                    + (timelineValue / getSegmentsIncludedSize())
+                    * getSegmentsExcludedSize());
+
+            long lastIndex = getStartTime();
+
+            // adjust result for any exceptions in the result calculated
+            while (lastIndex <= result.getSegmentStart()) {
+
+                // skip all whole exception segments in the range
+                long exceptionSegmentCount;
+                while ((exceptionSegmentCount = getExceptionSegmentCount(
+                        lastIndex, (result.getMillisecond()
+                        / getSegmentSize()) * getSegmentSize() - 1)) > 0) {
+                    lastIndex = result.getSegmentStart();
+                    // move forward exceptionSegmentCount segments skipping
+                    // excluded segments
+                    for (int i = 0; i < exceptionSegmentCount; i++) {
+                        do {
+                            result.inc();
+                        }
+                        while (result.inExcludeSegments());
+                    }
+                }
+                lastIndex = result.getSegmentStart();
+
+                // skip exception or excluded segments we may fall on
+                while (result.inExceptionSegments()
+                        || result.inExcludeSegments()) {
+                    result.inc();
+                    lastIndex += getSegmentSize();
+                }
+
+                lastIndex++;
+            }
+
+            return getTimeFromLong(result.getMillisecond());
+        }
+
+        @Override
+        public boolean containsDomainValue(long millisecond) {
+            Segment segment = getSegment(millisecond);
+            if (segment.inExcludeSegments()) {
+                return false;
+            }
+            // binary search of the exception segments themselves
+            List exceptions = getExceptionSegments();
+            int low = 0;
+            int high = exceptions.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) / 2;
+                Segment midSegment = (Segment) exceptions.get(mid);
+                if (segment.contains(midSegment)
+                        || midSegment.contains(segment)) {
+                    return false;
+                }
+                if (midSegment.before(segment)) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid - 1;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public long getExceptionSegmentCount(long fromMillisecond,
+                long toMillisecond) {
+            if (toMillisecond < fromMillisecond) {
+                return (0);
+            }
+            int n = 0;
+            for (Iterator iter = getExceptionSegments().iterator();
+                    iter.hasNext();) {
+                Segment segment = (Segment) iter.next();
+                Segment intersection = segment.intersect(fromMillisecond,
+                        toMillisecond);
+                if (intersection != null) {
+                    n += intersection.getSegmentCount();
+                }
+            }
+            return (n);
+        }
+
+    }
+
+}
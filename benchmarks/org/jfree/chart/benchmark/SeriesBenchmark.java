@@ -0,0 +1,202 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * SeriesBenchmark.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.XYSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to add, update and remove items in {@link XYSeries}
+ * and {@link TimeSeries}.  Each invocation performs {@link #COUNT}
+ * operations and the results are reported per operation.  Items are
+ * removed by adding to a series with a maximum item count, which is how
+ * most applications remove items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class SeriesBenchmark {
+
+    /** The number of operations per invocation. */
+    static final int COUNT = 10000;
+
+    /** The maximum item count for the rolling series. */
+    private static final int WINDOW = 1000;
+
+    /** The time periods for the items. */
+    private RegularTimePeriod[] periods;
+
+    /** An XY series containing COUNT items. */
+    private XYSeries xySeries;
+
+    /** A time series containing COUNT items. */
+    private TimeSeries timeSeries;
+
+    /**
+     * Creates the time periods and the series to update.
+     */
+    @Setup
+    public void setUp() {
+        this.periods = new RegularTimePeriod[COUNT];
+        RegularTimePeriod period = new Millisecond();
+        for (int i = 0; i < COUNT; i++) {
+            this.periods[i] = period;
+            period = period.next();
+        }
+        this.xySeries = new XYSeries("S1");
+        this.timeSeries = new TimeSeries("S1");
+        for (int i = 0; i < COUNT; i++) {
+            this.xySeries.add(i, i);
+            this.timeSeries.add(this.periods[i], i);
+        }
+    }
+
+    /**
+     * Adds items to the end of an XY series.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public XYSeries xySeriesAdd() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < COUNT; i++) {
+            series.add(i, i);
+        }
+        return series;
+    }
+
+    /**
+     * Updates the items in an XY series with addOrUpdate().
+     *
+     * @return The series.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public XYSeries xySeriesAddOrUpdate() {
+        for (int i = 0; i < COUNT; i++) {
+            this.xySeries.addOrUpdate(i, -i);
+        }
+        return this.xySeries;
+    }
+
+    /**
+     * Adds items to an XY series with a maximum item count, so that each
+     * addition (after the first WINDOW) removes the oldest item.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public XYSeries xySeriesAddAndRemove() {
+        XYSeries series = new XYSeries("S1");
+        series.setMaximumItemCount(WINDOW);
+        for (int i = 0; i < COUNT; i++) {
+            series.add(i, i);
+        }
+        return series;
+    }
+
+    /**
+     * Adds items to the end of a time series.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public TimeSeries timeSeriesAdd() {
+        TimeSeries series = new TimeSeries("S1");
+        for (int i = 0; i < COUNT; i++) {
+            series.add(this.periods[i], i);
+        }
+        return series;
+    }
+
+    /**
+     * Updates the items in a time series with addOrUpdate().
+     *
+     * @return The series.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public TimeSeries timeSeriesAddOrUpdate() {
+        for (int i = 0; i < COUNT; i++) {
+            this.timeSeries.addOrUpdate(this.periods[i], -i);
+        }
+        return this.timeSeries;
+    }
+
+    /**
+     * Adds items to a time series with a maximum item count, so that each
+     * addition (after the first WINDOW) removes the oldest item.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public TimeSeries timeSeriesAddAndRemove() {
+        TimeSeries series = new TimeSeries("S1");
+        series.setMaximumItemCount(WINDOW);
+        for (int i = 0; i < COUNT; i++) {
+            series.add(this.periods[i], i);
+        }
+        return series;
+    }
+
+}
@@ -0,0 +1,173 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * XYPlotBenchmark.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.chart.renderer.xy.XYDotRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to draw an {@link XYPlot} (without chart entities, as
+ * for an image) for the main XY renderers and several data sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class XYPlotBenchmark {
+
+    /** The number of items in each of the two series. */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /** The renderer. */
+    @Param({"line", "shape", "lineAndShape", "bar", "dot"})
+    public String renderer;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image that the chart is drawn on. */
+    private BufferedImage image;
+
+    /** The graphics device for the image. */
+    private Graphics2D g2;
+
+    /** The chart area. */
+    private Rectangle2D area;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(1L);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int s = 0; s < 2; s++) {
+            XYSeries series = new XYSeries("S" + s, false, true);
+            double y = 100.0;
+            for (int i = 0; i < this.itemCount; i++) {
+                y += random.nextGaussian();
+                series.add(i, y, false);
+            }
+            dataset.addSeries(series);
+        }
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), createRenderer(this.renderer));
+        ((NumberAxis) plot.getRangeAxis()).setAutoRangeIncludesZero(false);
+        this.chart = new JFreeChart(plot);
+        this.image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        this.g2 = this.image.createGraphics();
+        this.area = new Rectangle2D.Double(0, 0, 800, 600);
+    }
+
+    /**
+     * Creates a renderer.
+     *
+     * @param name  the renderer name.
+     *
+     * @return The renderer.
+     */
+    static XYItemRenderer createRenderer(String name) {
+        if ("line".equals(name)) {
+            return new XYLineAndShapeRenderer(true, false);
+        }
+        else if ("shape".equals(name)) {
+            return new XYLineAndShapeRenderer(false, true);
+        }
+        else if ("lineAndShape".equals(name)) {
+            return new XYLineAndShapeRenderer(true, true);
+        }
+        else if ("bar".equals(name)) {
+            return new XYBarRenderer();
+        }
+        else if ("dot".equals(name)) {
+            return new XYDotRenderer();
+        }
+        throw new IllegalArgumentException("Unknown renderer: " + name);
+    }
+
+    /**
+     * Releases the graphics device.
+     */
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        this.chart.draw(this.g2, this.area);
+        return this.image;
+    }
+
+}
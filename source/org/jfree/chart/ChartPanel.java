@@ -170,6 +170,10 @@
  * 02-Jul-2013 : Use ParamChecks class (DG);
  * 12-Sep-2013 : Provide auto-detection for JFreeSVG and OrsonPDF 
  *               libraries (no compile time dependencies) (DG);
+ * 18-Oct-2026 : Added layered off-screen buffer;
+ * 18-Oct-2026 : Added background-thread rendering;
+ * 18-Oct-2026 : Lock the chart when it is changed by the panel, and reuse
+ *               the images and rendering info for background frames;
  * 
  */
 
@@ -189,6 +193,7 @@ import java.awt.Insets;
 import java.awt.Paint;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.Shape;
 import java.awt.Toolkit;
 import java.awt.Transparency;
 import java.awt.datatransfer.Clipboard;
@@ -202,6 +207,7 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.awt.print.PrinterException;
@@ -216,10 +222,22 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EventListener;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JFileChooser;
 import javax.swing.JMenu;
@@ -232,6 +250,7 @@ import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 import javax.swing.filechooser.FileNameExtensionFilter;
 
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.editor.ChartEditor;
 import org.jfree.chart.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
@@ -243,13 +262,21 @@ import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.panel.Overlay;
 import org.jfree.chart.event.OverlayChangeEvent;
 import org.jfree.chart.event.OverlayChangeListener;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.plot.Pannable;
 import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PlotLayer;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ResourceBundleWrapper;
+import org.jfree.data.Range;
+import org.jfree.ui.RectangleEdge;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.io.SerialUtilities;
 
 /**
@@ -368,6 +395,64 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     private int chartBufferWidth;
 
+    /**
+     * A flag that controls whether or not the off-screen buffer is built
+     * from separately cached layers, for plots that can be drawn in layers.
+     *
+     * @since 1.0.20
+     */
+    private boolean layeredBufferEnabled;
+
+    /**
+     * The cached image for each plot layer, in drawing order
+     * (<code>null</code> when the layered buffer is not in use).
+     */
+    private transient Map<PlotLayer, Image> layerBuffers;
+
+    /** The entities collected while drawing each plot layer. */
+    private transient Map<PlotLayer, List<ChartEntity>> layerEntities;
+
+    /** The layers that need to be redrawn at the next paint. */
+    private transient Set<PlotLayer> dirtyLayers;
+
+    /** The plot's data area when the layers were last drawn. */
+    private transient Rectangle2D layerDataArea;
+
+    /** The plot's axis ranges when the layers were last drawn. */
+    private transient List<Range> layerAxisRanges;
+
+    /**
+     * A flag that controls whether or not the chart is drawn on a
+     * background thread.
+     *
+     * @since 1.0.20
+     */
+    private boolean asyncRenderingEnabled;
+
+    /** The executor that draws the chart in the background (lazy). */
+    private transient ExecutorService renderExecutor;
+
+    /**
+     * A counter for background render requests.  A render is stale (and is
+     * skipped or discarded) once a newer request has been made.
+     */
+    private final AtomicLong renderRequests = new AtomicLong();
+
+    /** The most recent frame drawn in the background. */
+    private transient RenderedFrame renderedFrame;
+
+    /**
+     * A frame that is no longer shown, whose image and rendering info are
+     * reused by the worker thread for the next frame (lazy).
+     */
+    private transient AtomicReference<RenderedFrame> spareFrame;
+
+    /** The width of the most recently requested frame. */
+    private int requestedFrameWidth;
+
+    /** The height of the most recently requested frame. */
+    private int requestedFrameHeight;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -725,6 +810,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         setPreferredSize(new Dimension(width, height));
         this.useBuffer = useBuffer;
         this.refreshBuffer = false;
+        this.layeredBufferEnabled = false;
+        this.dirtyLayers = Collections.synchronizedSet(
+                new HashSet<PlotLayer>());
         this.minimumDrawWidth = minimumDrawWidth;
         this.minimumDrawHeight = minimumDrawHeight;
         this.maximumDrawWidth = maximumDrawWidth;
@@ -1526,6 +1614,107 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not the off-screen buffer is
+     * built from separately cached layers.  The default value is
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     *
+     * @see #setLayeredBufferEnabled(boolean)
+     */
+    public boolean isLayeredBufferEnabled() {
+        return this.layeredBufferEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the off-screen buffer is
+     * built from separately cached layers.  When this is enabled (and the
+     * off-screen buffer is used), an {@link XYPlot} is drawn into one image
+     * for the background (including the axes, gridlines and titles), one
+     * image per dataset and one image for the foreground (annotations,
+     * markers and crosshairs), and a chart change event only causes the
+     * affected layers to be redrawn before they are combined.  When the flag
+     * is <code>false</code> (the default) the whole chart is redrawn for
+     * every change.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 1.0.20
+     *
+     * @see #isLayeredBufferEnabled()
+     */
+    public void setLayeredBufferEnabled(boolean enabled) {
+        this.layeredBufferEnabled = enabled;
+        this.layerBuffers = null;
+        this.layerEntities = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the flag that controls whether or not the chart is drawn on a
+     * background thread.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     *
+     * @see #setAsyncRenderingEnabled(boolean)
+     */
+    public boolean isAsyncRenderingEnabled() {
+        return this.asyncRenderingEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the chart is drawn on a
+     * background thread.  When this is enabled, the chart is drawn into an
+     * off-screen image by a worker thread and the panel paints the most
+     * recently completed image, so that a slow chart doesn't block the event
+     * dispatch thread.  Requests that are overtaken by a newer one (for
+     * example, during a zoom or pan) are skipped, and while a new image is
+     * pending the panel shows the previous image, scaled to the panel size
+     * and with the data area stretched to match the current axis ranges.
+     * <P>
+     * The worker thread locks the chart (<code>synchronized (chart)</code>)
+     * while it is drawn, and the panel takes the same lock when it zooms,
+     * pans or edits the chart.  Other code that changes the chart while
+     * this flag is set must also synchronize on the chart (datasets that
+     * implement {@link org.jfree.data.general.ConcurrentDataset} can be
+     * updated without the lock when they are in concurrent mode).  The
+     * chart's {@link ChartProgressEvent}s are sent on the worker thread.
+     * <P>
+     * Each frame is drawn with its own {@link ChartRenderingInfo}, so
+     * {@link #getChartRenderingInfo()} returns a different instance once a
+     * new frame is shown.  The instances are copies of the panel's info
+     * (with the same entity collection type) and are reused along with the
+     * frame images.  Disabling this flag stops the worker thread.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 1.0.20
+     *
+     * @see #isAsyncRenderingEnabled()
+     */
+    public void setAsyncRenderingEnabled(boolean enabled) {
+        this.asyncRenderingEnabled = enabled;
+        this.renderRequests.incrementAndGet();
+        if (!enabled && this.renderExecutor != null) {
+            this.renderExecutor.shutdown();
+            this.renderExecutor = null;
+        }
+        this.renderedFrame = null;
+        if (this.spareFrame != null) {
+            this.spareFrame.set(null);
+        }
+        this.requestedFrameWidth = 0;
+        this.requestedFrameHeight = 0;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1581,8 +1770,12 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         Rectangle2D chartArea = new Rectangle2D.Double(0.0, 0.0, drawWidth,
                 drawHeight);
 
+        // are we drawing the chart on a background thread?
+        if (this.asyncRenderingEnabled) {
+            paintRenderedFrame(g2, insets, available, chartArea, scale);
+        }
         // are we using the chart buffer?
-        if (this.useBuffer) {
+        else if (this.useBuffer) {
 
             // do we need to resize the buffer?
             if ((this.chartBuffer == null)
@@ -1597,8 +1790,38 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 this.refreshBuffer = true;
             }
 
+            // can the buffer be built from separate layers?
+            List<PlotLayer> layers = getBufferLayers();
+            if (layers == null) {
+                this.layerBuffers = null;
+                this.layerEntities = null;
+            }
+            else if (this.anchor != null && this.refreshBuffer
+                    && this.layerBuffers != null) {
+                // the anchor can move the crosshairs, so the whole chart is
+                // drawn in one pass and the layers are redrawn later...
+                this.dirtyLayers.addAll(this.layerBuffers.keySet());
+            }
+
             // do we need to redraw the buffer?
-            if (this.refreshBuffer) {
+            if (layers != null && this.anchor == null) {
+                if (refreshLayers(g2.getDeviceConfiguration(), layers,
+                        chartArea, scale)) {
+                    Graphics2D bufferG2 = (Graphics2D)
+                            this.chartBuffer.getGraphics();
+                    bufferG2.setComposite(AlphaComposite.getInstance(
+                            AlphaComposite.CLEAR, 0.0f));
+                    bufferG2.fill(new Rectangle(0, 0, this.chartBufferWidth,
+                            this.chartBufferHeight));
+                    bufferG2.setComposite(AlphaComposite.SrcOver);
+                    for (PlotLayer layer : layers) {
+                        bufferG2.drawImage(this.layerBuffers.get(layer), 0, 0,
+                                null);
+                    }
+                    bufferG2.dispose();
+                }
+            }
+            else if (this.refreshBuffer) {
 
                 this.refreshBuffer = false; // clear the flag
 
@@ -1656,7 +1879,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         // redraw the zoom rectangle (if present) - if useBuffer is false,
         // we use XOR so we can XOR the rectangle away again without redrawing
         // the chart
-        drawZoomRectangle(g2, !this.useBuffer);
+        drawZoomRectangle(g2, !this.useBuffer && !this.asyncRenderingEnabled);
 
         g2.dispose();
 
@@ -1665,14 +1888,590 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.horizontalTraceLine = null;
     }
 
+    /**
+     * Paints the most recent frame drawn in the background, and requests a
+     * new frame if the chart has changed or the panel has been resized.
+     *
+     * @param g2  the graphics device for the panel.
+     * @param insets  the panel insets.
+     * @param available  the area available for the chart.
+     * @param chartArea  the chart area (used when scaling).
+     * @param scale  scale the chart?
+     */
+    private void paintRenderedFrame(Graphics2D g2, Insets insets,
+            Rectangle2D available, Rectangle2D chartArea, boolean scale) {
+        int width = (int) available.getWidth();
+        int height = (int) available.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (this.refreshBuffer || width != this.requestedFrameWidth
+                || height != this.requestedFrameHeight) {
+            this.refreshBuffer = false;
+            this.requestedFrameWidth = width;
+            this.requestedFrameHeight = height;
+            Rectangle2D area = chartArea;
+            if (!scale) {
+                area = new Rectangle2D.Double(0, 0, width, height);
+            }
+            requestFrame(width, height, area, scale);
+        }
+        RenderedFrame frame = this.renderedFrame;
+        if (frame == null) {
+            return;
+        }
+        if (frame.image.getWidth() != width
+                || frame.image.getHeight() != height) {
+            g2.drawImage(frame.image, insets.left, insets.top, width, height,
+                    this);
+        }
+        else {
+            g2.drawImage(frame.image, insets.left, insets.top, this);
+            if (frame.request != this.renderRequests.get()) {
+                drawFramePreview(g2, insets, frame);
+            }
+        }
+    }
+
+    /**
+     * Queues a request to draw the chart on the worker thread.  Any
+     * request that is still queued becomes stale and will be skipped.
+     *
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param area  the chart area.
+     * @param scale  scale the chart?
+     */
+    private void requestFrame(final int width, final int height,
+            final Rectangle2D area, final boolean scale) {
+        final long request = this.renderRequests.incrementAndGet();
+        final JFreeChart frameChart = this.chart;
+        final Point2D frameAnchor = (this.anchor != null
+                ? (Point2D) this.anchor.clone() : null);
+        final double sx = this.scaleX;
+        final double sy = this.scaleY;
+        final ChartRenderingInfo panelInfo = this.info;
+        if (this.spareFrame == null) {
+            this.spareFrame = new AtomicReference<RenderedFrame>();
+        }
+        if (this.renderExecutor == null) {
+            this.renderExecutor = Executors.newSingleThreadExecutor(
+                    new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "ChartPanel-renderer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        this.renderExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                renderFrame(request, frameChart, width, height, area, scale,
+                        sx, sy, frameAnchor, panelInfo);
+            }
+        });
+    }
+
+    /**
+     * Draws a frame on the worker thread (unless a newer request has been
+     * made in the meantime) and hands it to the event dispatch thread.  A
+     * frame that is overtaken while it is being drawn is still painted
+     * (as a preview) until the newer frame is ready.  The image and
+     * rendering info of the frame that was replaced by the last new frame
+     * are reused when they still match the panel.
+     *
+     * @param request  the request number.
+     * @param frameChart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param area  the chart area.
+     * @param scale  scale the chart?
+     * @param sx  the x-scale.
+     * @param sy  the y-scale.
+     * @param frameAnchor  the anchor point (<code>null</code> permitted).
+     * @param panelInfo  the panel's rendering info when the frame was
+     *     requested.
+     */
+    private void renderFrame(long request, JFreeChart frameChart, int width,
+            int height, Rectangle2D area, boolean scale, double sx,
+            double sy, Point2D frameAnchor, ChartRenderingInfo panelInfo) {
+        if (this.renderRequests.get() != request) {
+            return;
+        }
+        BufferedImage image = null;
+        ChartRenderingInfo frameInfo = null;
+        RenderedFrame spare = this.spareFrame.getAndSet(null);
+        if (spare != null) {
+            if (spare.image.getWidth() == width
+                    && spare.image.getHeight() == height) {
+                image = spare.image;
+            }
+            if (isSameKind(spare.info, panelInfo)) {
+                frameInfo = spare.info;
+            }
+        }
+        boolean reused = (image != null);
+        if (!reused) {
+            image = new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_ARGB);
+        }
+        if (frameInfo == null) {
+            frameInfo = createFrameInfo(panelInfo);
+        }
+        Range domainRange = null;
+        Range rangeRange = null;
+        Graphics2D g2 = image.createGraphics();
+        try {
+            if (reused) {
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(0, 0, width, height);
+                g2.setComposite(AlphaComposite.SrcOver);
+            }
+            if (scale) {
+                g2.transform(AffineTransform.getScaleInstance(sx, sy));
+            }
+            synchronized (frameChart) {
+                Plot plot = frameChart.getPlot();
+                if (plot instanceof XYPlot) {
+                    XYPlot xyplot = (XYPlot) plot;
+                    if (xyplot.getDomainAxis() != null
+                            && xyplot.getRangeAxis() != null) {
+                        domainRange = xyplot.getDomainAxis().getRange();
+                        rangeRange = xyplot.getRangeAxis().getRange();
+                    }
+                }
+                frameChart.draw(g2, area, frameAnchor, frameInfo);
+            }
+        }
+        catch (RuntimeException e) {
+            // the chart may have been changed while it was being drawn, in
+            // which case the newer request will draw it again...
+            if (this.renderRequests.get() == request) {
+                throw e;
+            }
+            return;
+        }
+        finally {
+            g2.dispose();
+        }
+        final RenderedFrame frame = new RenderedFrame(request, image,
+                frameInfo, domainRange, rangeRange, sx, sy);
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                RenderedFrame current = renderedFrame;
+                if (asyncRenderingEnabled && (current == null
+                        || current.request < frame.request)) {
+                    renderedFrame = frame;
+                    info = frame.info;
+                    if (current != null) {
+                        spareFrame.set(current);
+                    }
+                    repaint();
+                }
+                else {
+                    spareFrame.set(frame);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns <code>true</code> if a frame's rendering info can be reused
+     * in place of a copy of the panel's rendering info, that is if both are
+     * of the same class and have entity collections of the same class.
+     *
+     * @param frameInfo  the frame's rendering info.
+     * @param panelInfo  the panel's rendering info.
+     *
+     * @return A boolean.
+     */
+    private static boolean isSameKind(ChartRenderingInfo frameInfo,
+            ChartRenderingInfo panelInfo) {
+        if (frameInfo.getClass() != panelInfo.getClass()) {
+            return false;
+        }
+        EntityCollection e1 = frameInfo.getEntityCollection();
+        EntityCollection e2 = panelInfo.getEntityCollection();
+        if (e1 == null || e2 == null) {
+            return e1 == e2;
+        }
+        return e1.getClass() == e2.getClass();
+    }
+
+    /**
+     * Creates the rendering info for a frame, as a copy of the panel's
+     * rendering info so that a custom subclass or entity collection (for
+     * example a {@link org.jfree.chart.entity.SpatialEntityCollection}) is
+     * kept.  The copy is cleared when the frame is drawn.
+     *
+     * @param panelInfo  the panel's rendering info.
+     *
+     * @return The rendering info for the frame.
+     */
+    private static ChartRenderingInfo createFrameInfo(
+            ChartRenderingInfo panelInfo) {
+        try {
+            return (ChartRenderingInfo) panelInfo.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            return new ChartRenderingInfo();
+        }
+    }
+
+    /**
+     * Draws a preview of the data area over a frame that is out of date,
+     * by stretching the frame's data area to match the current axis ranges
+     * (so that zooming and panning give immediate feedback).  Nothing is
+     * drawn unless the plot is an {@link XYPlot} whose primary axis ranges
+     * have changed since the frame was drawn.
+     *
+     * @param g2  the graphics device for the panel.
+     * @param insets  the panel insets.
+     * @param frame  the frame.
+     */
+    private void drawFramePreview(Graphics2D g2, Insets insets,
+            RenderedFrame frame) {
+        if (!(this.chart.getPlot() instanceof XYPlot)
+                || frame.domainRange == null || frame.rangeRange == null) {
+            return;
+        }
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        ValueAxis domainAxis = plot.getDomainAxis();
+        ValueAxis rangeAxis = plot.getRangeAxis();
+        if (domainAxis == null || rangeAxis == null
+                || (domainAxis.getRange().equals(frame.domainRange)
+                && rangeAxis.getRange().equals(frame.rangeRange))) {
+            return;
+        }
+        Rectangle2D dataArea = frame.info.getPlotInfo().getDataArea();
+        if (dataArea.isEmpty()) {
+            return;
+        }
+        RectangleEdge domainEdge = plot.getDomainAxisEdge();
+        RectangleEdge rangeEdge = plot.getRangeAxisEdge();
+        double d0 = domainAxis.valueToJava2D(frame.domainRange.getLowerBound(),
+                dataArea, domainEdge);
+        double d1 = domainAxis.valueToJava2D(frame.domainRange.getUpperBound(),
+                dataArea, domainEdge);
+        double r0 = rangeAxis.valueToJava2D(frame.rangeRange.getLowerBound(),
+                dataArea, rangeEdge);
+        double r1 = rangeAxis.valueToJava2D(frame.rangeRange.getUpperBound(),
+                dataArea, rangeEdge);
+        Rectangle2D target;
+        if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+            target = new Rectangle2D.Double(Math.min(r0, r1),
+                    Math.min(d0, d1), Math.abs(r1 - r0), Math.abs(d1 - d0));
+        }
+        else {
+            target = new Rectangle2D.Double(Math.min(d0, d1),
+                    Math.min(r0, r1), Math.abs(d1 - d0), Math.abs(r1 - r0));
+        }
+        Rectangle2D screenArea = new Rectangle2D.Double(
+                insets.left + dataArea.getX() * frame.scaleX,
+                insets.top + dataArea.getY() * frame.scaleY,
+                dataArea.getWidth() * frame.scaleX,
+                dataArea.getHeight() * frame.scaleY);
+        Shape savedClip = g2.getClip();
+        g2.clip(screenArea);
+        if (plot.getBackgroundPaint() != null) {
+            g2.setPaint(plot.getBackgroundPaint());
+            g2.fill(screenArea);
+        }
+        g2.drawImage(frame.image,
+                (int) (insets.left + target.getMinX() * frame.scaleX),
+                (int) (insets.top + target.getMinY() * frame.scaleY),
+                (int) (insets.left + target.getMaxX() * frame.scaleX),
+                (int) (insets.top + target.getMaxY() * frame.scaleY),
+                (int) (dataArea.getMinX() * frame.scaleX),
+                (int) (dataArea.getMinY() * frame.scaleY),
+                (int) (dataArea.getMaxX() * frame.scaleX),
+                (int) (dataArea.getMaxY() * frame.scaleY), this);
+        g2.setClip(savedClip);
+    }
+
+    /**
+     * A chart image drawn on the worker thread, with the information
+     * needed to paint it and to preview changes to the axis ranges.
+     */
+    private static class RenderedFrame {
+
+        /** The request number. */
+        final long request;
+
+        /** The image. */
+        final BufferedImage image;
+
+        /** The rendering info for the image. */
+        final ChartRenderingInfo info;
+
+        /** The primary domain axis range (<code>null</code> if unknown). */
+        final Range domainRange;
+
+        /** The primary range axis range (<code>null</code> if unknown). */
+        final Range rangeRange;
+
+        /** The x-scale applied to the chart. */
+        final double scaleX;
+
+        /** The y-scale applied to the chart. */
+        final double scaleY;
+
+        RenderedFrame(long request, BufferedImage image,
+                ChartRenderingInfo info, Range domainRange, Range rangeRange,
+                double scaleX, double scaleY) {
+            this.request = request;
+            this.image = image;
+            this.info = info;
+            this.domainRange = domainRange;
+            this.rangeRange = rangeRange;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+        }
+
+    }
+
+    /**
+     * Returns the layers that the off-screen buffer should be built from,
+     * or <code>null</code> if the chart should be drawn in a single pass.
+     *
+     * @return The layers (possibly <code>null</code>).
+     */
+    private List<PlotLayer> getBufferLayers() {
+        if (!this.layeredBufferEnabled) {
+            return null;
+        }
+        Plot plot = this.chart.getPlot();
+        if (!(plot instanceof XYPlot)) {
+            return null;
+        }
+        return ((XYPlot) plot).getPlotLayers();
+    }
+
+    /**
+     * Redraws the layers that are out of date.  If the buffer needs a full
+     * refresh (or the layers have changed) every layer is redrawn, and if
+     * redrawing the background layer moves the data area then the other
+     * layers are redrawn as well.
+     *
+     * @param gc  the graphics configuration for creating images.
+     * @param layers  the layers (in drawing order).
+     * @param chartArea  the chart area (used when scaling).
+     * @param scale  scale the chart?
+     *
+     * @return A boolean that indicates whether any layer was redrawn.
+     */
+    private boolean refreshLayers(GraphicsConfiguration gc,
+            List<PlotLayer> layers, Rectangle2D chartArea, boolean scale) {
+
+        boolean all = this.refreshBuffer || this.layerBuffers == null
+                || !layers.equals(new ArrayList<PlotLayer>(
+                this.layerBuffers.keySet()));
+        this.refreshBuffer = false;
+        if (all) {
+            Map<PlotLayer, Image> buffers
+                    = new LinkedHashMap<PlotLayer, Image>();
+            for (PlotLayer layer : layers) {
+                Image image = null;
+                if (this.layerBuffers != null) {
+                    image = this.layerBuffers.get(layer);
+                }
+                if (image == null
+                        || image.getWidth(null) != this.chartBufferWidth
+                        || image.getHeight(null) != this.chartBufferHeight) {
+                    image = gc.createCompatibleImage(this.chartBufferWidth,
+                            this.chartBufferHeight, Transparency.TRANSLUCENT);
+                }
+                buffers.put(layer, image);
+            }
+            this.layerBuffers = buffers;
+            this.layerEntities = new HashMap<PlotLayer, List<ChartEntity>>();
+        }
+        Set<PlotLayer> dirty;
+        synchronized (this.dirtyLayers) {
+            dirty = new HashSet<PlotLayer>(this.dirtyLayers);
+            this.dirtyLayers.clear();
+        }
+        if (all) {
+            dirty.addAll(layers);
+        }
+        dirty.retainAll(layers);
+        if (dirty.isEmpty()) {
+            return false;
+        }
+
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        if (dirty.contains(PlotLayer.BACKGROUND)) {
+            ChartRenderingInfo bgInfo = this.info;
+            if (bgInfo == null) {
+                bgInfo = new ChartRenderingInfo(null);
+            }
+            drawLayer(PlotLayer.BACKGROUND, chartArea, scale, bgInfo);
+            Rectangle2D dataArea = bgInfo.getPlotInfo().getDataArea();
+            if (!dataArea.equals(this.layerDataArea)) {
+                dirty.addAll(layers);
+            }
+            this.layerDataArea = (Rectangle2D) dataArea.clone();
+            this.layerAxisRanges = getAxisRanges(plot);
+        }
+        for (PlotLayer layer : layers) {
+            if (dirty.contains(layer) && !layer.equals(PlotLayer.BACKGROUND)) {
+                ChartRenderingInfo layerInfo = null;
+                if (this.info != null) {
+                    layerInfo = new ChartRenderingInfo();
+                }
+                drawLayer(layer, chartArea, scale, layerInfo);
+            }
+        }
+
+        // the entities are collected layer by layer, in drawing order...
+        EntityCollection entities = null;
+        if (this.info != null) {
+            entities = this.info.getEntityCollection();
+        }
+        if (entities != null) {
+            entities.clear();
+            for (PlotLayer layer : layers) {
+                List<ChartEntity> list = this.layerEntities.get(layer);
+                if (list != null) {
+                    for (ChartEntity entity : list) {
+                        entities.add(entity);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Draws one layer of the chart into its image, and records the entities
+     * that are generated.
+     *
+     * @param layer  the layer.
+     * @param chartArea  the chart area (used when scaling).
+     * @param scale  scale the chart?
+     * @param layerInfo  collects drawing info (<code>null</code> permitted).
+     */
+    private void drawLayer(PlotLayer layer, Rectangle2D chartArea,
+            boolean scale, ChartRenderingInfo layerInfo) {
+        Graphics2D g2 = (Graphics2D) this.layerBuffers.get(layer)
+                .getGraphics();
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR,
+                0.0f));
+        g2.fill(new Rectangle(0, 0, this.chartBufferWidth,
+                this.chartBufferHeight));
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.setRenderingHint(JFreeChart.KEY_PLOT_LAYER, layer);
+        if (scale) {
+            g2.transform(AffineTransform.getScaleInstance(this.scaleX,
+                    this.scaleY));
+            this.chart.draw(g2, chartArea, null, layerInfo);
+        }
+        else {
+            this.chart.draw(g2, new Rectangle2D.Double(0, 0,
+                    this.chartBufferWidth, this.chartBufferHeight), null,
+                    layerInfo);
+        }
+        g2.dispose();
+        if (layerInfo != null && layerInfo.getEntityCollection() != null) {
+            this.layerEntities.put(layer, new ArrayList<ChartEntity>(
+                    layerInfo.getEntityCollection().getEntities()));
+        }
+    }
+
+    /**
+     * Returns the ranges of all the domain and range axes of a plot.
+     *
+     * @param plot  the plot.
+     *
+     * @return The axis ranges.
+     */
+    private List<Range> getAxisRanges(XYPlot plot) {
+        List<Range> result = new ArrayList<Range>();
+        for (int i = 0; i < plot.getDomainAxisCount(); i++) {
+            ValueAxis axis = plot.getDomainAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < plot.getRangeAxisCount(); i++) {
+            ValueAxis axis = plot.getRangeAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        return result;
+    }
+
+    /**
+     * Marks the layers that are affected by a chart change event for
+     * redrawing, if the event can be handled without redrawing the whole
+     * chart.  This is the case for events that are limited to one layer of
+     * the plot, title changes (the background layer is redrawn, then the
+     * other layers only if the data area moved) and dataset updates that
+     * leave the axis ranges unchanged (the dataset's layers and the
+     * foreground layer are redrawn).
+     *
+     * @param event  the event.
+     *
+     * @return A boolean that indicates whether the event was handled.
+     */
+    private boolean invalidateLayers(ChartChangeEvent event) {
+        Map<PlotLayer, Image> buffers = this.layerBuffers;
+        if (buffers == null || this.refreshBuffer || this.chart == null
+                || !(this.chart.getPlot() instanceof XYPlot)) {
+            return false;
+        }
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        if (event instanceof TitleChangeEvent) {
+            this.dirtyLayers.add(PlotLayer.BACKGROUND);
+            return true;
+        }
+        if (!(event instanceof PlotChangeEvent)) {
+            return false;
+        }
+        PlotChangeEvent pce = (PlotChangeEvent) event;
+        if (pce.getPlot() != plot) {
+            return false;
+        }
+        if (pce.getLayer() != null) {
+            if (!buffers.containsKey(pce.getLayer())) {
+                return false;
+            }
+            this.dirtyLayers.add(pce.getLayer());
+            return true;
+        }
+        DatasetChangeEvent dce = pce.getDatasetChangeEvent();
+        if (dce == null || dce.getType() == SeriesChangeType.STRUCTURE
+                || !getAxisRanges(plot).equals(this.layerAxisRanges)) {
+            return false;
+        }
+        List<PlotLayer> dirty = new ArrayList<PlotLayer>();
+        for (PlotLayer layer : buffers.keySet()) {
+            if (layer.isDatasetLayer() && dce.getDataset() != null
+                    && plot.getDataset(layer.getDatasetIndex())
+                    == dce.getDataset()) {
+                dirty.add(layer);
+            }
+        }
+        if (dirty.isEmpty()) {
+            return false;
+        }
+        dirty.add(PlotLayer.FOREGROUND);
+        this.dirtyLayers.addAll(dirty);
+        return true;
+    }
+
     /**
      * Receives notification of changes to the chart, and redraws the chart.
+     * When the layered buffer is in use, only the layers affected by the
+     * change are redrawn (see {@link #setLayeredBufferEnabled(boolean)}).
      *
      * @param event  details of the chart change event.
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        this.refreshBuffer = true;
+        if (!invalidateLayers(event)) {
+            this.refreshBuffer = true;
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
@@ -1904,23 +2703,25 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             }
             double wPercent = -dx / this.panW;
             double hPercent = dy / this.panH;
-            boolean old = this.chart.getPlot().isNotify();
-            this.chart.getPlot().setNotify(false);
-            Pannable p = (Pannable) this.chart.getPlot();
-            if (p.getOrientation() == PlotOrientation.VERTICAL) {
-                p.panDomainAxes(wPercent, this.info.getPlotInfo(),
-                        this.panLast);
-                p.panRangeAxes(hPercent, this.info.getPlotInfo(),
-                        this.panLast);
-            }
-            else {
-                p.panDomainAxes(hPercent, this.info.getPlotInfo(),
-                        this.panLast);
-                p.panRangeAxes(wPercent, this.info.getPlotInfo(),
-                        this.panLast);
+            synchronized (this.chart) {
+                boolean old = this.chart.getPlot().isNotify();
+                this.chart.getPlot().setNotify(false);
+                Pannable p = (Pannable) this.chart.getPlot();
+                if (p.getOrientation() == PlotOrientation.VERTICAL) {
+                    p.panDomainAxes(wPercent, this.info.getPlotInfo(),
+                            this.panLast);
+                    p.panRangeAxes(hPercent, this.info.getPlotInfo(),
+                            this.panLast);
+                }
+                else {
+                    p.panDomainAxes(hPercent, this.info.getPlotInfo(),
+                            this.panLast);
+                    p.panRangeAxes(wPercent, this.info.getPlotInfo(),
+                            this.panLast);
+                }
+                this.chart.getPlot().setNotify(old);
             }
             this.panLast = e.getPoint();
-            this.chart.getPlot().setNotify(old);
             return;
         }
 
@@ -1934,7 +2735,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         // this is we are using XOR mode, which we do when we're not using
         // the buffer (if there is a buffer, then at the end of this method we
         // just trigger a repaint)
-        if (!this.useBuffer) {
+        if (!this.useBuffer && !this.asyncRenderingEnabled) {
             drawZoomRectangle(g2, true);
         }
 
@@ -1971,7 +2772,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         }
 
         // Draw the new zoom rectangle...
-        if (this.useBuffer) {
+        if (this.useBuffer || this.asyncRenderingEnabled) {
             repaint();
         }
         else {
@@ -2061,7 +2862,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             else {
                 // erase the zoom rectangle
                 Graphics2D g2 = (Graphics2D) getGraphics();
-                if (this.useBuffer) {
+                if (this.useBuffer || this.asyncRenderingEnabled) {
                     repaint();
                 }
                 else {
@@ -2173,18 +2974,20 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y value (in screen coordinates).
      */
     public void zoomInBoth(double x, double y) {
-        Plot plot = this.chart.getPlot();
-        if (plot == null) {
-            return;
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot == null) {
+                return;
+            }
+            // here we tweak the notify flag on the plot so that only
+            // one notification happens even though we update multiple
+            // axes...
+            boolean savedNotify = plot.isNotify();
+            plot.setNotify(false);
+            zoomInDomain(x, y);
+            zoomInRange(x, y);
+            plot.setNotify(savedNotify);
         }
-        // here we tweak the notify flag on the plot so that only
-        // one notification happens even though we update multiple
-        // axes...
-        boolean savedNotify = plot.isNotify();
-        plot.setNotify(false);
-        zoomInDomain(x, y);
-        zoomInRange(x, y);
-        plot.setNotify(savedNotify);
     }
 
     /**
@@ -2196,18 +2999,20 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y-coordinate (in screen coordinates).
      */
     public void zoomInDomain(double x, double y) {
-        Plot plot = this.chart.getPlot();
-        if (plot instanceof Zoomable) {
-            // here we tweak the notify flag on the plot so that only
-            // one notification happens even though we update multiple
-            // axes...
-            boolean savedNotify = plot.isNotify();
-            plot.setNotify(false);
-            Zoomable z = (Zoomable) plot;
-            z.zoomDomainAxes(this.zoomInFactor, this.info.getPlotInfo(),
-                    translateScreenToJava2D(new Point((int) x, (int) y)),
-                    this.zoomAroundAnchor);
-            plot.setNotify(savedNotify);
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot instanceof Zoomable) {
+                // here we tweak the notify flag on the plot so that only
+                // one notification happens even though we update multiple
+                // axes...
+                boolean savedNotify = plot.isNotify();
+                plot.setNotify(false);
+                Zoomable z = (Zoomable) plot;
+                z.zoomDomainAxes(this.zoomInFactor, this.info.getPlotInfo(),
+                        translateScreenToJava2D(new Point((int) x, (int) y)),
+                        this.zoomAroundAnchor);
+                plot.setNotify(savedNotify);
+            }
         }
     }
 
@@ -2220,18 +3025,20 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y coordinate (in screen coordinates).
      */
     public void zoomInRange(double x, double y) {
-        Plot plot = this.chart.getPlot();
-        if (plot instanceof Zoomable) {
-            // here we tweak the notify flag on the plot so that only
-            // one notification happens even though we update multiple
-            // axes...
-            boolean savedNotify = plot.isNotify();
-            plot.setNotify(false);
-            Zoomable z = (Zoomable) plot;
-            z.zoomRangeAxes(this.zoomInFactor, this.info.getPlotInfo(),
-                    translateScreenToJava2D(new Point((int) x, (int) y)),
-                    this.zoomAroundAnchor);
-            plot.setNotify(savedNotify);
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot instanceof Zoomable) {
+                // here we tweak the notify flag on the plot so that only
+                // one notification happens even though we update multiple
+                // axes...
+                boolean savedNotify = plot.isNotify();
+                plot.setNotify(false);
+                Zoomable z = (Zoomable) plot;
+                z.zoomRangeAxes(this.zoomInFactor, this.info.getPlotInfo(),
+                        translateScreenToJava2D(new Point((int) x, (int) y)),
+                        this.zoomAroundAnchor);
+                plot.setNotify(savedNotify);
+            }
         }
     }
 
@@ -2242,18 +3049,20 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y value (in screen coordinates).
      */
     public void zoomOutBoth(double x, double y) {
-        Plot plot = this.chart.getPlot();
-        if (plot == null) {
-            return;
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot == null) {
+                return;
+            }
+            // here we tweak the notify flag on the plot so that only
+            // one notification happens even though we update multiple
+            // axes...
+            boolean savedNotify = plot.isNotify();
+            plot.setNotify(false);
+            zoomOutDomain(x, y);
+            zoomOutRange(x, y);
+            plot.setNotify(savedNotify);
         }
-        // here we tweak the notify flag on the plot so that only
-        // one notification happens even though we update multiple
-        // axes...
-        boolean savedNotify = plot.isNotify();
-        plot.setNotify(false);
-        zoomOutDomain(x, y);
-        zoomOutRange(x, y);
-        plot.setNotify(savedNotify);
     }
 
     /**
@@ -2265,18 +3074,20 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y-coordinate (in screen coordinates).
      */
     public void zoomOutDomain(double x, double y) {
-        Plot plot = this.chart.getPlot();
-        if (plot instanceof Zoomable) {
-            // here we tweak the notify flag on the plot so that only
-            // one notification happens even though we update multiple
-            // axes...
-            boolean savedNotify = plot.isNotify();
-            plot.setNotify(false);
-            Zoomable z = (Zoomable) plot;
-            z.zoomDomainAxes(this.zoomOutFactor, this.info.getPlotInfo(),
-                    translateScreenToJava2D(new Point((int) x, (int) y)),
-                    this.zoomAroundAnchor);
-            plot.setNotify(savedNotify);
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot instanceof Zoomable) {
+                // here we tweak the notify flag on the plot so that only
+                // one notification happens even though we update multiple
+                // axes...
+                boolean savedNotify = plot.isNotify();
+                plot.setNotify(false);
+                Zoomable z = (Zoomable) plot;
+                z.zoomDomainAxes(this.zoomOutFactor, this.info.getPlotInfo(),
+                        translateScreenToJava2D(new Point((int) x, (int) y)),
+                        this.zoomAroundAnchor);
+                plot.setNotify(savedNotify);
+            }
         }
     }
 
@@ -2289,18 +3100,20 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y-coordinate (in screen coordinates).
      */
     public void zoomOutRange(double x, double y) {
-        Plot plot = this.chart.getPlot();
-        if (plot instanceof Zoomable) {
-            // here we tweak the notify flag on the plot so that only
-            // one notification happens even though we update multiple
-            // axes...
-            boolean savedNotify = plot.isNotify();
-            plot.setNotify(false);
-            Zoomable z = (Zoomable) plot;
-            z.zoomRangeAxes(this.zoomOutFactor, this.info.getPlotInfo(),
-                    translateScreenToJava2D(new Point((int) x, (int) y)),
-                    this.zoomAroundAnchor);
-            plot.setNotify(savedNotify);
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot instanceof Zoomable) {
+                // here we tweak the notify flag on the plot so that only
+                // one notification happens even though we update multiple
+                // axes...
+                boolean savedNotify = plot.isNotify();
+                plot.setNotify(false);
+                Zoomable z = (Zoomable) plot;
+                z.zoomRangeAxes(this.zoomOutFactor, this.info.getPlotInfo(),
+                        translateScreenToJava2D(new Point((int) x, (int) y)),
+                        this.zoomAroundAnchor);
+                plot.setNotify(savedNotify);
+            }
         }
     }
 
@@ -2330,23 +3143,29 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             double vUpper = (scaledDataArea.getMaxY() - selection.getMinY())
                 / scaledDataArea.getHeight();
 
-            Plot p = this.chart.getPlot();
-            if (p instanceof Zoomable) {
-                // here we tweak the notify flag on the plot so that only
-                // one notification happens even though we update multiple
-                // axes...
-                boolean savedNotify = p.isNotify();
-                p.setNotify(false);
-                Zoomable z = (Zoomable) p;
-                if (z.getOrientation() == PlotOrientation.HORIZONTAL) {
-                    z.zoomDomainAxes(vLower, vUpper, plotInfo, selectOrigin);
-                    z.zoomRangeAxes(hLower, hUpper, plotInfo, selectOrigin);
-                }
-                else {
-                    z.zoomDomainAxes(hLower, hUpper, plotInfo, selectOrigin);
-                    z.zoomRangeAxes(vLower, vUpper, plotInfo, selectOrigin);
+            synchronized (this.chart) {
+                Plot p = this.chart.getPlot();
+                if (p instanceof Zoomable) {
+                    // here we tweak the notify flag on the plot so that only
+                    // one notification happens even though we update
+                    // multiple axes...
+                    boolean savedNotify = p.isNotify();
+                    p.setNotify(false);
+                    Zoomable z = (Zoomable) p;
+                    if (z.getOrientation() == PlotOrientation.HORIZONTAL) {
+                        z.zoomDomainAxes(vLower, vUpper, plotInfo,
+                                selectOrigin);
+                        z.zoomRangeAxes(hLower, hUpper, plotInfo,
+                                selectOrigin);
+                    }
+                    else {
+                        z.zoomDomainAxes(hLower, hUpper, plotInfo,
+                                selectOrigin);
+                        z.zoomRangeAxes(vLower, vUpper, plotInfo,
+                                selectOrigin);
+                    }
+                    p.setNotify(savedNotify);
                 }
-                p.setNotify(savedNotify);
             }
 
         }
@@ -2357,37 +3176,41 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * Restores the auto-range calculation on both axes.
      */
     public void restoreAutoBounds() {
-        Plot plot = this.chart.getPlot();
-        if (plot == null) {
-            return;
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot == null) {
+                return;
+            }
+            // here we tweak the notify flag on the plot so that only
+            // one notification happens even though we update multiple
+            // axes...
+            boolean savedNotify = plot.isNotify();
+            plot.setNotify(false);
+            restoreAutoDomainBounds();
+            restoreAutoRangeBounds();
+            plot.setNotify(savedNotify);
         }
-        // here we tweak the notify flag on the plot so that only
-        // one notification happens even though we update multiple
-        // axes...
-        boolean savedNotify = plot.isNotify();
-        plot.setNotify(false);
-        restoreAutoDomainBounds();
-        restoreAutoRangeBounds();
-        plot.setNotify(savedNotify);
     }
 
     /**
      * Restores the auto-range calculation on the domain axis.
      */
     public void restoreAutoDomainBounds() {
-        Plot plot = this.chart.getPlot();
-        if (plot instanceof Zoomable) {
-            Zoomable z = (Zoomable) plot;
-            // here we tweak the notify flag on the plot so that only
-            // one notification happens even though we update multiple
-            // axes...
-            boolean savedNotify = plot.isNotify();
-            plot.setNotify(false);
-            // we need to guard against this.zoomPoint being null
-            Point2D zp = (this.zoomPoint != null
-                    ? this.zoomPoint : new Point());
-            z.zoomDomainAxes(0.0, this.info.getPlotInfo(), zp);
-            plot.setNotify(savedNotify);
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot instanceof Zoomable) {
+                Zoomable z = (Zoomable) plot;
+                // here we tweak the notify flag on the plot so that only
+                // one notification happens even though we update multiple
+                // axes...
+                boolean savedNotify = plot.isNotify();
+                plot.setNotify(false);
+                // we need to guard against this.zoomPoint being null
+                Point2D zp = (this.zoomPoint != null
+                        ? this.zoomPoint : new Point());
+                z.zoomDomainAxes(0.0, this.info.getPlotInfo(), zp);
+                plot.setNotify(savedNotify);
+            }
         }
     }
 
@@ -2395,19 +3218,21 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * Restores the auto-range calculation on the range axis.
      */
     public void restoreAutoRangeBounds() {
-        Plot plot = this.chart.getPlot();
-        if (plot instanceof Zoomable) {
-            Zoomable z = (Zoomable) plot;
-            // here we tweak the notify flag on the plot so that only
-            // one notification happens even though we update multiple
-            // axes...
-            boolean savedNotify = plot.isNotify();
-            plot.setNotify(false);
-            // we need to guard against this.zoomPoint being null
-            Point2D zp = (this.zoomPoint != null
-                    ? this.zoomPoint : new Point());
-            z.zoomRangeAxes(0.0, this.info.getPlotInfo(), zp);
-            plot.setNotify(savedNotify);
+        synchronized (this.chart) {
+            Plot plot = this.chart.getPlot();
+            if (plot instanceof Zoomable) {
+                Zoomable z = (Zoomable) plot;
+                // here we tweak the notify flag on the plot so that only
+                // one notification happens even though we update multiple
+                // axes...
+                boolean savedNotify = plot.isNotify();
+                plot.setNotify(false);
+                // we need to guard against this.zoomPoint being null
+                Point2D zp = (this.zoomPoint != null
+                        ? this.zoomPoint : new Point());
+                z.zoomRangeAxes(0.0, this.info.getPlotInfo(), zp);
+                plot.setNotify(savedNotify);
+            }
         }
     }
 
@@ -2674,7 +3499,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 localizationResources.getString("Chart_Properties"),
                 JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
         if (result == JOptionPane.OK_OPTION) {
-            editor.updateChart(this.chart);
+            synchronized (this.chart) {
+                editor.updateChart(this.chart);
+            }
         }
 
     }
@@ -3328,6 +4155,8 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         // we create a new but empty chartMouseListeners list
         this.chartMouseListeners = new EventListenerList();
+        this.dirtyLayers = Collections.synchronizedSet(
+                new HashSet<PlotLayer>());
 
         // register as a listener with sub-components...
         if (this.chart != null) {
@@ -44,6 +44,7 @@
  * 30-Nov-2005 : Removed get/setPlotArea() (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Fixed equals() and clone() (DG);
+ * 18-Oct-2026 : Mention SpatialEntityCollection in the API docs;
  *
  */
 
@@ -106,7 +107,10 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
      * Constructs a new instance. If an entity collection is supplied, it will
      * be populated with information about the entities in a chart.  If it is
      * <code>null</code>, no entity information (including tool tips) will
-     * be collected.
+     * be collected.  For charts with a large number of entities, a
+     * {@link org.jfree.chart.entity.SpatialEntityCollection} finds the
+     * entity under the mouse pointer much faster than the default
+     * {@link StandardEntityCollection}.
      *
      * @param entities  an entity collection (<code>null</code> permitted).
      */
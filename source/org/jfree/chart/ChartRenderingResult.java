@@ -0,0 +1,168 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ChartRenderingResult.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+/**
+ * The result of rendering a chart with a {@link ChartRenderingService}: the
+ * encoded image plus the time taken to draw and encode it.  Instances of
+ * this class are immutable (apart from the rendering info, which is owned by
+ * the caller that supplied it).
+ *
+ * @since 1.0.20
+ */
+public final class ChartRenderingResult {
+
+    /** The encoded image. */
+    private byte[] data;
+
+    /** The image format (see {@link org.jfree.chart.encoders.ImageFormat}). */
+    private String format;
+
+    /** The image width. */
+    private int width;
+
+    /** The image height. */
+    private int height;
+
+    /** The rendering info (<code>null</code> permitted). */
+    private ChartRenderingInfo info;
+
+    /** The time taken to draw the chart, in nanoseconds. */
+    private long drawNanos;
+
+    /** The time taken to encode the image, in nanoseconds. */
+    private long encodeNanos;
+
+    /**
+     * Creates a new result.
+     *
+     * @param data  the encoded image (<code>null</code> not permitted).
+     * @param format  the image format (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  the rendering info (<code>null</code> permitted).
+     * @param drawNanos  the time taken to draw the chart, in nanoseconds.
+     * @param encodeNanos  the time taken to encode the image, in nanoseconds.
+     */
+    ChartRenderingResult(byte[] data, String format, int width, int height,
+            ChartRenderingInfo info, long drawNanos, long encodeNanos) {
+        this.data = data;
+        this.format = format;
+        this.width = width;
+        this.height = height;
+        this.info = info;
+        this.drawNanos = drawNanos;
+        this.encodeNanos = encodeNanos;
+    }
+
+    /**
+     * Returns a copy of the encoded image.
+     *
+     * @return The encoded image (never <code>null</code>).
+     */
+    public byte[] getData() {
+        return (byte[]) this.data.clone();
+    }
+
+    /**
+     * Returns the number of bytes in the encoded image.
+     *
+     * @return The number of bytes.
+     */
+    public int getDataLength() {
+        return this.data.length;
+    }
+
+    /**
+     * Returns the image format.
+     *
+     * @return The image format (never <code>null</code>).
+     */
+    public String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Returns the image width.
+     *
+     * @return The image width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the image height.
+     *
+     * @return The image height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Returns the rendering info that was passed to the service.
+     *
+     * @return The rendering info (possibly <code>null</code>).
+     */
+    public ChartRenderingInfo getInfo() {
+        return this.info;
+    }
+
+    /**
+     * Returns the time taken to draw the chart, in nanoseconds.
+     *
+     * @return The draw time.
+     */
+    public long getDrawNanos() {
+        return this.drawNanos;
+    }
+
+    /**
+     * Returns the time taken to encode the image, in nanoseconds.
+     *
+     * @return The encoding time.
+     */
+    public long getEncodeNanos() {
+        return this.encodeNanos;
+    }
+
+}
@@ -0,0 +1,432 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * ChartRenderingService.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 18-Oct-2026 : Reuse a FastPNGEncoder on each worker thread;
+ * 18-Oct-2026 : Release the queue slot of cancelled charts, added
+ *               shutdownNow();
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.FastPNGEncoder;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A service that draws charts and encodes them as images on a pool of worker
+ * threads.  This is intended for servers that produce a large number of
+ * chart images, where {@link ChartUtilities#writeChartAsPNG(
+ * java.io.OutputStream, JFreeChart, int, int)} would draw each chart on the
+ * calling thread into a newly allocated image.
+ * <P>
+ * Each worker thread keeps the last image buffer it used and draws the next
+ * chart into the same buffer when it is large enough, so the steady state
+ * does not allocate image rasters.  PNG images are encoded with a
+ * {@link FastPNGEncoder} that each worker keeps too (other formats use the
+ * encoders from {@link org.jfree.chart.encoders.ImageEncoderFactory}).  The
+ * number of charts that are queued or
+ * being rendered is bounded: when the limit is reached, {@link #submit(
+ * JFreeChart, int, int, String)} blocks until a worker has finished a chart
+ * (or a queued chart is cancelled).
+ * <P>
+ * Thread safety:
+ * <ul>
+ * <li>different {@link JFreeChart} instances may be rendered in
+ * parallel, provided they do not share plots, renderers or axes;</li>
+ * <li>the same chart may be submitted more than once, the service will not
+ * draw it on two threads at the same time (it synchronizes on the chart), but
+ * the chart must not be modified by other threads while it is queued or being
+ * drawn;</li>
+ * <li>datasets may be shared between charts if they are not modified while
+ * the charts are rendered, or if they are {@link
+ * org.jfree.data.general.ConcurrentDataset}s in concurrent mode (the plot
+ * then draws a snapshot);</li>
+ * <li>a {@link ChartRenderingInfo} must not be shared between submitted
+ * charts.</li>
+ * </ul>
+ *
+ * @since 1.0.20
+ */
+public class ChartRenderingService {
+
+    /** The index of the cached ARGB image in the per-thread buffers. */
+    private static final int ARGB = 0;
+
+    /** The index of the cached RGB image in the per-thread buffers. */
+    private static final int RGB = 1;
+
+    /** The executor that runs the rendering tasks. */
+    private ExecutorService executor;
+
+    /**
+     * Permits for the charts that are queued or being rendered, used to
+     * bound the work queue.
+     */
+    private Semaphore permits;
+
+    /** The image buffers for each worker thread. */
+    private ThreadLocal<BufferedImage[]> buffers;
+
+    /** The PNG encoder for each worker thread. */
+    private ThreadLocal<FastPNGEncoder> pngEncoders;
+
+    /**
+     * Creates a new service with one worker thread per available processor.
+     */
+    public ChartRenderingService() {
+        this(Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates a new service that uses daemon worker threads.
+     *
+     * @param parallelism  the number of worker threads (at least 1).
+     * @param queueCapacity  the number of charts that can wait for a worker
+     *     (zero or more).
+     */
+    public ChartRenderingService(int parallelism, int queueCapacity) {
+        this(parallelism, queueCapacity, new RendererThreadFactory());
+    }
+
+    /**
+     * Creates a new service that creates its worker threads with the given
+     * factory.  On runtimes that support virtual threads, a virtual thread
+     * factory can be passed here; note that the image buffers are kept per
+     * thread, so they are only reused when the factory's threads are.
+     *
+     * @param parallelism  the number of worker threads (at least 1).
+     * @param queueCapacity  the number of charts that can wait for a worker
+     *     (zero or more).
+     * @param threadFactory  the thread factory (<code>null</code> not
+     *     permitted).
+     */
+    public ChartRenderingService(int parallelism, int queueCapacity,
+            ThreadFactory threadFactory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'parallelism' >= 1.");
+        }
+        ParamChecks.requireNonNegative(queueCapacity, "queueCapacity");
+        ParamChecks.nullNotPermitted(threadFactory, "threadFactory");
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+                threadFactory);
+        this.permits = new Semaphore(parallelism + queueCapacity);
+        this.buffers = new ThreadLocal<BufferedImage[]>() {
+            @Override
+            protected BufferedImage[] initialValue() {
+                return new BufferedImage[2];
+            }
+        };
+        this.pngEncoders = new ThreadLocal<FastPNGEncoder>() {
+            @Override
+            protected FastPNGEncoder initialValue() {
+                return new FastPNGEncoder();
+            }
+        };
+    }
+
+    /**
+     * Submits a chart to be drawn and encoded.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width (in pixels).
+     * @param height  the image height (in pixels).
+     * @param format  the image format, see {@link ImageFormat}
+     *     (<code>null</code> not permitted).
+     *
+     * @return A future for the result.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while
+     *     waiting for space in the queue.
+     */
+    public Future<ChartRenderingResult> submit(JFreeChart chart, int width,
+            int height, String format) throws InterruptedException {
+        return submit(chart, width, height, format, null);
+    }
+
+    /**
+     * Submits a chart to be drawn and encoded.  If the queue is full, this
+     * method blocks until there is space.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width (in pixels).
+     * @param height  the image height (in pixels).
+     * @param format  the image format, see {@link ImageFormat}
+     *     (<code>null</code> not permitted).
+     * @param info  carries back chart state information (<code>null</code>
+     *     permitted).
+     *
+     * @return A future for the result.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while
+     *     waiting for space in the queue.
+     * @throws RejectedExecutionException if the service has been shut down
+     *     (including while this method was waiting for space in the queue).
+     */
+    public Future<ChartRenderingResult> submit(JFreeChart chart, int width,
+            int height, String format, ChartRenderingInfo info)
+            throws InterruptedException {
+        ParamChecks.nullNotPermitted(chart, "chart");
+        ParamChecks.nullNotPermitted(format, "format");
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'width' and 'height' > 0.");
+        }
+        if (this.executor.isShutdown()) {
+            throw new RejectedExecutionException("Service is shut down.");
+        }
+        this.permits.acquire();
+        if (this.executor.isShutdown()) {
+            // pass the permit on, so that every waiting thread wakes up
+            this.permits.release();
+            throw new RejectedExecutionException("Service is shut down.");
+        }
+        RenderingTask task = new RenderingTask(chart, width, height, format,
+                info);
+        try {
+            this.executor.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+            this.permits.release();
+            throw e;
+        }
+        return task;
+    }
+
+    /**
+     * Draws and encodes a chart on the current thread, using the thread's
+     * image buffer.
+     *
+     * @param chart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param format  the image format.
+     * @param info  the rendering info (<code>null</code> permitted).
+     *
+     * @return The result.
+     *
+     * @throws Exception if the image cannot be encoded.
+     */
+    private ChartRenderingResult render(JFreeChart chart, int width,
+            int height, String format, ChartRenderingInfo info)
+            throws Exception {
+        // JPEG has no alpha channel, see bug 1868251
+        boolean opaque = ImageFormat.JPEG.equalsIgnoreCase(format);
+        BufferedImage image = getBuffer(opaque ? RGB : ARGB, width, height);
+        long start = System.nanoTime();
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, width, height);
+            g2.setComposite(AlphaComposite.SrcOver);
+            synchronized (chart) {
+                chart.draw(g2, new Rectangle2D.Double(0, 0, width, height),
+                        null, info);
+            }
+        }
+        finally {
+            g2.dispose();
+        }
+        long drawn = System.nanoTime();
+        byte[] data;
+        if (ImageFormat.PNG.equalsIgnoreCase(format)) {
+            data = this.pngEncoders.get().encode(image);
+        }
+        else {
+            data = EncoderUtil.encode(image, format);
+        }
+        long encoded = System.nanoTime();
+        return new ChartRenderingResult(data, format, width, height, info,
+                drawn - start, encoded - drawn);
+    }
+
+    /**
+     * Returns an image of the requested size that is backed by the current
+     * thread's buffer, replacing the buffer if it is too small.
+     *
+     * @param index  the buffer index ({@link #ARGB} or {@link #RGB}).
+     * @param width  the width.
+     * @param height  the height.
+     *
+     * @return An image.
+     */
+    private BufferedImage getBuffer(int index, int width, int height) {
+        BufferedImage[] cached = this.buffers.get();
+        BufferedImage buffer = cached[index];
+        if (buffer == null || buffer.getWidth() < width
+                || buffer.getHeight() < height) {
+            int w = width;
+            int h = height;
+            if (buffer != null) {
+                w = Math.max(w, buffer.getWidth());
+                h = Math.max(h, buffer.getHeight());
+            }
+            buffer = new BufferedImage(w, h, index == RGB
+                    ? BufferedImage.TYPE_INT_RGB
+                    : BufferedImage.TYPE_INT_ARGB);
+            cached[index] = buffer;
+        }
+        if (buffer.getWidth() == width && buffer.getHeight() == height) {
+            return buffer;
+        }
+        return buffer.getSubimage(0, 0, width, height);
+    }
+
+    /**
+     * Stops accepting charts.  Charts that have already been submitted are
+     * still rendered.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+        // wake up the threads waiting in submit()
+        this.permits.release();
+    }
+
+    /**
+     * Stops accepting charts, cancels the charts that are waiting for a
+     * worker and interrupts the workers.
+     *
+     * @return The number of charts that were cancelled before they started.
+     */
+    public int shutdownNow() {
+        List<Runnable> queued = this.executor.shutdownNow();
+        for (Runnable r : queued) {
+            ((Future) r).cancel(false);
+        }
+        this.permits.release();
+        return queued.size();
+    }
+
+    /**
+     * Returns <code>true</code> if the service has been shut down.
+     *
+     * @return A boolean.
+     */
+    public boolean isShutdown() {
+        return this.executor.isShutdown();
+    }
+
+    /**
+     * Waits until all submitted charts have been rendered after a call to
+     * {@link #shutdown()}, or until the timeout expires.
+     *
+     * @param timeout  the maximum time to wait.
+     * @param unit  the time unit (<code>null</code> not permitted).
+     *
+     * @return <code>true</code> if the service terminated, and
+     *     <code>false</code> if the timeout expired.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return this.executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * A task that gives back its queue slot when it completes, fails or is
+     * cancelled (a task cancelled while it is queued never runs).
+     */
+    private class RenderingTask extends FutureTask<ChartRenderingResult> {
+
+        /**
+         * Creates a new task.
+         *
+         * @param chart  the chart.
+         * @param width  the image width.
+         * @param height  the image height.
+         * @param format  the image format.
+         * @param info  the rendering info (<code>null</code> permitted).
+         */
+        RenderingTask(final JFreeChart chart, final int width,
+                final int height, final String format,
+                final ChartRenderingInfo info) {
+            super(new Callable<ChartRenderingResult>() {
+                @Override
+                public ChartRenderingResult call() throws Exception {
+                    return render(chart, width, height, format, info);
+                }
+            });
+        }
+
+        @Override
+        protected void done() {
+            ChartRenderingService.this.permits.release();
+        }
+
+    }
+
+    /**
+     * The default thread factory, which creates named daemon threads.
+     */
+    private static class RendererThreadFactory implements ThreadFactory {
+
+        /** The number of threads created by all factories. */
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "ChartRenderingService-"
+                    + COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -150,6 +150,9 @@
  * 29-Jun-2009 : Check visibility flag in main title (DG);
  * 02-Jul-2013 : Use ParamChecks class (DG);
  * 21-Jun-2014 : Set default hint value for stroke control (DG);
+ * 18-Oct-2026 : Added KEY_PLOT_LAYER rendering hint;
+ * 18-Oct-2026 : Report the drawing time in the DRAWING_FINISHED event;
+ * 18-Oct-2026 : Added metricsSink attribute and draw instrumentation;
  *
  */
 
@@ -203,12 +206,15 @@ import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PlotLayer;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
+import org.jfree.chart.util.MetricsSink;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.RenderMetrics;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
@@ -286,6 +292,25 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             return val instanceof Boolean;
         }
     };
+
+    /**
+     * The key for a rendering hint that restricts the drawing of the chart
+     * to a single {@link PlotLayer}.  When the hint is set to anything other
+     * than {@link PlotLayer#BACKGROUND}, the chart background, border and
+     * titles are laid out but not drawn, so that the plot can draw the
+     * selected layer in the same position as it would be in the complete
+     * chart.  The hint value must be a {@link PlotLayer}, and is ignored by
+     * plots that are not drawn in layers.
+     *
+     * @since 1.0.20
+     */
+    public static final RenderingHints.Key KEY_PLOT_LAYER
+            = new RenderingHints.Key(0) {
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            return val instanceof PlotLayer;
+        }
+    };
     
     /**
      * Rendering hints that will be used for chart drawing.  This should never
@@ -341,6 +366,12 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     private boolean notify;
 
+    /**
+     * The sink for the metrics recorded while the chart is drawn
+     * (<code>null</code> permitted).
+     */
+    private transient MetricsSink metricsSink;
+
     /**
      * Creates a new chart based on the supplied plot.  The chart will have
      * a legend added automatically, but no title (although you can easily add
@@ -1098,6 +1129,37 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         }
     }
 
+    /**
+     * Returns the sink for the metrics recorded while the chart is drawn.
+     *
+     * @return The sink (possibly <code>null</code>).
+     *
+     * @see #setMetricsSink(MetricsSink)
+     *
+     * @since 1.0.20
+     */
+    public MetricsSink getMetricsSink() {
+        return this.metricsSink;
+    }
+
+    /**
+     * Sets the sink for the metrics recorded while the chart is drawn (the
+     * drawing time, the time to lay out the titles and draw the plot, the
+     * entity count, and the axis, dataset and renderer metrics described in
+     * {@link RenderMetrics}).  The sink is bound to the drawing thread for
+     * the duration of the {@link #draw(Graphics2D, Rectangle2D, Point2D,
+     * ChartRenderingInfo)} method.  If the sink is <code>null</code>, the
+     * metrics go to {@link RenderMetrics#getSink()}.  No change event is
+     * sent, and the sink is not serialized.
+     *
+     * @param sink  the sink (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setMetricsSink(MetricsSink sink) {
+        this.metricsSink = sink;
+    }
+
     /**
      * Draws the chart on a Java 2D graphics device (such as the screen or a
      * printer).
@@ -1138,9 +1200,42 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     public void draw(Graphics2D g2, Rectangle2D chartArea, Point2D anchor,
              ChartRenderingInfo info) {
+        MetricsSink sink = this.metricsSink;
+        if (sink == null) {
+            sink = RenderMetrics.getSink();
+            if (sink == null) {
+                drawChart(g2, chartArea, anchor, info, null);
+                return;
+            }
+        }
+        MetricsSink previous = RenderMetrics.bind(sink);
+        try {
+            long start = System.nanoTime();
+            drawChart(g2, chartArea, anchor, info, sink);
+            sink.recordTime(RenderMetrics.CHART_DRAW,
+                    System.nanoTime() - start);
+        }
+        finally {
+            RenderMetrics.unbind(previous);
+        }
+    }
 
-        notifyListeners(new ChartProgressEvent(this, this,
-                ChartProgressEvent.DRAWING_STARTED, 0));
+    /**
+     * Draws the chart, recording metrics if a sink is supplied.
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the area within which the chart should be drawn.
+     * @param anchor  the anchor point (in Java2D space) for the chart
+     *                (<code>null</code> permitted).
+     * @param info  records info about the drawing (null means collect no info).
+     * @param sink  the metrics sink (<code>null</code> permitted).
+     */
+    private void drawChart(Graphics2D g2, Rectangle2D chartArea, Point2D anchor,
+             ChartRenderingInfo info, MetricsSink sink) {
+
+        ChartProgressEvent started = new ChartProgressEvent(this, this,
+                ChartProgressEvent.DRAWING_STARTED, 0);
+        notifyListeners(started);
         
         EntityCollection entities = null;
         // record the chart area, if info is requested...
@@ -1149,7 +1244,8 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             info.setChartArea(chartArea);
             entities = info.getEntityCollection();
         }
-        if (entities != null) {
+        boolean decorate = isChartLayer(g2);
+        if (entities != null && decorate) {
             entities.add(new JFreeChartEntity((Rectangle2D) chartArea.clone(),
                     this));
         }
@@ -1161,12 +1257,12 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         g2.addRenderingHints(this.renderingHints);
 
         // draw the chart background...
-        if (this.backgroundPaint != null) {
+        if (this.backgroundPaint != null && decorate) {
             g2.setPaint(this.backgroundPaint);
             g2.fill(chartArea);
         }
 
-        if (this.backgroundImage != null) {
+        if (this.backgroundImage != null && decorate) {
             Composite originalComposite = g2.getComposite();
             g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
                     this.backgroundImageAlpha));
@@ -1180,7 +1276,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             g2.setComposite(originalComposite);
         }
 
-        if (isBorderVisible()) {
+        if (isBorderVisible() && decorate) {
             Paint paint = getBorderPaint();
             Stroke stroke = getBorderStroke();
             if (paint != null && stroke != null) {
@@ -1195,13 +1291,14 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         }
 
         // draw the title and subtitles...
+        long titlesStart = (sink != null ? System.nanoTime() : 0L);
         Rectangle2D nonTitleArea = new Rectangle2D.Double();
         nonTitleArea.setRect(chartArea);
         this.padding.trim(nonTitleArea);
 
         if (this.title != null && this.title.isVisible()) {
             EntityCollection e = drawTitle(this.title, g2, nonTitleArea,
-                    (entities != null));
+                    (entities != null && decorate));
             if (e != null && entities != null) {
                 entities.addAll(e);
             }
@@ -1212,7 +1309,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             Title currentTitle = (Title) iterator.next();
             if (currentTitle.isVisible()) {
                 EntityCollection e = drawTitle(currentTitle, g2, nonTitleArea,
-                        (entities != null));
+                        (entities != null && decorate));
                 if (e != null && entities != null) {
                     entities.addAll(e);
                 }
@@ -1220,18 +1317,48 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         }
 
         Rectangle2D plotArea = nonTitleArea;
+        if (sink != null) {
+            sink.recordTime(RenderMetrics.CHART_TITLES,
+                    System.nanoTime() - titlesStart);
+        }
 
         // draw the plot (axes and data visualisation)
         PlotRenderingInfo plotInfo = null;
         if (info != null) {
             plotInfo = info.getPlotInfo();
         }
+        long plotStart = (sink != null ? System.nanoTime() : 0L);
         this.plot.draw(g2, plotArea, anchor, null, plotInfo);
+        if (sink != null) {
+            sink.recordTime(RenderMetrics.PLOT_DRAW,
+                    System.nanoTime() - plotStart);
+            if (entities != null) {
+                sink.recordCount(RenderMetrics.ENTITIES_CREATED,
+                        entities.getEntityCount());
+            }
+        }
 
         g2.setClip(savedClip);
 
-        notifyListeners(new ChartProgressEvent(this, this,
-                ChartProgressEvent.DRAWING_FINISHED, 100));
+        ChartProgressEvent finished = new ChartProgressEvent(this, this,
+                ChartProgressEvent.DRAWING_FINISHED, 100);
+        finished.setElapsedTime(finished.getTime() - started.getTime());
+        notifyListeners(finished);
+    }
+
+    /**
+     * Returns <code>true</code> if the chart background, border and titles
+     * should be drawn on the specified graphics device, which is the case
+     * unless the {@link #KEY_PLOT_LAYER} hint selects a layer other than
+     * {@link PlotLayer#BACKGROUND}.
+     *
+     * @param g2  the graphics device.
+     *
+     * @return A boolean.
+     */
+    private static boolean isChartLayer(Graphics2D g2) {
+        Object layer = g2.getRenderingHint(KEY_PLOT_LAYER);
+        return layer == null || PlotLayer.BACKGROUND.equals(layer);
     }
 
     /**
@@ -1275,7 +1402,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
     /**
      * Draws a title.  The title should be drawn at the top, bottom, left or
      * right of the specified area, and the area should be updated to reflect
-     * the amount of space used by the title.
+     * the amount of space used by the title.  If the {@link #KEY_PLOT_LAYER}
+     * hint selects a layer other than the background layer, the space is
+     * allocated but the title is not drawn.
      *
      * @param t  the title (<code>null</code> not permitted).
      * @param g2  the graphics device (<code>null</code> not permitted).
@@ -1311,7 +1440,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             Size2D size = t.arrange(g2, constraint);
             titleArea = createAlignedRectangle2D(size, area,
                     t.getHorizontalAlignment(), VerticalAlignment.TOP);
-            retValue = t.draw(g2, titleArea, p);
             area.setRect(area.getX(), Math.min(area.getY() + size.height,
                     area.getMaxY()), area.getWidth(), Math.max(area.getHeight()
                     - size.height, 0));
@@ -1320,7 +1448,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             Size2D size = t.arrange(g2, constraint);
             titleArea = createAlignedRectangle2D(size, area,
                     t.getHorizontalAlignment(), VerticalAlignment.BOTTOM);
-            retValue = t.draw(g2, titleArea, p);
             area.setRect(area.getX(), area.getY(), area.getWidth(),
                     area.getHeight() - size.height);
         }
@@ -1328,7 +1455,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             Size2D size = t.arrange(g2, constraint);
             titleArea = createAlignedRectangle2D(size, area,
                     HorizontalAlignment.RIGHT, t.getVerticalAlignment());
-            retValue = t.draw(g2, titleArea, p);
             area.setRect(area.getX(), area.getY(), area.getWidth()
                     - size.width, area.getHeight());
         }
@@ -1337,13 +1463,15 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             Size2D size = t.arrange(g2, constraint);
             titleArea = createAlignedRectangle2D(size, area,
                     HorizontalAlignment.LEFT, t.getVerticalAlignment());
-            retValue = t.draw(g2, titleArea, p);
             area.setRect(area.getX() + size.width, area.getY(), area.getWidth()
                     - size.width, area.getHeight());
         }
         else {
             throw new RuntimeException("Unrecognised title position.");
         }
+        if (isChartLayer(g2)) {
+            retValue = t.draw(g2, titleArea, p);
+        }
         EntityCollection result = null;
         if (retValue instanceof EntityBlockResult) {
             EntityBlockResult ebr = (EntityBlockResult) retValue;
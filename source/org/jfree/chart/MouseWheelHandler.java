@@ -40,6 +40,7 @@
  * 10-Sep-2009 : Bug fix by Jim Goodwin to respect domain/rangeZoomable flags
  *               in the ChartPanel (DG);
  * 04-Nov-2009 : Pass mouse wheel notification to PiePlot (DG);
+ * 18-Oct-2026 : Lock the chart while zooming;
  *
  */
 
@@ -113,14 +114,18 @@ class MouseWheelHandler implements MouseWheelListener, Serializable {
         if (chart == null) {
             return;
         }
-        Plot plot = chart.getPlot();
-        if (plot instanceof Zoomable) {
-            Zoomable zoomable = (Zoomable) plot;
-            handleZoomable(zoomable, e);
-        }
-        else if (plot instanceof PiePlot) {
-            PiePlot pp = (PiePlot) plot;
-            pp.handleMouseWheelRotation(e.getWheelRotation());
+        // the chart is locked while it is changed, in case it is being
+        // drawn on a background thread (see ChartPanel)
+        synchronized (chart) {
+            Plot plot = chart.getPlot();
+            if (plot instanceof Zoomable) {
+                Zoomable zoomable = (Zoomable) plot;
+                handleZoomable(zoomable, e);
+            }
+            else if (plot instanceof PiePlot) {
+                PiePlot pp = (PiePlot) plot;
+                pp.handleMouseWheelRotation(e.getWheelRotation());
+            }
         }
     }
 
@@ -86,6 +86,7 @@
  * 01-Aug-2013 : Added attributedLabel override to support superscripts,
  *               subscripts and more (DG);
  * 29-Jul-2014 : Add hint to normalise stroke for axis line (DG);
+ * 18-Oct-2026 : Added calculateTicks() method to record tick metrics;
  *
  */
 
@@ -122,7 +123,9 @@ import org.jfree.chart.event.AxisChangeListener;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.util.AttrStringUtils;
+import org.jfree.chart.util.MetricsSink;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.RenderMetrics;
 import org.jfree.io.SerialUtilities;
 import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
@@ -1127,6 +1130,37 @@ public abstract class Axis implements Cloneable, Serializable {
     public abstract List refreshTicks(Graphics2D g2, AxisState state,
             Rectangle2D dataArea, RectangleEdge edge);
 
+    /**
+     * Calculates the ticks for the axis by calling
+     * {@link #refreshTicks(Graphics2D, AxisState, Rectangle2D, RectangleEdge)},
+     * and records the time taken and the number of ticks with the current
+     * metrics sink (see {@link RenderMetrics#getSink()}), if there is one.
+     * The axis classes call this method rather than calling
+     * <code>refreshTicks()</code> directly.
+     *
+     * @param g2  the graphics device.
+     * @param state  the axis state.
+     * @param dataArea  the area inside the axes.
+     * @param edge  the edge on which the axis is located.
+     *
+     * @return The list of ticks.
+     *
+     * @since 1.0.20
+     */
+    protected List calculateTicks(Graphics2D g2, AxisState state,
+            Rectangle2D dataArea, RectangleEdge edge) {
+        MetricsSink sink = RenderMetrics.getSink();
+        if (sink == null) {
+            return refreshTicks(g2, state, dataArea, edge);
+        }
+        long start = System.nanoTime();
+        List ticks = refreshTicks(g2, state, dataArea, edge);
+        sink.recordTime(RenderMetrics.AXIS_TICKS, System.nanoTime() - start);
+        sink.recordCount(RenderMetrics.AXIS_TICK_COUNT,
+                ticks != null ? ticks.size() : 0);
+        return ticks;
+    }
+
     /**
      * Created an entity for the axis.
      *
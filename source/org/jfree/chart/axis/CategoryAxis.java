@@ -98,6 +98,7 @@
  * 01-Aug-2013 : Added attributedLabel override to support superscripts,
  *               subscripts and more (DG);
  * 29-Jul-2014 : Add hint to normalise stroke for tick marks (DG);
+ * 18-Oct-2026 : Use calculateTicks() so that tick metrics are recorded;
  *
  */
 
@@ -908,7 +909,7 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
             g2.setFont(getTickLabelFont());
             AxisState state = new AxisState();
             // we call refresh ticks just to get the maximum width or height
-            refreshTicks(g2, state, plotArea, edge);
+            calculateTicks(g2, state, plotArea, edge);
             if (edge == RectangleEdge.TOP) {
                 tickLabelHeight = state.getMax();
             }
@@ -1020,7 +1021,7 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
             return state;
         }
  
-        List ticks = refreshTicks(g2, state, plotArea, edge);
+        List ticks = calculateTicks(g2, state, plotArea, edge);
         state.setTicks(ticks);
         int categoryIndex = 0;
         Iterator iterator = ticks.iterator();
@@ -132,6 +132,7 @@
  * 12-Sep-2013 : Prevent exception when zooming in below 1 millisecond (DG);
  * 23-Nov-2013 : Deprecated DEFAULT_DATE_TICK_UNIT to fix bug #977 (DG);
  * 10-Mar-2014 : Add get/setLocale() methods (DG);
+ * 18-Oct-2026 : Use calculateTicks() so that tick metrics are recorded;
  * 
  */
 
@@ -1856,7 +1857,7 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
             AxisState state = new AxisState(cursor);
             // even though the axis is not visible, we need to refresh ticks in
             // case the grid is being drawn...
-            List ticks = refreshTicks(g2, state, dataArea, edge);
+            List ticks = calculateTicks(g2, state, dataArea, edge);
             state.setTicks(ticks);
             return state;
         }
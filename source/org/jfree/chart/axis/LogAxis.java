@@ -59,6 +59,7 @@
  * 01-Aug-2013 : Added attributedLabel override to support superscripts,
  *               subscripts and more (DG);
  * 18-Mar-2014 : Add support for super-scripted tick labels (DG);
+ * 18-Oct-2026 : Use calculateTicks() so that tick metrics are recorded;
  * 
  */
 
@@ -537,7 +538,7 @@ public class LogAxis extends ValueAxis {
             state = new AxisState(cursor);
             // even though the axis is not visible, we need ticks for the
             // gridlines...
-            List ticks = refreshTicks(g2, state, dataArea, edge);
+            List ticks = calculateTicks(g2, state, dataArea, edge);
             state.setTicks(ticks);
             return state;
         }
@@ -98,6 +98,7 @@
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 01-Aug-2013 : Added attributedLabel override to support superscripts,
  *               subscripts and more (DG);
+ * 18-Oct-2026 : Use calculateTicks() so that tick metrics are recorded;
  * 
  */
 
@@ -657,7 +658,7 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
             state = new AxisState(cursor);
             // even though the axis is not visible, we need ticks for the
             // gridlines...
-            List ticks = refreshTicks(g2, state, dataArea, edge);
+            List ticks = calculateTicks(g2, state, dataArea, edge);
             state.setTicks(ticks);
             return state;
         }
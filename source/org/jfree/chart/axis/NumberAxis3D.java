@@ -66,6 +66,7 @@
  * 16-Apr-2009 : Changed axis line visibility default (DG);
  * 01-Aug-2013 : Added attributedLabel override to support superscripts,
  *               subscripts and more (DG); *
+ * 18-Oct-2026 : Use calculateTicks() so that tick metrics are recorded;
  */
 
 package org.jfree.chart.axis;
@@ -132,7 +133,7 @@ public class NumberAxis3D extends NumberAxis implements Serializable {
             AxisState state = new AxisState(cursor);
             // even though the axis is not visible, we need ticks for the
             // gridlines...
-            List ticks = refreshTicks(g2, state, dataArea, edge);
+            List ticks = calculateTicks(g2, state, dataArea, edge);
             state.setTicks(ticks);
             return state;
         }
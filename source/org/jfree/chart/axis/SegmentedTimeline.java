@@ -45,6 +45,11 @@
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 11-Jul-2007 : Fixed time zone bugs (DG);
  * 06-Jun-2008 : Performance enhancement posted in forum (DG);
+ * 18-Oct-2026 : Index the exception segments with arrays of starts, ends
+ *               and cumulative counts, so that getExceptionSegmentCount()
+ *               and toMillisecond() no longer iterate over the exceptions,
+ *               and added addExceptions(long[]) for bulk loading;
+ * 18-Oct-2026 : Test containsDomainValue() without creating a segment;
  *
  */
 
@@ -52,6 +57,7 @@ package org.jfree.chart.axis;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
@@ -272,6 +278,12 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
     /** A flag that controls whether or not to adjust for daylight saving. */
     private boolean adjustForDaylightSaving = false;
 
+    /**
+     * An index of the exception segments (created when first required, and
+     * recreated if the exception segment list is replaced).
+     */
+    private transient ExceptionIndex exceptionIndex;
+
     ////////////////////////////////////////////////////////////////////////////
     // static block
     ////////////////////////////////////////////////////////////////////////////
@@ -591,10 +603,10 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
         else {
             Segment segment = getSegment(millisecond);
             if (segment.inExceptionSegments()) {
+                ExceptionIndex index = getExceptionIndex();
                 int p;
                 while ((p = binarySearchExceptionSegments(segment)) >= 0) {
-                    segment = getSegment(millisecond = ((Segment)
-                            this.exceptionSegments.get(p)).getSegmentEnd() + 1);
+                    segment = getSegment(millisecond = index.ends[p] + 1);
                 }
                 result = toTimelineValue(millisecond);
             }
@@ -648,6 +660,11 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
 
     /**
      * Translates a value relative to the timeline into a millisecond.
+     * <p>
+     * The exceptions (after the start time) that come before the result are
+     * found with a binary search on the timeline values of the exception
+     * starts, so the time taken grows only logarithmically with the number
+     * of exceptions.
      *
      * @param timelineValue  the timeline value (in milliseconds).
      *
@@ -655,45 +672,44 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     @Override
     public long toMillisecond(long timelineValue) {
-
-        // calculate the result as if no exceptions
-        Segment result = new Segment(this.startTime + timelineValue
-                + (timelineValue / this.segmentsIncludedSize)
-                * this.segmentsExcludedSize);
-
-        long lastIndex = this.startTime;
-
-        // adjust result for any exceptions in the result calculated
-        while (lastIndex <= result.segmentStart) {
-
-            // skip all whole exception segments in the range
-            long exceptionSegmentCount;
-            while ((exceptionSegmentCount = getExceptionSegmentCount(
-                 lastIndex, (result.millisecond / this.segmentSize)
-                 * this.segmentSize - 1)) > 0
-            ) {
-                lastIndex = result.segmentStart;
-                // move forward exceptionSegmentCount segments skipping
-                // excluded segments
-                for (int i = 0; i < exceptionSegmentCount; i++) {
-                    do {
-                        result.inc();
-                    }
-                    while (result.inExcludeSegments());
-                }
+        ExceptionIndex index = getExceptionIndex();
+        int first = index.firstStartingAfter(this.startTime - 1);
+        // find the first exception whose start has a timeline value after
+        // the target value - the result comes before it, and after all the
+        // exceptions before it
+        int low = first;
+        int high = index.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long midValue = toTimelineValueWithoutExceptions(
+                    index.starts[mid]) - (index.cumulative(mid)
+                    - index.cumulative(first)) * this.segmentSize;
+            if (midValue <= timelineValue) {
+                low = mid + 1;
             }
-            lastIndex = result.segmentStart;
-
-            // skip exception or excluded segments we may fall on
-            while (result.inExceptionSegments() || result.inExcludeSegments()) {
-                result.inc();
-                lastIndex += this.segmentSize;
+            else {
+                high = mid;
             }
-
-            lastIndex++;
         }
+        long value = timelineValue + (index.cumulative(low)
+                - index.cumulative(first)) * this.segmentSize;
+        long result = this.startTime + value + (value
+                / this.segmentsIncludedSize) * this.segmentsExcludedSize;
+        return getTimeFromLong(result);
+    }
 
-        return getTimeFromLong(result.millisecond);
+    /**
+     * Returns the timeline value for a millisecond that is in an included
+     * segment, ignoring the exception segments.
+     *
+     * @param millisecond  the millisecond.
+     *
+     * @return The timeline value.
+     */
+    private long toTimelineValueWithoutExceptions(long millisecond) {
+        long shifted = millisecond - this.startTime;
+        return this.segmentsIncludedSize * (shifted / this.segmentsGroupSize)
+                + shifted % this.segmentsGroupSize;
     }
 
     /**
@@ -733,8 +749,23 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      */
     @Override
     public boolean containsDomainValue(long millisecond) {
-        Segment segment = getSegment(millisecond);
-        return segment.inIncludeSegments();
+        // this is getSegment(millisecond).inIncludeSegments() without
+        // creating the segment, and with no search of the exceptions for a
+        // value in an excluded segment (a weekend, for example)
+        long segmentNumber = (millisecond - this.startTime) / this.segmentSize;
+        if (millisecond < this.startTime) {
+            segmentNumber--;
+        }
+        long p = segmentNumber % this.groupSegmentCount;
+        if (p < 0) {
+            p += this.groupSegmentCount;
+        }
+        if (p >= this.segmentsIncluded) {
+            return false;
+        }
+        long start = this.startTime + segmentNumber * this.segmentSize;
+        return binarySearchExceptionSegments(start,
+                start + this.segmentSize - 1) < 0;
     }
 
     /**
@@ -863,9 +894,70 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      *                       exclude.
      */
     public void addExceptions(List exceptionList) {
+        long[] milliseconds = new long[exceptionList.size()];
+        int i = 0;
         for (Iterator iter = exceptionList.iterator(); iter.hasNext();) {
-            addException((Date) iter.next());
+            milliseconds[i++] = getTime((Date) iter.next());
         }
+        addExceptions(milliseconds);
+    }
+
+    /**
+     * Adds an array of domain values as segment exceptions.  The result is
+     * the same as calling {@link #addException(long)} for each value, but
+     * the values are sorted and merged with the existing exceptions in a
+     * single pass, so this is much faster for a large number of exceptions
+     * (for example, many years of exchange holidays).
+     *
+     * @param milliseconds  the domain values that identify the segments to
+     *     exclude, in any order (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void addExceptions(long[] milliseconds) {
+        if (milliseconds == null) {
+            throw new IllegalArgumentException("Null 'milliseconds' argument.");
+        }
+        long[] sorted = (long[]) milliseconds.clone();
+        Arrays.sort(sorted);
+        List added = new ArrayList(sorted.length);
+        long lastSegmentStart = 0L;
+        for (int i = 0; i < sorted.length; i++) {
+            Segment segment = new Segment(sorted[i]);
+            if (!added.isEmpty() && segment.segmentStart == lastSegmentStart) {
+                continue;  // already added
+            }
+            if (segment.inIncludeSegments()) {
+                added.add(segment);
+                lastSegmentStart = segment.segmentStart;
+            }
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+        // merge the new exceptions (which do not overlap the existing ones)
+        // with the existing exceptions
+        List merged = new ArrayList(this.exceptionSegments.size()
+                + added.size());
+        Iterator existing = this.exceptionSegments.iterator();
+        Segment next = existing.hasNext() ? (Segment) existing.next() : null;
+        for (Iterator iter = added.iterator(); iter.hasNext();) {
+            Segment segment = (Segment) iter.next();
+            while (next != null && next.before(segment)) {
+                merged.add(next);
+                next = existing.hasNext() ? (Segment) existing.next() : null;
+            }
+            merged.add(segment);
+        }
+        if (next != null) {
+            merged.add(next);
+        }
+        while (existing.hasNext()) {
+            merged.add(existing.next());
+        }
+        this.exceptionSegments.clear();
+        this.exceptionSegments.addAll(merged);
+        this.exceptionIndex = null;
     }
 
     /**
@@ -882,6 +974,7 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
          if (segment.inIncludeSegments()) {
              int p = binarySearchExceptionSegments(segment);
              this.exceptionSegments.add(-(p + 1), segment);
+             this.exceptionIndex.insert(-(p + 1), segment);
          }
     }
 
@@ -1010,6 +1103,10 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
     /**
      * Returns the number of exception segments wholly contained in the
      * (fromDomainValue, toDomainValue) interval.
+     * <p>
+     * Only the first and last exceptions that overlap the interval can be
+     * partly outside it, so the exceptions between them are counted using
+     * the cumulative counts in the exception index.
      *
      * @param fromMillisecond  the beginning of the interval.
      * @param toMillisecond  the end of the interval.
@@ -1021,19 +1118,54 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
         if (toMillisecond < fromMillisecond) {
             return (0);
         }
-
-        int n = 0;
-        for (Iterator iter = this.exceptionSegments.iterator();
-             iter.hasNext();) {
-            Segment segment = (Segment) iter.next();
-            Segment intersection = segment.intersect(fromMillisecond,
+        ExceptionIndex index = getExceptionIndex();
+        int first = index.firstEndingAtOrAfter(fromMillisecond);
+        int last = index.firstStartingAfter(toMillisecond) - 1;
+        if (first > last) {
+            return 0;
+        }
+        long n = getIntersectionSegmentCount(first, fromMillisecond,
+                toMillisecond);
+        if (last > first) {
+            n += index.cumulative(last) - index.cumulative(first + 1);
+            n += getIntersectionSegmentCount(last, fromMillisecond,
                     toMillisecond);
-            if (intersection != null) {
-                n += intersection.getSegmentCount();
-            }
         }
+        return n;
+    }
+
+    /**
+     * Returns the number of segments in the intersection of an exception
+     * segment and an interval.
+     *
+     * @param i  the index of the exception segment.
+     * @param fromMillisecond  the beginning of the interval.
+     * @param toMillisecond  the end of the interval.
+     *
+     * @return The number of segments.
+     */
+    private long getIntersectionSegmentCount(int i, long fromMillisecond,
+            long toMillisecond) {
+        Segment segment = (Segment) this.exceptionSegments.get(i);
+        Segment intersection = segment.intersect(fromMillisecond,
+                toMillisecond);
+        return (intersection != null ? intersection.getSegmentCount() : 0);
+    }
 
-        return (n);
+    /**
+     * Returns the index of the exception segments, creating it if the
+     * exception list has been replaced or modified since the index was
+     * created.
+     *
+     * @return The index.
+     */
+    private ExceptionIndex getExceptionIndex() {
+        ExceptionIndex index = this.exceptionIndex;
+        if (index == null || !index.isIndexOf(this.exceptionSegments)) {
+            index = new ExceptionIndex(this.exceptionSegments);
+            this.exceptionIndex = index;
+        }
+        return index;
     }
 
     /**
@@ -1138,22 +1270,41 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
      *         and only if the key is found.
      */
     private int binarySearchExceptionSegments(Segment segment) {
+        return binarySearchExceptionSegments(segment.getSegmentStart(),
+                segment.getSegmentEnd());
+    }
+
+    /**
+     * Performs a binary search in the exception segments for the segment
+     * with the specified start and end.
+     *
+     * @param start  the segment start.
+     * @param end  the segment end.
+     *
+     * @return The index of the segment, or
+     *     <tt>(-(<i>insertion point</i>) - 1)</tt> if it is not found (see
+     *     {@link #binarySearchExceptionSegments(Segment)}).
+     */
+    private int binarySearchExceptionSegments(long start, long end) {
+        ExceptionIndex index = getExceptionIndex();
         int low = 0;
-        int high = this.exceptionSegments.size() - 1;
+        int high = index.count - 1;
 
         while (low <= high) {
-            int mid = (low + high) / 2;
-            Segment midSegment = (Segment) this.exceptionSegments.get(mid);
+            int mid = (low + high) >>> 1;
+            long midStart = index.starts[mid];
+            long midEnd = index.ends[mid];
 
             // first test for equality (contains or contained)
-            if (segment.contains(midSegment) || midSegment.contains(segment)) {
+            if ((start <= midStart && midEnd <= end)
+                    || (midStart <= start && end <= midEnd)) {
                 return mid;
             }
 
-            if (midSegment.before(segment)) {
+            if (midEnd < start) {
                 low = mid + 1;
             }
-            else if (midSegment.after(segment)) {
+            else if (midStart > end) {
                 high = mid - 1;
             }
             else {
@@ -1218,6 +1369,164 @@ public class SegmentedTimeline implements Timeline, Cloneable, Serializable {
         return clone;
     }
 
+    /**
+     * An index of the exception segments, with the segment starts and ends
+     * held in primitive arrays (for fast binary searches) and the cumulative
+     * segment counts (so that the number of segments in a run of exceptions
+     * can be found without iterating over them).  The index is valid as long
+     * as the list it was created from is only modified through the
+     * timeline's own methods.
+     */
+    private static class ExceptionIndex {
+
+        /** The list of exception segments that this index was created from. */
+        private List source;
+
+        /** The number of exception segments. */
+        private int count;
+
+        /** The segment start for each exception segment. */
+        private long[] starts;
+
+        /** The segment end for each exception segment. */
+        private long[] ends;
+
+        /** The number of segments in each exception segment. */
+        private long[] counts;
+
+        /**
+         * The cumulative segment counts (element i is the total number of
+         * segments in the exceptions before exception i), or
+         * <code>null</code> if they need to be recalculated.
+         */
+        private long[] cumulative;
+
+        /**
+         * Creates an index for a list of exception segments.
+         *
+         * @param source  the exception segments, in ascending order.
+         */
+        ExceptionIndex(List source) {
+            this.source = source;
+            this.count = source.size();
+            int capacity = Math.max(this.count, 16);
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+            this.counts = new long[capacity];
+            for (int i = 0; i < this.count; i++) {
+                Segment segment = (Segment) source.get(i);
+                this.starts[i] = segment.getSegmentStart();
+                this.ends[i] = segment.getSegmentEnd();
+                this.counts[i] = segment.getSegmentCount();
+            }
+        }
+
+        /**
+         * Returns <code>true</code> if this index is (still) an index of the
+         * specified list.
+         *
+         * @param list  the list.
+         *
+         * @return A boolean.
+         */
+        boolean isIndexOf(List list) {
+            return this.source == list && this.count == list.size();
+        }
+
+        /**
+         * Inserts a segment into the index (the segment has already been
+         * inserted at the same position in the source list).
+         *
+         * @param i  the position.
+         * @param segment  the segment.
+         */
+        void insert(int i, Segment segment) {
+            if (this.count == this.starts.length) {
+                int capacity = this.count * 2;
+                this.starts = Arrays.copyOf(this.starts, capacity);
+                this.ends = Arrays.copyOf(this.ends, capacity);
+                this.counts = Arrays.copyOf(this.counts, capacity);
+            }
+            int n = this.count - i;
+            System.arraycopy(this.starts, i, this.starts, i + 1, n);
+            System.arraycopy(this.ends, i, this.ends, i + 1, n);
+            System.arraycopy(this.counts, i, this.counts, i + 1, n);
+            this.starts[i] = segment.getSegmentStart();
+            this.ends[i] = segment.getSegmentEnd();
+            this.counts[i] = segment.getSegmentCount();
+            this.count++;
+            this.cumulative = null;
+        }
+
+        /**
+         * Returns the total number of segments in the exceptions before
+         * exception i.
+         *
+         * @param i  the exception index (in the range 0 to count).
+         *
+         * @return The number of segments.
+         */
+        long cumulative(int i) {
+            if (this.cumulative == null) {
+                long[] c = new long[this.count + 1];
+                for (int j = 0; j < this.count; j++) {
+                    c[j + 1] = c[j] + this.counts[j];
+                }
+                this.cumulative = c;
+            }
+            return this.cumulative[i];
+        }
+
+        /**
+         * Returns the index of the first exception that ends at or after the
+         * specified millisecond (or the exception count if there is no
+         * such exception).
+         *
+         * @param millisecond  the millisecond.
+         *
+         * @return The index.
+         */
+        int firstEndingAtOrAfter(long millisecond) {
+            int low = 0;
+            int high = this.count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.ends[mid] < millisecond) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the index of the first exception that starts after the
+         * specified millisecond (or the exception count if there is no
+         * such exception).
+         *
+         * @param millisecond  the millisecond.
+         *
+         * @return The index.
+         */
+        int firstStartingAfter(long millisecond) {
+            int low = 0;
+            int high = this.count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.starts[mid] <= millisecond) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+    }
+
     /**
      * Internal class to represent a valid segment for this timeline. A segment
      * is valid on a timeline if it is part of its included, excluded or
@@ -109,6 +109,7 @@
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 18-Mar-2014 : Updates to support attributed tick labels for LogAxis (DG);
  * 29-Jul-2014 : Add hints to normalise axis line and tick marks (DG);
+ * 18-Oct-2026 : Use calculateTicks() so that tick metrics are recorded;
  *
  */
 
@@ -693,7 +694,7 @@ public abstract class ValueAxis extends Axis
         if (isAxisLineVisible()) {
             drawAxisLine(g2, cursor, dataArea, edge);
         }
-        List ticks = refreshTicks(g2, state, dataArea, edge);
+        List ticks = calculateTicks(g2, state, dataArea, edge);
         state.setTicks(ticks);
         g2.setFont(getTickLabelFont());
         Object saved = g2.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL);
@@ -824,7 +825,7 @@ public abstract class ValueAxis extends Axis
         double tickLabelWidth = 0.0;
         if (isTickLabelsVisible()) {
             g2.setFont(getTickLabelFont());
-            List ticks = refreshTicks(g2, new AxisState(), plotArea, edge);
+            List ticks = calculateTicks(g2, new AxisState(), plotArea, edge);
             if (RectangleEdge.isTopOrBottom(edge)) {
                 tickLabelHeight = findMaximumTickLabelHeight(ticks, g2,
                         plotArea, isVerticalTickLabels());
@@ -36,6 +36,7 @@
  * -------
  * 01-Aug-2004 : Initial version (RA);
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 18-Oct-2026 : Record encoding metrics (see RenderMetrics);
  *
  */
 
@@ -45,6 +46,9 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import org.jfree.chart.util.MetricsSink;
+import org.jfree.chart.util.RenderMetrics;
+
 /**
  * A collection of utility methods for encoding images and returning them as a
  * byte[] or writing them directly to an OutputStream.
@@ -63,7 +67,7 @@ public class EncoderUtil {
     public static byte[] encode(BufferedImage image, String format)
             throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format);
-        return imageEncoder.encode(image);
+        return encode(imageEncoder, image);
     }
 
     /**
@@ -80,7 +84,7 @@ public class EncoderUtil {
             boolean encodeAlpha) throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format, 
                 encodeAlpha);
-        return imageEncoder.encode(image);
+        return encode(imageEncoder, image);
     }
 
     /**
@@ -97,7 +101,7 @@ public class EncoderUtil {
             float quality) throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format, 
                 quality);
-        return imageEncoder.encode(image);
+        return encode(imageEncoder, image);
     }
 
     /**
@@ -116,7 +120,7 @@ public class EncoderUtil {
             float quality, boolean encodeAlpha) throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format, 
                 quality, encodeAlpha);
-        return imageEncoder.encode(image);
+        return encode(imageEncoder, image);
     }
 
     /**
@@ -130,7 +134,7 @@ public class EncoderUtil {
     public static void writeBufferedImage(BufferedImage image, String format,
             OutputStream outputStream) throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format);
-        imageEncoder.encode(image, outputStream);
+        write(imageEncoder, image, outputStream);
     }
 
     /**
@@ -147,7 +151,7 @@ public class EncoderUtil {
         OutputStream outputStream, float quality) throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format, 
                 quality);
-        imageEncoder.encode(image, outputStream);
+        write(imageEncoder, image, outputStream);
     }
 
     /**
@@ -164,7 +168,7 @@ public class EncoderUtil {
             OutputStream outputStream, boolean encodeAlpha) throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format, 
                 encodeAlpha);
-        imageEncoder.encode(image, outputStream);
+        write(imageEncoder, image, outputStream);
     }
 
     /**
@@ -184,7 +188,52 @@ public class EncoderUtil {
             throws IOException {
         ImageEncoder imageEncoder = ImageEncoderFactory.newInstance(format, 
                 quality, encodeAlpha);
-        imageEncoder.encode(image, outputStream);
+        write(imageEncoder, image, outputStream);
+    }
+
+    /**
+     * Encodes an image, recording the time taken and the size of the
+     * result with the current metrics sink (if there is one).
+     *
+     * @param encoder  the encoder.
+     * @param image  the image.
+     *
+     * @return The encoded image.
+     * @throws IOException if there is an IO problem.
+     */
+    private static byte[] encode(ImageEncoder encoder, BufferedImage image)
+            throws IOException {
+        MetricsSink sink = RenderMetrics.getSink();
+        if (sink == null) {
+            return encoder.encode(image);
+        }
+        long start = System.nanoTime();
+        byte[] result = encoder.encode(image);
+        sink.recordTime(RenderMetrics.ENCODE, System.nanoTime() - start);
+        sink.recordCount(RenderMetrics.ENCODED_BYTES, result.length);
+        return result;
+    }
+
+    /**
+     * Encodes an image and writes it to a stream, recording the time taken
+     * with the current metrics sink (if there is one).
+     *
+     * @param encoder  the encoder.
+     * @param image  the image.
+     * @param outputStream  the stream.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private static void write(ImageEncoder encoder, BufferedImage image,
+            OutputStream outputStream) throws IOException {
+        MetricsSink sink = RenderMetrics.getSink();
+        if (sink == null) {
+            encoder.encode(image, outputStream);
+            return;
+        }
+        long start = System.nanoTime();
+        encoder.encode(image, outputStream);
+        sink.recordTime(RenderMetrics.ENCODE, System.nanoTime() - start);
     }
 
 }
@@ -0,0 +1,780 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * FastPNGEncoder.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A PNG encoder that reads pixels directly from the raster of
+ * <code>TYPE_INT_ARGB</code> and <code>TYPE_INT_RGB</code> images (other
+ * image types are read with {@link BufferedImage#getRGB(int, int, int, int,
+ * int[], int, int)}) and streams the compressed data to the output.
+ * <P>
+ * Images with at most 256 distinct colours, which is common for charts
+ * drawn without anti-aliasing, are written with an indexed palette unless
+ * this is disabled with {@link #setPaletteEnabled(boolean)}.
+ * <P>
+ * An encoder reuses its <code>Deflater</code> and row buffers from one image
+ * to the next, so it is cheaper to keep an instance than to create one per
+ * image.  Instances are not thread-safe.
+ *
+ * @since 1.0.20
+ */
+public class FastPNGEncoder implements ImageEncoder {
+
+    /** Write each row unfiltered. */
+    public static final int FILTER_NONE = 0;
+
+    /** Write each byte as the difference from the byte to its left. */
+    public static final int FILTER_SUB = 1;
+
+    /** Write each byte as the difference from the byte above. */
+    public static final int FILTER_UP = 2;
+
+    /**
+     * Write each byte as the difference from the average of the bytes to its
+     * left and above.
+     */
+    public static final int FILTER_AVERAGE = 3;
+
+    /** Write each byte as the difference from the Paeth predictor. */
+    public static final int FILTER_PAETH = 4;
+
+    /**
+     * Choose the filter for each row that gives the smallest sum of absolute
+     * differences (this is slower, but usually compresses better).
+     */
+    public static final int FILTER_ADAPTIVE = -1;
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10,
+            26, 10};
+
+    /** The IHDR chunk type. */
+    private static final byte[] IHDR = {'I', 'H', 'D', 'R'};
+
+    /** The PLTE chunk type. */
+    private static final byte[] PLTE = {'P', 'L', 'T', 'E'};
+
+    /** The tRNS chunk type. */
+    private static final byte[] TRNS = {'t', 'R', 'N', 'S'};
+
+    /** The IDAT chunk type. */
+    private static final byte[] IDAT = {'I', 'D', 'A', 'T'};
+
+    /** The IEND chunk type. */
+    private static final byte[] IEND = {'I', 'E', 'N', 'D'};
+
+    /** The size of the IDAT chunks. */
+    private static final int IDAT_SIZE = 32768;
+
+    /** The maximum number of palette entries. */
+    private static final int MAX_PALETTE_SIZE = 256;
+
+    /** The size of the hash table used to build the palette. */
+    private static final int PALETTE_TABLE_SIZE = 1024;
+
+    /** The deflate compression level (0-9). */
+    private int compressionLevel = 6;
+
+    /** The row filter. */
+    private int filter = FILTER_SUB;
+
+    /** Encode alpha? */
+    private boolean encodingAlpha = true;
+
+    /** Use an indexed palette when the image has few enough colours? */
+    private boolean paletteEnabled = true;
+
+    /** The compressor (created on first use, then reused). */
+    private Deflater deflater;
+
+    /** The buffer for the compressed data. */
+    private byte[] idat;
+
+    /** The number of bytes used in the compressed data buffer. */
+    private int idatLength;
+
+    /** The checksum used for the chunks. */
+    private CRC32 crc;
+
+    /** A buffer for the length and type of a chunk. */
+    private byte[] header;
+
+    /** The pixels in the current row. */
+    private int[] pixels;
+
+    /** The bytes in the current row, before filtering. */
+    private byte[] row;
+
+    /** The bytes in the previous row, before filtering. */
+    private byte[] prior;
+
+    /** The filtered bytes for each filter type, led by the filter byte. */
+    private byte[][] filtered;
+
+    /** The colours in the palette, in the order they were found. */
+    private int[] palette;
+
+    /** The hash table keys (colours) used to build the palette. */
+    private int[] tableColors;
+
+    /** The hash table values (palette index + 1, or 0 if unused). */
+    private int[] tableIndices;
+
+    /** The output buffer used by {@link #encode(BufferedImage)}. */
+    private ByteArrayOutputStream bytes;
+
+    /**
+     * Creates a new encoder with the default settings: compression level
+     * 6, the {@link #FILTER_SUB} filter, alpha and palettes enabled.
+     */
+    public FastPNGEncoder() {
+        super();
+    }
+
+    /**
+     * Returns the deflate compression level.
+     *
+     * @return The compression level (0-9).
+     */
+    public int getCompressionLevel() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the deflate compression level: 0 for no compression, 1 for the
+     * fastest compression up to 9 for the smallest output.
+     *
+     * @param level  the compression level (0-9).
+     */
+    public void setCompressionLevel(int level) {
+        if (level < 0 || level > 9) {
+            throw new IllegalArgumentException(
+                    "Requires 'level' in the range 0 to 9.");
+        }
+        this.compressionLevel = level;
+    }
+
+    /**
+     * Returns the row filter.
+     *
+     * @return The filter (one of the <code>FILTER_*</code> constants).
+     */
+    public int getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Sets the row filter used for RGB and RGBA images (palette images are
+     * always written unfiltered).
+     *
+     * @param filter  one of the <code>FILTER_*</code> constants.
+     */
+    public void setFilter(int filter) {
+        if (filter < FILTER_ADAPTIVE || filter > FILTER_PAETH) {
+            throw new IllegalArgumentException("Unknown filter: " + filter);
+        }
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the flag that controls whether an indexed palette is used for
+     * images with at most 256 colours.
+     *
+     * @return A boolean.
+     */
+    public boolean isPaletteEnabled() {
+        return this.paletteEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether an indexed palette is used for
+     * images with at most 256 colours.
+     *
+     * @param enabled  the new flag value.
+     */
+    public void setPaletteEnabled(boolean enabled) {
+        this.paletteEnabled = enabled;
+    }
+
+    /**
+     * Returns the compression level as a float.
+     *
+     * @return A float representing the quality.
+     */
+    @Override
+    public float getQuality() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level (the value is truncated to an int).  This
+     * matches the meaning of the quality for the
+     * {@link KeypointPNGEncoderAdapter}.
+     *
+     * @param quality  the compression level (0-9).
+     */
+    @Override
+    public void setQuality(float quality) {
+        setCompressionLevel((int) quality);
+    }
+
+    /**
+     * Returns whether the encoder writes the alpha channel of images that
+     * have one.
+     *
+     * @return Whether the encoder is encoding alpha transparency.
+     */
+    @Override
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Sets whether the encoder writes the alpha channel of images that have
+     * one.  When this is <code>false</code>, all pixels are written as
+     * opaque.
+     *
+     * @param encodingAlpha  Whether the encoder should encode alpha
+     *                       transparency.
+     */
+    @Override
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  The image to be encoded.
+     *
+     * @return The byte[] that is the encoded image.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        if (this.bytes == null) {
+            this.bytes = new ByteArrayOutputStream(IDAT_SIZE);
+        }
+        this.bytes.reset();
+        encode(bufferedImage, this.bytes);
+        return this.bytes.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to a channel.  The
+     * channel is not closed.
+     *
+     * @param bufferedImage  The image to be encoded.
+     * @param channel  The channel to write the encoded image to.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    public void encode(BufferedImage bufferedImage,
+            WritableByteChannel channel) throws IOException {
+        ParamChecks.nullNotPermitted(channel, "channel");
+        encode(bufferedImage, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an OutputStream.  The
+     * stream is not closed.
+     *
+     * @param bufferedImage  The image to be encoded.
+     * @param outputStream  The OutputStream to write the encoded image to.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream)
+            throws IOException {
+        ParamChecks.nullNotPermitted(bufferedImage, "bufferedImage");
+        ParamChecks.nullNotPermitted(outputStream, "outputStream");
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+        boolean alpha = this.encodingAlpha
+                && bufferedImage.getColorModel().hasAlpha();
+        int paletteSize = this.paletteEnabled
+                ? buildPalette(bufferedImage, alpha) : -1;
+        int colorType;
+        int bytesPerPixel;
+        if (paletteSize > 0) {
+            colorType = 3;
+            bytesPerPixel = 1;
+        }
+        else if (alpha) {
+            colorType = 6;
+            bytesPerPixel = 4;
+        }
+        else {
+            colorType = 2;
+            bytesPerPixel = 3;
+        }
+        allocate(width, width * bytesPerPixel);
+
+        outputStream.write(SIGNATURE);
+        byte[] ihdr = new byte[13];
+        putInt(ihdr, 0, width);
+        putInt(ihdr, 4, height);
+        ihdr[8] = 8;  // bit depth
+        ihdr[9] = (byte) colorType;
+        writeChunk(outputStream, IHDR, ihdr, ihdr.length);
+        if (paletteSize > 0) {
+            writePalette(outputStream, paletteSize, alpha);
+        }
+
+        this.deflater.reset();
+        this.deflater.setLevel(this.compressionLevel);
+        this.idatLength = 0;
+        int rowLength = width * bytesPerPixel;
+        int rowFilter = paletteSize > 0 ? FILTER_NONE : this.filter;
+        for (int y = 0; y < height; y++) {
+            readRow(bufferedImage, y, width);
+            fillRow(width, paletteSize > 0, alpha);
+            byte[] out = filterRow(rowFilter, rowLength, bytesPerPixel,
+                    y == 0);
+            this.deflater.setInput(out, 0, rowLength + 1);
+            while (!this.deflater.needsInput()) {
+                deflate(outputStream);
+            }
+            byte[] tmp = this.prior;
+            this.prior = this.row;
+            this.row = tmp;
+        }
+        this.deflater.finish();
+        while (!this.deflater.finished()) {
+            deflate(outputStream);
+        }
+        if (this.idatLength > 0) {
+            writeChunk(outputStream, IDAT, this.idat, this.idatLength);
+        }
+        writeChunk(outputStream, IEND, this.idat, 0);
+        outputStream.flush();
+    }
+
+    /**
+     * Creates or grows the reusable buffers.
+     *
+     * @param width  the image width.
+     * @param rowLength  the number of bytes in an unfiltered row.
+     */
+    private void allocate(int width, int rowLength) {
+        if (this.deflater == null) {
+            this.deflater = new Deflater(this.compressionLevel);
+            this.idat = new byte[IDAT_SIZE];
+            this.crc = new CRC32();
+            this.header = new byte[8];
+        }
+        if (this.pixels == null || this.pixels.length < width) {
+            this.pixels = new int[width];
+        }
+        if (this.row == null || this.row.length < rowLength) {
+            this.row = new byte[rowLength];
+            this.prior = new byte[rowLength];
+            this.filtered = new byte[5][rowLength + 1];
+        }
+    }
+
+    /**
+     * Compresses pending input into the IDAT buffer, writing the buffer as
+     * a chunk when it is full.
+     *
+     * @param out  the output stream.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private void deflate(OutputStream out) throws IOException {
+        int n = this.deflater.deflate(this.idat, this.idatLength,
+                this.idat.length - this.idatLength);
+        this.idatLength += n;
+        if (this.idatLength == this.idat.length) {
+            writeChunk(out, IDAT, this.idat, this.idatLength);
+            this.idatLength = 0;
+        }
+    }
+
+    /**
+     * Reads a row of pixels (in ARGB format) into the pixel buffer.
+     *
+     * @param image  the image.
+     * @param y  the row.
+     * @param width  the image width.
+     */
+    private void readRow(BufferedImage image, int y, int width) {
+        int type = image.getType();
+        if (type == BufferedImage.TYPE_INT_ARGB
+                || type == BufferedImage.TYPE_INT_RGB) {
+            Raster raster = image.getRaster();
+            if (raster.getDataBuffer() instanceof DataBufferInt
+                    && raster.getSampleModel()
+                    instanceof SinglePixelPackedSampleModel) {
+                DataBufferInt buffer = (DataBufferInt) raster.getDataBuffer();
+                SinglePixelPackedSampleModel sm
+                        = (SinglePixelPackedSampleModel)
+                        raster.getSampleModel();
+                int offset = buffer.getOffset() + sm.getOffset(
+                        raster.getMinX() - raster.getSampleModelTranslateX(),
+                        raster.getMinY() + y
+                        - raster.getSampleModelTranslateY());
+                System.arraycopy(buffer.getData(), offset, this.pixels, 0,
+                        width);
+                if (type == BufferedImage.TYPE_INT_RGB) {
+                    for (int x = 0; x < width; x++) {
+                        this.pixels[x] |= 0xFF000000;
+                    }
+                }
+                return;
+            }
+        }
+        image.getRGB(0, y, width, 1, this.pixels, 0, width);
+    }
+
+    /**
+     * Converts the pixel buffer to bytes in the row buffer.
+     *
+     * @param width  the image width.
+     * @param indexed  write palette indices?
+     * @param alpha  write the alpha channel?
+     */
+    private void fillRow(int width, boolean indexed, boolean alpha) {
+        int[] p = this.pixels;
+        byte[] r = this.row;
+        if (indexed) {
+            int lastColor = 0;
+            int lastIndex = -1;
+            for (int x = 0; x < width; x++) {
+                int c = alpha ? p[x] : p[x] | 0xFF000000;
+                if (c != lastColor || lastIndex < 0) {
+                    lastColor = c;
+                    lastIndex = lookup(c) - 1;
+                }
+                r[x] = (byte) lastIndex;
+            }
+        }
+        else if (alpha) {
+            int i = 0;
+            for (int x = 0; x < width; x++) {
+                int c = p[x];
+                r[i++] = (byte) (c >> 16);
+                r[i++] = (byte) (c >> 8);
+                r[i++] = (byte) c;
+                r[i++] = (byte) (c >>> 24);
+            }
+        }
+        else {
+            int i = 0;
+            for (int x = 0; x < width; x++) {
+                int c = p[x];
+                r[i++] = (byte) (c >> 16);
+                r[i++] = (byte) (c >> 8);
+                r[i++] = (byte) c;
+            }
+        }
+    }
+
+    /**
+     * Applies a filter to the current row.
+     *
+     * @param filterType  the filter (<code>FILTER_ADAPTIVE</code> permitted).
+     * @param length  the number of bytes in the row.
+     * @param bpp  the number of bytes per pixel.
+     * @param first  is this the first row of the image?
+     *
+     * @return A buffer containing the filter type followed by the filtered
+     *     bytes.
+     */
+    private byte[] filterRow(int filterType, int length, int bpp,
+            boolean first) {
+        if (filterType != FILTER_ADAPTIVE) {
+            return applyFilter(filterType, length, bpp, first);
+        }
+        byte[] best = null;
+        long bestSum = Long.MAX_VALUE;
+        for (int f = FILTER_NONE; f <= FILTER_PAETH; f++) {
+            byte[] out = applyFilter(f, length, bpp, first);
+            long sum = 0;
+            for (int i = 1; i <= length && sum < bestSum; i++) {
+                sum += Math.abs(out[i]);
+            }
+            if (sum < bestSum) {
+                bestSum = sum;
+                best = out;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Applies one filter to the current row.
+     *
+     * @param filterType  the filter.
+     * @param length  the number of bytes in the row.
+     * @param bpp  the number of bytes per pixel.
+     * @param first  is this the first row of the image?
+     *
+     * @return A buffer containing the filter type followed by the filtered
+     *     bytes.
+     */
+    private byte[] applyFilter(int filterType, int length, int bpp,
+            boolean first) {
+        byte[] r = this.row;
+        byte[] p = this.prior;
+        byte[] out = this.filtered[filterType];
+        out[0] = (byte) filterType;
+        switch (filterType) {
+            case FILTER_SUB:
+                for (int i = 0; i < length; i++) {
+                    int a = i >= bpp ? r[i - bpp] : 0;
+                    out[i + 1] = (byte) (r[i] - a);
+                }
+                break;
+            case FILTER_UP:
+                for (int i = 0; i < length; i++) {
+                    int b = first ? 0 : p[i];
+                    out[i + 1] = (byte) (r[i] - b);
+                }
+                break;
+            case FILTER_AVERAGE:
+                for (int i = 0; i < length; i++) {
+                    int a = i >= bpp ? r[i - bpp] & 0xFF : 0;
+                    int b = first ? 0 : p[i] & 0xFF;
+                    out[i + 1] = (byte) (r[i] - ((a + b) >> 1));
+                }
+                break;
+            case FILTER_PAETH:
+                for (int i = 0; i < length; i++) {
+                    int a = i >= bpp ? r[i - bpp] & 0xFF : 0;
+                    int b = first ? 0 : p[i] & 0xFF;
+                    int c = (i >= bpp && !first) ? p[i - bpp] & 0xFF : 0;
+                    out[i + 1] = (byte) (r[i] - paeth(a, b, c));
+                }
+                break;
+            default:
+                System.arraycopy(r, 0, out, 1, length);
+        }
+        return out;
+    }
+
+    /**
+     * The Paeth predictor from the PNG specification.
+     *
+     * @param a  the byte to the left.
+     * @param b  the byte above.
+     * @param c  the byte above and to the left.
+     *
+     * @return The predicted value.
+     */
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        return pb <= pc ? b : c;
+    }
+
+    /**
+     * Collects the distinct colours in an image.
+     *
+     * @param image  the image.
+     * @param alpha  keep the alpha channel?
+     *
+     * @return The number of colours, or -1 if there are more than 256.
+     */
+    private int buildPalette(BufferedImage image, boolean alpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        allocate(width, width);
+        if (this.palette == null) {
+            this.palette = new int[MAX_PALETTE_SIZE];
+            this.tableColors = new int[PALETTE_TABLE_SIZE];
+            this.tableIndices = new int[PALETTE_TABLE_SIZE];
+        }
+        Arrays.fill(this.tableIndices, 0);
+        int size = 0;
+        int lastColor = 0;
+        boolean first = true;
+        for (int y = 0; y < height; y++) {
+            readRow(image, y, width);
+            for (int x = 0; x < width; x++) {
+                int c = alpha ? this.pixels[x] : this.pixels[x] | 0xFF000000;
+                if (c == lastColor && !first) {
+                    continue;
+                }
+                first = false;
+                lastColor = c;
+                if (lookup(c) == 0) {
+                    if (size == MAX_PALETTE_SIZE) {
+                        return -1;
+                    }
+                    insert(c, size);
+                    this.palette[size++] = c;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the hash table slot for a colour.
+     *
+     * @param color  the colour.
+     *
+     * @return The slot (either holding the colour, or empty).
+     */
+    private int slot(int color) {
+        int h = color * 0x9E3779B9;
+        int i = (h ^ (h >>> 16)) & (PALETTE_TABLE_SIZE - 1);
+        while (this.tableIndices[i] != 0 && this.tableColors[i] != color) {
+            i = (i + 1) & (PALETTE_TABLE_SIZE - 1);
+        }
+        return i;
+    }
+
+    /**
+     * Returns the palette index + 1 for a colour.
+     *
+     * @param color  the colour.
+     *
+     * @return The palette index + 1, or 0 if the colour is not in the
+     *     palette.
+     */
+    private int lookup(int color) {
+        return this.tableIndices[slot(color)];
+    }
+
+    /**
+     * Adds a colour to the hash table.
+     *
+     * @param color  the colour.
+     * @param index  the palette index.
+     */
+    private void insert(int color, int index) {
+        int i = slot(color);
+        this.tableColors[i] = color;
+        this.tableIndices[i] = index + 1;
+    }
+
+    /**
+     * Writes the PLTE chunk, and a tRNS chunk if any colour is not opaque.
+     *
+     * @param out  the output stream.
+     * @param size  the number of colours.
+     * @param alpha  write the alpha values?
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private void writePalette(OutputStream out, int size, boolean alpha)
+            throws IOException {
+        byte[] plte = new byte[size * 3];
+        byte[] trns = new byte[size];
+        int trnsLength = 0;
+        for (int i = 0; i < size; i++) {
+            int c = this.palette[i];
+            plte[i * 3] = (byte) (c >> 16);
+            plte[i * 3 + 1] = (byte) (c >> 8);
+            plte[i * 3 + 2] = (byte) c;
+            trns[i] = (byte) (c >>> 24);
+            if (alpha && (c >>> 24) != 0xFF) {
+                trnsLength = i + 1;
+            }
+        }
+        writeChunk(out, PLTE, plte, plte.length);
+        if (trnsLength > 0) {
+            writeChunk(out, TRNS, trns, trnsLength);
+        }
+    }
+
+    /**
+     * Writes a chunk.
+     *
+     * @param out  the output stream.
+     * @param type  the chunk type.
+     * @param data  the chunk data.
+     * @param length  the number of bytes of data.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private void writeChunk(OutputStream out, byte[] type, byte[] data,
+            int length) throws IOException {
+        putInt(this.header, 0, length);
+        System.arraycopy(type, 0, this.header, 4, 4);
+        out.write(this.header, 0, 8);
+        out.write(data, 0, length);
+        this.crc.reset();
+        this.crc.update(type, 0, 4);
+        this.crc.update(data, 0, length);
+        putInt(this.header, 0, (int) this.crc.getValue());
+        out.write(this.header, 0, 4);
+    }
+
+    /**
+     * Writes an int in network byte order.
+     *
+     * @param b  the buffer.
+     * @param offset  the offset.
+     * @param value  the value.
+     */
+    private static void putInt(byte[] b, int offset, int value) {
+        b[offset] = (byte) (value >>> 24);
+        b[offset + 1] = (byte) (value >>> 16);
+        b[offset + 2] = (byte) (value >>> 8);
+        b[offset + 3] = (byte) value;
+    }
+
+}
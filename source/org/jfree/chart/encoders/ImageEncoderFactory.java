@@ -40,6 +40,7 @@
  *               implementations (DG);
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 06-Jul-2008 : Remove encoder only used in JDK 1.3 (DG);
+ * 18-Oct-2026 : Use FastPNGEncoder for PNG by default;
  * 
  */
 
@@ -62,13 +63,15 @@ public class ImageEncoderFactory {
     }
 
     /**
-     * Sets up default encoders (uses Sun PNG Encoder if JDK 1.4+ and the
-     * SunPNGEncoderAdapter class is available).
+     * Sets up default encoders ({@link FastPNGEncoder} for PNG, the ImageIO
+     * writer for JPEG).  The ImageIO PNG writer is still available, by
+     * registering {@link SunPNGEncoderAdapter} with
+     * {@link #setImageEncoder(String, String)}.
      */
     private static void init() {
         encoders = new HashMap();
         encoders.put("jpeg", "org.jfree.chart.encoders.SunJPEGEncoderAdapter");
-        encoders.put("png", "org.jfree.chart.encoders.SunPNGEncoderAdapter");
+        encoders.put("png", "org.jfree.chart.encoders.FastPNGEncoder");
     }
 
     /**
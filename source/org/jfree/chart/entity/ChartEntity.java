@@ -68,6 +68,7 @@
  *               prevent special characters corrupting the HTML (DG);
  * 05-Dec-2007 : Previous change reverted - let the tool tip and url tag
  *               generators handle filtering / escaping (DG);
+ * 18-Oct-2026 : Cache the shape coordinates for image maps;
  *
  */
 
@@ -107,6 +108,12 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     /** The URL text for the entity. */
     private String urlText;
 
+    /**
+     * The shape coordinates for image maps (computed when first required,
+     * <code>null</code> until then).
+     */
+    private transient String shapeCoords;
+
     /**
      * Creates a new chart entity.
      *
@@ -164,6 +171,7 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     public void setArea(Shape area) {
         ParamChecks.nullNotPermitted(area, "area");
         this.area = area;
+        this.shapeCoords = null;
     }
 
     /**
@@ -223,17 +231,25 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     }
 
     /**
-     * Returns the shape coordinates as a string.
+     * Returns the shape coordinates as a string.  The string is calculated
+     * the first time this method is called and cached until the area is
+     * replaced with {@link #setArea(Shape)} (so the coordinates will be out
+     * of date if the shape returned by {@link #getArea()} is modified).
      *
      * @return The shape coordinates (never <code>null</code>).
      */
     public String getShapeCoords() {
-        if (this.area instanceof Rectangle2D) {
-            return getRectCoords((Rectangle2D) this.area);
-        }
-        else {
-            return getPolyCoords(this.area);
+        String result = this.shapeCoords;
+        if (result == null) {
+            if (this.area instanceof Rectangle2D) {
+                result = getRectCoords((Rectangle2D) this.area);
+            }
+            else {
+                result = getPolyCoords(this.area);
+            }
+            this.shapeCoords = result;
         }
+        return result;
     }
 
     /**
@@ -0,0 +1,531 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * SpatialEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * An {@link EntityCollection} that answers point and rectangle queries with
+ * a uniform grid index, for charts with a large number of entities (where
+ * the linear search in {@link StandardEntityCollection#getEntity(double,
+ * double)} makes tool tips slow).  The index is built on the first query
+ * after the collection is changed, so there is no extra cost while a chart
+ * is being drawn.
+ * <P>
+ * As for {@link StandardEntityCollection}, when more than one entity
+ * contains a point, the entity that was added last is returned.
+ * <P>
+ * To use this collection for a chart in a panel:
+ * <pre>
+ * chartPanel.getChartRenderingInfo().setEntityCollection(
+ *         new SpatialEntityCollection());</pre>
+ *
+ * @since 1.0.20
+ */
+public class SpatialEntityCollection implements EntityCollection,
+        Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3420736491382015736L;
+
+    /** The target number of entities per grid cell. */
+    private static final int ENTITIES_PER_CELL = 2;
+
+    /** The maximum number of rows or columns in the grid. */
+    private static final int MAX_CELLS_PER_SIDE = 1024;
+
+    /**
+     * Entities that cover more than this number of cells (and at least
+     * 1/8th of the grid) are searched linearly rather than being added to
+     * each cell.
+     */
+    private static final int LARGE_ENTITY_CELLS = 16;
+
+    /** Storage for the entities. */
+    private List entities;
+
+    /** Is the index up to date? */
+    private transient boolean indexed;
+
+    /** The bounds of all the indexed entities. */
+    private transient double minX;
+
+    /** The bounds of all the indexed entities. */
+    private transient double minY;
+
+    /** The bounds of all the indexed entities. */
+    private transient double maxX;
+
+    /** The bounds of all the indexed entities. */
+    private transient double maxY;
+
+    /** The width of a grid cell. */
+    private transient double cellWidth;
+
+    /** The height of a grid cell. */
+    private transient double cellHeight;
+
+    /** The number of grid columns. */
+    private transient int columns;
+
+    /** The number of grid rows. */
+    private transient int rows;
+
+    /**
+     * The start of each cell's entries in {@link #cellItems}, with one
+     * extra element marking the end of the last cell.
+     */
+    private transient int[] cellStart;
+
+    /** The entity indices for each cell, in ascending order. */
+    private transient int[] cellItems;
+
+    /**
+     * The indices of the entities that are not in the grid (large
+     * entities and entities without finite bounds), in ascending order.
+     */
+    private transient int[] largeItems;
+
+    /**
+     * Constructs a new entity collection (initially empty).
+     */
+    public SpatialEntityCollection() {
+        this.entities = new ArrayList();
+    }
+
+    /**
+     * Returns the number of entities in the collection.
+     *
+     * @return The entity count.
+     */
+    @Override
+    public int getEntityCount() {
+        return this.entities.size();
+    }
+
+    /**
+     * Returns a chart entity from the collection.
+     *
+     * @param index  the entity index.
+     *
+     * @return The entity.
+     *
+     * @see #add(ChartEntity)
+     */
+    @Override
+    public ChartEntity getEntity(int index) {
+        return (ChartEntity) this.entities.get(index);
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        this.entities.clear();
+        invalidateIndex();
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity (<code>null</code> not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        ParamChecks.nullNotPermitted(entity, "entity");
+        this.entities.add(entity);
+        invalidateIndex();
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities (<code>null</code> not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        this.entities.addAll(collection.getEntities());
+        invalidateIndex();
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the
+     * specified coordinates, or <code>null</code> if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        ensureIndex();
+        int best = -1;
+        if (this.cellStart != null && x >= this.minX && x <= this.maxX
+                && y >= this.minY && y <= this.maxY) {
+            int col = clamp(column(x), this.columns);
+            int row = clamp(row(y), this.rows);
+            int cell = row * this.columns + col;
+            for (int i = this.cellStart[cell + 1] - 1;
+                    i >= this.cellStart[cell]; i--) {
+                int index = this.cellItems[i];
+                if (getEntity(index).getArea().contains(x, y)) {
+                    best = index;
+                    break;
+                }
+            }
+        }
+        for (int i = this.largeItems.length - 1; i >= 0; i--) {
+            int index = this.largeItems[i];
+            if (index < best) {
+                break;
+            }
+            if (getEntity(index).getArea().contains(x, y)) {
+                best = index;
+                break;
+            }
+        }
+        return best >= 0 ? getEntity(best) : null;
+    }
+
+    /**
+     * Returns the entities with an area that intersects the specified
+     * rectangle, in the order they were added.
+     *
+     * @param area  the rectangle (<code>null</code> not permitted).
+     *
+     * @return A new list of entities (possibly empty).
+     */
+    public List getEntities(Rectangle2D area) {
+        ParamChecks.nullNotPermitted(area, "area");
+        ensureIndex();
+        BitSet candidates = new BitSet(this.entities.size());
+        for (int i = 0; i < this.largeItems.length; i++) {
+            candidates.set(this.largeItems[i]);
+        }
+        if (this.cellStart != null) {
+            int col0 = clamp(column(area.getMinX()), this.columns);
+            int col1 = clamp(column(area.getMaxX()), this.columns);
+            int row0 = clamp(row(area.getMinY()), this.rows);
+            int row1 = clamp(row(area.getMaxY()), this.rows);
+            for (int row = row0; row <= row1; row++) {
+                for (int col = col0; col <= col1; col++) {
+                    int cell = row * this.columns + col;
+                    for (int i = this.cellStart[cell];
+                            i < this.cellStart[cell + 1]; i++) {
+                        candidates.set(this.cellItems[i]);
+                    }
+                }
+            }
+        }
+        List result = new ArrayList();
+        for (int i = candidates.nextSetBit(0); i >= 0;
+                i = candidates.nextSetBit(i + 1)) {
+            ChartEntity entity = getEntity(i);
+            if (entity.getArea().intersects(area)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.
+     *
+     * @return The entities.
+     */
+    @Override
+    public Collection getEntities() {
+        return Collections.unmodifiableCollection(this.entities);
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator iterator() {
+        return this.entities.iterator();
+    }
+
+    /**
+     * Discards the index, it will be rebuilt on the next query.
+     */
+    private void invalidateIndex() {
+        this.indexed = false;
+        this.cellStart = null;
+        this.cellItems = null;
+        this.largeItems = null;
+    }
+
+    /**
+     * Returns the grid column for an x-coordinate (possibly outside the
+     * grid).
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column.
+     */
+    private int column(double x) {
+        double c = Math.floor((x - this.minX) / this.cellWidth);
+        return (int) Math.max(-1, Math.min(c, this.columns));
+    }
+
+    /**
+     * Returns the grid row for a y-coordinate (possibly outside the grid).
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row.
+     */
+    private int row(double y) {
+        double r = Math.floor((y - this.minY) / this.cellHeight);
+        return (int) Math.max(-1, Math.min(r, this.rows));
+    }
+
+    /**
+     * Restricts a column or row to the grid.  Rounding errors can put a
+     * coordinate on the maximum bounds outside the last cell.
+     *
+     * @param i  the column or row.
+     * @param count  the number of columns or rows.
+     *
+     * @return The column or row, between 0 and count - 1.
+     */
+    private static int clamp(int i, int count) {
+        return Math.max(0, Math.min(i, count - 1));
+    }
+
+    /**
+     * Builds the index if it is not up to date.
+     */
+    private void ensureIndex() {
+        if (this.indexed) {
+            return;
+        }
+        int count = this.entities.size();
+        Rectangle2D[] bounds = new Rectangle2D[count];
+        double x0 = Double.POSITIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        int gridCount = 0;
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = getEntity(i).getArea().getBounds2D();
+            if (isFinite(b)) {
+                bounds[i] = b;
+                x0 = Math.min(x0, b.getMinX());
+                y0 = Math.min(y0, b.getMinY());
+                x1 = Math.max(x1, b.getMaxX());
+                y1 = Math.max(y1, b.getMaxY());
+                gridCount++;
+            }
+        }
+        this.cellStart = null;
+        this.cellItems = null;
+        if (gridCount > 0) {
+            buildGrid(bounds, gridCount, x0, y0, x1, y1);
+        }
+        else {
+            this.largeItems = new int[count];
+            for (int i = 0; i < count; i++) {
+                this.largeItems[i] = i;
+            }
+        }
+        this.indexed = true;
+    }
+
+    /**
+     * Builds the grid.  Entities that are not added to the grid are stored
+     * in {@link #largeItems}.
+     *
+     * @param bounds  the entity bounds (<code>null</code> for entities that
+     *     do not have finite bounds).
+     * @param gridCount  the number of entities with finite bounds.
+     * @param x0  the minimum x-coordinate.
+     * @param y0  the minimum y-coordinate.
+     * @param x1  the maximum x-coordinate.
+     * @param y1  the maximum y-coordinate.
+     */
+    private void buildGrid(Rectangle2D[] bounds, int gridCount, double x0,
+            double y0, double x1, double y1) {
+        double w = Math.max(x1 - x0, 1e-9);
+        double h = Math.max(y1 - y0, 1e-9);
+        int cells = Math.max(1, gridCount / ENTITIES_PER_CELL);
+        int cols = (int) Math.ceil(Math.sqrt(cells * w / h));
+        cols = Math.max(1, Math.min(cols, MAX_CELLS_PER_SIDE));
+        int rws = Math.max(1, Math.min((cells + cols - 1) / cols,
+                MAX_CELLS_PER_SIDE));
+        this.minX = x0;
+        this.minY = y0;
+        this.maxX = x1;
+        this.maxY = y1;
+        this.columns = cols;
+        this.rows = rws;
+        this.cellWidth = w / cols;
+        this.cellHeight = h / rws;
+        int largeLimit = Math.max(LARGE_ENTITY_CELLS, cols * rws / 8);
+
+        // first pass: count the entries in each cell
+        int count = bounds.length;
+        int[] starts = new int[cols * rws + 1];
+        int[] span = new int[count * 4];
+        int largeCount = 0;
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = bounds[i];
+            if (b == null) {
+                span[i * 4] = -1;
+                largeCount++;
+                continue;
+            }
+            int c0 = clamp(column(b.getMinX()), cols);
+            int c1 = clamp(column(b.getMaxX()), cols);
+            int r0 = clamp(row(b.getMinY()), rws);
+            int r1 = clamp(row(b.getMaxY()), rws);
+            if ((c1 - c0 + 1) * (r1 - r0 + 1) > largeLimit) {
+                span[i * 4] = -1;
+                largeCount++;
+                continue;
+            }
+            span[i * 4] = c0;
+            span[i * 4 + 1] = c1;
+            span[i * 4 + 2] = r0;
+            span[i * 4 + 3] = r1;
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    starts[r * cols + c + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < cols * rws; cell++) {
+            starts[cell + 1] += starts[cell];
+        }
+
+        // second pass: fill the cells (in ascending entity order)
+        int[] items = new int[starts[cols * rws]];
+        int[] next = new int[cols * rws];
+        System.arraycopy(starts, 0, next, 0, next.length);
+        int[] large = new int[largeCount];
+        int l = 0;
+        for (int i = 0; i < count; i++) {
+            int c0 = span[i * 4];
+            if (c0 < 0) {
+                large[l++] = i;
+                continue;
+            }
+            for (int r = span[i * 4 + 2]; r <= span[i * 4 + 3]; r++) {
+                for (int c = c0; c <= span[i * 4 + 1]; c++) {
+                    items[next[r * cols + c]++] = i;
+                }
+            }
+        }
+        this.cellStart = starts;
+        this.cellItems = items;
+        this.largeItems = large;
+    }
+
+    /**
+     * Returns <code>true</code> if all the coordinates of a rectangle are
+     * finite.
+     *
+     * @param r  the rectangle.
+     *
+     * @return A boolean.
+     */
+    private static boolean isFinite(Rectangle2D r) {
+        double sum = r.getMinX() + r.getMinY() + r.getMaxX() + r.getMaxY();
+        return !Double.isNaN(sum) && !Double.isInfinite(sum);
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof SpatialEntityCollection) {
+            SpatialEntityCollection that = (SpatialEntityCollection) obj;
+            return ObjectUtilities.equal(this.entities, that.entities);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        SpatialEntityCollection clone
+                = (SpatialEntityCollection) super.clone();
+        clone.entities = new ArrayList(this.entities.size());
+        for (int i = 0; i < this.entities.size(); i++) {
+            ChartEntity entity = (ChartEntity) this.entities.get(i);
+            clone.entities.add(entity.clone());
+        }
+        clone.invalidateIndex();
+        return clone;
+    }
+
+}
@@ -36,6 +36,7 @@
  * -------
  * 14-Jan-2003 : Version 1 (DG);
  * 20-Jan-2010 : Fixed bug in constructor (DG);
+ * 18-Oct-2026 : Added time and elapsed time attributes;
  *
  */
 
@@ -63,6 +64,20 @@ public class ChartProgressEvent extends java.util.EventObject {
     /** The chart that generated the event. */
     private JFreeChart chart;
 
+    /**
+     * The time the event was created, from <code>System.nanoTime()</code>.
+     *
+     * @since 1.0.20
+     */
+    private long time;
+
+    /**
+     * The time elapsed since drawing started, in nanoseconds.
+     *
+     * @since 1.0.20
+     */
+    private long elapsedTime;
+
     /**
      * Creates a new chart change event.
      *
@@ -78,6 +93,7 @@ public class ChartProgressEvent extends java.util.EventObject {
         this.chart = chart;
         this.type = type;
         this.percent = percent;
+        this.time = System.nanoTime();
     }
 
     /**
@@ -134,4 +150,53 @@ public class ChartProgressEvent extends java.util.EventObject {
         this.percent = percent;
     }
 
+    /**
+     * Returns the time that the event was created, as a value from
+     * <code>System.nanoTime()</code> (so it is only meaningful when compared
+     * with other such values).
+     *
+     * @return The time (in nanoseconds).
+     *
+     * @since 1.0.20
+     */
+    public long getTime() {
+        return this.time;
+    }
+
+    /**
+     * Sets the time for the event.
+     *
+     * @param time  the time (in nanoseconds, from
+     *     <code>System.nanoTime()</code>).
+     *
+     * @since 1.0.20
+     */
+    public void setTime(long time) {
+        this.time = time;
+    }
+
+    /**
+     * Returns the time elapsed since drawing started.  For a
+     * {@link #DRAWING_FINISHED} event sent by a chart this is the time taken
+     * to draw the chart, and for a {@link #DRAWING_STARTED} event it is zero.
+     *
+     * @return The elapsed time (in nanoseconds).
+     *
+     * @since 1.0.20
+     */
+    public long getElapsedTime() {
+        return this.elapsedTime;
+    }
+
+    /**
+     * Sets the time elapsed since drawing started.
+     *
+     * @param elapsedTime  the elapsed time (in nanoseconds).
+     *
+     * @since 1.0.20
+     */
+    public void setElapsedTime(long elapsedTime) {
+        this.elapsedTime = elapsedTime;
+    }
+
 }
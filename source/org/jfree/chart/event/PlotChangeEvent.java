@@ -38,12 +38,15 @@
  * 07-Nov-2001 : Updated header (DG);
  * 09-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 17-Jan-2003 : Moved plot classes to a separate package (DG);
+ * 18-Oct-2026 : Added layer and dataset change event attributes;
  *
  */
 
 package org.jfree.chart.event;
 
 import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PlotLayer;
+import org.jfree.data.general.DatasetChangeEvent;
 
 /**
  * An event that can be forwarded to any
@@ -55,6 +58,21 @@ public class PlotChangeEvent extends ChartChangeEvent {
     /** The plot that generated the event. */
     private Plot plot;
 
+    /**
+     * The only layer of the plot affected by the change (<code>null</code>
+     * if the change may affect any part of the plot).
+     *
+     * @since 1.0.20
+     */
+    private PlotLayer layer;
+
+    /**
+     * The dataset change event that triggered this event, if any.
+     *
+     * @since 1.0.20
+     */
+    private DatasetChangeEvent datasetChangeEvent;
+
     /**
      * Creates a new PlotChangeEvent.
      *
@@ -74,4 +92,50 @@ public class PlotChangeEvent extends ChartChangeEvent {
         return this.plot;
     }
 
+    /**
+     * Returns the only layer of the plot that is affected by the change.  A
+     * <code>null</code> result means that the change may affect any part of
+     * the plot (this is the default).
+     *
+     * @return The layer (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public PlotLayer getLayer() {
+        return this.layer;
+    }
+
+    /**
+     * Sets the only layer of the plot that is affected by the change.
+     *
+     * @param layer  the layer (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setLayer(PlotLayer layer) {
+        this.layer = layer;
+    }
+
+    /**
+     * Returns the dataset change event that triggered this event, if any.
+     *
+     * @return The dataset change event (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public DatasetChangeEvent getDatasetChangeEvent() {
+        return this.datasetChangeEvent;
+    }
+
+    /**
+     * Sets the dataset change event that triggered this event.
+     *
+     * @param event  the event (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setDatasetChangeEvent(DatasetChangeEvent event) {
+        this.datasetChangeEvent = event;
+    }
+
 }
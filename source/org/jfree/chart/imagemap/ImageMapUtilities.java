@@ -46,6 +46,8 @@
  * 19-Mar-2009 : Added javascriptEscape() method - see bug 2690293 by FH (DG);
  * 25-Mar-2009 : Reimplemented javascriptEscape() (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Write image maps with ImageMapWriter, return the input
+ *               from htmlEscape() when there is nothing to escape;
  *
  */
 
@@ -53,12 +55,10 @@ package org.jfree.chart.imagemap;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 
 import org.jfree.chart.ChartRenderingInfo;
-import org.jfree.chart.entity.ChartEntity;
-import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.util.ParamChecks;
-import org.jfree.util.StringUtils;
 
 /**
  * Collection of utility methods related to producing image maps.
@@ -116,7 +116,8 @@ public class ImageMapUtilities {
     }
 
     /**
-     * Writes an image map to an output stream.
+     * Writes an image map to an output stream.  The map is written directly
+     * to the writer (see {@link ImageMapWriter}).
      *
      * @param writer  the writer (<code>null</code> not permitted).
      * @param name  the map name (<code>null</code> not permitted).
@@ -136,8 +137,10 @@ public class ImageMapUtilities {
             URLTagFragmentGenerator urlTagFragmentGenerator)
         throws IOException {
 
-        writer.println(ImageMapUtilities.getImageMap(name, info,
-                toolTipTagFragmentGenerator, urlTagFragmentGenerator));
+        ImageMapWriter mapWriter = new ImageMapWriter(
+                toolTipTagFragmentGenerator, urlTagFragmentGenerator);
+        mapWriter.writeImageMap(writer, name, info);
+        writer.println();
     }
 
     /**
@@ -174,29 +177,17 @@ public class ImageMapUtilities {
             ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
             URLTagFragmentGenerator urlTagFragmentGenerator) {
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("<map id=\"").append(htmlEscape(name));
-        sb.append("\" name=\"").append(htmlEscape(name)).append("\">");
-        sb.append(StringUtils.getLineSeparator());
-        EntityCollection entities = info.getEntityCollection();
-        if (entities != null) {
-            int count = entities.getEntityCount();
-            for (int i = count - 1; i >= 0; i--) {
-                ChartEntity entity = entities.getEntity(i);
-                if (entity.getToolTipText() != null
-                        || entity.getURLText() != null) {
-                    String area = entity.getImageMapAreaTag(
-                            toolTipTagFragmentGenerator,
-                            urlTagFragmentGenerator);
-                    if (area.length() > 0) {
-                        sb.append(area);
-                        sb.append(StringUtils.getLineSeparator());
-                    }
-                }
-            }
+        StringWriter writer = new StringWriter();
+        ImageMapWriter mapWriter = new ImageMapWriter(
+                toolTipTagFragmentGenerator, urlTagFragmentGenerator);
+        try {
+            mapWriter.writeImageMap(writer, name, info);
         }
-        sb.append("</map>");
-        return sb.toString();
+        catch (IOException e) {
+            // a StringWriter does not throw IOExceptions
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
 
     }
 
@@ -212,9 +203,17 @@ public class ImageMapUtilities {
      */
     public static String htmlEscape(String input) {
         ParamChecks.nullNotPermitted(input, "input");
-        StringBuilder result = new StringBuilder();
         int length = input.length();
-        for (int i = 0; i < length; i++) {
+        int first = 0;
+        while (first < length && !isHTMLSpecial(input.charAt(first))) {
+            first++;
+        }
+        if (first == length) {
+            return input;
+        }
+        StringBuilder result = new StringBuilder(length + 16);
+        result.append(input, 0, first);
+        for (int i = first; i < length; i++) {
             char c = input.charAt(i);
             if (c == '&') {
                 result.append("&amp;");
@@ -241,6 +240,19 @@ public class ImageMapUtilities {
         return result.toString();
     }
 
+    /**
+     * Returns <code>true</code> if a character is escaped by
+     * {@link #htmlEscape(String)}.
+     *
+     * @param c  the character.
+     *
+     * @return A boolean.
+     */
+    private static boolean isHTMLSpecial(char c) {
+        return c == '&' || c == '\"' || c == '<' || c == '>' || c == '\''
+                || c == '\\';
+    }
+
     /**
      * Returns a string that is equivalent to the input string, but with
      * special characters converted to JavaScript escape sequences.
@@ -0,0 +1,570 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * ImageMapWriter.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.imagemap;
+
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.util.StringUtils;
+
+/**
+ * Writes an HTML image map for a chart directly to a <code>Writer</code> or
+ * <code>OutputStream</code>, without building the map as a string first.
+ * With the default settings the output is the same as
+ * {@link ImageMapUtilities#getImageMap(String, ChartRenderingInfo,
+ * ToolTipTagFragmentGenerator, URLTagFragmentGenerator)}, but the writer
+ * can also reduce the size of the map for charts with a large number of
+ * entities:
+ * <ul>
+ * <li>areas that are smaller than {@link #getMinimumAreaSize()} in both
+ *     directions can be left out;</li>
+ * <li>areas that can never be selected, because they lie inside a
+ *     rectangular area that is higher in the map, can be left out (see
+ *     {@link #setCullOccludedAreas(boolean)});</li>
+ * <li>the number of areas can be limited, keeping the entities with the
+ *     highest priority (see {@link #setMaximumEntityCount(int)}).</li>
+ * </ul>
+ * As in <code>getImageMap()</code>, the areas are written in the reverse of
+ * the order in which the entities were added, so that the entities drawn
+ * last (on top) are selected first, and only entities with a tool tip or
+ * URL are written.
+ *
+ * @since 1.0.20
+ */
+public class ImageMapWriter {
+
+    /** The size (in Java2D units) of the cells in the occlusion index. */
+    private static final int CELL_SIZE = 64;
+
+    /**
+     * The number of cells above which a rectangle is stored in the list
+     * of large rectangles rather than in the occlusion index cells.
+     */
+    private static final int MAX_CELLS = 1024;
+
+    /** The tool tip fragment generator. */
+    private ToolTipTagFragmentGenerator toolTipTagFragmentGenerator;
+
+    /** The URL fragment generator. */
+    private URLTagFragmentGenerator urlTagFragmentGenerator;
+
+    /** The minimum width or height for an area to be written. */
+    private double minimumAreaSize;
+
+    /** A flag that controls whether occluded areas are left out. */
+    private boolean cullOccludedAreas;
+
+    /** The maximum number of entities written. */
+    private int maximumEntityCount;
+
+    /**
+     * The comparator that orders the entities by priority when there are
+     * more than the maximum entity count (<code>null</code> keeps the
+     * entities drawn last).
+     */
+    private Comparator<ChartEntity> priorityComparator;
+
+    /**
+     * Creates a new writer that uses a
+     * {@link StandardToolTipTagFragmentGenerator} and a
+     * {@link StandardURLTagFragmentGenerator}.
+     */
+    public ImageMapWriter() {
+        this(new StandardToolTipTagFragmentGenerator(),
+                new StandardURLTagFragmentGenerator());
+    }
+
+    /**
+     * Creates a new writer.
+     *
+     * @param toolTipTagFragmentGenerator  a generator for the HTML fragment
+     *     that will contain the tooltip text (<code>null</code> not permitted
+     *     if the entities have tooltips).
+     * @param urlTagFragmentGenerator  a generator for the HTML fragment that
+     *     will contain the URL reference (<code>null</code> not permitted if
+     *     the entities have URLs).
+     */
+    public ImageMapWriter(
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator) {
+        this.toolTipTagFragmentGenerator = toolTipTagFragmentGenerator;
+        this.urlTagFragmentGenerator = urlTagFragmentGenerator;
+        this.minimumAreaSize = 0.0;
+        this.cullOccludedAreas = false;
+        this.maximumEntityCount = Integer.MAX_VALUE;
+        this.priorityComparator = null;
+    }
+
+    /**
+     * Returns the tool tip fragment generator.
+     *
+     * @return The generator (possibly <code>null</code>).
+     */
+    public ToolTipTagFragmentGenerator getToolTipTagFragmentGenerator() {
+        return this.toolTipTagFragmentGenerator;
+    }
+
+    /**
+     * Sets the tool tip fragment generator.
+     *
+     * @param generator  the generator (<code>null</code> permitted if the
+     *     entities have no tool tips).
+     */
+    public void setToolTipTagFragmentGenerator(
+            ToolTipTagFragmentGenerator generator) {
+        this.toolTipTagFragmentGenerator = generator;
+    }
+
+    /**
+     * Returns the URL fragment generator.
+     *
+     * @return The generator (possibly <code>null</code>).
+     */
+    public URLTagFragmentGenerator getURLTagFragmentGenerator() {
+        return this.urlTagFragmentGenerator;
+    }
+
+    /**
+     * Sets the URL fragment generator.
+     *
+     * @param generator  the generator (<code>null</code> permitted if the
+     *     entities have no URLs).
+     */
+    public void setURLTagFragmentGenerator(URLTagFragmentGenerator generator) {
+        this.urlTagFragmentGenerator = generator;
+    }
+
+    /**
+     * Returns the minimum size for an area to be written.  The default
+     * value is <code>0.0</code> (all areas are written).
+     *
+     * @return The minimum size (in Java2D units).
+     */
+    public double getMinimumAreaSize() {
+        return this.minimumAreaSize;
+    }
+
+    /**
+     * Sets the minimum size for an area to be written.  Entities whose
+     * bounds are smaller than this size in both width and height are left
+     * out of the map (a value of <code>1.0</code> leaves out the sub-pixel
+     * areas, which are difficult to select).
+     *
+     * @param size  the size (in Java2D units).
+     */
+    public void setMinimumAreaSize(double size) {
+        this.minimumAreaSize = size;
+    }
+
+    /**
+     * Returns the flag that controls whether areas that can never be
+     * selected are left out of the map.  The default value is
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     */
+    public boolean getCullOccludedAreas() {
+        return this.cullOccludedAreas;
+    }
+
+    /**
+     * Sets the flag that controls whether areas that can never be selected
+     * are left out of the map.  A browser selects the first area in the map
+     * that contains the mouse pointer, so an area that lies completely
+     * inside a rectangular area written before it (or that is identical to
+     * an area written before it) is never selected.
+     *
+     * @param cull  the new flag value.
+     */
+    public void setCullOccludedAreas(boolean cull) {
+        this.cullOccludedAreas = cull;
+    }
+
+    /**
+     * Returns the maximum number of areas written.  The default value is
+     * <code>Integer.MAX_VALUE</code>.
+     *
+     * @return The maximum number of areas.
+     */
+    public int getMaximumEntityCount() {
+        return this.maximumEntityCount;
+    }
+
+    /**
+     * Sets the maximum number of areas written.  If there are more
+     * entities (with a tool tip or URL, and not smaller than the minimum
+     * area size), the entities are ranked using the priority comparator
+     * and the lower ranked entities are left out.  Occluded areas are culled
+     * after this selection, so fewer areas may be written.
+     *
+     * @param count  the maximum number of areas (must be &gt;= 0).
+     *
+     * @see #setPriorityComparator(Comparator)
+     */
+    public void setMaximumEntityCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Requires 'count' >= 0.");
+        }
+        this.maximumEntityCount = count;
+    }
+
+    /**
+     * Returns the comparator that ranks the entities when there are more
+     * than the maximum entity count.
+     *
+     * @return The comparator (possibly <code>null</code>).
+     */
+    public Comparator<ChartEntity> getPriorityComparator() {
+        return this.priorityComparator;
+    }
+
+    /**
+     * Sets the comparator that ranks the entities when there are more than
+     * the maximum entity count.  Entities that the comparator places first
+     * have the highest priority, and entities that it ranks equally are kept
+     * in drawing order (the entities drawn last first).  If the comparator is
+     * <code>null</code>, the entities drawn last are kept.
+     *
+     * @param comparator  the comparator (<code>null</code> permitted).
+     */
+    public void setPriorityComparator(Comparator<ChartEntity> comparator) {
+        this.priorityComparator = comparator;
+    }
+
+    /**
+     * Writes the image map for a chart to a stream, using the UTF-8
+     * encoding.  The stream is flushed but not closed.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param name  the map name (<code>null</code> not permitted).
+     * @param info  the chart rendering info (<code>null</code> not
+     *     permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeImageMap(OutputStream out, String name,
+            ChartRenderingInfo info) throws IOException {
+        ParamChecks.nullNotPermitted(out, "out");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out,
+                "UTF-8"));
+        writeImageMap(writer, name, info);
+        writer.flush();
+    }
+
+    /**
+     * Writes the image map for a chart.  The writer is not flushed or
+     * closed.
+     *
+     * @param writer  the writer (<code>null</code> not permitted).
+     * @param name  the map name (<code>null</code> not permitted).
+     * @param info  the chart rendering info (<code>null</code> not
+     *     permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeImageMap(Writer writer, String name,
+            ChartRenderingInfo info) throws IOException {
+        ParamChecks.nullNotPermitted(writer, "writer");
+        ParamChecks.nullNotPermitted(name, "name");
+        ParamChecks.nullNotPermitted(info, "info");
+        String lineSeparator = StringUtils.getLineSeparator();
+        String escapedName = ImageMapUtilities.htmlEscape(name);
+        writer.write("<map id=\"");
+        writer.write(escapedName);
+        writer.write("\" name=\"");
+        writer.write(escapedName);
+        writer.write("\">");
+        writer.write(lineSeparator);
+        EntityCollection entities = info.getEntityCollection();
+        if (entities != null) {
+            OcclusionIndex occlusion = null;
+            if (this.cullOccludedAreas) {
+                occlusion = new OcclusionIndex();
+            }
+            for (ChartEntity entity : selectEntities(entities)) {
+                int[] box = null;
+                if (occlusion != null) {
+                    box = getBox(entity.getArea());
+                    if (occlusion.isOccluded(entity, box)) {
+                        continue;
+                    }
+                }
+                String area = entity.getImageMapAreaTag(
+                        this.toolTipTagFragmentGenerator,
+                        this.urlTagFragmentGenerator);
+                if (area.length() > 0) {
+                    writer.write(area);
+                    writer.write(lineSeparator);
+                    if (occlusion != null) {
+                        occlusion.add(entity, box);
+                    }
+                }
+            }
+        }
+        writer.write("</map>");
+    }
+
+    /**
+     * Returns the entities to write, in the order they will be written.
+     *
+     * @param entities  the entity collection.
+     *
+     * @return The entities.
+     */
+    private List<ChartEntity> selectEntities(EntityCollection entities) {
+        int count = entities.getEntityCount();
+        List<ChartEntity> result = new ArrayList<ChartEntity>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity.getToolTipText() == null
+                    && entity.getURLText() == null) {
+                continue;
+            }
+            if (this.minimumAreaSize > 0.0) {
+                Rectangle2D bounds = entity.getArea().getBounds2D();
+                if (bounds.getWidth() < this.minimumAreaSize
+                        && bounds.getHeight() < this.minimumAreaSize) {
+                    continue;
+                }
+            }
+            result.add(entity);
+        }
+        if (result.size() <= this.maximumEntityCount) {
+            return result;
+        }
+        if (this.priorityComparator == null) {
+            return result.subList(0, this.maximumEntityCount);
+        }
+        // the sort is stable, so equal entities stay in drawing order
+        List<ChartEntity> ranked = new ArrayList<ChartEntity>(result);
+        Collections.sort(ranked, this.priorityComparator);
+        Map<ChartEntity, Boolean> keep
+                = new IdentityHashMap<ChartEntity, Boolean>();
+        for (int i = 0; i < this.maximumEntityCount; i++) {
+            keep.put(ranked.get(i), Boolean.TRUE);
+        }
+        List<ChartEntity> selected = new ArrayList<ChartEntity>(
+                this.maximumEntityCount);
+        for (ChartEntity entity : result) {
+            if (keep.containsKey(entity)) {
+                selected.add(entity);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the bounds of the coordinates that will be written for an
+     * area, as an array <code>{x1, y1, x2, y2}</code>.  For rectangles these
+     * are the coordinates written by {@link ChartEntity#getShapeCoords()};
+     * for other shapes they enclose the polygon that is written.
+     *
+     * @param area  the area.
+     *
+     * @return The bounds.
+     */
+    private static int[] getBox(Shape area) {
+        if (area instanceof Rectangle2D) {
+            Rectangle2D r = (Rectangle2D) area;
+            int x1 = (int) r.getX();
+            int y1 = (int) r.getY();
+            int x2 = x1 + (int) r.getWidth();
+            int y2 = y1 + (int) r.getHeight();
+            if (x2 == x1) {
+                x2++;
+            }
+            if (y2 == y1) {
+                y2++;
+            }
+            return new int[] {x1, y1, x2, y2};
+        }
+        Rectangle2D b = area.getBounds2D();
+        return new int[] {(int) b.getMinX(), (int) b.getMinY(),
+                (int) b.getMaxX(), (int) b.getMaxY()};
+    }
+
+    /**
+     * An index of the areas already written, for finding the areas that
+     * are occluded.  Rectangles are stored in the cells of a uniform grid
+     * that they overlap, so that only the rectangles in the cell that
+     * contains the top left corner of an area need to be checked.
+     */
+    private static class OcclusionIndex {
+
+        /** The rectangles in each grid cell. */
+        private final Map<Long, List<int[]>> cells;
+
+        /** The rectangles that cover too many cells to store in cells. */
+        private final List<int[]> large;
+
+        /** The shape types and coordinates of the non-rectangular areas. */
+        private final Set<String> polygons;
+
+        /**
+         * Creates a new empty index.
+         */
+        OcclusionIndex() {
+            this.cells = new HashMap<Long, List<int[]>>();
+            this.large = new ArrayList<int[]>();
+            this.polygons = new HashSet<String>();
+        }
+
+        /**
+         * Returns the key for a grid cell.
+         *
+         * @param cx  the cell column.
+         * @param cy  the cell row.
+         *
+         * @return The key.
+         */
+        private static Long key(int cx, int cy) {
+            return Long.valueOf(((long) cx << 32) | (cy & 0xFFFFFFFFL));
+        }
+
+        /**
+         * Returns the grid cell that contains a coordinate.
+         *
+         * @param v  the coordinate.
+         *
+         * @return The cell.
+         */
+        private static int cell(int v) {
+            return v >= 0 ? v / CELL_SIZE : -((-v - 1) / CELL_SIZE) - 1;
+        }
+
+        /**
+         * Returns <code>true</code> if an area is occluded by one of the
+         * areas in the index.
+         *
+         * @param entity  the entity.
+         * @param box  the bounds of the area (see getBox()).
+         *
+         * @return A boolean.
+         */
+        boolean isOccluded(ChartEntity entity, int[] box) {
+            if (!(entity.getArea() instanceof Rectangle2D)
+                    && this.polygons.contains(entity.getShapeCoords())) {
+                return true;
+            }
+            for (int[] r : this.large) {
+                if (contains(r, box)) {
+                    return true;
+                }
+            }
+            List<int[]> rects = this.cells.get(key(cell(box[0]),
+                    cell(box[1])));
+            if (rects != null) {
+                for (int[] r : rects) {
+                    if (contains(r, box)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Adds an area to the index.
+         *
+         * @param entity  the entity.
+         * @param box  the bounds of the area (see getBox()).
+         */
+        void add(ChartEntity entity, int[] box) {
+            if (!(entity.getArea() instanceof Rectangle2D)) {
+                this.polygons.add(entity.getShapeCoords());
+                return;
+            }
+            int cx1 = cell(box[0]);
+            int cy1 = cell(box[1]);
+            int cx2 = cell(box[2]);
+            int cy2 = cell(box[3]);
+            if ((long) (cx2 - cx1 + 1) * (cy2 - cy1 + 1) > MAX_CELLS) {
+                this.large.add(box);
+                return;
+            }
+            for (int cx = cx1; cx <= cx2; cx++) {
+                for (int cy = cy1; cy <= cy2; cy++) {
+                    Long key = key(cx, cy);
+                    List<int[]> rects = this.cells.get(key);
+                    if (rects == null) {
+                        rects = new ArrayList<int[]>(4);
+                        this.cells.put(key, rects);
+                    }
+                    rects.add(box);
+                }
+            }
+        }
+
+        /**
+         * Returns <code>true</code> if rectangle <code>r</code> contains
+         * box <code>b</code>.
+         *
+         * @param r  the rectangle.
+         * @param b  the box.
+         *
+         * @return A boolean.
+         */
+        private static boolean contains(int[] r, int[] b) {
+            return r[0] <= b[0] && r[1] <= b[1] && b[2] <= r[2]
+                    && b[3] <= r[3];
+        }
+
+    }
+
+}
@@ -182,6 +182,9 @@
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
  * 10-Mar-2014 : Updated Javadocs for issue #1123 (DG);
  * 09-Apr-2014 : Remove use of ObjectList (DG);
+ * 18-Oct-2026 : Only configure the range axes affected by a dataset change
+ *               event that describes the changed items;
+ * 18-Oct-2026 : Record renderer and dataset bounds metrics;
  * 
  */
 
@@ -241,7 +244,9 @@ import org.jfree.chart.renderer.category.AbstractCategoryItemRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRendererState;
 import org.jfree.chart.util.CloneUtils;
+import org.jfree.chart.util.MetricsSink;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.RenderMetrics;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
@@ -249,6 +254,7 @@ import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Layer;
 import org.jfree.ui.RectangleEdge;
@@ -2260,16 +2266,43 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The range axis bounds will be recalculated if necessary.
+     * The range axis bounds will be recalculated if necessary.  If the event
+     * describes the items that changed in one of the plot's datasets, only
+     * the range axes that the dataset is mapped to are updated.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
-        for (ValueAxis yAxis : this.rangeAxes.values()) {
-            if (yAxis != null) {
-                yAxis.configure();
+        Set<Integer> axisIndices = null;
+        if (event.getType() != SeriesChangeType.STRUCTURE) {
+            for (Map.Entry<Integer, CategoryDataset> entry
+                    : this.datasets.entrySet()) {
+                if (entry.getValue() == null
+                        || entry.getValue() != event.getDataset()) {
+                    continue;
+                }
+                if (axisIndices == null) {
+                    axisIndices = new HashSet<Integer>();
+                }
+                List mappedAxes = (List) this.datasetToRangeAxesMap.get(
+                        entry.getKey());
+                if (mappedAxes == null) {
+                    axisIndices.add(0);
+                } else {
+                    axisIndices.addAll(mappedAxes);
+                }
+            }
+        }
+        if (axisIndices != null) {
+            for (Integer axisIndex : axisIndices) {
+                ValueAxis yAxis = this.rangeAxes.get(axisIndex);
+                if (yAxis != null) {
+                    yAxis.configure();
+                }
             }
+        } else {
+            configureRangeAxes();
         }
         if (getParent() != null) {
             getParent().datasetChanged(event);
@@ -3872,6 +3905,8 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         if (hasData && renderer != null) {
 
             foundData = true;
+            MetricsSink sink = RenderMetrics.getSink();
+            long start = (sink != null ? System.nanoTime() : 0L);
             CategoryItemRendererState state = renderer.initialise(g2, dataArea,
                     this, index, info);
             state.setCrosshairState(crosshairState);
@@ -3916,6 +3951,12 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
                     }
                 }
             }
+            if (sink != null) {
+                sink.recordTime(RenderMetrics.RENDERER_PASS,
+                        System.nanoTime() - start);
+                sink.recordCount(RenderMetrics.ITEMS_DRAWN,
+                        (long) passCount * rowCount * columnCount);
+            }
         }
         return foundData;
 
@@ -4265,12 +4306,18 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
 
         // iterate through the datasets that map to the axis and get the union
         // of the ranges.
+        MetricsSink sink = RenderMetrics.getSink();
+        long start = (sink != null ? System.nanoTime() : 0L);
         for (CategoryDataset d : mappedDatasets) {
             CategoryItemRenderer r = getRendererForDataset(d);
             if (r != null) {
                 result = Range.combine(result, r.findRangeBounds(d));
             }
         }
+        if (sink != null) {
+            sink.recordTime(RenderMetrics.DATASET_BOUNDS,
+                    System.nanoTime() - start);
+        }
         return result;
     }
 
@@ -94,6 +94,7 @@
  * 21-Dec-2011 : Apply patch 3447161 by Ulrich Voigt and Martin Hoeller (MH);
  * 21-Jul-2014 : Override isRangePannable() and setRangePannable() - motivated 
  *               by patch #304 by Ulrich Voigt (DG);
+ * 18-Oct-2026 : Override getPlotLayers();
  */
 
 package org.jfree.chart.plot;
@@ -518,6 +519,19 @@ public class CombinedDomainXYPlot extends XYPlot
 
     }
 
+    /**
+     * Returns <code>null</code>, since a combined plot is not drawn in
+     * layers.
+     *
+     * @return <code>null</code>.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public List<PlotLayer> getPlotLayers() {
+        return null;
+    }
+
     /**
      * Returns a collection of legend items for the plot.
      *
@@ -96,6 +96,7 @@
  * 21-Dec-2011 : Apply patch 3447161 by Ulrich Voigt and Martin Hoeller (MH);
  * 21-Jul-2014 : Override isDomainPannable() and setDomainPannable() - motivated 
  *               by patch #304 by Ulrich Voigt (DG);
+ * 18-Oct-2026 : Override getPlotLayers();
  *
  */
 
@@ -452,6 +453,19 @@ public class CombinedRangeXYPlot extends XYPlot
 
     }
 
+    /**
+     * Returns <code>null</code>, since a combined plot is not drawn in
+     * layers.
+     *
+     * @return <code>null</code>.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public List<PlotLayer> getPlotLayers() {
+        return null;
+    }
+
     /**
      * Returns a collection of legend items for the plot.
      *
@@ -63,6 +63,11 @@
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 21-Jul-2014 : Fix panning (patch #307 by Ulrich Voigt) (DG);
  * 29-Jul-2014 : Add rendering hint to normalise stroke for gridlines (DG);
+ * 18-Oct-2026 : Skip points outside the axis ranges, and added a density
+ *               mode that accumulates hit counts in parallel and draws them
+ *               as a single image;
+ * 18-Oct-2026 : Use TaskUtils;
+ * 18-Oct-2026 : Cache the linear axis check per axis class;
  *
  */
 
@@ -80,13 +85,21 @@ import java.awt.Stroke;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.AxisState;
@@ -94,8 +107,10 @@ import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
 import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ResourceBundleWrapper;
+import org.jfree.chart.util.TaskUtils;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.RectangleEdge;
@@ -103,9 +118,19 @@ import org.jfree.ui.RectangleInsets;
 import org.jfree.util.ArrayUtilities;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PaintUtilities;
+import org.jfree.util.PublicCloneable;
 
 /**
  * A fast scatter plot.
+ * <P>
+ * By default each data point is drawn as a single pixel, so with a large
+ * number of points the overdraw hides the density of the data.  If a
+ * density paint scale is set (see {@link #setDensityPaintScale(PaintScale)})
+ * the plot counts the points that fall in each pixel instead, and draws the
+ * counts (mapped to colors by the paint scale) as a single image.  The
+ * counting is split across the available processors when the axes are
+ * linear (instances of {@link NumberAxis} that do not override
+ * {@link NumberAxis#valueToJava2D(double, Rectangle2D, RectangleEdge)}).
  */
 public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         Zoomable, Cloneable, Serializable {
@@ -121,6 +146,13 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
     /** The default grid line paint. */
     public static final Paint DEFAULT_GRIDLINE_PAINT = Color.lightGray;
 
+    /**
+     * Records, for each axis class seen by {@link #isLinear(ValueAxis)},
+     * whether it uses the linear transform in {@link NumberAxis}.
+     */
+    private static final Map<Class<?>, Boolean> LINEAR_AXIS_CLASSES
+            = new ConcurrentHashMap<Class<?>, Boolean>();
+
     /** The data. */
     private float[][] data;
 
@@ -136,9 +168,23 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
     /** The range axis (used for the y-values). */
     private ValueAxis rangeAxis;
 
+    /**
+     * The minimum number of data points counted by each task when the
+     * density image is calculated in parallel.
+     */
+    static final int MIN_POINTS_PER_TASK = 100000;
+
     /** The paint used to plot data points. */
     private transient Paint paint;
 
+    /**
+     * The paint scale that maps the number of points in each pixel to a
+     * color, or <code>null</code> if the points are drawn individually.
+     *
+     * @since 1.0.20
+     */
+    private PaintScale densityPaintScale;
+
     /** A flag that controls whether the domain grid-lines are visible. */
     private boolean domainGridlinesVisible;
 
@@ -347,6 +393,41 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         fireChangeEvent();
     }
 
+    /**
+     * Returns the paint scale used to draw the data as a density image.
+     * The default value is <code>null</code>.
+     *
+     * @return The paint scale (possibly <code>null</code>).
+     *
+     * @see #setDensityPaintScale(PaintScale)
+     *
+     * @since 1.0.20
+     */
+    public PaintScale getDensityPaintScale() {
+        return this.densityPaintScale;
+    }
+
+    /**
+     * Sets the paint scale used to draw the data as a density image and
+     * sends a {@link PlotChangeEvent} to all registered listeners.  When the
+     * scale is not <code>null</code>, the number of points in each pixel is
+     * passed to the scale's <code>getPaint()</code> method and the pixel is
+     * filled with the result (pixels without points are not filled).  Only
+     * <code>Color</code> instances are supported, other paints are treated
+     * as transparent.  When the scale is <code>null</code>, each point is
+     * drawn with the paint returned by {@link #getPaint()}.
+     *
+     * @param scale  the paint scale (<code>null</code> permitted).
+     *
+     * @see #getDensityPaintScale()
+     *
+     * @since 1.0.20
+     */
+    public void setDensityPaintScale(PaintScale scale) {
+        this.densityPaintScale = scale;
+        fireChangeEvent();
+    }
+
     /**
      * Returns <code>true</code> if the domain gridlines are visible, and
      * <code>false</code> otherwise.
@@ -582,7 +663,18 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
      */
     public void render(Graphics2D g2, Rectangle2D dataArea,
                        PlotRenderingInfo info, CrosshairState crosshairState) {
+        if (this.data == null) {
+            return;
+        }
+        if (this.densityPaintScale != null) {
+            renderDensity(g2, dataArea);
+            return;
+        }
         g2.setPaint(this.paint);
+        double xLower = this.domainAxis.getLowerBound();
+        double xUpper = this.domainAxis.getUpperBound();
+        double yLower = this.rangeAxis.getLowerBound();
+        double yUpper = this.rangeAxis.getUpperBound();
 
         // if the axes use a linear scale, you can uncomment the code below and
         // switch to the alternative transX/transY calculation inside the loop
@@ -597,20 +689,283 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         // double rangeMin = this.rangeAxis.getLowerBound();
         // double rangeLength = this.rangeAxis.getUpperBound() - rangeMin;
 
-        if (this.data != null) {
-            for (int i = 0; i < this.data[0].length; i++) {
-                float x = this.data[0][i];
-                float y = this.data[1][i];
-
-                //int transX = (int) (xx + ww * (x - domainMin) / domainLength);
-                //int transY = (int) (yy - hh * (y - rangeMin) / rangeLength);
-                int transX = (int) this.domainAxis.valueToJava2D(x, dataArea,
-                        RectangleEdge.BOTTOM);
-                int transY = (int) this.rangeAxis.valueToJava2D(y, dataArea,
-                        RectangleEdge.LEFT);
-                g2.fillRect(transX, transY, 1, 1);
+        for (int i = 0; i < this.data[0].length; i++) {
+            float x = this.data[0][i];
+            float y = this.data[1][i];
+            if (!(x >= xLower && x <= xUpper && y >= yLower && y <= yUpper)) {
+                continue;  // outside the axis ranges (or NaN)
+            }
+
+            //int transX = (int) (xx + ww * (x - domainMin) / domainLength);
+            //int transY = (int) (yy - hh * (y - rangeMin) / rangeLength);
+            int transX = (int) this.domainAxis.valueToJava2D(x, dataArea,
+                    RectangleEdge.BOTTOM);
+            int transY = (int) this.rangeAxis.valueToJava2D(y, dataArea,
+                    RectangleEdge.LEFT);
+            g2.fillRect(transX, transY, 1, 1);
+        }
+    }
+
+    /**
+     * Draws the data as a density image, where the color of each pixel is
+     * determined by the number of points in the pixel.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     */
+    private void renderDensity(Graphics2D g2, Rectangle2D dataArea) {
+        if (dataArea.isEmpty()) {
+            return;
+        }
+        // the region includes the pixels on the right and bottom edges of
+        // the data area, where the axis upper bounds are drawn
+        int x0 = (int) Math.floor(dataArea.getMinX());
+        int y0 = (int) Math.floor(dataArea.getMinY());
+        int w = (int) Math.ceil(dataArea.getMaxX()) - x0 + 1;
+        int h = (int) Math.ceil(dataArea.getMaxY()) - y0 + 1;
+        int[] counts = calculateCounts(dataArea, x0, y0, w, h);
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        // the paint scale is called once for each distinct count below the
+        // cache size, the counts are mostly small
+        int[] cache = new int[256];
+        boolean[] cached = new boolean[cache.length];
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            if (count == 0) {
+                continue;
+            }
+            if (count < cache.length) {
+                if (!cached[count]) {
+                    cache[count] = toARGB(count);
+                    cached[count] = true;
+                }
+                pixels[i] = cache[count];
+            }
+            else {
+                pixels[i] = toARGB(count);
+            }
+        }
+        g2.drawImage(image, x0, y0, null);
+    }
+
+    /**
+     * Returns the color for a pixel count as an ARGB value.
+     *
+     * @param count  the count.
+     *
+     * @return The color.
+     */
+    private int toARGB(int count) {
+        Paint p = this.densityPaintScale.getPaint(count);
+        return (p instanceof Color ? ((Color) p).getRGB() : 0);
+    }
+
+    /**
+     * Returns the number of data points in each pixel of a region
+     * containing the data area.  The points are counted on the calling
+     * thread and on the common fork-join pool if the axes are linear and
+     * there are enough points, otherwise on the calling thread only.
+     *
+     * @param dataArea  the data area.
+     * @param x0  the x-coordinate of the region.
+     * @param y0  the y-coordinate of the region.
+     * @param w  the width of the region.
+     * @param h  the height of the region.
+     *
+     * @return The counts, by row (an array of length w * h).
+     */
+    private int[] calculateCounts(Rectangle2D dataArea, int x0, int y0,
+            int w, int h) {
+        final int n = this.data[0].length;
+        if (!isLinear(this.domainAxis) || !isLinear(this.rangeAxis)) {
+            int[] counts = new int[w * h];
+            addCounts(counts, 0, n, dataArea, x0, y0, w, h);
+            return counts;
+        }
+        // the axes are linear, so pixel = a + b * value
+        double xLower = this.domainAxis.getLowerBound();
+        double xUpper = this.domainAxis.getUpperBound();
+        double yLower = this.rangeAxis.getLowerBound();
+        double yUpper = this.rangeAxis.getUpperBound();
+        double x1 = this.domainAxis.valueToJava2D(xLower, dataArea,
+                RectangleEdge.BOTTOM);
+        double x2 = this.domainAxis.valueToJava2D(xUpper, dataArea,
+                RectangleEdge.BOTTOM);
+        double y1 = this.rangeAxis.valueToJava2D(yLower, dataArea,
+                RectangleEdge.LEFT);
+        double y2 = this.rangeAxis.valueToJava2D(yUpper, dataArea,
+                RectangleEdge.LEFT);
+        final double[] transform = new double[] {xLower, xUpper, yLower,
+                yUpper, x1 - x0, (x2 - x1) / (xUpper - xLower), y1 - y0,
+                (y2 - y1) / (yUpper - yLower)};
+        // one task for the calling thread and one for each worker thread
+        int tasks = Math.min(ForkJoinPool.getCommonPoolParallelism() + 1,
+                n / MIN_POINTS_PER_TASK);
+        if (tasks <= 1) {
+            int[] counts = new int[w * h];
+            addCounts(counts, 0, n, transform, w, h);
+            return counts;
+        }
+        final float[][] points = this.data;
+        final int width = w;
+        final int height = h;
+        List<Future<int[]>> futures = new ArrayList<Future<int[]>>();
+        for (int t = 1; t < tasks; t++) {
+            final int start = (int) ((long) n * t / tasks);
+            final int end = (int) ((long) n * (t + 1) / tasks);
+            Callable<int[]> task = new Callable<int[]>() {
+                @Override
+                public int[] call() {
+                    int[] counts = new int[width * height];
+                    addCounts(points, counts, start, end, transform, width,
+                            height);
+                    return counts;
+                }
+            };
+            futures.add(ForkJoinPool.commonPool().submit(task));
+        }
+        int[] counts = new int[w * h];
+        addCounts(counts, 0, (int) ((long) n / tasks), transform, w, h);
+        for (Future<int[]> future : futures) {
+            int[] partial = TaskUtils.getResult(future);
+            if (partial == null) {
+                continue;
+            }
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += partial[i];
             }
         }
+        return counts;
+    }
+
+    /**
+     * Adds the points in a range of the data array to the pixel counts,
+     * using the axes to convert the values to Java2D coordinates.
+     *
+     * @param counts  the counts.
+     * @param start  the index of the first point.
+     * @param end  the index after the last point.
+     * @param dataArea  the data area.
+     * @param x0  the x-coordinate of the region.
+     * @param y0  the y-coordinate of the region.
+     * @param w  the width of the region.
+     * @param h  the height of the region.
+     */
+    private void addCounts(int[] counts, int start, int end,
+            Rectangle2D dataArea, int x0, int y0, int w, int h) {
+        double xLower = this.domainAxis.getLowerBound();
+        double xUpper = this.domainAxis.getUpperBound();
+        double yLower = this.rangeAxis.getLowerBound();
+        double yUpper = this.rangeAxis.getUpperBound();
+        float[] xs = this.data[0];
+        float[] ys = this.data[1];
+        for (int i = start; i < end; i++) {
+            float x = xs[i];
+            float y = ys[i];
+            if (!(x >= xLower && x <= xUpper && y >= yLower && y <= yUpper)) {
+                continue;
+            }
+            int px = (int) this.domainAxis.valueToJava2D(x, dataArea,
+                    RectangleEdge.BOTTOM) - x0;
+            int py = (int) this.rangeAxis.valueToJava2D(y, dataArea,
+                    RectangleEdge.LEFT) - y0;
+            if (px >= 0 && px < w && py >= 0 && py < h) {
+                counts[py * w + px]++;
+            }
+        }
+    }
+
+    /**
+     * Adds the points in a range of the data array to the pixel counts,
+     * using a linear transform.
+     *
+     * @param counts  the counts.
+     * @param start  the index of the first point.
+     * @param end  the index after the last point.
+     * @param transform  the axis bounds (x lower, x upper, y lower and
+     *     y upper) followed by the offset and scale for x and for y.
+     * @param w  the width of the region.
+     * @param h  the height of the region.
+     */
+    private void addCounts(int[] counts, int start, int end,
+            double[] transform, int w, int h) {
+        addCounts(this.data, counts, start, end, transform, w, h);
+    }
+
+    /**
+     * Adds the points in a range of a data array to the pixel counts,
+     * using a linear transform.
+     *
+     * @param data  the data.
+     * @param counts  the counts.
+     * @param start  the index of the first point.
+     * @param end  the index after the last point.
+     * @param transform  the axis bounds (x lower, x upper, y lower and
+     *     y upper) followed by the offset and scale for x and for y.
+     * @param w  the width of the region.
+     * @param h  the height of the region.
+     */
+    private static void addCounts(float[][] data, int[] counts, int start,
+            int end, double[] transform, int w, int h) {
+        double xLower = transform[0];
+        double xUpper = transform[1];
+        double yLower = transform[2];
+        double yUpper = transform[3];
+        double xOffset = transform[4];
+        double xScale = transform[5];
+        double yOffset = transform[6];
+        double yScale = transform[7];
+        float[] xs = data[0];
+        float[] ys = data[1];
+        for (int i = start; i < end; i++) {
+            float x = xs[i];
+            float y = ys[i];
+            if (!(x >= xLower && x <= xUpper && y >= yLower && y <= yUpper)) {
+                continue;
+            }
+            int px = (int) (xOffset + (x - xLower) * xScale);
+            int py = (int) (yOffset + (y - yLower) * yScale);
+            if (px >= 0 && px < w && py >= 0 && py < h) {
+                counts[py * w + px]++;
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if an axis converts values to Java2D
+     * coordinates with the linear transform in {@link NumberAxis}.
+     *
+     * @param axis  the axis.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLinear(ValueAxis axis) {
+        if (!(axis instanceof NumberAxis)) {
+            return false;
+        }
+        Class<?> c = axis.getClass();
+        if (c == NumberAxis.class) {
+            return true;
+        }
+        // subclasses are checked (by reflection) once only
+        Boolean result = LINEAR_AXIS_CLASSES.get(c);
+        if (result == null) {
+            boolean linear;
+            try {
+                linear = c.getMethod("valueToJava2D", double.class,
+                        Rectangle2D.class, RectangleEdge.class)
+                        .getDeclaringClass() == NumberAxis.class;
+            }
+            catch (NoSuchMethodException e) {
+                linear = false;
+            }
+            result = Boolean.valueOf(linear);
+            LINEAR_AXIS_CLASSES.put(c, result);
+        }
+        return result.booleanValue();
     }
 
     /**
@@ -1032,6 +1387,10 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         if (!PaintUtilities.equal(this.paint, that.paint)) {
             return false;
         }
+        if (!ObjectUtilities.equal(this.densityPaintScale,
+                that.densityPaintScale)) {
+            return false;
+        }
         if (this.domainGridlinesVisible != that.domainGridlinesVisible) {
             return false;
         }
@@ -1082,6 +1441,10 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
             clone.rangeAxis.setPlot(clone);
             clone.rangeAxis.addChangeListener(clone);
         }
+        if (this.densityPaintScale instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.densityPaintScale;
+            clone.densityPaintScale = (PaintScale) pc.clone();
+        }
         return clone;
 
     }
@@ -130,6 +130,7 @@
  * 13-Jul-2009 : Plot background image should be clipped if necessary (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 29-Jul-2014 : Add hint to normalise stroke for plot border (DG);
+ * 18-Oct-2026 : Pass the dataset change event on with the plot change event;
  * 
  */
 
@@ -1228,15 +1229,16 @@ public abstract class Plot implements AxisChangeListener,
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The plot reacts by passing on a plot change event to all registered
-     * listeners.
+     * The plot reacts by passing on a plot change event (that refers to the
+     * dataset change event) to all registered listeners.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
         PlotChangeEvent newEvent = new PlotChangeEvent(this);
         newEvent.setType(ChartChangeEventType.DATASET_UPDATED);
+        newEvent.setDatasetChangeEvent(event);
         notifyListeners(newEvent);
     }
 
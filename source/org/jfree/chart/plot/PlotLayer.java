@@ -0,0 +1,191 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * PlotLayer.java
+ * --------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * Identifies one of the layers that an {@link XYPlot} is drawn in.  The
+ * layers are, in drawing order: the background layer (the plot background,
+ * axes, gridlines, background markers and background annotations), one
+ * layer for each dataset (the data items only), and the foreground layer
+ * (foreground annotations, crosshairs, foreground markers, the plot
+ * annotations and the outline).
+ * <P>
+ * A layer is selected by setting the {@link
+ * org.jfree.chart.JFreeChart#KEY_PLOT_LAYER} rendering hint before drawing
+ * the chart, and the {@link org.jfree.chart.ChartPanel} uses this to cache
+ * each layer in a separate image.
+ *
+ * @since 1.0.20
+ */
+public final class PlotLayer implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2093215546412378341L;
+
+    /** The background layer. */
+    public static final PlotLayer BACKGROUND = new PlotLayer(
+            "PlotLayer.BACKGROUND", -1);
+
+    /** The foreground layer. */
+    public static final PlotLayer FOREGROUND = new PlotLayer(
+            "PlotLayer.FOREGROUND", -1);
+
+    /** The name. */
+    private String name;
+
+    /** The dataset index (-1 for the background and foreground layers). */
+    private int datasetIndex;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     * @param datasetIndex  the dataset index.
+     */
+    private PlotLayer(String name, int datasetIndex) {
+        this.name = name;
+        this.datasetIndex = datasetIndex;
+    }
+
+    /**
+     * Returns the layer for the dataset with the specified index.
+     *
+     * @param index  the dataset index (zero or greater).
+     *
+     * @return The layer (never <code>null</code>).
+     */
+    public static PlotLayer forDataset(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Requires 'index' >= 0.");
+        }
+        return new PlotLayer("PlotLayer.DATASET", index);
+    }
+
+    /**
+     * Returns <code>true</code> if this is a dataset layer, and
+     * <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public boolean isDatasetLayer() {
+        return this.datasetIndex >= 0;
+    }
+
+    /**
+     * Returns the index of the dataset drawn in this layer.
+     *
+     * @return The dataset index (-1 for the background and foreground
+     *     layers).
+     */
+    public int getDatasetIndex() {
+        return this.datasetIndex;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string.
+     */
+    @Override
+    public String toString() {
+        if (isDatasetLayer()) {
+            return this.name + "[" + this.datasetIndex + "]";
+        }
+        return this.name;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is equal to the specified
+     * object, and <code>false</code> otherwise.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PlotLayer)) {
+            return false;
+        }
+        PlotLayer that = (PlotLayer) obj;
+        if (!this.name.equals(that.name)) {
+            return false;
+        }
+        if (this.datasetIndex != that.datasetIndex) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.name.hashCode() + this.datasetIndex;
+    }
+
+    /**
+     * Ensures that serialization returns the unique instances.
+     *
+     * @return The object.
+     *
+     * @throws ObjectStreamException if there is a problem.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (this.equals(PlotLayer.BACKGROUND)) {
+            return PlotLayer.BACKGROUND;
+        }
+        else if (this.equals(PlotLayer.FOREGROUND)) {
+            return PlotLayer.FOREGROUND;
+        }
+        return this;
+    }
+
+}
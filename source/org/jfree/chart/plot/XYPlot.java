@@ -230,6 +230,15 @@
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
  * 10-Mar-2014 : Updated Javadocs for issue #1123 (DG);
  * 29-Jul-2014 : Add hints to normalise stroke for crosshairs (DG);
+ * 18-Oct-2026 : Apply the renderer state's decimator in render();
+ * 18-Oct-2026 : Only configure the axes affected by a dataset change event
+ *               that describes the changed items;
+ * 18-Oct-2026 : Draw a snapshot of a ConcurrentDataset in render();
+ * 18-Oct-2026 : Support drawing in layers (see PlotLayer);
+ * 18-Oct-2026 : Look up the primary axis indices without iterating;
+ * 18-Oct-2026 : Record renderer and dataset bounds metrics;
+ * 18-Oct-2026 : Find the data range from the ConcurrentDataset snapshot;
+ * 18-Oct-2026 : No decimation when entities or item labels need item indices;
  *
  */
 
@@ -287,15 +296,21 @@ import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
 import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.jfree.chart.renderer.xy.XYDecimator;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.util.CloneUtils;
+import org.jfree.chart.util.MetricsSink;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.RenderMetrics;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.ConcurrentDataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.xy.DecimatedXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Layer;
@@ -2883,7 +2898,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         this.annotations.add(annotation);
         annotation.addChangeListener(this);
         if (notify) {
-            fireChangeEvent();
+            fireLayerChangeEvent(PlotLayer.FOREGROUND);
         }
     }
 
@@ -2918,7 +2933,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         boolean removed = this.annotations.remove(annotation);
         annotation.removeChangeListener(this);
         if (removed && notify) {
-            fireChangeEvent();
+            fireLayerChangeEvent(PlotLayer.FOREGROUND);
         }
         return removed;
     }
@@ -2947,7 +2962,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             annotation.removeChangeListener(this);
         }
         this.annotations.clear();
-        fireChangeEvent();
+        fireLayerChangeEvent(PlotLayer.FOREGROUND);
     }
 
     /**
@@ -3099,6 +3114,10 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
     /**
      * Draws the plot within the specified area on a graphics device.
+     * <P>
+     * If the {@link JFreeChart#KEY_PLOT_LAYER} rendering hint is set, only
+     * the selected layer is drawn (see {@link #getPlotLayers()}) and the
+     * shadow generator (if any) is not used.
      *
      * @param g2  the graphics device.
      * @param area  the plot area (in Java2D space).
@@ -3137,14 +3156,29 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         if (dataArea.isEmpty()) {
             return;
         }
-        createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, null);
+
+        // the layer hint can restrict drawing to part of the plot...
+        PlotLayer layer = (PlotLayer) g2.getRenderingHint(
+                JFreeChart.KEY_PLOT_LAYER);
+        boolean drawBackgroundLayer = (layer == null
+                || layer.equals(PlotLayer.BACKGROUND));
+        boolean drawForegroundLayer = (layer == null
+                || layer.equals(PlotLayer.FOREGROUND));
+
+        if (drawBackgroundLayer) {
+            createAndAddEntity((Rectangle2D) dataArea.clone(), info, null,
+                    null);
+        }
         if (info != null) {
             info.setDataArea(dataArea);
         }
 
         // draw the plot background and axes...
-        drawBackground(g2, dataArea);
-        Map axisStateMap = drawAxes(g2, area, dataArea, info);
+        Map axisStateMap = new HashMap();
+        if (drawBackgroundLayer) {
+            drawBackground(g2, dataArea);
+            axisStateMap = drawAxes(g2, area, dataArea, info);
+        }
 
         PlotOrientation orient = getOrientation();
 
@@ -3212,25 +3246,25 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         .get(getRangeAxis());
             }
         }
-        if (domainAxisState != null) {
+        if (domainAxisState != null && drawBackgroundLayer) {
             drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
         }
-        if (rangeAxisState != null) {
+        if (rangeAxisState != null && drawBackgroundLayer) {
             drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
         }
-        if (domainAxisState != null) {
+        if (domainAxisState != null && drawBackgroundLayer) {
             drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
             drawZeroDomainBaseline(g2, dataArea);
         }
-        if (rangeAxisState != null) {
+        if (rangeAxisState != null && drawBackgroundLayer) {
             drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
             drawZeroRangeBaseline(g2, dataArea);
         }
 
         Graphics2D savedG2 = g2;
         BufferedImage dataImage = null;
-        boolean suppressShadow = Boolean.TRUE.equals(g2.getRenderingHint(
-                JFreeChart.KEY_SUPPRESS_SHADOW_GENERATION));
+        boolean suppressShadow = layer != null || Boolean.TRUE.equals(
+                g2.getRenderingHint(JFreeChart.KEY_SUPPRESS_SHADOW_GENERATION));
         if (this.shadowGenerator != null && !suppressShadow) {
             dataImage = new BufferedImage((int) dataArea.getWidth(),
                     (int)dataArea.getHeight(), BufferedImage.TYPE_INT_ARGB);
@@ -3240,13 +3274,16 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
 
         // draw the markers that are associated with a specific dataset...
-        for (XYDataset dataset: this.datasets.values()) {
-            int datasetIndex = indexOf(dataset);
-            drawDomainMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
-        }
-        for (XYDataset dataset: this.datasets.values()) {
-            int datasetIndex = indexOf(dataset);
-            drawRangeMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
+        if (drawBackgroundLayer) {
+            for (XYDataset dataset: this.datasets.values()) {
+                int datasetIndex = indexOf(dataset);
+                drawDomainMarkers(g2, dataArea, datasetIndex,
+                        Layer.BACKGROUND);
+            }
+            for (XYDataset dataset: this.datasets.values()) {
+                int datasetIndex = indexOf(dataset);
+                drawRangeMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
+            }
         }
 
         // now draw annotations and render data items...
@@ -3257,7 +3294,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             // draw background annotations
         for (int i : rendererIndices) {
             XYItemRenderer renderer = getRenderer(i);
-            if (renderer != null) {
+            if (renderer != null && drawBackgroundLayer) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                 renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis, 
@@ -3268,14 +3305,21 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             // render data items...
         for (int datasetIndex : datasetIndices) {
             XYDataset dataset = this.getDataset(datasetIndex);
-            foundData = render(g2, dataArea, datasetIndex, info, 
-                    crosshairState) || foundData;
+            if (layer == null || (layer.isDatasetLayer()
+                    && layer.getDatasetIndex() == datasetIndex)) {
+                foundData = render(g2, dataArea, datasetIndex, info,
+                        crosshairState) || foundData;
+            }
+            else {
+                foundData = foundData
+                        || !DatasetUtilities.isEmptyOrNull(dataset);
+            }
             }
 
             // draw foreground annotations
         for (int i : rendererIndices) {
             XYItemRenderer renderer = getRenderer(i);
-            if (renderer != null) {
+            if (renderer != null && drawForegroundLayer) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                 renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis, 
@@ -3283,6 +3327,12 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 }
             }
 
+        if (!drawForegroundLayer) {
+            g2.setClip(originalClip);
+            g2.setComposite(originalComposite);
+            return;
+        }
+
         // draw domain crosshair if required...
         int datasetIndex = crosshairState.getDatasetIndex();
         ValueAxis xAxis = this.getDomainAxisForDataset(datasetIndex);
@@ -3389,6 +3439,46 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
         return result;        
     }
+
+    /**
+     * Returns the layers that the plot is drawn in, in drawing order: the
+     * background layer, a layer for each (non-<code>null</code>) dataset
+     * in the current dataset rendering order, and the foreground layer.
+     * Combining the layers drawn separately (using the
+     * {@link JFreeChart#KEY_PLOT_LAYER} rendering hint) gives the same
+     * result as drawing the plot in one pass, as long as the drawing does
+     * not depend on an anchor point.  This method returns
+     * <code>null</code> if the plot cannot be drawn in layers, which is the
+     * case if a shadow generator is set.
+     *
+     * @return The layers (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public List<PlotLayer> getPlotLayers() {
+        if (this.shadowGenerator != null) {
+            return null;
+        }
+        List<PlotLayer> result = new ArrayList<PlotLayer>();
+        result.add(PlotLayer.BACKGROUND);
+        for (int index : getDatasetIndices(getDatasetRenderingOrder())) {
+            result.add(PlotLayer.forDataset(index));
+        }
+        result.add(PlotLayer.FOREGROUND);
+        return result;
+    }
+
+    /**
+     * Sends a {@link PlotChangeEvent} to all registered listeners, noting
+     * that the change only affects the specified layer of the plot.
+     *
+     * @param layer  the layer (<code>null</code> not permitted).
+     */
+    private void fireLayerChangeEvent(PlotLayer layer) {
+        PlotChangeEvent e = new PlotChangeEvent(this);
+        e.setLayer(layer);
+        notifyListeners(e);
+    }
     
     /**
      * Draws the background for the plot.
@@ -3680,6 +3770,20 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      * <P>
      * The <code>info</code> and <code>crosshairState</code> arguments may be
      * <code>null</code>.
+     * <P>
+     * If the renderer state supplies an {@link XYDecimator}, the renderer
+     * is passed a {@link DecimatedXYDataset} containing only the items
+     * selected by the decimator (in which case the item indices refer to the
+     * decimated view).  Since entities, tooltips, URLs and item labels need
+     * the item indices in the dataset, there is no decimation when the
+     * <code>info</code> collects entities, or for a series with visible item
+     * labels.
+     * <P>
+     * If the dataset is a {@link ConcurrentDataset} in concurrent mode, the
+     * renderer is passed a snapshot of the dataset (so another thread can
+     * modify the dataset while it is being drawn), and the entities refer to
+     * the snapshot.  The same snapshot is used by {@link #getDataRange}
+     * until the dataset changes, so the axis ranges match the items drawn.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3694,7 +3798,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             PlotRenderingInfo info, CrosshairState crosshairState) {
 
         boolean foundData = false;
-        XYDataset dataset = getDataset(index);
+        XYDataset dataset = getSnapshot(getDataset(index));
         if (!DatasetUtilities.isEmptyOrNull(dataset)) {
             foundData = true;
             ValueAxis xAxis = getDomainAxisForDataset(index);
@@ -3710,10 +3814,24 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 }
             }
 
+            MetricsSink sink = RenderMetrics.getSink();
+            long start = (sink != null ? System.nanoTime() : 0L);
+            long drawn = 0L;
+            long available = 0L;
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
             int passCount = renderer.getPassCount();
 
+            // the decimator (if any) selects the items in each series on the
+            // first pass, and the same items are used for later passes (but
+            // entities and item labels need the dataset item indices, so
+            // they turn the decimation off)
+            XYDecimator decimator = state.getDecimator();
+            DecimatedXYDataset decimated = null;
+            if (decimator != null && state.getEntityCollection() == null) {
+                decimated = new DecimatedXYDataset(dataset);
+            }
+
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
             if (seriesOrder == SeriesRenderingOrder.REVERSE) {
                 //render series in reverse order
@@ -3725,6 +3843,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         if (lastItem == -1) {
                             continue;
                         }
+                        available += lastItem + 1;
                         if (state.getProcessVisibleItemsOnly()) {
                             int[] itemBounds = RendererUtilities.findLiveItems(
                                     dataset, series, xAxis.getLowerBound(),
@@ -3732,14 +3851,36 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
-                        state.startSeriesPass(dataset, series, firstItem,
+                        XYDataset items = dataset;
+                        if (decimated != null) {
+                            if (pass == 0) {
+                                int[] selected = null;
+                                if (!renderer.isSeriesItemLabelsVisible(
+                                        series)) {
+                                    selected = decimator.selectItems(this,
+                                            dataset, series, firstItem,
+                                            lastItem, xAxis, dataArea);
+                                }
+                                decimated.setItemIndices(series, selected);
+                            }
+                            int[] indices = decimated.getItemIndices(series);
+                            if (indices != null) {
+                                items = decimated;
+                                firstItem = 0;
+                                lastItem = indices.length - 1;
+                            }
+                        }
+                        state.startSeriesPass(items, series, firstItem,
                                 lastItem, pass, passCount);
+                        if (lastItem >= firstItem) {
+                            drawn += lastItem - firstItem + 1;
+                        }
                         for (int item = firstItem; item <= lastItem; item++) {
                             renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
+                                    this, xAxis, yAxis, items, series, item,
                                     crosshairState, pass);
                         }
-                        state.endSeriesPass(dataset, series, firstItem,
+                        state.endSeriesPass(items, series, firstItem,
                                 lastItem, pass, passCount);
                     }
                 }
@@ -3751,6 +3892,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                     for (int series = 0; series < seriesCount; series++) {
                         int firstItem = 0;
                         int lastItem = dataset.getItemCount(series) - 1;
+                        available += lastItem + 1;
                         if (state.getProcessVisibleItemsOnly()) {
                             int[] itemBounds = RendererUtilities.findLiveItems(
                                     dataset, series, xAxis.getLowerBound(),
@@ -3758,18 +3900,47 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
-                        state.startSeriesPass(dataset, series, firstItem,
+                        XYDataset items = dataset;
+                        if (decimated != null) {
+                            if (pass == 0) {
+                                int[] selected = null;
+                                if (!renderer.isSeriesItemLabelsVisible(
+                                        series)) {
+                                    selected = decimator.selectItems(this,
+                                            dataset, series, firstItem,
+                                            lastItem, xAxis, dataArea);
+                                }
+                                decimated.setItemIndices(series, selected);
+                            }
+                            int[] indices = decimated.getItemIndices(series);
+                            if (indices != null) {
+                                items = decimated;
+                                firstItem = 0;
+                                lastItem = indices.length - 1;
+                            }
+                        }
+                        state.startSeriesPass(items, series, firstItem,
                                 lastItem, pass, passCount);
+                        if (lastItem >= firstItem) {
+                            drawn += lastItem - firstItem + 1;
+                        }
                         for (int item = firstItem; item <= lastItem; item++) {
                             renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
+                                    this, xAxis, yAxis, items, series, item,
                                     crosshairState, pass);
                         }
-                        state.endSeriesPass(dataset, series, firstItem,
+                        state.endSeriesPass(items, series, firstItem,
                                 lastItem, pass, passCount);
                     }
                 }
             }
+            if (sink != null) {
+                sink.recordTime(RenderMetrics.RENDERER_PASS,
+                        System.nanoTime() - start);
+                sink.recordCount(RenderMetrics.ITEMS_DRAWN, drawn);
+                sink.recordCount(RenderMetrics.ITEMS_SKIPPED,
+                        available - drawn);
+            }
         }
         return foundData;
     }
@@ -4365,6 +4536,11 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     }
     
     private int findDomainAxisIndex(ValueAxis axis) {
+        // renderers call this for every item, so check the primary axis
+        // first without creating an iterator
+        if (axis != null && this.domainAxes.get(0) == axis) {
+            return 0;
+        }
         for (Map.Entry<Integer, ValueAxis> entry : this.domainAxes.entrySet()) {
             if (entry.getValue() == axis) {
                 return entry.getKey();
@@ -4396,6 +4572,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     }
 
     private int findRangeAxisIndex(ValueAxis axis) {
+        if (axis != null && this.rangeAxes.get(0) == axis) {
+            return 0;
+        }
         for (Map.Entry<Integer, ValueAxis> entry : this.rangeAxes.entrySet()) {
             if (entry.getValue() == axis) {
                 return entry.getKey();
@@ -4405,7 +4584,26 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     }
 
     /**
-     * Returns the range for the specified axis.
+     * Returns the dataset to read when drawing or finding the data bounds:
+     * a snapshot if the dataset is a {@link ConcurrentDataset} in concurrent
+     * mode, otherwise the dataset itself.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     *
+     * @return The dataset to read (possibly <code>null</code>).
+     */
+    private static XYDataset getSnapshot(XYDataset dataset) {
+        if (dataset instanceof ConcurrentDataset
+                && ((ConcurrentDataset) dataset).isConcurrent()) {
+            return (XYDataset) ((ConcurrentDataset) dataset).getSnapshot();
+        }
+        return dataset;
+    }
+
+    /**
+     * Returns the range for the specified axis.  For a
+     * {@link ConcurrentDataset} in concurrent mode, the range is found from
+     * the same snapshot that {@link #render render()} draws.
      *
      * @param axis  the axis.
      *
@@ -4454,25 +4652,28 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
         // iterate through the datasets that map to the axis and get the union
         // of the ranges.
+        MetricsSink sink = RenderMetrics.getSink();
+        long start = (sink != null ? System.nanoTime() : 0L);
         for (XYDataset d : mappedDatasets) {
             if (d != null) {
                 XYItemRenderer r = getRendererForDataset(d);
+                XYDataset s = getSnapshot(d);
                 if (isDomainAxis) {
                     if (r != null) {
-                        result = Range.combine(result, r.findDomainBounds(d));
+                        result = Range.combine(result, r.findDomainBounds(s));
                     }
                     else {
                         result = Range.combine(result,
-                                DatasetUtilities.findDomainBounds(d));
+                                DatasetUtilities.findDomainBounds(s));
                     }
                 }
                 else {
                     if (r != null) {
-                        result = Range.combine(result, r.findRangeBounds(d));
+                        result = Range.combine(result, r.findRangeBounds(s));
                     }
                     else {
                         result = Range.combine(result,
-                                DatasetUtilities.findRangeBounds(d));
+                                DatasetUtilities.findRangeBounds(s));
                     }
                 }
                 // FIXME: the XYItemRenderer interface doesn't specify the
@@ -4490,6 +4691,10 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 }
             }
         }
+        if (sink != null) {
+            sink.recordTime(RenderMetrics.DATASET_BOUNDS,
+                    System.nanoTime() - start);
+        }
 
         Iterator it = includedAnnotations.iterator();
         while (it.hasNext()) {
@@ -4522,32 +4727,78 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             getParent().annotationChanged(event);
         }
         else {
-            PlotChangeEvent e = new PlotChangeEvent(this);
-            notifyListeners(e);
+            fireLayerChangeEvent(PlotLayer.FOREGROUND);
         }
     }
 
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The axis ranges are updated if necessary.
+     * The axis ranges are updated if necessary.  If the event describes
+     * the items that changed in one of the plot's datasets, only the axes
+     * that the dataset is mapped to are updated (and the domain axes are
+     * left alone when only the y-values changed).
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
-        configureDomainAxes();
-        configureRangeAxes();
+        List<Integer> indices = null;
+        if (event.getType() != SeriesChangeType.STRUCTURE) {
+            indices = new ArrayList<Integer>();
+            for (Map.Entry<Integer, XYDataset> entry
+                    : this.datasets.entrySet()) {
+                if (entry.getValue() != null
+                        && entry.getValue() == event.getDataset()) {
+                    indices.add(entry.getKey());
+                }
+            }
+        }
+        if (indices != null && !indices.isEmpty()) {
+            for (Integer index : indices) {
+                if (event.getType() != SeriesChangeType.UPDATE) {
+                    configureAxes(this.domainAxes,
+                            this.datasetToDomainAxesMap.get(index));
+                }
+                configureAxes(this.rangeAxes,
+                        this.datasetToRangeAxesMap.get(index));
+            }
+        }
+        else {
+            configureDomainAxes();
+            configureRangeAxes();
+        }
         if (getParent() != null) {
             getParent().datasetChanged(event);
         }
         else {
             PlotChangeEvent e = new PlotChangeEvent(this);
             e.setType(ChartChangeEventType.DATASET_UPDATED);
+            e.setDatasetChangeEvent(event);
             notifyListeners(e);
         }
     }
 
+    /**
+     * Configures the axes that a dataset is mapped to.
+     *
+     * @param axes  the domain or range axes.
+     * @param axisIndices  the indices of the axes that the dataset is mapped
+     *     to (<code>null</code> for the primary axis).
+     */
+    private void configureAxes(Map<Integer, ValueAxis> axes,
+            List<Integer> axisIndices) {
+        if (axisIndices == null) {
+            axisIndices = Collections.singletonList(0);
+        }
+        for (Integer axisIndex : axisIndices) {
+            ValueAxis axis = axes.get(axisIndex);
+            if (axis != null) {
+                axis.configure();
+            }
+        }
+    }
+
     /**
      * Receives notification of a renderer change event.
      *
@@ -4587,7 +4838,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setDomainCrosshairVisible(boolean flag) {
         if (this.domainCrosshairVisible != flag) {
             this.domainCrosshairVisible = flag;
-            fireChangeEvent();
+            fireLayerChangeEvent(PlotLayer.FOREGROUND);
         }
     }
 
@@ -4655,7 +4906,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setDomainCrosshairValue(double value, boolean notify) {
         this.domainCrosshairValue = value;
         if (isDomainCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireLayerChangeEvent(PlotLayer.FOREGROUND);
         }
     }
 
@@ -4684,7 +4935,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setDomainCrosshairStroke(Stroke stroke) {
         ParamChecks.nullNotPermitted(stroke, "stroke");
         this.domainCrosshairStroke = stroke;
-        fireChangeEvent();
+        fireLayerChangeEvent(PlotLayer.FOREGROUND);
     }
 
     /**
@@ -4711,7 +4962,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setDomainCrosshairPaint(Paint paint) {
         ParamChecks.nullNotPermitted(paint, "paint");
         this.domainCrosshairPaint = paint;
-        fireChangeEvent();
+        fireLayerChangeEvent(PlotLayer.FOREGROUND);
     }
 
     /**
@@ -4738,7 +4989,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setRangeCrosshairVisible(boolean flag) {
         if (this.rangeCrosshairVisible != flag) {
             this.rangeCrosshairVisible = flag;
-            fireChangeEvent();
+            fireLayerChangeEvent(PlotLayer.FOREGROUND);
         }
     }
 
@@ -4808,7 +5059,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setRangeCrosshairValue(double value, boolean notify) {
         this.rangeCrosshairValue = value;
         if (isRangeCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireLayerChangeEvent(PlotLayer.FOREGROUND);
         }
     }
 
@@ -4837,7 +5088,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setRangeCrosshairStroke(Stroke stroke) {
         ParamChecks.nullNotPermitted(stroke, "stroke");
         this.rangeCrosshairStroke = stroke;
-        fireChangeEvent();
+        fireLayerChangeEvent(PlotLayer.FOREGROUND);
     }
 
     /**
@@ -4864,7 +5115,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setRangeCrosshairPaint(Paint paint) {
         ParamChecks.nullNotPermitted(paint, "paint");
         this.rangeCrosshairPaint = paint;
-        fireChangeEvent();
+        fireLayerChangeEvent(PlotLayer.FOREGROUND);
     }
 
     /**
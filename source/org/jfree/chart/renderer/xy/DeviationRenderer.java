@@ -40,6 +40,8 @@
  * 27-Mar-2009 : Updated findRangeBounds() to call new inherited method (DG);
  * 01-Jul-2012 : Provide initial size for GeneralPath in drawItem(), as 
  *               suggested by Milan Ramaiya in bug 3521736 (DG);
+ * 18-Oct-2026 : Pass the renderer state to drawSecondaryPass();
+ * 18-Oct-2026 : Call drawSecondaryPass() overrides from drawItem();
  * 
  */
 
@@ -360,8 +362,9 @@ public class DeviationRenderer extends XYLineAndShapeRenderer {
                 entities = info.getOwner().getEntityCollection();
             }
 
-            drawSecondaryPass(g2, plot, dataset, pass, series, item,
-                    domainAxis, dataArea, rangeAxis, crosshairState, entities);
+            drawSecondaryPassWithState(state, g2, plot, dataset, pass,
+                    series, item, domainAxis, dataArea, rangeAxis,
+                    crosshairState, entities);
         }
     }
 
@@ -0,0 +1,305 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * MinMaxXYDecimator.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYPyramidDataset;
+import org.jfree.data.xy.XYPyramidIndex;
+import org.jfree.ui.RectangleEdge;
+
+/**
+ * A decimator that reduces each series to at most four items per pixel
+ * column along the domain axis: the first item, the items with the minimum
+ * and maximum y-values, and the last item.  Because the extremes in each
+ * column are retained, a line drawn through the selected items covers
+ * exactly the same pixels as a line drawn through all the items.  Items with
+ * a <code>NaN</code> x- or y-value are always retained, so that gaps in a
+ * series are preserved.
+ * <P>
+ * Decimation only takes place when the dataset reports an ascending domain
+ * order (see {@link XYDataset#getDomainOrder()}) and the number of live
+ * items is at least {@link #getMinimumItemsPerPixel()} times the length of
+ * the data area along the domain axis; otherwise all items are rendered.
+ * <P>
+ * If the dataset is an {@link XYPyramidDataset} with an index for the
+ * series, the index is used to reduce the series to the first, minimum,
+ * maximum and last items of at least two buckets per pixel before the
+ * columns are examined, so the time taken depends on the size of the data
+ * area rather than on the number of items.  In that case the extremes are
+ * exact to within one bucket at each column boundary.
+ * <P>
+ * Instances of this class are immutable.
+ *
+ * @since 1.0.20
+ */
+public class MinMaxXYDecimator implements XYDecimator, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4836241907146318402L;
+
+    /**
+     * The number of items per pixel below which no decimation takes place.
+     */
+    private double minimumItemsPerPixel;
+
+    /**
+     * Creates a new decimator that only decimates series with at least four
+     * items per pixel.
+     */
+    public MinMaxXYDecimator() {
+        this(4.0);
+    }
+
+    /**
+     * Creates a new decimator.
+     *
+     * @param minimumItemsPerPixel  the number of items per pixel below which
+     *     no decimation takes place (must be finite and &gt;= 0).
+     */
+    public MinMaxXYDecimator(double minimumItemsPerPixel) {
+        if (!(minimumItemsPerPixel >= 0.0)
+                || Double.isInfinite(minimumItemsPerPixel)) {
+            throw new IllegalArgumentException(
+                    "Requires 'minimumItemsPerPixel' >= 0.");
+        }
+        this.minimumItemsPerPixel = minimumItemsPerPixel;
+    }
+
+    /**
+     * Returns the number of items per pixel below which no decimation takes
+     * place.
+     *
+     * @return The number of items per pixel.
+     */
+    public double getMinimumItemsPerPixel() {
+        return this.minimumItemsPerPixel;
+    }
+
+    /**
+     * Returns the indices of the items that should be rendered.
+     *
+     * @param plot  the plot (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first live item.
+     * @param lastItem  the index of the last live item.
+     * @param domainAxis  the domain axis (<code>null</code> not permitted).
+     * @param dataArea  the area within which the data is being plotted.
+     *
+     * @return The item indices, or <code>null</code> if all items should be
+     *     rendered.
+     */
+    @Override
+    public int[] selectItems(XYPlot plot, XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis domainAxis,
+            Rectangle2D dataArea) {
+        ParamChecks.nullNotPermitted(plot, "plot");
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(domainAxis, "domainAxis");
+        if (dataset.getDomainOrder() != DomainOrder.ASCENDING) {
+            return null;
+        }
+        RectangleEdge edge = plot.getDomainAxisEdge();
+        double length = RectangleEdge.isTopOrBottom(edge)
+                ? dataArea.getWidth() : dataArea.getHeight();
+        int itemCount = lastItem - firstItem + 1;
+        if (itemCount < 2 || itemCount < length * this.minimumItemsPerPixel) {
+            return null;
+        }
+
+        int[] candidates = null;
+        if (dataset instanceof XYPyramidDataset) {
+            XYPyramidIndex index = ((XYPyramidDataset) dataset)
+                    .getPyramidIndex(series);
+            if (index != null
+                    && index.getItemCount() == dataset.getItemCount(series)) {
+                candidates = index.selectItems(dataset, series, firstItem,
+                        lastItem, 2 * (int) Math.ceil(length));
+            }
+        }
+        int candidateCount = candidates != null ? candidates.length
+                : itemCount;
+
+        int[] result = new int[Math.min(candidateCount, 64)];
+        int count = 0;
+        long column = Long.MIN_VALUE;
+        int first = -1, last = -1, min = -1, max = -1;
+        double minY = 0.0, maxY = 0.0;
+        for (int i = 0; i < candidateCount; i++) {
+            int item = candidates != null ? candidates[i] : firstItem + i;
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                if (first >= 0) {
+                    result = ensureCapacity(result, count + 4);
+                    count = append(result, count, first, min, max, last);
+                    first = -1;
+                }
+                result = ensureCapacity(result, count + 1);
+                result[count++] = item;
+                continue;
+            }
+            long c = (long) Math.floor(domainAxis.valueToJava2D(x, dataArea,
+                    edge));
+            if (first < 0 || c != column) {
+                if (first >= 0) {
+                    result = ensureCapacity(result, count + 4);
+                    count = append(result, count, first, min, max, last);
+                }
+                column = c;
+                first = item;
+                min = item;
+                max = item;
+                minY = y;
+                maxY = y;
+            }
+            else {
+                if (y < minY) {
+                    minY = y;
+                    min = item;
+                }
+                if (y > maxY) {
+                    maxY = y;
+                    max = item;
+                }
+            }
+            last = item;
+        }
+        if (first >= 0) {
+            result = ensureCapacity(result, count + 4);
+            count = append(result, count, first, min, max, last);
+        }
+        if (count == result.length) {
+            return result;
+        }
+        int[] trimmed = new int[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Appends the items selected for one pixel column to an array, in
+     * ascending order and without duplicates.  The caller must ensure that
+     * the array has room for four more items.
+     *
+     * @param array  the array.
+     * @param count  the number of indices already in the array.
+     * @param first  the first item in the column.
+     * @param min  the item with the minimum y-value.
+     * @param max  the item with the maximum y-value.
+     * @param last  the last item in the column.
+     *
+     * @return The new number of indices in the array.
+     */
+    private static int append(int[] array, int count, int first, int min,
+            int max, int last) {
+        // first <= lo <= hi <= last, since items are visited in order
+        int lo = Math.min(min, max);
+        int hi = Math.max(min, max);
+        array[count++] = first;
+        if (lo != first) {
+            array[count++] = lo;
+        }
+        if (hi != lo) {
+            array[count++] = hi;
+        }
+        if (last != hi) {
+            array[count++] = last;
+        }
+        return count;
+    }
+
+    /**
+     * Returns an array with at least the specified capacity, copying the
+     * contents of the existing array if a new array is required.
+     *
+     * @param array  the array.
+     * @param capacity  the required capacity.
+     *
+     * @return An array.
+     */
+    private static int[] ensureCapacity(int[] array, int capacity) {
+        if (capacity <= array.length) {
+            return array;
+        }
+        int[] result = new int[Math.max(capacity, array.length * 2)];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    /**
+     * Tests this decimator for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MinMaxXYDecimator)) {
+            return false;
+        }
+        MinMaxXYDecimator that = (MinMaxXYDecimator) obj;
+        return this.minimumItemsPerPixel == that.minimumItemsPerPixel;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        long bits = Double.doubleToLongBits(this.minimumItemsPerPixel);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+}
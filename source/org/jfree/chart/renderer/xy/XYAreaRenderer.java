@@ -80,6 +80,8 @@
  *               the paint under the series (DG);
  * 06-Oct-2011 : Avoid GeneralPath methods requiring Java 1.5 (MK);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added decimator attribute;
+ * 18-Oct-2026 : Don't use the decimator when shapes are plotted;
  *
  */
 
@@ -116,6 +118,7 @@ import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.GradientPaintTransformer;
 import org.jfree.ui.StandardGradientPaintTransformer;
+import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
 import org.jfree.util.ShapeUtilities;
 
@@ -212,6 +215,14 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
      */
     private GradientPaintTransformer gradientTransformer;
 
+    /**
+     * The decimator used to reduce the number of items rendered for large
+     * series (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    private XYDecimator decimator;
+
     /**
      * Constructs a new renderer.
      */
@@ -400,6 +411,39 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the decimator that is used to reduce the number of items that
+     * are rendered for large series.  The default value is
+     * <code>null</code> (all items are rendered).
+     *
+     * @return The decimator (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     *
+     * @see #setDecimator(XYDecimator)
+     */
+    public XYDecimator getDecimator() {
+        return this.decimator;
+    }
+
+    /**
+     * Sets the decimator that is used to reduce the number of items that are
+     * rendered for large series and sends a {@link RendererChangeEvent} to
+     * all registered listeners.  The decimator is not used when the renderer
+     * plots shapes, and the plot does not apply it when entities are
+     * collected or item labels are visible.
+     *
+     * @param decimator  the decimator (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     *
+     * @see #getDecimator()
+     */
+    public void setDecimator(XYDecimator decimator) {
+        this.decimator = decimator;
+        fireChangeEvent();
+    }
+
     /**
      * Initialises the renderer and returns a state object that should be
      * passed to all subsequent calls to the drawItem() method.
@@ -421,6 +465,10 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         // in the rendering process, there is special handling for item
         // zero, so we can't support processing of visible data items only
         state.setProcessVisibleItemsOnly(false);
+        // the shapes for the items skipped by the decimator would not be drawn
+        if (!this.plotShapes) {
+            state.setDecimator(this.decimator);
+        }
         return state;
     }
 
@@ -733,6 +781,9 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         if (!ShapeUtilities.equal(this.legendArea, that.legendArea)) {
             return false;
         }
+        if (!ObjectUtilities.equal(this.decimator, that.decimator)) {
+            return false;
+        }
         return true;
     }
 
@@ -99,6 +99,8 @@
  * 10-May-2012 : Fix findDomainBounds() and findRangeBounds() to account for
  *               non-visible series (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Reuse a working rectangle for bars when no entities are
+ *               collected;
  *
  */
 
@@ -882,21 +884,25 @@ public class XYBarRenderer extends AbstractXYItemRenderer
             left = left + cut / 2;
         }
 
+        // the bar is only retained if an entity is created for it
+        EntityCollection entities = state.getEntityCollection();
         Rectangle2D bar = null;
         PlotOrientation orientation = plot.getOrientation();
         if (orientation == PlotOrientation.HORIZONTAL) {
             // clip left and right bounds to data area
             bottom = Math.max(bottom, dataArea.getMinX());
             top = Math.min(top, dataArea.getMaxX());
-            bar = new Rectangle2D.Double(
-                bottom, left, top - bottom, translatedWidth);
+            bar = entities != null ? new Rectangle2D.Double()
+                    : state.getWorkingRectangle();
+            bar.setRect(bottom, left, top - bottom, translatedWidth);
         }
         else if (orientation == PlotOrientation.VERTICAL) {
             // clip top and bottom bounds to data area
             bottom = Math.max(bottom, dataArea.getMinY());
             top = Math.min(top, dataArea.getMaxY());
-            bar = new Rectangle2D.Double(left, bottom, translatedWidth,
-                    top - bottom);
+            bar = entities != null ? new Rectangle2D.Double()
+                    : state.getWorkingRectangle();
+            bar.setRect(left, bottom, translatedWidth, top - bottom);
         }
 
         boolean positive = (value1 > 0.0);
@@ -942,7 +948,6 @@ public class XYBarRenderer extends AbstractXYItemRenderer
         updateCrosshairValues(crosshairState, x1, y1, domainAxisIndex,
                 rangeAxisIndex, transX1, transY1, plot.getOrientation());
 
-        EntityCollection entities = state.getEntityCollection();
         if (entities != null) {
             addEntity(entities, bar, dataset, series, item, 0.0, 0.0);
         }
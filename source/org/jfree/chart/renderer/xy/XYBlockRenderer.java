@@ -41,16 +41,28 @@
  * 07-Apr-2008 : Added entity collection code (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added an option to draw regular grids as a single image, and
+ *               reuse the block outline stroke;
+ * 18-Oct-2026 : Use TaskUtils;
  *
  */
 
 package org.jfree.chart.renderer.xy;
 
 import java.awt.BasicStroke;
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.Stroke;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
@@ -62,11 +74,15 @@ import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.TaskUtils;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.HeatMapDataset;
+import org.jfree.data.general.HeatMapXYZDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYZDataset;
 import org.jfree.ui.RectangleAnchor;
+import org.jfree.ui.RectangleEdge;
 import org.jfree.util.PublicCloneable;
 
 /**
@@ -78,6 +94,14 @@ import org.jfree.util.PublicCloneable;
  * <br><br>
  * <img src="../../../../../images/XYBlockRendererSample.png"
  * alt="XYBlockRendererSample.png">
+ * <P>
+ * For large grids, the renderer can draw each series as a single image (see
+ * {@link #setDrawAsImage(boolean)}).  This is used when the items in a
+ * series form a regular grid: the x-values and y-values are evenly spaced
+ * with a spacing equal to the block width and height, and the items are
+ * ordered by x then y, or by y then x (as in a
+ * {@link org.jfree.data.general.HeatMapXYZDataset}).  Other series are drawn
+ * block by block.
  *
  * @since 1.0.4
  */
@@ -109,6 +133,29 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
     /** The paint scale. */
     private PaintScale paintScale;
 
+    /**
+     * A flag that controls whether regular grids are drawn as a single
+     * image.
+     *
+     * @since 1.0.20
+     */
+    private boolean drawAsImage;
+
+    /** The stroke used to draw the block outlines. */
+    private static final Stroke BLOCK_OUTLINE_STROKE = new BasicStroke(1.0f);
+
+    /**
+     * The number of colors in the lookup table that is used to draw the
+     * grid images.
+     */
+    static final int COLOR_TABLE_SIZE = 1024;
+
+    /**
+     * The minimum number of pixels filled by each task when a grid image is
+     * filled in parallel.
+     */
+    static final int MIN_PIXELS_PER_TASK = 65536;
+
     /**
      * Creates a new <code>XYBlockRenderer</code> instance with default
      * attributes.
@@ -233,6 +280,44 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether series that form a regular
+     * grid are drawn as a single image.  The default value is
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setDrawAsImage(boolean)
+     * @since 1.0.20
+     */
+    public boolean getDrawAsImage() {
+        return this.drawAsImage;
+    }
+
+    /**
+     * Sets the flag that controls whether series that form a regular grid
+     * are drawn as a single image, and sends a {@link RendererChangeEvent}
+     * to all registered listeners.
+     * <P>
+     * Drawing an image is much faster than drawing the blocks for large
+     * grids, but there are some differences in the output: each pixel
+     * takes the color of the block at its center (the blocks are not
+     * outlined or anti-aliased), and the z-values between the lower and
+     * upper bounds of the paint scale are mapped to colors through a lookup
+     * table with 1024 entries (so a boundary in a {@link LookupPaintScale}
+     * may be shifted by up to 1/1024 of the scale's range).  Paints that
+     * are not instances of <code>Color</code> are drawn as transparent.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #getDrawAsImage()
+     * @since 1.0.20
+     */
+    public void setDrawAsImage(boolean flag) {
+        this.drawAsImage = flag;
+        fireChangeEvent();
+    }
+
     /**
      * Updates the offsets to take into account the block width, height and
      * anchor.
@@ -328,6 +413,27 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Initialises the renderer and returns a state object that should be
+     * passed to all subsequent calls to the drawItem() method.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param data  the data.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset data, PlotRenderingInfo info) {
+        return new State(info);
+    }
+
     /**
      * Draws the block representing the specified item.
      *
@@ -350,6 +456,31 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
             ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
             int series, int item, CrosshairState crosshairState, int pass) {
 
+        if (state instanceof State) {
+            State s = (State) state;
+            if (!s.gridChecked) {
+                s.gridChecked = true;
+                if (this.drawAsImage && dataset instanceof XYZDataset) {
+                    s.grid = Grid.find((XYZDataset) dataset, series,
+                            this.blockWidth, this.blockHeight);
+                    if (s.grid != null) {
+                        drawGridImage(g2, s, dataArea, plot, domainAxis,
+                                rangeAxis, (XYZDataset) dataset, series);
+                    }
+                }
+            }
+            if (s.grid != null) {
+                // the image has been drawn, only the entity is required
+                EntityCollection entities = state.getEntityCollection();
+                if (entities != null) {
+                    addEntity(entities, s.getBlock(item,
+                            plot.getOrientation()), dataset, series, item,
+                            0.0, 0.0);
+                }
+                return;
+            }
+        }
+
         double x = dataset.getXValue(series, item);
         double y = dataset.getYValue(series, item);
         double z = 0.0;
@@ -379,7 +510,7 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         }
         g2.setPaint(p);
         g2.fill(block);
-        g2.setStroke(new BasicStroke(1.0f));
+        g2.setStroke(BLOCK_OUTLINE_STROKE);
         g2.draw(block);
 
         EntityCollection entities = state.getEntityCollection();
@@ -389,6 +520,481 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Draws a series that forms a regular grid as a single image.  Each
+     * pixel takes the color of the block at its center.  The pixels are
+     * filled in bands of rows, on the calling thread and on the common
+     * fork-join pool when there are enough pixels.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state (the grid has been found).
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     */
+    private void drawGridImage(Graphics2D g2, State state,
+            Rectangle2D dataArea, XYPlot plot, ValueAxis domainAxis,
+            ValueAxis rangeAxis, final XYZDataset dataset, final int series) {
+        final Grid grid = state.grid;
+        RectangleEdge domainEdge = plot.getDomainAxisEdge();
+        RectangleEdge rangeEdge = plot.getRangeAxisEdge();
+        state.xEdges = new double[grid.xCount + 1];
+        for (int i = 0; i <= grid.xCount; i++) {
+            state.xEdges[i] = domainAxis.valueToJava2D(grid.x0 + this.xOffset
+                    + i * grid.dx, dataArea, domainEdge);
+        }
+        state.yEdges = new double[grid.yCount + 1];
+        for (int i = 0; i <= grid.yCount; i++) {
+            state.yEdges[i] = rangeAxis.valueToJava2D(grid.y0 + this.yOffset
+                    + i * grid.dy, dataArea, rangeEdge);
+        }
+        final boolean horizontal
+                = plot.getOrientation() == PlotOrientation.HORIZONTAL;
+        double[] hEdges = horizontal ? state.yEdges : state.xEdges;
+        double[] vEdges = horizontal ? state.xEdges : state.yEdges;
+        int ix0 = (int) Math.floor(Math.max(dataArea.getMinX(),
+                Math.min(hEdges[0], hEdges[hEdges.length - 1])));
+        int ix1 = (int) Math.ceil(Math.min(dataArea.getMaxX(),
+                Math.max(hEdges[0], hEdges[hEdges.length - 1])));
+        int iy0 = (int) Math.floor(Math.max(dataArea.getMinY(),
+                Math.min(vEdges[0], vEdges[vEdges.length - 1])));
+        int iy1 = (int) Math.ceil(Math.min(dataArea.getMaxY(),
+                Math.max(vEdges[0], vEdges[vEdges.length - 1])));
+        final int w = ix1 - ix0;
+        final int h = iy1 - iy0;
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+        final int[] hCells = findCells(hEdges, ix0, w);
+        final int[] vCells = findCells(vEdges, iy0, h);
+        final ColorTable colors = new ColorTable(this.paintScale);
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        final int[] pixels = ((DataBufferInt) image.getRaster()
+                .getDataBuffer()).getData();
+        int tasks = Math.min(ForkJoinPool.getCommonPoolParallelism() + 1,
+                w * h / MIN_PIXELS_PER_TASK);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int t = 1; t < tasks; t++) {
+            final int start = h * t / tasks;
+            final int end = h * (t + 1) / tasks;
+            Callable<Object> task = new Callable<Object>() {
+                @Override
+                public Object call() {
+                    fillRows(pixels, w, start, end, hCells, vCells,
+                            horizontal, grid, colors, dataset, series);
+                    return null;
+                }
+            };
+            futures.add(ForkJoinPool.commonPool().submit(task));
+        }
+        fillRows(pixels, w, 0, h / Math.max(tasks, 1), hCells, vCells,
+                horizontal, grid, colors, dataset, series);
+        for (Future<?> future : futures) {
+            TaskUtils.getResult(future);
+        }
+        g2.drawImage(image, ix0, iy0, null);
+    }
+
+    /**
+     * Fills a band of rows in a grid image.
+     *
+     * @param pixels  the image pixels.
+     * @param w  the image width.
+     * @param start  the first row.
+     * @param end  the row after the last row.
+     * @param hCells  the grid cell for each column of pixels (-1 for none).
+     * @param vCells  the grid cell for each row of pixels (-1 for none).
+     * @param horizontal  <code>true</code> if the plot orientation is
+     *     horizontal.
+     * @param grid  the grid.
+     * @param colors  the colors.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     */
+    private static void fillRows(int[] pixels, int w, int start, int end,
+            int[] hCells, int[] vCells, boolean horizontal, Grid grid,
+            ColorTable colors, XYZDataset dataset, int series) {
+        for (int py = start; py < end; py++) {
+            int v = vCells[py];
+            if (v < 0) {
+                continue;
+            }
+            int offset = py * w;
+            for (int px = 0; px < w; px++) {
+                int h = hCells[px];
+                if (h < 0) {
+                    continue;
+                }
+                int item = horizontal ? grid.getItem(v, h)
+                        : grid.getItem(h, v);
+                pixels[offset + px] = colors.getARGB(
+                        dataset.getZValue(series, item));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the grid cell at the center of each pixel in a
+     * row or column of pixels.
+     *
+     * @param edges  the Java2D coordinates of the cell edges (in ascending
+     *     or descending order).
+     * @param origin  the coordinate of the first pixel.
+     * @param length  the number of pixels.
+     *
+     * @return The cell indices (-1 for pixels that are not in a cell).
+     */
+    static int[] findCells(double[] edges, int origin, int length) {
+        int[] result = new int[length];
+        int n = edges.length - 1;
+        boolean ascending = edges[n] >= edges[0];
+        int k = ascending ? 0 : n - 1;
+        for (int p = 0; p < length; p++) {
+            double center = origin + p + 0.5;
+            if (ascending) {
+                while (k < n && center >= edges[k + 1]) {
+                    k++;
+                }
+                result[p] = (k < n && center >= edges[k]) ? k : -1;
+            }
+            else {
+                while (k >= 0 && center >= edges[k]) {
+                    k--;
+                }
+                result[p] = (k >= 0 && center >= edges[k + 1]) ? k : -1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The state for the renderer, which records the grid (if any) for the
+     * series that is being drawn.
+     */
+    private static class State extends XYItemRendererState {
+
+        /** A flag that indicates whether the grid has been looked for. */
+        boolean gridChecked;
+
+        /**
+         * The grid for the current series, or <code>null</code> if the
+         * series is drawn block by block.
+         */
+        Grid grid;
+
+        /** The Java2D coordinates of the x-edges of the grid cells. */
+        double[] xEdges;
+
+        /** The Java2D coordinates of the y-edges of the grid cells. */
+        double[] yEdges;
+
+        /**
+         * Creates a new state.
+         *
+         * @param info  the plot rendering info.
+         */
+        State(PlotRenderingInfo info) {
+            super(info);
+        }
+
+        @Override
+        public void startSeriesPass(XYDataset dataset, int series,
+                int firstItem, int lastItem, int pass, int passCount) {
+            super.startSeriesPass(dataset, series, firstItem, lastItem, pass,
+                    passCount);
+            this.gridChecked = false;
+            this.grid = null;
+        }
+
+        /**
+         * Returns the block for an item in the grid, calculated from the
+         * cell edges.
+         *
+         * @param item  the item index.
+         * @param orientation  the plot orientation.
+         *
+         * @return The block.
+         */
+        Rectangle2D getBlock(int item, PlotOrientation orientation) {
+            int xIndex = this.grid.getXIndex(item);
+            int yIndex = this.grid.getYIndex(item);
+            double xx0 = this.xEdges[xIndex];
+            double xx1 = this.xEdges[xIndex + 1];
+            double yy0 = this.yEdges[yIndex];
+            double yy1 = this.yEdges[yIndex + 1];
+            if (orientation == PlotOrientation.HORIZONTAL) {
+                return new Rectangle2D.Double(Math.min(yy0, yy1),
+                        Math.min(xx0, xx1), Math.abs(yy1 - yy0),
+                        Math.abs(xx1 - xx0));
+            }
+            return new Rectangle2D.Double(Math.min(xx0, xx1),
+                    Math.min(yy0, yy1), Math.abs(xx1 - xx0),
+                    Math.abs(yy1 - yy0));
+        }
+
+    }
+
+    /**
+     * A regular grid of items in a series.
+     */
+    static final class Grid {
+
+        /** The relative tolerance for the x- and y-values. */
+        private static final double TOLERANCE = 1.0E-6;
+
+        /** The number of x-values. */
+        final int xCount;
+
+        /** The number of y-values. */
+        final int yCount;
+
+        /** The first x-value. */
+        final double x0;
+
+        /** The spacing of the x-values. */
+        final double dx;
+
+        /** The first y-value. */
+        final double y0;
+
+        /** The spacing of the y-values. */
+        final double dy;
+
+        /**
+         * <code>true</code> if the items are ordered by y then x (the
+         * x-index varies fastest), <code>false</code> if they are ordered
+         * by x then y.
+         */
+        final boolean xFastest;
+
+        /**
+         * Creates a grid.
+         *
+         * @param xCount  the number of x-values.
+         * @param yCount  the number of y-values.
+         * @param x0  the first x-value.
+         * @param dx  the spacing of the x-values.
+         * @param y0  the first y-value.
+         * @param dy  the spacing of the y-values.
+         * @param xFastest  the item order.
+         */
+        Grid(int xCount, int yCount, double x0, double dx, double y0,
+                double dy, boolean xFastest) {
+            this.xCount = xCount;
+            this.yCount = yCount;
+            this.x0 = x0;
+            this.dx = dx;
+            this.y0 = y0;
+            this.dy = dy;
+            this.xFastest = xFastest;
+        }
+
+        /**
+         * Returns the item index for a cell.
+         *
+         * @param xIndex  the x-index.
+         * @param yIndex  the y-index.
+         *
+         * @return The item index.
+         */
+        int getItem(int xIndex, int yIndex) {
+            return this.xFastest ? yIndex * this.xCount + xIndex
+                    : xIndex * this.yCount + yIndex;
+        }
+
+        /**
+         * Returns the x-index for an item.
+         *
+         * @param item  the item index.
+         *
+         * @return The x-index.
+         */
+        int getXIndex(int item) {
+            return this.xFastest ? item % this.xCount : item / this.yCount;
+        }
+
+        /**
+         * Returns the y-index for an item.
+         *
+         * @param item  the item index.
+         *
+         * @return The y-index.
+         */
+        int getYIndex(int item) {
+            return this.xFastest ? item / this.xCount : item % this.yCount;
+        }
+
+        /**
+         * Returns the grid formed by the items in a series, or
+         * <code>null</code> if the items do not form a regular grid with
+         * the given spacing.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param width  the block width (the required x-spacing).
+         * @param height  the block height (the required y-spacing).
+         *
+         * @return The grid (possibly <code>null</code>).
+         */
+        static Grid find(XYZDataset dataset, int series, double width,
+                double height) {
+            if (dataset instanceof HeatMapXYZDataset) {
+                return find(((HeatMapXYZDataset) dataset).getHeatMap(), width,
+                        height);
+            }
+            int n = dataset.getItemCount(series);
+            if (n == 0) {
+                return null;
+            }
+            double x0 = dataset.getXValue(series, 0);
+            double y0 = dataset.getYValue(series, 0);
+            boolean xFastest;
+            int inner = 1;
+            if (n == 1) {
+                xFastest = true;
+            }
+            else if (dataset.getXValue(series, 1) == x0) {
+                xFastest = false;
+                while (inner < n && dataset.getXValue(series, inner) == x0) {
+                    inner++;
+                }
+            }
+            else if (dataset.getYValue(series, 1) == y0) {
+                xFastest = true;
+                while (inner < n && dataset.getYValue(series, inner) == y0) {
+                    inner++;
+                }
+            }
+            else {
+                return null;
+            }
+            int outer = n / inner;
+            if (inner * outer != n) {
+                return null;
+            }
+            Grid grid = xFastest
+                    ? new Grid(inner, outer, x0, width, y0, height, true)
+                    : new Grid(outer, inner, x0, width, y0, height, false);
+            for (int i = 0; i < n; i++) {
+                double x = x0 + grid.getXIndex(i) * width;
+                double y = y0 + grid.getYIndex(i) * height;
+                if (!(Math.abs(dataset.getXValue(series, i) - x)
+                        <= TOLERANCE * width)) {
+                    return null;
+                }
+                if (!(Math.abs(dataset.getYValue(series, i) - y)
+                        <= TOLERANCE * height)) {
+                    return null;
+                }
+            }
+            return grid;
+        }
+
+        /**
+         * Returns the grid for a heat map (the items are ordered by x then
+         * y, as in a {@link HeatMapXYZDataset}), or <code>null</code> if the
+         * spacing of the x-values and y-values does not match the block
+         * size.
+         *
+         * @param heatMap  the heat map.
+         * @param width  the block width (the required x-spacing).
+         * @param height  the block height (the required y-spacing).
+         *
+         * @return The grid (possibly <code>null</code>).
+         */
+        static Grid find(HeatMapDataset heatMap, double width,
+                double height) {
+            int xCount = heatMap.getXSampleCount();
+            int yCount = heatMap.getYSampleCount();
+            double x0 = heatMap.getXValue(0);
+            double y0 = heatMap.getYValue(0);
+            if (xCount > 1 && !(Math.abs(heatMap.getXValue(xCount - 1) - x0
+                    - (xCount - 1) * width) <= TOLERANCE * width)) {
+                return null;
+            }
+            if (yCount > 1 && !(Math.abs(heatMap.getYValue(yCount - 1) - y0
+                    - (yCount - 1) * height) <= TOLERANCE * height)) {
+                return null;
+            }
+            return new Grid(xCount, yCount, x0, width, y0, height, false);
+        }
+
+    }
+
+    /**
+     * A table of ARGB colors for a paint scale.  The values between the
+     * lower and upper bounds of the scale are looked up in a table with
+     * {@link #COLOR_TABLE_SIZE} entries, other values are passed to the
+     * scale.
+     */
+    private static final class ColorTable {
+
+        /** The paint scale. */
+        private final PaintScale scale;
+
+        /** The lower bound of the scale. */
+        private final double lower;
+
+        /** The upper bound of the scale. */
+        private final double upper;
+
+        /** The number of table entries per unit value. */
+        private final double factor;
+
+        /** The colors. */
+        private final int[] colors;
+
+        /**
+         * Creates a color table.
+         *
+         * @param scale  the paint scale.
+         */
+        ColorTable(PaintScale scale) {
+            this.scale = scale;
+            this.lower = scale.getLowerBound();
+            this.upper = scale.getUpperBound();
+            double range = this.upper - this.lower;
+            this.factor = (range > 0.0 ? COLOR_TABLE_SIZE / range : 0.0);
+            this.colors = new int[COLOR_TABLE_SIZE];
+            for (int i = 0; i < COLOR_TABLE_SIZE; i++) {
+                this.colors[i] = toARGB(scale.getPaint(this.lower
+                        + (i + 0.5) / COLOR_TABLE_SIZE * range));
+            }
+        }
+
+        /**
+         * Returns the color for a value.
+         *
+         * @param value  the value.
+         *
+         * @return The color (in ARGB format).
+         */
+        int getARGB(double value) {
+            if (this.factor > 0.0 && value >= this.lower
+                    && value <= this.upper) {
+                int i = (int) ((value - this.lower) * this.factor);
+                return this.colors[Math.min(i, COLOR_TABLE_SIZE - 1)];
+            }
+            return toARGB(this.scale.getPaint(value));
+        }
+
+        /**
+         * Returns the ARGB value for a paint.
+         *
+         * @param paint  the paint.
+         *
+         * @return The ARGB value (zero if the paint is not a color).
+         */
+        private static int toARGB(Paint paint) {
+            return (paint instanceof Color ? ((Color) paint).getRGB() : 0);
+        }
+
+    }
+
     /**
      * Tests this <code>XYBlockRenderer</code> for equality with an arbitrary
      * object.  This method returns <code>true</code> if and only if:
@@ -424,6 +1030,9 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         if (!this.paintScale.equals(that.paintScale)) {
             return false;
         }
+        if (this.drawAsImage != that.drawAsImage) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -0,0 +1,87 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * XYDecimator.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An object that selects a subset of the items in a series for rendering,
+ * so that very large series can be drawn in time proportional to the size
+ * of the plot rather than to the number of items.  The {@link XYPlot} calls
+ * the decimator (if the renderer state supplies one) after it has found the
+ * range of live items in a series and before it passes the items to the
+ * renderer.
+ * <P>
+ * Implementations should be immutable, or at least cloneable and
+ * serializable, since they are typically stored as a renderer attribute.
+ *
+ * @see XYItemRendererState#getDecimator()
+ * @see MinMaxXYDecimator
+ *
+ * @since 1.0.20
+ */
+public interface XYDecimator {
+
+    /**
+     * Returns the indices of the items in the range
+     * <code>firstItem</code> to <code>lastItem</code> (inclusive) that should
+     * be passed to the renderer, in ascending order.  A <code>null</code>
+     * result indicates that every item in the range should be rendered.
+     *
+     * @param plot  the plot (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first live item.
+     * @param lastItem  the index of the last live item.
+     * @param domainAxis  the domain axis (<code>null</code> not permitted).
+     * @param dataArea  the area within which the data is being plotted.
+     *
+     * @return The item indices (possibly <code>null</code>).
+     */
+    public int[] selectItems(XYPlot plot, XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis domainAxis,
+            Rectangle2D dataArea);
+
+}
@@ -43,12 +43,20 @@
  *               Ulrich Voigt (DG);
  * 19-Sep-2008 : Added first and last item indices, based on patch by Greg
  *               Darke (DG);
+ * 18-Oct-2026 : Added decimator attribute;
+ * 18-Oct-2026 : Added working shapes for allocation-free rendering;
  *
  */
 
 package org.jfree.chart.renderer.xy;
 
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
 
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
@@ -88,6 +96,35 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * The decimator that the plot uses to reduce the items passed to the
+     * renderer (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    private XYDecimator decimator;
+
+    /**
+     * A rectangle that the renderer can reuse (<code>null</code> until
+     * required).
+     *
+     * @since 1.0.20
+     */
+    private Rectangle2D workingRectangle;
+
+    /**
+     * The working shapes returned by
+     * {@link #getTranslatedShape(Shape, double, double)} (<code>null</code>
+     * until required).
+     */
+    private Ellipse2D translatedEllipse;
+
+    /** See translatedEllipse. */
+    private Path2D translatedPath;
+
+    /** A transform used to translate general shapes. */
+    private AffineTransform workingTransform;
+
     /**
      * Creates a new state.
      *
@@ -126,6 +163,113 @@ public class XYItemRendererState extends RendererState {
         this.processVisibleItemsOnly = flag;
     }
 
+    /**
+     * Returns the decimator that the plot should use to select the items
+     * that are passed to the renderer.  The default value is
+     * <code>null</code> (all items are passed to the renderer).
+     *
+     * @return The decimator (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     *
+     * @see #setDecimator(XYDecimator)
+     */
+    public XYDecimator getDecimator() {
+        return this.decimator;
+    }
+
+    /**
+     * Sets the decimator that the plot should use to select the items that
+     * are passed to the renderer.
+     *
+     * @param decimator  the decimator (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     *
+     * @see #getDecimator()
+     */
+    public void setDecimator(XYDecimator decimator) {
+        this.decimator = decimator;
+    }
+
+    /**
+     * Returns a rectangle that the renderer can reuse for each item, to
+     * save instantiating a lot of objects.  The rectangle must not be
+     * retained (for example, in a chart entity) after the item is drawn.
+     *
+     * @return The rectangle (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public Rectangle2D getWorkingRectangle() {
+        if (this.workingRectangle == null) {
+            this.workingRectangle = new Rectangle2D.Double();
+        }
+        return this.workingRectangle;
+    }
+
+    /**
+     * Returns a shape that is the specified shape translated by
+     * <code>(transX, transY)</code>, to save instantiating a new shape for
+     * each item.  Rectangles and ellipses are copied into a working object
+     * without allocating, other shapes are copied into a working path
+     * (rectangles are also returned as a path, since that is what
+     * {@link org.jfree.util.ShapeUtilities#createTranslatedShape(Shape,
+     * double, double)} returns, and Java2D draws the two slightly
+     * differently).  The
+     * result is only valid until the next call to this method, so it must
+     * not be retained (for example, in a chart entity) - use
+     * {@link org.jfree.util.ShapeUtilities#createTranslatedShape(Shape,
+     * double, double)} for that.
+     *
+     * @param shape  the shape (<code>null</code> not permitted).
+     * @param transX  the x translation (in Java2D space).
+     * @param transY  the y translation (in Java2D space).
+     *
+     * @return The translated shape (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public Shape getTranslatedShape(Shape shape, double transX,
+            double transY) {
+        if (shape instanceof Ellipse2D) {
+            Ellipse2D e = (Ellipse2D) shape;
+            if (this.translatedEllipse == null) {
+                this.translatedEllipse = new Ellipse2D.Double();
+            }
+            this.translatedEllipse.setFrame(e.getX() + transX,
+                    e.getY() + transY, e.getWidth(), e.getHeight());
+            return this.translatedEllipse;
+        }
+        if (this.translatedPath == null) {
+            this.translatedPath = new Path2D.Double();
+            this.workingTransform = new AffineTransform();
+        }
+        if (shape instanceof Rectangle2D) {
+            // the same segments as the path iterator for a rectangle
+            Rectangle2D r = (Rectangle2D) shape;
+            double x0 = r.getX() + transX;
+            double y0 = r.getY() + transY;
+            double x1 = (r.getX() + r.getWidth()) + transX;
+            double y1 = (r.getY() + r.getHeight()) + transY;
+            this.translatedPath.reset();
+            this.translatedPath.setWindingRule(Path2D.WIND_NON_ZERO);
+            this.translatedPath.moveTo(x0, y0);
+            this.translatedPath.lineTo(x1, y0);
+            this.translatedPath.lineTo(x1, y1);
+            this.translatedPath.lineTo(x0, y1);
+            this.translatedPath.lineTo(x0, y0);
+            this.translatedPath.closePath();
+            return this.translatedPath;
+        }
+        this.workingTransform.setToTranslation(transX, transY);
+        PathIterator iterator = shape.getPathIterator(this.workingTransform);
+        this.translatedPath.reset();
+        this.translatedPath.setWindingRule(iterator.getWindingRule());
+        this.translatedPath.append(iterator, false);
+        return this.translatedPath;
+    }
+
     /**
      * Returns the first item index (this is updated with each call to
      * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
@@ -67,6 +67,12 @@
  * 18-May-2009 : Clip lines in drawPrimaryLine() (DG);
  * 05-Jul-2012 : Removed JDK 1.3.1 code (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added decimator attribute;
+ * 18-Oct-2026 : Reuse a working shape for items when no entities are
+ *               collected;
+ * 18-Oct-2026 : Call drawSecondaryPass() overrides from drawItem();
+ * 18-Oct-2026 : Pass the renderer state to a drawSecondaryPass() overload;
+ * 18-Oct-2026 : Don't use the decimator when shapes are visible;
  *
  */
 
@@ -191,6 +197,22 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * The decimator used to reduce the number of items rendered for large
+     * series (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    private XYDecimator decimator;
+
+    /**
+     * A flag that records whether the class of this renderer overrides
+     * {@link #drawSecondaryPass(Graphics2D, XYPlot, XYDataset, int, int,
+     * int, ValueAxis, Rectangle2D, ValueAxis, CrosshairState,
+     * EntityCollection)} (<code>null</code> until it is first required).
+     */
+    private transient Boolean secondaryPassOverridden;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -254,6 +276,40 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns the decimator that is used to reduce the number of items that
+     * are rendered for large series.  The default value is
+     * <code>null</code> (all items are rendered).
+     *
+     * @return The decimator (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     *
+     * @see #setDecimator(XYDecimator)
+     */
+    public XYDecimator getDecimator() {
+        return this.decimator;
+    }
+
+    /**
+     * Sets the decimator that is used to reduce the number of items that are
+     * rendered for large series and sends a {@link RendererChangeEvent} to
+     * all registered listeners.  The decimator is not used when shapes are
+     * visible for any series (the shapes for the skipped items would not be
+     * drawn), and the plot does not apply it when entities are collected or
+     * item labels are visible.
+     *
+     * @param decimator  the decimator (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     *
+     * @see #getDecimator()
+     */
+    public void setDecimator(XYDecimator decimator) {
+        this.decimator = decimator;
+        fireChangeEvent();
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart.  Most charts will require a single pass, but
@@ -859,7 +915,35 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
     @Override
     public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
             XYPlot plot, XYDataset data, PlotRenderingInfo info) {
-        return new State(info);
+        State state = new State(info);
+        if (!getShapesVisible(data)) {
+            state.setDecimator(this.decimator);
+        }
+        return state;
+    }
+
+    /**
+     * Returns <code>true</code> if shapes are visible for any visible series
+     * in the dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    private boolean getShapesVisible(XYDataset dataset) {
+        if (dataset == null) {
+            return false;
+        }
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            if (!isSeriesVisible(series)) {
+                continue;
+            }
+            Boolean flag = getSeriesShapesVisible(series);
+            if (flag != null ? flag.booleanValue() : this.baseShapesVisible) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -913,9 +997,85 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                 entities = info.getOwner().getEntityCollection();
             }
 
+            drawSecondaryPassWithState(state, g2, plot, dataset, pass,
+                    series, item, domainAxis, dataArea, rangeAxis,
+                    crosshairState, entities);
+        }
+    }
+
+    /**
+     * Draws the item shape with {@link #drawSecondaryPass(
+     * XYItemRendererState, Graphics2D, XYPlot, XYDataset, int, int, int,
+     * ValueAxis, Rectangle2D, ValueAxis, CrosshairState, EntityCollection)},
+     * or with {@link #drawSecondaryPass(Graphics2D, XYPlot, XYDataset, int,
+     * int, int, ValueAxis, Rectangle2D, ValueAxis, CrosshairState,
+     * EntityCollection)} if a subclass overrides that method.
+     *
+     * @param state  the renderer state.
+     * @param g2  the graphics device.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param pass  the pass.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param domainAxis  the domain axis.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param rangeAxis  the range axis.
+     * @param crosshairState  the crosshair state.
+     * @param entities  the entity collection.
+     */
+    void drawSecondaryPassWithState(XYItemRendererState state,
+            Graphics2D g2, XYPlot plot, XYDataset dataset, int pass,
+            int series, int item, ValueAxis domainAxis, Rectangle2D dataArea,
+            ValueAxis rangeAxis, CrosshairState crosshairState,
+            EntityCollection entities) {
+        if (isSecondaryPassOverridden()) {
             drawSecondaryPass(g2, plot, dataset, pass, series, item,
-                    domainAxis, dataArea, rangeAxis, crosshairState, entities);
+                    domainAxis, dataArea, rangeAxis, crosshairState,
+                    entities);
+        }
+        else {
+            drawSecondaryPass(state, g2, plot, dataset, pass, series, item,
+                    domainAxis, dataArea, rangeAxis, crosshairState,
+                    entities);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the class of this renderer overrides
+     * {@link #drawSecondaryPass(Graphics2D, XYPlot, XYDataset, int, int,
+     * int, ValueAxis, Rectangle2D, ValueAxis, CrosshairState,
+     * EntityCollection)}.  The result is found once for each renderer.
+     *
+     * @return A boolean.
+     */
+    private boolean isSecondaryPassOverridden() {
+        Boolean result = this.secondaryPassOverridden;
+        if (result == null) {
+            result = Boolean.FALSE;
+            Class c = getClass();
+            while (c != XYLineAndShapeRenderer.class) {
+                try {
+                    c.getDeclaredMethod("drawSecondaryPass", Graphics2D.class,
+                            XYPlot.class, XYDataset.class, int.class,
+                            int.class, int.class, ValueAxis.class,
+                            Rectangle2D.class, ValueAxis.class,
+                            CrosshairState.class, EntityCollection.class);
+                    result = Boolean.TRUE;
+                    break;
+                }
+                catch (NoSuchMethodException e) {
+                    c = c.getSuperclass();
+                }
+                catch (SecurityException e) {
+                    // assume an override, it is always safe to call it
+                    result = Boolean.TRUE;
+                    break;
+                }
+            }
+            this.secondaryPassOverridden = result;
         }
+        return result.booleanValue();
     }
 
     /**
@@ -1114,6 +1274,43 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             XYDataset dataset, int pass, int series, int item,
             ValueAxis domainAxis, Rectangle2D dataArea, ValueAxis rangeAxis,
             CrosshairState crosshairState, EntityCollection entities) {
+        drawSecondaryPass(null, g2, plot, dataset, pass, series, item,
+                domainAxis, dataArea, rangeAxis, crosshairState, entities);
+    }
+
+    /**
+     * Draws the item shapes and adds chart entities (second pass), as
+     * {@link #drawSecondaryPass(Graphics2D, XYPlot, XYDataset, int, int,
+     * int, ValueAxis, Rectangle2D, ValueAxis, CrosshairState,
+     * EntityCollection)} does.  If <code>entities</code> is
+     * <code>null</code> and a renderer state is supplied, the item shape is
+     * translated into a working shape held by the state, so that the renderer
+     * creates no objects for the item (Java2D still creates a path iterator
+     * each time the shape is filled or drawn).  This is the method called by
+     * <code>drawItem()</code>, unless a subclass overrides the other
+     * <code>drawSecondaryPass()</code> method.
+     *
+     * @param state  the renderer state (<code>null</code> permitted).
+     * @param g2  the graphics device.
+     * @param plot  the plot (can be used to obtain standard color
+     *              information etc).
+     * @param dataset  the dataset.
+     * @param pass  the pass.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param domainAxis  the domain axis.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param rangeAxis  the range axis.
+     * @param crosshairState  the crosshair state.
+     * @param entities the entity collection.
+     *
+     * @since 1.0.20
+     */
+    protected void drawSecondaryPass(XYItemRendererState state,
+            Graphics2D g2, XYPlot plot, XYDataset dataset, int pass,
+            int series, int item, ValueAxis domainAxis, Rectangle2D dataArea,
+            ValueAxis rangeAxis, CrosshairState crosshairState,
+            EntityCollection entities) {
 
         Shape entityArea = null;
 
@@ -1132,13 +1329,17 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
 
         if (getItemShapeVisible(series, item)) {
             Shape shape = getItemShape(series, item);
+            double dx = transX1;
+            double dy = transY1;
             if (orientation == PlotOrientation.HORIZONTAL) {
-                shape = ShapeUtilities.createTranslatedShape(shape, transY1,
-                        transX1);
+                dx = transY1;
+                dy = transX1;
+            }
+            if (entities == null && state != null) {
+                shape = state.getTranslatedShape(shape, dx, dy);
             }
-            else if (orientation == PlotOrientation.VERTICAL) {
-                shape = ShapeUtilities.createTranslatedShape(shape, transX1,
-                        transY1);
+            else {
+                shape = ShapeUtilities.createTranslatedShape(shape, dx, dy);
             }
             entityArea = shape;
             if (shape.intersects(dataArea)) {
@@ -1344,6 +1545,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.drawSeriesLineAsPath != that.drawSeriesLineAsPath) {
             return false;
         }
+        if (!ObjectUtilities.equal(this.decimator, that.decimator)) {
+            return false;
+        }
         return true;
     }
 
@@ -0,0 +1,409 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * HistogramMetricsSink.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MetricsSink} that aggregates the values recorded for each metric
+ * in a histogram with power-of-two buckets.  The sink is thread-safe and
+ * uses a fixed amount of memory per metric, so it can be installed as the
+ * default sink in a long-running server and the results written out (with
+ * {@link #writeReport(Writer)}) on demand.
+ *
+ * @since 1.0.20
+ */
+public class HistogramMetricsSink implements MetricsSink {
+
+    /** The histograms, keyed by metric name. */
+    private final ConcurrentMap<String, Histogram> histograms;
+
+    /**
+     * Creates a new sink.
+     */
+    public HistogramMetricsSink() {
+        this.histograms = new ConcurrentHashMap<String, Histogram>();
+    }
+
+    /**
+     * Records the time taken by a phase of the drawing.
+     *
+     * @param name  the metric name (<code>null</code> not permitted).
+     * @param nanos  the elapsed time in nanoseconds.
+     */
+    @Override
+    public void recordTime(String name, long nanos) {
+        getOrCreate(name, true).record(nanos);
+    }
+
+    /**
+     * Records a count.
+     *
+     * @param name  the metric name (<code>null</code> not permitted).
+     * @param count  the count.
+     */
+    @Override
+    public void recordCount(String name, long count) {
+        getOrCreate(name, false).record(count);
+    }
+
+    /**
+     * Returns the histogram for a metric, creating it if necessary.
+     *
+     * @param name  the metric name.
+     * @param time  a flag that indicates whether the metric is a time.
+     *
+     * @return The histogram.
+     */
+    private Histogram getOrCreate(String name, boolean time) {
+        Histogram h = this.histograms.get(name);
+        if (h == null) {
+            Histogram created = new Histogram(name, time);
+            h = this.histograms.putIfAbsent(name, created);
+            if (h == null) {
+                h = created;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Returns the names of the metrics that have been recorded, in
+     * ascending order.
+     *
+     * @return The names (never <code>null</code>).
+     */
+    public List<String> getNames() {
+        List<String> result = new ArrayList<String>(this.histograms.keySet());
+        Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns a copy of the histogram for a metric.
+     *
+     * @param name  the metric name (<code>null</code> not permitted).
+     *
+     * @return The histogram, or <code>null</code> if nothing has been
+     *     recorded for the metric.
+     */
+    public Histogram getHistogram(String name) {
+        ParamChecks.nullNotPermitted(name, "name");
+        Histogram h = this.histograms.get(name);
+        return (h != null ? h.copy() : null);
+    }
+
+    /**
+     * Discards all the recorded values.
+     */
+    public void reset() {
+        this.histograms.clear();
+    }
+
+    /**
+     * Writes a report with one line per metric (the count, total, minimum,
+     * mean, 50th, 90th and 99th percentiles and maximum, with times in
+     * microseconds).
+     *
+     * @param writer  the writer (<code>null</code> not permitted).
+     */
+    public void writeReport(Writer writer) {
+        ParamChecks.nullNotPermitted(writer, "writer");
+        PrintWriter out = new PrintWriter(writer);
+        for (String name : getNames()) {
+            Histogram h = getHistogram(name);
+            if (h != null) {
+                out.println(h.toString());
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the report written by {@link #writeReport(Writer)}.
+     *
+     * @return The report.
+     */
+    @Override
+    public String toString() {
+        StringWriter writer = new StringWriter();
+        writeReport(writer);
+        return writer.toString();
+    }
+
+    /**
+     * A histogram of the values recorded for one metric.  Bucket 0 counts
+     * the values less than 1, and bucket <code>i</code> (for
+     * <code>i &gt; 0</code>) counts the values <code>v</code> with
+     * <code>2<sup>i-1</sup> &lt;= v &lt; 2<sup>i</sup></code>.
+     */
+    public static final class Histogram {
+
+        /** The number of buckets. */
+        public static final int BUCKET_COUNT = 64;
+
+        /** The metric name. */
+        private final String name;
+
+        /** A flag that indicates whether the values are times. */
+        private final boolean time;
+
+        /** The bucket counts. */
+        private final long[] buckets;
+
+        /** The number of values. */
+        private long count;
+
+        /** The sum of the values. */
+        private long total;
+
+        /** The smallest value. */
+        private long minimum;
+
+        /** The largest value. */
+        private long maximum;
+
+        /**
+         * Creates a new empty histogram.
+         *
+         * @param name  the metric name.
+         * @param time  a flag that indicates whether the values are times.
+         */
+        Histogram(String name, boolean time) {
+            this.name = name;
+            this.time = time;
+            this.buckets = new long[BUCKET_COUNT];
+            this.minimum = Long.MAX_VALUE;
+            this.maximum = Long.MIN_VALUE;
+        }
+
+        /**
+         * Adds a value to the histogram.
+         *
+         * @param value  the value.
+         */
+        synchronized void record(long value) {
+            int bucket = value < 1L ? 0 : 64 - Long.numberOfLeadingZeros(value);
+            this.buckets[Math.min(bucket, BUCKET_COUNT - 1)]++;
+            this.count++;
+            this.total += value;
+            this.minimum = Math.min(this.minimum, value);
+            this.maximum = Math.max(this.maximum, value);
+        }
+
+        /**
+         * Returns a copy of this histogram.
+         *
+         * @return A copy.
+         */
+        synchronized Histogram copy() {
+            Histogram result = new Histogram(this.name, this.time);
+            System.arraycopy(this.buckets, 0, result.buckets, 0,
+                    BUCKET_COUNT);
+            result.count = this.count;
+            result.total = this.total;
+            result.minimum = this.minimum;
+            result.maximum = this.maximum;
+            return result;
+        }
+
+        /**
+         * Returns the metric name.
+         *
+         * @return The metric name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Returns <code>true</code> if the values are times (in nanoseconds)
+         * and <code>false</code> if they are counts.
+         *
+         * @return A boolean.
+         */
+        public boolean isTime() {
+            return this.time;
+        }
+
+        /**
+         * Returns the number of values recorded.
+         *
+         * @return The number of values.
+         */
+        public synchronized long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the sum of the values recorded.
+         *
+         * @return The sum.
+         */
+        public synchronized long getTotal() {
+            return this.total;
+        }
+
+        /**
+         * Returns the smallest value recorded.
+         *
+         * @return The smallest value (<code>Long.MAX_VALUE</code> if no
+         *     values have been recorded).
+         */
+        public synchronized long getMinimum() {
+            return this.minimum;
+        }
+
+        /**
+         * Returns the largest value recorded.
+         *
+         * @return The largest value (<code>Long.MIN_VALUE</code> if no
+         *     values have been recorded).
+         */
+        public synchronized long getMaximum() {
+            return this.maximum;
+        }
+
+        /**
+         * Returns the mean of the values recorded.
+         *
+         * @return The mean (<code>Double.NaN</code> if no values have been
+         *     recorded).
+         */
+        public synchronized double getMean() {
+            if (this.count == 0) {
+                return Double.NaN;
+            }
+            return (double) this.total / this.count;
+        }
+
+        /**
+         * Returns the number of values in a bucket.
+         *
+         * @param bucket  the bucket index (in the range <code>0</code> to
+         *     <code>BUCKET_COUNT - 1</code>).
+         *
+         * @return The number of values.
+         */
+        public synchronized long getBucketCount(int bucket) {
+            return this.buckets[bucket];
+        }
+
+        /**
+         * Returns an estimate of a percentile of the values recorded: the
+         * upper limit of the bucket that contains the percentile, but no
+         * more than the largest value recorded.
+         *
+         * @param percent  the percentile (in the range 0 to 100).
+         *
+         * @return The estimate (<code>0</code> if no values have been
+         *     recorded).
+         */
+        public synchronized long getPercentile(double percent) {
+            if (this.count == 0) {
+                return 0L;
+            }
+            long target = (long) Math.ceil(this.count * percent / 100.0);
+            long cumulative = 0L;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                cumulative += this.buckets[i];
+                if (cumulative >= target && cumulative > 0) {
+                    long upper = i == 0 ? 0L : (i == BUCKET_COUNT - 1
+                            ? Long.MAX_VALUE : (1L << i) - 1L);
+                    return Math.max(Math.min(upper, this.maximum),
+                            this.minimum);
+                }
+            }
+            return this.maximum;
+        }
+
+        /**
+         * Returns a one-line summary of the histogram.
+         *
+         * @return A string.
+         */
+        @Override
+        public synchronized String toString() {
+            StringBuilder sb = new StringBuilder(this.name);
+            sb.append(": count=").append(this.count);
+            if (this.count > 0) {
+                sb.append(", total=").append(format(this.total));
+                sb.append(", min=").append(format(this.minimum));
+                sb.append(", mean=").append(format(getMean()));
+                sb.append(", p50=").append(format(getPercentile(50.0)));
+                sb.append(", p90=").append(format(getPercentile(90.0)));
+                sb.append(", p99=").append(format(getPercentile(99.0)));
+                sb.append(", max=").append(format(this.maximum));
+            }
+            if (this.time) {
+                sb.append(" (us)");
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Formats a value for {@link #toString()}, converting times to
+         * microseconds.
+         *
+         * @param value  the value.
+         *
+         * @return The formatted value.
+         */
+        private String format(double value) {
+            if (this.time) {
+                return String.valueOf(Math.round(value / 100.0) / 10.0);
+            }
+            if (value == Math.rint(value)) {
+                return String.valueOf((long) value);
+            }
+            return String.valueOf(Math.round(value * 10.0) / 10.0);
+        }
+
+    }
+
+}
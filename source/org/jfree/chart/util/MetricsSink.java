@@ -0,0 +1,75 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * MetricsSink.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+/**
+ * A receiver for the timings and counts recorded while charts are drawn
+ * and encoded.  See {@link RenderMetrics} for the names of the metrics
+ * that JFreeChart records and for how a sink is installed.
+ * <P>
+ * Implementations must be thread-safe if they are shared between charts
+ * that are drawn on different threads, and should be fast, because they
+ * are called from within the drawing code.
+ *
+ * @see HistogramMetricsSink
+ *
+ * @since 1.0.20
+ */
+public interface MetricsSink {
+
+    /**
+     * Records the time taken by a phase of the drawing.
+     *
+     * @param name  the metric name (never <code>null</code>).
+     * @param nanos  the elapsed time in nanoseconds.
+     */
+    public void recordTime(String name, long nanos);
+
+    /**
+     * Records a count (for example, the number of items drawn in a renderer
+     * pass).
+     *
+     * @param name  the metric name (never <code>null</code>).
+     * @param count  the count.
+     */
+    public void recordCount(String name, long count);
+
+}
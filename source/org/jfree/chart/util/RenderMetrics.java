@@ -0,0 +1,201 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * RenderMetrics.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Static methods for installing a {@link MetricsSink} and the names of the
+ * metrics that JFreeChart records in it.
+ * <P>
+ * A sink can be installed in three ways:
+ * <ul>
+ * <li>for a single chart, with
+ *     {@link org.jfree.chart.JFreeChart#setMetricsSink(MetricsSink)} - the
+ *     sink is bound to the drawing thread while the chart is drawn;</li>
+ * <li>for a block of code on the current thread, with
+ *     {@link #bind(MetricsSink)} and {@link #unbind(MetricsSink)} (for
+ *     example, to include the image encoding when a chart is written with
+ *     {@link org.jfree.chart.ChartUtilities});</li>
+ * <li>for everything else, with {@link #setDefaultSink(MetricsSink)}.</li>
+ * </ul>
+ * When no sink is installed, the cost of the instrumentation is a volatile
+ * read at the start of each instrumented method.
+ *
+ * @since 1.0.20
+ */
+public final class RenderMetrics {
+
+    /** The time to draw a chart (see JFreeChart.draw()). */
+    public static final String CHART_DRAW = "chart.draw";
+
+    /** The time to lay out and draw the chart titles and legends. */
+    public static final String CHART_TITLES = "chart.titles";
+
+    /** The time to draw a chart's plot (axes and data). */
+    public static final String PLOT_DRAW = "plot.draw";
+
+    /** The time to find the data bounds for an axis. */
+    public static final String DATASET_BOUNDS = "dataset.bounds";
+
+    /** The time to calculate the ticks for an axis. */
+    public static final String AXIS_TICKS = "axis.ticks";
+
+    /** The number of ticks calculated for an axis. */
+    public static final String AXIS_TICK_COUNT = "axis.tickCount";
+
+    /** The time to draw one dataset with its renderer (all passes). */
+    public static final String RENDERER_PASS = "renderer.pass";
+
+    /**
+     * The number of calls to the renderer's drawItem() method when drawing
+     * one dataset (all passes).
+     */
+    public static final String ITEMS_DRAWN = "renderer.itemsDrawn";
+
+    /**
+     * The number of items that were not passed to the renderer when drawing
+     * one dataset (because they were outside the visible range or removed
+     * by a decimator), summed over all passes.
+     */
+    public static final String ITEMS_SKIPPED = "renderer.itemsSkipped";
+
+    /** The number of entities created when drawing a chart. */
+    public static final String ENTITIES_CREATED = "chart.entities";
+
+    /** The time to encode an image (see EncoderUtil). */
+    public static final String ENCODE = "encoder.encode";
+
+    /** The size in bytes of an encoded image (when returned as an array). */
+    public static final String ENCODED_BYTES = "encoder.bytes";
+
+    /** The sink used when no sink is bound to the current thread. */
+    private static volatile MetricsSink defaultSink;
+
+    /** The number of sinks bound to threads (on all threads). */
+    private static final AtomicInteger BOUND_COUNT = new AtomicInteger();
+
+    /** The sink bound to each thread. */
+    private static final ThreadLocal<MetricsSink> BOUND_SINK
+            = new ThreadLocal<MetricsSink>();
+
+    private RenderMetrics() {
+        // no requirement to instantiate
+    }
+
+    /**
+     * Returns the sink for metrics recorded on the current thread.  This is
+     * the sink bound to the thread, if there is one, and otherwise the
+     * default sink.
+     *
+     * @return The sink (<code>null</code> if metrics are not being
+     *     recorded).
+     */
+    public static MetricsSink getSink() {
+        if (BOUND_COUNT.get() > 0) {
+            MetricsSink sink = BOUND_SINK.get();
+            if (sink != null) {
+                return sink;
+            }
+        }
+        return defaultSink;
+    }
+
+    /**
+     * Returns the default sink.
+     *
+     * @return The default sink (possibly <code>null</code>).
+     *
+     * @see #setDefaultSink(MetricsSink)
+     */
+    public static MetricsSink getDefaultSink() {
+        return defaultSink;
+    }
+
+    /**
+     * Sets the sink that receives the metrics recorded on threads that do
+     * not have a sink bound to them.
+     *
+     * @param sink  the sink (<code>null</code> permitted, switches off
+     *     recording).
+     */
+    public static void setDefaultSink(MetricsSink sink) {
+        defaultSink = sink;
+    }
+
+    /**
+     * Binds a sink to the current thread, so that it receives the metrics
+     * recorded on this thread until {@link #unbind(MetricsSink)} is called.
+     * Calls can be nested, and each call must be matched by a call to
+     * <code>unbind()</code> (normally in a <code>finally</code> block) with
+     * the value returned by this method.
+     *
+     * @param sink  the sink (<code>null</code> not permitted).
+     *
+     * @return The sink previously bound to the thread (possibly
+     *     <code>null</code>).
+     */
+    public static MetricsSink bind(MetricsSink sink) {
+        ParamChecks.nullNotPermitted(sink, "sink");
+        MetricsSink previous = BOUND_SINK.get();
+        BOUND_SINK.set(sink);
+        BOUND_COUNT.incrementAndGet();
+        return previous;
+    }
+
+    /**
+     * Restores the sink that was bound to the current thread before the
+     * matching call to {@link #bind(MetricsSink)}.
+     *
+     * @param previous  the value returned by <code>bind()</code>
+     *     (<code>null</code> permitted).
+     */
+    public static void unbind(MetricsSink previous) {
+        if (previous == null) {
+            BOUND_SINK.remove();
+        }
+        else {
+            BOUND_SINK.set(previous);
+        }
+        BOUND_COUNT.decrementAndGet();
+    }
+
+}
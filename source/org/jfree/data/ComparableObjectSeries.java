@@ -37,18 +37,23 @@
  * 19-Oct-2006 : New class (DG);
  * 31-Oct-2007 : Implemented faster hashCode() (DG);
  * 27-Nov-2007 : Changed clear() from protected to public (DG);
+ * 18-Oct-2026 : Added addAll(List);
  *
  */
 
 package org.jfree.data;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.jfree.chart.util.ParamChecks;
 
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.util.ObjectUtilities;
 
@@ -203,6 +208,66 @@ public class ComparableObjectSeries extends Series
         add(item, notify);
     }
 
+    /**
+     * Adds a list of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  For a sorted
+     * series, the new items are sorted and then merged with the existing
+     * items in one pass, which is much faster than adding a large number of
+     * items one at a time.
+     *
+     * @param items  the {@link ComparableObjectItem} instances to add
+     *     (<code>null</code> not permitted).  The items are not copied.
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series
+     *     (in which case no items are added).
+     *
+     * @since 1.0.20
+     */
+    protected void addAll(List items) {
+        ParamChecks.nullNotPermitted(items, "items");
+        int count = items.size();
+        if (count == 0) {
+            return;
+        }
+        boolean appended;
+        if (this.autoSort) {
+            appended = addAllSorted(this.data, new ArrayList(items),
+                    this.allowDuplicateXValues);
+        }
+        else {
+            if (!this.allowDuplicateXValues) {
+                Set xValues = new HashSet();
+                for (int i = 0; i < this.data.size(); i++) {
+                    ComparableObjectItem item
+                            = (ComparableObjectItem) this.data.get(i);
+                    xValues.add(item.getComparable());
+                }
+                for (int i = 0; i < count; i++) {
+                    ComparableObjectItem item
+                            = (ComparableObjectItem) items.get(i);
+                    if (!xValues.add(item.getComparable())) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            this.data.addAll(items);
+            appended = true;
+        }
+        int excess = this.data.size() - this.maximumItemCount;
+        if (excess > 0) {
+            this.data.subList(0, excess).clear();
+        }
+        int size = this.data.size();
+        if (appended && size > 0) {
+            fireSeriesChanged(SeriesChangeType.APPEND,
+                    size - Math.min(count, size), size - 1);
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
     /**
      * Adds a data item to the series and, if requested, sends a
      * {@link SeriesChangeEvent} to all registered listeners.
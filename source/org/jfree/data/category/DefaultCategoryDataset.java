@@ -43,6 +43,7 @@
  * 26-Feb-2007 : Updated API docs (DG);
  * 08-Mar-2007 : Implemented clone() (DG);
  * 09-May-2008 : Implemented PublicCloneable (DG);
+ * 18-Oct-2026 : Send typed change events when existing values change;
  *
  */
 
@@ -55,6 +56,7 @@ import org.jfree.data.DefaultKeyedValues2D;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.AbstractDataset;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.util.PublicCloneable;
 
 /**
@@ -229,8 +231,10 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void addValue(Number value, Comparable rowKey,
                          Comparable columnKey) {
+        int row = this.data.getRowIndex(rowKey);
+        int column = this.data.getColumnIndex(columnKey);
         this.data.addValue(value, rowKey, columnKey);
-        fireDatasetChanged();
+        fireValueChanged(row, column);
     }
 
     /**
@@ -259,8 +263,30 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void setValue(Number value, Comparable rowKey,
                          Comparable columnKey) {
+        int row = this.data.getRowIndex(rowKey);
+        int column = this.data.getColumnIndex(columnKey);
         this.data.setValue(value, rowKey, columnKey);
-        fireDatasetChanged();
+        fireValueChanged(row, column);
+    }
+
+    /**
+     * Sends a {@link DatasetChangeEvent} to all registered listeners after a
+     * value has been added or updated.  If the row and column already
+     * existed, the event describes an update to that one item, otherwise it
+     * describes a structural change.
+     *
+     * @param row  the row index before the change (negative if the row key
+     *     was not defined).
+     * @param column  the column index before the change (negative if the
+     *     column key was not defined).
+     */
+    private void fireValueChanged(int row, int column) {
+        if (row >= 0 && column >= 0) {
+            fireDatasetChanged(row, SeriesChangeType.UPDATE, column, column);
+        }
+        else {
+            fireDatasetChanged();
+        }
     }
 
     /**
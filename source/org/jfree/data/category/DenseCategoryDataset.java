@@ -0,0 +1,795 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * DenseCategoryDataset.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link CategoryDataset} that stores its values in a single
+ * <code>double[]</code> matrix, with hash maps from the row and column keys
+ * to their indices.  Compared with {@link DefaultCategoryDataset}, values
+ * can be looked up by key or by index in constant time, and a large table
+ * uses far less memory (8 bytes per cell instead of a boxed
+ * <code>Number</code> plus list and map entries).
+ * <P>
+ * A missing value is stored as <code>Double.NaN</code>, so
+ * {@link #getValue(int, int)} returns <code>null</code> for cells that
+ * were never set, were set to <code>null</code> or were set to
+ * <code>Double.NaN</code>.  Values are returned as <code>Double</code>
+ * instances, whatever type of <code>Number</code> was added.
+ *
+ * @since 1.0.20
+ */
+public class DenseCategoryDataset extends AbstractDataset
+        implements CategoryDataset, CategoryRangeInfo, RangeInfo,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2417328712376439416L;
+
+    /** The row keys. */
+    private List rowKeys;
+
+    /** The column keys. */
+    private List columnKeys;
+
+    /** A map from row keys to row indices (<code>Integer</code>). */
+    private Map rowIndices;
+
+    /** A map from column keys to column indices (<code>Integer</code>). */
+    private Map columnIndices;
+
+    /**
+     * The values, in row-major order with {@link #stride} cells per row
+     * (missing values are <code>Double.NaN</code>).
+     */
+    private double[] values;
+
+    /** The number of columns allocated for each row. */
+    private int stride;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DenseCategoryDataset() {
+        this(8, 8);
+    }
+
+    /**
+     * Creates a new (empty) dataset with space for the given number of rows
+     * and columns, which avoids copying the values as the table grows.
+     *
+     * @param rowCapacity  the initial row capacity.
+     * @param columnCapacity  the initial column capacity.
+     */
+    public DenseCategoryDataset(int rowCapacity, int columnCapacity) {
+        ParamChecks.requireNonNegative(rowCapacity, "rowCapacity");
+        ParamChecks.requireNonNegative(columnCapacity, "columnCapacity");
+        this.rowKeys = new ArrayList(rowCapacity);
+        this.columnKeys = new ArrayList(columnCapacity);
+        this.rowIndices = new HashMap();
+        this.columnIndices = new HashMap();
+        this.stride = Math.max(1, columnCapacity);
+        this.values = new double[Math.max(1, rowCapacity) * this.stride];
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @see #getDoubleValue(int, int)
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        double v = getDoubleValue(row, column);
+        return Double.isNaN(v) ? null : new Double(v);
+    }
+
+    /**
+     * Returns a value from the table as a primitive, which avoids creating
+     * a <code>Number</code>.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> if the value is missing).
+     */
+    public double getDoubleValue(int row, int column) {
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + column);
+        }
+        return this.values[row * this.stride + column];
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     */
+    @Override
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index, or -1 if the key is not defined.
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public int getRowIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer index = (Integer) this.rowIndices.get(key);
+        return index != null ? index.intValue() : -1;
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (in an unmodifiable list).
+     */
+    @Override
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    @Override
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index, or -1 if the key is not defined.
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public int getColumnIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        Integer index = (Integer) this.columnIndices.get(key);
+        return index != null ? index.intValue() : -1;
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (in an unmodifiable list).
+     */
+    @Override
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    @Override
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  Performs the
+     * same function as {@link #setValue(Number, Comparable, Comparable)}.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  If the row
+     * and column already exist, the event describes an update of that one
+     * item, otherwise it describes a structural change.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int row = getRowIndex(rowKey);
+        int column = getColumnIndex(columnKey);
+        boolean existing = row >= 0 && column >= 0;
+        if (column < 0) {
+            column = addColumn(columnKey);
+        }
+        if (row < 0) {
+            row = addRow(rowKey);
+        }
+        this.values[row * this.stride + column] = value;
+        if (existing) {
+            fireDatasetChanged(row, SeriesChangeType.UPDATE, column, column);
+        }
+        else {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Adds the specified value to an existing value in the dataset (if the
+     * existing value is <code>null</code>, it is treated as if it were 0.0).
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void incrementValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        Number n = getValue(rowKey, columnKey);
+        double existing = n != null ? n.doubleValue() : 0.0;
+        setValue(existing + value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds a row (with all values missing), growing the matrix if required.
+     *
+     * @param key  the row key.
+     *
+     * @return The new row index.
+     */
+    private int addRow(Comparable key) {
+        int row = this.rowKeys.size();
+        ensureCapacity(row + 1, this.stride);
+        Arrays.fill(this.values, row * this.stride,
+                (row + 1) * this.stride, Double.NaN);
+        this.rowKeys.add(key);
+        this.rowIndices.put(key, new Integer(row));
+        return row;
+    }
+
+    /**
+     * Adds a column (with all values missing), growing the matrix if
+     * required.
+     *
+     * @param key  the column key.
+     *
+     * @return The new column index.
+     */
+    private int addColumn(Comparable key) {
+        int column = this.columnKeys.size();
+        if (column == this.stride) {
+            ensureCapacity(Math.max(1, this.rowKeys.size()), this.stride * 2);
+        }
+        int rowCount = this.rowKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            this.values[r * this.stride + column] = Double.NaN;
+        }
+        this.columnKeys.add(key);
+        this.columnIndices.put(key, new Integer(column));
+        return column;
+    }
+
+    /**
+     * Makes sure the matrix has room for the given number of rows and
+     * columns per row.
+     *
+     * @param rows  the number of rows required.
+     * @param columns  the number of columns per row required.
+     */
+    private void ensureCapacity(int rows, int columns) {
+        int newStride = Math.max(this.stride, columns);
+        if (newStride == this.stride && rows * this.stride
+                <= this.values.length) {
+            return;
+        }
+        int rowCapacity = this.values.length / this.stride;
+        if (rows > rowCapacity) {
+            rowCapacity = Math.max(rows, rowCapacity * 2);
+        }
+        double[] v = new double[rowCapacity * newStride];
+        int columnCount = this.columnKeys.size();
+        int rowCount = this.rowKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            System.arraycopy(this.values, r * this.stride, v, r * newStride,
+                    columnCount);
+        }
+        this.values = v;
+        this.stride = newStride;
+    }
+
+    /**
+     * Removes a value from the dataset (the value is set to missing) and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.
+     * Rows and columns that contain no values afterwards are removed, as
+     * in {@link DefaultCategoryDataset}.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        getValue(rowKey, columnKey);  // checks the keys
+        int row = getRowIndex(rowKey);
+        int column = getColumnIndex(columnKey);
+        this.values[row * this.stride + column] = Double.NaN;
+        boolean rowEmpty = true;
+        for (int c = 0; c < this.columnKeys.size() && rowEmpty; c++) {
+            rowEmpty = Double.isNaN(this.values[row * this.stride + c]);
+        }
+        if (rowEmpty) {
+            deleteRow(row);
+        }
+        boolean columnEmpty = true;
+        for (int r = 0; r < this.rowKeys.size() && columnEmpty; r++) {
+            columnEmpty = Double.isNaN(this.values[r * this.stride + column]);
+        }
+        if (columnEmpty) {
+            deleteColumn(column);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowIndex  the row index.
+     *
+     * @see #removeColumn(int)
+     */
+    public void removeRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + rowIndex);
+        }
+        deleteRow(rowIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>rowKey</code> is not defined in
+     *         the dataset.
+     *
+     * @see #removeColumn(Comparable)
+     */
+    public void removeRow(Comparable rowKey) {
+        int index = getRowIndex(rowKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+        removeRow(index);
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnIndex  the column index.
+     *
+     * @see #removeRow(int)
+     */
+    public void removeColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + columnIndex);
+        }
+        deleteColumn(columnIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>columnKey</code> is not defined
+     *         in the dataset.
+     *
+     * @see #removeRow(Comparable)
+     */
+    public void removeColumn(Comparable columnKey) {
+        int index = getColumnIndex(columnKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        removeColumn(index);
+    }
+
+    /**
+     * Removes a row without sending an event, shifting the following rows
+     * up.
+     *
+     * @param row  the row index.
+     */
+    private void deleteRow(int row) {
+        int rowCount = this.rowKeys.size();
+        System.arraycopy(this.values, (row + 1) * this.stride, this.values,
+                row * this.stride, (rowCount - row - 1) * this.stride);
+        this.rowIndices.remove(this.rowKeys.remove(row));
+        reindex(this.rowKeys, this.rowIndices, row);
+    }
+
+    /**
+     * Removes a column without sending an event, shifting the following
+     * columns to the left in each row.
+     *
+     * @param column  the column index.
+     */
+    private void deleteColumn(int column) {
+        int columnCount = this.columnKeys.size();
+        int rowCount = this.rowKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            int start = r * this.stride + column;
+            System.arraycopy(this.values, start + 1, this.values, start,
+                    columnCount - column - 1);
+        }
+        this.columnIndices.remove(this.columnKeys.remove(column));
+        reindex(this.columnKeys, this.columnIndices, column);
+    }
+
+    /**
+     * Updates the index map for the keys from the given position onwards.
+     *
+     * @param keys  the keys.
+     * @param indices  the map from keys to indices.
+     * @param start  the first index to update.
+     */
+    private static void reindex(List keys, Map indices, int start) {
+        for (int i = start; i < keys.size(); i++) {
+            indices.put(keys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Clears all data from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        this.rowIndices.clear();
+        this.columnIndices.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double[] minMax = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int r = 0; r < this.rowKeys.size(); r++) {
+            scanRow(r, minMax);
+        }
+        return toRange(minMax);
+    }
+
+    /**
+     * Returns the range of the values in the visible rows.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series (rows)
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  ignored, this dataset has no intervals.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        double[] minMax = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            int r = getRowIndex((Comparable) iterator.next());
+            if (r >= 0) {
+                scanRow(r, minMax);
+            }
+        }
+        return toRange(minMax);
+    }
+
+    /**
+     * Updates a minimum and maximum with the values in one row.
+     *
+     * @param row  the row index.
+     * @param minMax  the minimum and maximum so far.
+     */
+    private void scanRow(int row, double[] minMax) {
+        double min = minMax[0];
+        double max = minMax[1];
+        int start = row * this.stride;
+        int end = start + this.columnKeys.size();
+        for (int i = start; i < end; i++) {
+            double v = this.values[i];
+            // NaN fails both tests
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+        }
+        minMax[0] = min;
+        minMax[1] = max;
+    }
+
+    /**
+     * Converts a minimum and maximum to a range.
+     *
+     * @param minMax  the minimum and maximum.
+     *
+     * @return The range (<code>null</code> if no value was found).
+     */
+    private static Range toRange(double[] minMax) {
+        if (minMax[0] > minMax[1]) {
+            return null;
+        }
+        return new Range(minMax[0], minMax[1]);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        CategoryDataset that = (CategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = getValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DenseCategoryDataset clone = (DenseCategoryDataset) super.clone();
+        clone.rowKeys = new ArrayList(this.rowKeys);
+        clone.columnKeys = new ArrayList(this.columnKeys);
+        clone.rowIndices = new HashMap(this.rowIndices);
+        clone.columnIndices = new HashMap(this.columnIndices);
+        clone.values = (double[]) this.values.clone();
+        return clone;
+    }
+
+}
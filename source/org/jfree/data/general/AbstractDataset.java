@@ -55,6 +55,8 @@
  * 03-Jul-2013 : Use ParamChecks (DG);
  * 21-Nov-2013 : Added notify flag to allow suppressing change events 
  *               temporarily (DG);
+ * 18-Oct-2026 : Added beginBatch() and endBatch();
+ * 18-Oct-2026 : Added fireDatasetChanged(int, SeriesChangeType, int, int);
  *
  */
 
@@ -95,6 +97,12 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /**
+     * The change events collected while a batch is in progress (at other
+     * times this is <code>null</code>).
+     */
+    private transient ChangeBatch batch;
+
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own
      * group.
@@ -217,7 +225,87 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Notifies all registered listeners that some items in the dataset have
+     * changed, provided that the <code>notify</code> flag has not been set
+     * to <code>false</code>.  The event carries the kind of change and the
+     * affected items, so that listeners can avoid examining every item in
+     * the dataset.
+     *
+     * @param series  the series index (<code>-1</code> if the change is not
+     *     confined to one series).
+     * @param type  the kind of change (<code>null</code> not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     *
+     * @see #fireDatasetChanged()
+     *
+     * @since 1.0.20
+     */
+    protected void fireDatasetChanged(int series, SeriesChangeType type,
+            int firstItem, int lastItem) {
+        if (this.notify) {
+            notifyListeners(new DatasetChangeEvent(this, this, series, type,
+                    firstItem, lastItem));
+        }
+    }
+
+    /**
+     * Starts a batch of changes to the dataset.  Until the matching call to
+     * {@link #endBatch()}, change events are not sent to registered
+     * listeners; instead a single event describing all the changes is sent
+     * when the batch ends.  Batches can be nested, in which case the event
+     * is sent when the outermost batch ends.
+     *
+     * @see #endBatch()
+     *
+     * @since 1.0.20
+     */
+    public void beginBatch() {
+        if (this.batch == null) {
+            this.batch = new ChangeBatch();
+        }
+        else {
+            this.batch.begin();
+        }
+    }
+
+    /**
+     * Ends a batch of changes to the dataset started by
+     * {@link #beginBatch()}.  If this ends the outermost batch and the
+     * dataset changed during the batch, a single {@link DatasetChangeEvent}
+     * is sent to all registered listeners.  Appends to consecutive items in
+     * one series, and updates to one series, are reported with the combined
+     * item range, other combinations of changes are reported as
+     * {@link SeriesChangeType#STRUCTURE} changes.
+     *
+     * @throws IllegalStateException if there is no batch in progress.
+     *
+     * @see #beginBatch()
+     *
+     * @since 1.0.20
+     */
+    public void endBatch() {
+        if (this.batch == null) {
+            throw new IllegalStateException("No batch in progress.");
+        }
+        if (!this.batch.end()) {
+            return;
+        }
+        ChangeBatch b = this.batch;
+        this.batch = null;
+        if (b.getEventCount() == 1) {
+            sendEvent((DatasetChangeEvent) b.getFirstEvent());
+        }
+        else if (b.getEventCount() > 1) {
+            sendEvent(new DatasetChangeEvent(this, this, b.getSeries(),
+                    b.getType(), b.getFirstItem(), b.getLastItem()));
+        }
+    }
+
+    /**
+     * Notifies all registered listeners that the dataset has changed.  While
+     * a batch is in progress, the event is collected and a single event is
+     * sent when the batch ends.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
@@ -226,6 +314,20 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        if (this.batch != null) {
+            this.batch.add(event, event.getSeries(), event.getType(),
+                    event.getFirstItem(), event.getLastItem());
+            return;
+        }
+        sendEvent(event);
+    }
+
+    /**
+     * Sends an event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void sendEvent(DatasetChangeEvent event) {
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -249,6 +351,7 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.batch = null;
         return clone;
     }
 
@@ -39,6 +39,7 @@
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 04-Feb-2003 : Removed redundant methods (DG);
  * 27-Mar-2003 : Implemented Serializable (DG);
+ * 18-Oct-2026 : Forward series change details and added bounds cache;
  *
  */
 
@@ -56,6 +57,9 @@ public abstract class AbstractSeriesDataset extends AbstractDataset
     /** For serialization. */
     private static final long serialVersionUID = -6074996219705033171L;
 
+    /** The bounds cache (created on demand, not serialized). */
+    private transient DatasetBoundsCache boundsCache;
+
     /**
      * Creates a new dataset.
      */
@@ -111,7 +115,78 @@ public abstract class AbstractSeriesDataset extends AbstractDataset
      */
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
+        if (event.getType() != SeriesChangeType.STRUCTURE
+                && event.getSource() instanceof Series) {
+            Series s = (Series) event.getSource();
+            int index = indexOf(s.getKey());
+            if (index >= 0) {
+                if (getNotify()) {
+                    notifyListeners(new DatasetChangeEvent(this, this, index,
+                            event.getType(), event.getFirstItem(),
+                            event.getLastItem()));
+                }
+                return;
+            }
+        }
         fireDatasetChanged();
     }
 
+    /**
+     * Returns <code>true</code> if {@link DatasetUtilities} may cache the
+     * bounds of the series in this dataset.  Subclasses should only return
+     * <code>true</code> if every change to the data items is reported by a
+     * change event.  This implementation returns <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    protected boolean isBoundsCacheSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the bounds cache for this dataset, creating it if necessary.
+     *
+     * @return The bounds cache (never <code>null</code>).
+     */
+    synchronized DatasetBoundsCache getBoundsCache() {
+        if (this.boundsCache == null) {
+            this.boundsCache = new DatasetBoundsCache();
+        }
+        return this.boundsCache;
+    }
+
+    /**
+     * Updates the bounds cache (if there is one) then notifies all registered
+     * listeners that the dataset has changed.
+     *
+     * @param event  contains information about the event that triggered the
+     *               notification.
+     */
+    @Override
+    protected void notifyListeners(DatasetChangeEvent event) {
+        DatasetBoundsCache cache = this.boundsCache;
+        if (cache != null) {
+            cache.datasetChanged(event);
+        }
+        super.notifyListeners(event);
+    }
+
+    /**
+     * Returns a clone of the dataset.  The clone does not share the bounds
+     * cache of this dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException  if the dataset does not support
+     *                                     cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        AbstractSeriesDataset clone = (AbstractSeriesDataset) super.clone();
+        clone.boundsCache = null;
+        return clone;
+    }
+
 }
@@ -0,0 +1,197 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * ChangeBatch.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * Collects the change events raised while a batch of changes is made to a
+ * {@link Series} or an {@link AbstractDataset}, so that a single event can
+ * be sent when the batch ends.  Appends to consecutive items, and updates,
+ * in the same series are combined into one event with the combined item
+ * range; any other mix of changes is reported as a
+ * {@link SeriesChangeType#STRUCTURE} change.
+ */
+final class ChangeBatch {
+
+    /** The number of nested batches in progress. */
+    private int depth;
+
+    /** The number of events collected. */
+    private int eventCount;
+
+    /** The first event collected. */
+    private Object firstEvent;
+
+    /** The series index for the combined change (-1 for all series). */
+    private int series;
+
+    /** The type of the combined change. */
+    private SeriesChangeType type;
+
+    /** The index of the first item in the combined change. */
+    private int firstItem;
+
+    /** The index of the last item in the combined change. */
+    private int lastItem;
+
+    /**
+     * Creates a new batch with a nesting depth of one.
+     */
+    ChangeBatch() {
+        this.depth = 1;
+    }
+
+    /**
+     * Increments the nesting depth.
+     */
+    void begin() {
+        this.depth++;
+    }
+
+    /**
+     * Decrements the nesting depth.
+     *
+     * @return <code>true</code> if the outermost batch has ended.
+     */
+    boolean end() {
+        this.depth--;
+        return this.depth == 0;
+    }
+
+    /**
+     * Adds an event to the batch.
+     *
+     * @param event  the event.
+     * @param series  the series index (-1 if not known).
+     * @param type  the type of change.
+     * @param first  the index of the first item affected.
+     * @param last  the index of the last item affected.
+     */
+    void add(Object event, int series, SeriesChangeType type, int first,
+            int last) {
+        this.eventCount++;
+        if (this.eventCount == 1) {
+            this.firstEvent = event;
+            this.series = series;
+            this.type = type;
+            this.firstItem = first;
+            this.lastItem = last;
+        }
+        else if (series < 0 || series != this.series) {
+            this.series = -1;
+            setStructureChange();
+        }
+        else if (type == SeriesChangeType.APPEND && this.type == type
+                && first == this.lastItem + 1) {
+            this.lastItem = last;
+        }
+        else if (type == SeriesChangeType.UPDATE && this.type == type) {
+            this.firstItem = Math.min(this.firstItem, first);
+            this.lastItem = Math.max(this.lastItem, last);
+        }
+        else {
+            setStructureChange();
+        }
+    }
+
+    /**
+     * Marks the combined change as a structure change.
+     */
+    private void setStructureChange() {
+        this.type = SeriesChangeType.STRUCTURE;
+        this.firstItem = -1;
+        this.lastItem = -1;
+    }
+
+    /**
+     * Returns the number of events collected.
+     *
+     * @return The event count.
+     */
+    int getEventCount() {
+        return this.eventCount;
+    }
+
+    /**
+     * Returns the first event collected.
+     *
+     * @return The event (possibly <code>null</code>).
+     */
+    Object getFirstEvent() {
+        return this.firstEvent;
+    }
+
+    /**
+     * Returns the series index for the combined change.
+     *
+     * @return The series index (-1 for all series).
+     */
+    int getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the type of the combined change.
+     *
+     * @return The type.
+     */
+    SeriesChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the first item in the combined change.
+     *
+     * @return The item index.
+     */
+    int getFirstItem() {
+        return this.firstItem;
+    }
+
+    /**
+     * Returns the index of the last item in the combined change.
+     *
+     * @return The item index.
+     */
+    int getLastItem() {
+        return this.lastItem;
+    }
+
+}
@@ -0,0 +1,78 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * ConcurrentDataset.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * A dataset that can be modified by one thread while other threads read
+ * snapshots of it.  When {@link #isConcurrent()} returns <code>true</code>,
+ * {@link org.jfree.chart.plot.XYPlot} draws a snapshot of the dataset rather
+ * than the dataset itself, so that the items do not change while the plot
+ * is being drawn, and finds the axis ranges from the same snapshot.  Other
+ * readers, such as the legend, read the dataset itself.
+ *
+ * @see Series#setConcurrent(boolean)
+ *
+ * @since 1.0.20
+ */
+public interface ConcurrentDataset extends Dataset {
+
+    /**
+     * Returns <code>true</code> if the data in the dataset may be modified
+     * by one thread while other threads read it, in which case readers
+     * should use a snapshot.
+     *
+     * @return A boolean.
+     */
+    public boolean isConcurrent();
+
+    /**
+     * Returns a snapshot of the dataset, that is a dataset of the same type
+     * containing the same items as this dataset does now.  The snapshot is
+     * intended for reading only, and should not be modified.  Implementations
+     * should return the same snapshot until the dataset changes, so that
+     * callers reading it more than once (and any bounds cached by the
+     * snapshot) stay consistent.
+     *
+     * @return The snapshot (never <code>null</code>).
+     */
+    public Dataset getSnapshot();
+
+}
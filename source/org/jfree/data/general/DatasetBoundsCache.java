@@ -0,0 +1,447 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DatasetBoundsCache.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jfree.data.Range;
+import org.jfree.data.statistics.BoxAndWhiskerXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A cache of the per-series bounds found by
+ * {@link DatasetUtilities#findDomainBounds(XYDataset, List, boolean)} and
+ * {@link DatasetUtilities#findRangeBounds(XYDataset, List, Range, boolean)}
+ * for an {@link AbstractSeriesDataset}.  Each dataset owns one cache, which
+ * it updates from its change events before they are passed to listeners:
+ * items appended to a series are added to the cached bounds, other changes
+ * to a series discard the cached bounds for that series only, and changes
+ * that are not described in detail discard the whole cache.  Cached bounds
+ * are only used while the item count of the series matches the count when
+ * the bounds were found, so items added without a change event are
+ * detected; values updated without a change event are not.
+ * <P>
+ * The static methods of this class control whether caching is used and
+ * report cache statistics (for all datasets).
+ *
+ * @since 1.0.20
+ */
+public class DatasetBoundsCache {
+
+    /** A flag that controls whether bounds caching is used. */
+    private static volatile boolean enabled = true;
+
+    /** The number of series bounds found in the cache. */
+    private static final AtomicLong HIT_COUNT = new AtomicLong();
+
+    /** The number of series bounds found by iterating over the items. */
+    private static final AtomicLong MISS_COUNT = new AtomicLong();
+
+    /** The number of series bounds updated from a change event. */
+    private static final AtomicLong INCREMENTAL_UPDATE_COUNT
+            = new AtomicLong();
+
+    /**
+     * The cached bounds, keyed by an <code>Integer</code> combining the
+     * series index, the bounds type and the include interval flag.
+     */
+    private Map records;
+
+    /**
+     * Creates a new empty cache.
+     */
+    DatasetBoundsCache() {
+        this.records = new HashMap();
+    }
+
+    /**
+     * Returns the flag that controls whether bounds caching is used.  The
+     * default value is <code>true</code>.
+     *
+     * @return A boolean.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the flag that controls whether bounds caching is used.
+     *
+     * @param flag  the new flag value.
+     */
+    public static void setEnabled(boolean flag) {
+        enabled = flag;
+    }
+
+    /**
+     * Returns the number of times that the bounds for a series were found in
+     * a cache.
+     *
+     * @return The hit count.
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.get();
+    }
+
+    /**
+     * Returns the number of times that the bounds for a series were found by
+     * iterating over all the items in the series.
+     *
+     * @return The miss count.
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.get();
+    }
+
+    /**
+     * Returns the number of times that the cached bounds for a series were
+     * updated from a change event describing appended items.
+     *
+     * @return The incremental update count.
+     */
+    public static long getIncrementalUpdateCount() {
+        return INCREMENTAL_UPDATE_COUNT.get();
+    }
+
+    /**
+     * Resets the hit, miss and incremental update counts to zero.
+     */
+    public static void resetStatistics() {
+        HIT_COUNT.set(0L);
+        MISS_COUNT.set(0L);
+        INCREMENTAL_UPDATE_COUNT.set(0L);
+    }
+
+    /**
+     * Returns the bounds of the x-values in the visible series.
+     *
+     * @param dataset  the dataset that owns this cache.
+     * @param visibleSeriesKeys  the visible series keys.
+     * @param includeInterval  include the x-interval (if any)?
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    synchronized Range findDomainBounds(XYDataset dataset,
+            List visibleSeriesKeys, boolean includeInterval) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            int series = dataset.indexOf(seriesKey);
+            int itemCount = dataset.getItemCount(series);
+            Integer key = createKey(series, true, includeInterval);
+            Record record = (Record) this.records.get(key);
+            if (record != null && record.itemCount == itemCount) {
+                HIT_COUNT.incrementAndGet();
+            }
+            else {
+                record = new Record(null);
+                scan(dataset, series, 0, itemCount - 1, record, true,
+                        includeInterval);
+                this.records.put(key, record);
+                MISS_COUNT.incrementAndGet();
+            }
+            minimum = Math.min(minimum, record.lower);
+            maximum = Math.max(maximum, record.upper);
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Returns the bounds of the y-values in the visible series, for the
+     * items with x-values in the specified range.
+     *
+     * @param dataset  the dataset that owns this cache.
+     * @param visibleSeriesKeys  the visible series keys.
+     * @param xRange  the x-range.
+     * @param includeInterval  include the y-interval (if any)?
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    synchronized Range findRangeBounds(XYDataset dataset,
+            List visibleSeriesKeys, Range xRange, boolean includeInterval) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            int series = dataset.indexOf(seriesKey);
+            int itemCount = dataset.getItemCount(series);
+            Integer key = createKey(series, false, includeInterval);
+            Record record = (Record) this.records.get(key);
+            // the cached bounds can be used for a different x-range when
+            // both x-ranges include every item in the series
+            if (record != null && record.itemCount == itemCount
+                    && (record.xRange.equals(xRange)
+                    || (record.isCoveredBy(record.xRange)
+                    && record.isCoveredBy(xRange)))) {
+                record.xRange = xRange;
+                HIT_COUNT.incrementAndGet();
+            }
+            else {
+                record = new Record(xRange);
+                scan(dataset, series, 0, itemCount - 1, record, false,
+                        includeInterval);
+                this.records.put(key, record);
+                MISS_COUNT.incrementAndGet();
+            }
+            minimum = Math.min(minimum, record.lower);
+            maximum = Math.max(maximum, record.upper);
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Updates the cache for a change to the dataset.  This method is called
+     * by the dataset before the event is passed to its listeners.  Appends
+     * are added to the cached bounds for the series, updates only discard
+     * the range bounds (the x-values do not change) and other changes
+     * discard all the bounds for the series.
+     *
+     * @param event  the event.
+     */
+    synchronized void datasetChanged(DatasetChangeEvent event) {
+        if (this.records.isEmpty()) {
+            return;
+        }
+        int series = event.getSeries();
+        if (series < 0 || event.getType() == SeriesChangeType.STRUCTURE
+                || !(event.getDataset() instanceof XYDataset)) {
+            this.records.clear();
+            return;
+        }
+        XYDataset dataset = (XYDataset) event.getDataset();
+        boolean append = event.getType() == SeriesChangeType.APPEND
+                && dataset.getItemCount(series) == event.getLastItem() + 1;
+        boolean update = event.getType() == SeriesChangeType.UPDATE;
+        for (int i = 0; i < 4; i++) {
+            boolean domain = (i & 2) != 0;
+            boolean includeInterval = (i & 1) != 0;
+            Integer key = createKey(series, domain, includeInterval);
+            Record record = (Record) this.records.get(key);
+            if (record == null) {
+                continue;
+            }
+            if (append && record.itemCount == event.getFirstItem()) {
+                scan(dataset, series, event.getFirstItem(),
+                        event.getLastItem(), record, domain, includeInterval);
+                INCREMENTAL_UPDATE_COUNT.incrementAndGet();
+            }
+            else if (update && domain) {
+                INCREMENTAL_UPDATE_COUNT.incrementAndGet();
+            }
+            else {
+                this.records.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Discards all the cached bounds.
+     */
+    synchronized void clear() {
+        this.records.clear();
+    }
+
+    /**
+     * Creates the key for a cache record.
+     *
+     * @param series  the series index.
+     * @param domain  <code>true</code> for domain bounds,
+     *     <code>false</code> for range bounds.
+     * @param includeInterval  the include interval flag.
+     *
+     * @return The key.
+     */
+    private static Integer createKey(int series, boolean domain,
+            boolean includeInterval) {
+        return new Integer((series << 2) | (domain ? 2 : 0)
+                | (includeInterval ? 1 : 0));
+    }
+
+    /**
+     * Adds the bounds of a range of items to a record.  The values used
+     * match those used by
+     * {@link DatasetUtilities#iterateToFindDomainBounds(XYDataset, List,
+     * boolean)} and {@link DatasetUtilities#iterateToFindRangeBounds(
+     * XYDataset, List, Range, boolean)}.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     * @param record  the record to update.
+     * @param domain  <code>true</code> for domain bounds,
+     *     <code>false</code> for range bounds.
+     * @param includeInterval  the include interval flag.
+     */
+    private static void scan(XYDataset dataset, int series, int first,
+            int last, Record record, boolean domain,
+            boolean includeInterval) {
+        for (int item = first; item <= last; item++) {
+            double x = dataset.getXValue(series, item);
+            double lvalue;
+            double uvalue;
+            if (domain) {
+                if (includeInterval && dataset instanceof IntervalXYDataset) {
+                    IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
+                    lvalue = ixyd.getStartXValue(series, item);
+                    uvalue = ixyd.getEndXValue(series, item);
+                }
+                else {
+                    lvalue = x;
+                    uvalue = x;
+                }
+            }
+            else {
+                record.minX = Math.min(record.minX, x);
+                record.maxX = Math.max(record.maxX, x);
+                if (Double.isNaN(x)) {
+                    record.minX = Double.NaN;
+                }
+                if (!record.xRange.contains(x)) {
+                    continue;
+                }
+                if (includeInterval && dataset instanceof OHLCDataset) {
+                    OHLCDataset ohlc = (OHLCDataset) dataset;
+                    lvalue = ohlc.getLowValue(series, item);
+                    uvalue = ohlc.getHighValue(series, item);
+                }
+                else if (includeInterval
+                        && dataset instanceof BoxAndWhiskerXYDataset) {
+                    BoxAndWhiskerXYDataset bx
+                            = (BoxAndWhiskerXYDataset) dataset;
+                    Number l = bx.getMinRegularValue(series, item);
+                    Number u = bx.getMaxRegularValue(series, item);
+                    lvalue = l != null ? l.doubleValue() : Double.NaN;
+                    uvalue = u != null ? u.doubleValue() : Double.NaN;
+                }
+                else if (includeInterval
+                        && dataset instanceof IntervalXYDataset) {
+                    IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
+                    lvalue = ixyd.getStartYValue(series, item);
+                    uvalue = ixyd.getEndYValue(series, item);
+                }
+                else {
+                    lvalue = dataset.getYValue(series, item);
+                    uvalue = lvalue;
+                }
+            }
+            if (!Double.isNaN(lvalue)) {
+                record.lower = Math.min(record.lower, lvalue);
+            }
+            if (!Double.isNaN(uvalue)) {
+                record.upper = Math.max(record.upper, uvalue);
+            }
+        }
+        record.itemCount = Math.max(record.itemCount, last + 1);
+    }
+
+    /**
+     * The cached bounds for one series.
+     */
+    private static class Record {
+
+        /** The x-range for range bounds (<code>null</code> for domain). */
+        private Range xRange;
+
+        /** The number of items included in the bounds. */
+        private int itemCount;
+
+        /** The lower bound. */
+        private double lower;
+
+        /** The upper bound. */
+        private double upper;
+
+        /**
+         * The smallest x-value in the series (range bounds only, NaN if any
+         * x-value is NaN).
+         */
+        private double minX;
+
+        /** The largest x-value in the series (range bounds only). */
+        private double maxX;
+
+        /**
+         * Creates a new empty record.
+         *
+         * @param xRange  the x-range (<code>null</code> for domain bounds).
+         */
+        Record(Range xRange) {
+            this.xRange = xRange;
+            this.lower = Double.POSITIVE_INFINITY;
+            this.upper = Double.NEGATIVE_INFINITY;
+            this.minX = Double.POSITIVE_INFINITY;
+            this.maxX = Double.NEGATIVE_INFINITY;
+        }
+
+        /**
+         * Returns <code>true</code> if every item in the series has an
+         * x-value within the specified range.
+         *
+         * @param range  the range.
+         *
+         * @return A boolean.
+         */
+        boolean isCoveredBy(Range range) {
+            if (this.itemCount == 0) {
+                return true;
+            }
+            return range.contains(this.minX) && range.contains(this.maxX);
+        }
+
+    }
+
+}
@@ -42,13 +42,20 @@
  *               Updated Javadocs (DG);
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 05-Oct-2004 : Minor Javadoc updates (DG);
+ * 18-Oct-2026 : Added series index, change type and item range;
  *
  */
 
 package org.jfree.data.general;
 
+import org.jfree.chart.util.ParamChecks;
+
 /**
  * A change event that encapsulates information about a change to a dataset.
+ * An event may identify a series within the dataset, the kind of change and
+ * the range of items affected (see {@link #getType()}).  An event without
+ * these details has the type {@link SeriesChangeType#STRUCTURE}, and
+ * listeners should assume that any part of the dataset may have changed.
  */
 public class DatasetChangeEvent extends java.util.EventObject {
 
@@ -57,6 +64,34 @@ public class DatasetChangeEvent extends java.util.EventObject {
      */
     private Dataset dataset;
 
+    /**
+     * The index of the series affected by the change (-1 if not specified).
+     *
+     * @since 1.0.20
+     */
+    private int series;
+
+    /**
+     * The kind of change (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    private SeriesChangeType type;
+
+    /**
+     * The index of the first item affected (-1 if not specified).
+     *
+     * @since 1.0.20
+     */
+    private int firstItem;
+
+    /**
+     * The index of the last item affected (-1 if not specified).
+     *
+     * @since 1.0.20
+     */
+    private int lastItem;
+
     /**
      * Constructs a new event.  The source is either the dataset or the
      * {@link org.jfree.chart.plot.Plot} class.  The dataset can be
@@ -68,8 +103,32 @@ public class DatasetChangeEvent extends java.util.EventObject {
      *                 permitted).
      */
     public DatasetChangeEvent(Object source, Dataset dataset) {
+        this(source, dataset, -1, SeriesChangeType.STRUCTURE, -1, -1);
+    }
+
+    /**
+     * Constructs a new event describing a change to a range of items in one
+     * series of a dataset.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event (<code>null</code>
+     *                 permitted).
+     * @param series  the index of the series affected (-1 if not specified).
+     * @param type  the kind of change (<code>null</code> not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     *
+     * @since 1.0.20
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset, int series,
+            SeriesChangeType type, int firstItem, int lastItem) {
         super(source);
+        ParamChecks.nullNotPermitted(type, "type");
         this.dataset = dataset;
+        this.series = series;
+        this.type = type;
+        this.firstItem = firstItem;
+        this.lastItem = lastItem;
     }
 
     /**
@@ -83,4 +142,48 @@ public class DatasetChangeEvent extends java.util.EventObject {
         return this.dataset;
     }
 
+    /**
+     * Returns the index of the series affected by the change.
+     *
+     * @return The series index (-1 if not specified).
+     *
+     * @since 1.0.20
+     */
+    public int getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the kind of change.
+     *
+     * @return The kind of change (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public SeriesChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the first item affected by the change.
+     *
+     * @return The item index (-1 if not specified).
+     *
+     * @since 1.0.20
+     */
+    public int getFirstItem() {
+        return this.firstItem;
+    }
+
+    /**
+     * Returns the index of the last item affected by the change.
+     *
+     * @return The item index (-1 if not specified).
+     *
+     * @since 1.0.20
+     */
+    public int getLastItem() {
+        return this.lastItem;
+    }
+
 }
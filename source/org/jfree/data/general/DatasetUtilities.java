@@ -123,6 +123,10 @@
  * 10-Sep-2009 : Fix bug 2849731 for IntervalCategoryDataset (DG);
  * 16-Feb-2010 : Patch 2952086 - find z-bounds (MH);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Use the pyramid index of an XYPyramidDataset in
+ *               findRangeBounds(XYDataset, List, Range, boolean);
+ * 18-Oct-2026 : Use the DatasetBoundsCache for series datasets that
+ *               support it;
  * 
  */
 
@@ -153,6 +157,8 @@ import org.jfree.data.xy.OHLCDataset;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYPyramidDataset;
+import org.jfree.data.xy.XYPyramidIndex;
 import org.jfree.data.xy.XYRangeInfo;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
@@ -690,6 +696,17 @@ public final class DatasetUtilities {
             XYDomainInfo info = (XYDomainInfo) dataset;
             result = info.getDomainBounds(visibleSeriesKeys, includeInterval);
         }
+        else if (isBoundsCacheUsable(dataset)
+                && !(includeInterval && dataset instanceof IntervalXYDataset)) {
+            // the x-intervals can change without a change to the items (for
+            // example, when the interval width is calculated automatically)
+            ParamChecks.nullNotPermitted(visibleSeriesKeys,
+                    "visibleSeriesKeys");
+            DatasetBoundsCache cache
+                    = ((AbstractSeriesDataset) dataset).getBoundsCache();
+            result = cache.findDomainBounds(dataset, visibleSeriesKeys,
+                    includeInterval);
+        }
         else {
             result = iterateToFindDomainBounds(dataset, visibleSeriesKeys,
                     includeInterval);
@@ -697,6 +714,24 @@ public final class DatasetUtilities {
         return result;
     }
 
+    /**
+     * Returns <code>true</code> if the bounds of the specified dataset can be
+     * found using its {@link DatasetBoundsCache}.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean isBoundsCacheUsable(XYDataset dataset) {
+        if (!DatasetBoundsCache.isEnabled()
+                || !(dataset instanceof AbstractSeriesDataset)) {
+            return false;
+        }
+        AbstractSeriesDataset asd = (AbstractSeriesDataset) dataset;
+        // while notification is off, changes do not reach the cache
+        return asd.isBoundsCacheSupported() && asd.getNotify();
+    }
+
     /**
      * Iterates over the items in an {@link XYDataset} to find
      * the range of x-values.  If the dataset is an instance of
@@ -898,6 +933,24 @@ public final class DatasetUtilities {
             result = info.getRangeBounds(visibleSeriesKeys, xRange,
                     includeInterval);
         }
+        else if (dataset instanceof XYPyramidDataset
+                && dataset.getDomainOrder() == DomainOrder.ASCENDING
+                && !(includeInterval && (dataset instanceof IntervalXYDataset
+                || dataset instanceof OHLCDataset
+                || dataset instanceof BoxAndWhiskerXYDataset))) {
+            // the pyramid index only covers the y-values
+            result = findRangeBoundsUsingPyramid((XYPyramidDataset) dataset,
+                    visibleSeriesKeys, xRange);
+        }
+        else if (isBoundsCacheUsable(dataset)) {
+            ParamChecks.nullNotPermitted(visibleSeriesKeys,
+                    "visibleSeriesKeys");
+            ParamChecks.nullNotPermitted(xRange, "xRange");
+            DatasetBoundsCache cache
+                    = ((AbstractSeriesDataset) dataset).getBoundsCache();
+            result = cache.findRangeBounds(dataset, visibleSeriesKeys, xRange,
+                    includeInterval);
+        }
         else {
             result = iterateToFindRangeBounds(dataset, visibleSeriesKeys,
                     xRange, includeInterval);
@@ -905,6 +958,96 @@ public final class DatasetUtilities {
         return result;
     }
 
+    /**
+     * Finds the bounds of the y-values in the specified dataset, including
+     * only those series that are listed in visibleSeriesKeys, and those items
+     * whose x-values fall within the specified range.  The x-values in the
+     * dataset must be in ascending order, so that the items in the x-range
+     * can be found by a binary search, and the y-range of those items is
+     * found using the pyramid index for each series (if there is one).
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     *
+     * @return The data bounds (possibly <code>null</code>).
+     */
+    private static Range findRangeBoundsUsingPyramid(XYPyramidDataset dataset,
+            List visibleSeriesKeys, Range xRange) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            int series = dataset.indexOf(seriesKey);
+            int first = findFirstItemForX(dataset, series,
+                    xRange.getLowerBound(), true);
+            int last = findFirstItemForX(dataset, series,
+                    xRange.getUpperBound(), false) - 1;
+            if (first > last) {
+                continue;
+            }
+            XYPyramidIndex index = dataset.getPyramidIndex(series);
+            if (index != null
+                    && index.getItemCount() == dataset.getItemCount(series)) {
+                Range r = index.findYRange(dataset, series, first, last);
+                if (r != null) {
+                    minimum = Math.min(minimum, r.getLowerBound());
+                    maximum = Math.max(maximum, r.getUpperBound());
+                }
+            }
+            else {
+                for (int item = first; item <= last; item++) {
+                    double y = dataset.getYValue(series, item);
+                    if (!Double.isNaN(y)) {
+                        minimum = Math.min(minimum, y);
+                        maximum = Math.max(maximum, y);
+                    }
+                }
+            }
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        else {
+            return new Range(minimum, maximum);
+        }
+    }
+
+    /**
+     * Returns the index of the first item in a series (with x-values in
+     * ascending order) that has an x-value greater than (or, if
+     * <code>inclusive</code> is <code>true</code>, equal to) the specified
+     * value.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param inclusive  include items with an x-value equal to
+     *     <code>x</code>?
+     *
+     * @return The item index (the item count if there is no such item).
+     */
+    private static int findFirstItemForX(XYDataset dataset, int series,
+            double x, boolean inclusive) {
+        int low = 0;
+        int high = dataset.getItemCount(series);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double midV = dataset.getXValue(series, mid);
+            if (midV < x || (!inclusive && midV == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Iterates over the data item of the category dataset to find
      * the range bounds.
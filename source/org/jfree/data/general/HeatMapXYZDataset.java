@@ -0,0 +1,284 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * HeatMapXYZDataset.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractXYZDataset;
+import org.jfree.data.xy.XYZDataset;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * An {@link XYZDataset} with a single series that obtains its data from a
+ * {@link HeatMapDataset}, so that a heat map can be displayed in an
+ * {@link org.jfree.chart.plot.XYPlot} (typically with an
+ * {@link org.jfree.chart.renderer.xy.XYBlockRenderer}).  The items are
+ * ordered by x-value and then by y-value: item <code>i</code> has the
+ * x-index <code>i / yCount</code> and the y-index <code>i % yCount</code>.
+ * <p>
+ * If the heat map is also a {@link Dataset}, this dataset registers as a
+ * listener and passes on its change events.
+ *
+ * @since 1.0.20
+ */
+public class HeatMapXYZDataset extends AbstractXYZDataset
+        implements DatasetChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2413097539372718476L;
+
+    /** The series key. */
+    private Comparable seriesKey;
+
+    /** The heat map. */
+    private HeatMapDataset heatMap;
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param heatMap  the heat map (<code>null</code> not permitted).
+     */
+    public HeatMapXYZDataset(Comparable seriesKey, HeatMapDataset heatMap) {
+        ParamChecks.nullNotPermitted(seriesKey, "seriesKey");
+        ParamChecks.nullNotPermitted(heatMap, "heatMap");
+        this.seriesKey = seriesKey;
+        this.heatMap = heatMap;
+        if (heatMap instanceof Dataset) {
+            ((Dataset) heatMap).addChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the heat map that supplies the data for this dataset.
+     *
+     * @return The heat map (never <code>null</code>).
+     */
+    public HeatMapDataset getHeatMap() {
+        return this.heatMap;
+    }
+
+    /**
+     * Returns the number of series in the dataset, which is always 1.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (must be 0).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        checkSeries(series);
+        return this.seriesKey;
+    }
+
+    /**
+     * Returns the order of the domain (or x-) values, which is always
+     * ascending.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items in a series, which is the number of x
+     * samples multiplied by the number of y samples in the heat map.
+     *
+     * @param series  the series index (must be 0).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        checkSeries(series);
+        return this.heatMap.getXSampleCount() * this.heatMap.getYSampleCount();
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (must be 0).
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (must be 0).
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.heatMap.getXValue(item / this.heatMap.getYSampleCount());
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (must be 0).
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (must be 0).
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.heatMap.getYValue(item % this.heatMap.getYSampleCount());
+    }
+
+    /**
+     * Returns the z-value for an item.
+     *
+     * @param series  the series index (must be 0).
+     * @param item  the item index.
+     *
+     * @return The z-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getZ(int series, int item) {
+        int yCount = this.heatMap.getYSampleCount();
+        return this.heatMap.getZ(item / yCount, item % yCount);
+    }
+
+    /**
+     * Returns the z-value for an item.
+     *
+     * @param series  the series index (must be 0).
+     * @param item  the item index.
+     *
+     * @return The z-value.
+     */
+    @Override
+    public double getZValue(int series, int item) {
+        int yCount = this.heatMap.getYSampleCount();
+        return this.heatMap.getZValue(item / yCount, item % yCount);
+    }
+
+    /**
+     * Receives notification that the heat map has changed, and passes the
+     * event on to this dataset's listeners.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        fireDatasetChanged();
+    }
+
+    /**
+     * Checks a series index.
+     *
+     * @param series  the series index.
+     */
+    private void checkSeries(int series) {
+        if (series != 0) {
+            throw new IllegalArgumentException("Series index out of bounds.");
+        }
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof HeatMapXYZDataset)) {
+            return false;
+        }
+        HeatMapXYZDataset that = (HeatMapXYZDataset) obj;
+        if (!this.seriesKey.equals(that.seriesKey)) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.heatMap, that.heatMap)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.seriesKey.hashCode();
+    }
+
+}
@@ -0,0 +1,342 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * RingBufferList.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array.  Access by index takes constant time
+ * (as for <code>ArrayList</code>) and, in addition, items can be removed from
+ * the start of the list in constant time.  Insertions and removals in the
+ * middle of the list move whichever side of the list is shorter.
+ * <p>
+ * This is used as the storage for series that retain a rolling window of
+ * items (see {@link org.jfree.data.xy.XYSeries#setMaximumItemCount(int)} and
+ * {@link org.jfree.data.time.TimeSeries#setMaximumItemCount(int)}), where
+ * the oldest item is dropped every time a new item is added.
+ *
+ * @since 1.0.20
+ */
+public class RingBufferList extends AbstractList
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1375602366297846853L;
+
+    /** The initial capacity (always a power of two). */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Storage for the items (the length is always a power of two). */
+    private Object[] elements;
+
+    /** The array index of the first item in the list. */
+    private int head;
+
+    /** The number of items in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public RingBufferList() {
+        this.elements = new Object[INITIAL_CAPACITY];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new list containing the items from the supplied collection,
+     * in the order returned by the collection's iterator.
+     *
+     * @param c  the collection (<code>null</code> not permitted).
+     */
+    public RingBufferList(Collection c) {
+        this();
+        addAll(c);
+    }
+
+    /**
+     * Returns the number of items in the list.
+     *
+     * @return The number of items in the list.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the item at the specified position in the list.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The item (possibly <code>null</code>).
+     */
+    @Override
+    public Object get(int index) {
+        checkIndex(index, this.size);
+        return this.elements[slot(index)];
+    }
+
+    /**
+     * Replaces the item at the specified position in the list.
+     *
+     * @param index  the index (zero-based).
+     * @param item  the new item (<code>null</code> permitted).
+     *
+     * @return The item previously at the specified position.
+     */
+    @Override
+    public Object set(int index, Object item) {
+        checkIndex(index, this.size);
+        int slot = slot(index);
+        Object result = this.elements[slot];
+        this.elements[slot] = item;
+        return result;
+    }
+
+    /**
+     * Adds an item to the end of the list.
+     *
+     * @param item  the item (<code>null</code> permitted).
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean add(Object item) {
+        ensureCapacity(this.size + 1);
+        this.elements[slot(this.size)] = item;
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts an item at the specified position in the list.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>size()</code>).
+     * @param item  the item (<code>null</code> permitted).
+     */
+    @Override
+    public void add(int index, Object item) {
+        checkIndex(index, this.size + 1);
+        ensureCapacity(this.size + 1);
+        int mask = this.elements.length - 1;
+        if (index < (this.size >> 1)) {
+            // move the items before 'index' one slot towards the front
+            this.head = (this.head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                this.elements[(this.head + i) & mask]
+                        = this.elements[(this.head + i + 1) & mask];
+            }
+        }
+        else {
+            // move the items from 'index' onwards one slot towards the back
+            for (int i = this.size; i > index; i--) {
+                this.elements[(this.head + i) & mask]
+                        = this.elements[(this.head + i - 1) & mask];
+            }
+        }
+        this.elements[(this.head + index) & mask] = item;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the item at the specified position in the list.  Removing the
+     * first or last item takes constant time.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The item that was removed.
+     */
+    @Override
+    public Object remove(int index) {
+        checkIndex(index, this.size);
+        int mask = this.elements.length - 1;
+        Object result = this.elements[(this.head + index) & mask];
+        if (index < (this.size >> 1)) {
+            for (int i = index; i > 0; i--) {
+                this.elements[(this.head + i) & mask]
+                        = this.elements[(this.head + i - 1) & mask];
+            }
+            this.elements[this.head] = null;
+            this.head = (this.head + 1) & mask;
+        }
+        else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[(this.head + i) & mask]
+                        = this.elements[(this.head + i + 1) & mask];
+            }
+            this.elements[(this.head + this.size - 1) & mask] = null;
+        }
+        this.size--;
+        this.modCount++;
+        return result;
+    }
+
+    /**
+     * Removes all items from the list.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.elements, null);
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the items from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).  This is called by
+     * <code>subList(fromIndex, toIndex).clear()</code> and takes time
+     * proportional to the number of items removed when the range is at
+     * either end of the list.
+     *
+     * @param fromIndex  the index of the first item to remove.
+     * @param toIndex  the index after the last item to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        int mask = this.elements.length - 1;
+        if (fromIndex < this.size - toIndex) {
+            // move the items before the range towards the back
+            for (int i = fromIndex - 1; i >= 0; i--) {
+                this.elements[(this.head + i + count) & mask]
+                        = this.elements[(this.head + i) & mask];
+            }
+            for (int i = 0; i < count; i++) {
+                this.elements[(this.head + i) & mask] = null;
+            }
+            this.head = (this.head + count) & mask;
+        }
+        else {
+            // move the items after the range towards the front
+            for (int i = toIndex; i < this.size; i++) {
+                this.elements[(this.head + i - count) & mask]
+                        = this.elements[(this.head + i) & mask];
+            }
+            for (int i = this.size - count; i < this.size; i++) {
+                this.elements[(this.head + i) & mask] = null;
+            }
+        }
+        this.size -= count;
+        this.modCount++;
+    }
+
+    /**
+     * Returns a clone of the list.  The items themselves are not cloned.
+     *
+     * @return A clone.
+     */
+    @Override
+    public Object clone() {
+        try {
+            RingBufferList clone = (RingBufferList) super.clone();
+            clone.elements = (Object[]) this.elements.clone();
+            clone.modCount = 0;
+            return clone;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the array index for the specified list index.
+     *
+     * @param index  the list index.
+     *
+     * @return The array index.
+     */
+    private int slot(int index) {
+        return (this.head + index) & (this.elements.length - 1);
+    }
+
+    /**
+     * Grows the storage array, if necessary, so that it can hold at least
+     * <code>capacity</code> items.  The items are unwrapped so that the
+     * first item is at the start of the new array.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        int length = this.elements.length;
+        if (capacity <= length) {
+            return;
+        }
+        int newLength = length << 1;
+        if (newLength < 0) {
+            throw new IllegalStateException("List is too large.");
+        }
+        Object[] newElements = new Object[newLength];
+        int firstPart = Math.min(this.size, length - this.head);
+        System.arraycopy(this.elements, this.head, newElements, 0, firstPart);
+        System.arraycopy(this.elements, 0, newElements, firstPart,
+                this.size - firstPart);
+        this.elements = newElements;
+        this.head = 0;
+    }
+
+    /**
+     * Checks that an index is in the range <code>0</code> to
+     * <code>limit - 1</code>.
+     *
+     * @param index  the index.
+     * @param limit  the limit.
+     */
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+}
@@ -0,0 +1,300 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * RollingMinMax.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+/**
+ * Tracks the minimum and maximum of a sequence of values where new values
+ * are always added at the end of the sequence and old values are always
+ * removed from the start (a sliding window).  Each of the {@link #add(double)}
+ * and {@link #removeFirst()} methods takes amortised constant time, so a
+ * series that drops its oldest item for every new item never has to iterate
+ * through all its values to find the revised bounds.
+ * <p>
+ * Internally, this class keeps two monotonic queues:  one holds the
+ * candidates for the minimum in increasing order, the other the candidates
+ * for the maximum in decreasing order.  <code>Double.NaN</code> values
+ * occupy a position in the sequence but are otherwise ignored.
+ *
+ * @since 1.0.20
+ */
+public class RollingMinMax implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6411734850253290563L;
+
+    /** Candidates for the minimum value (increasing). */
+    private MonotonicQueue minimums;
+
+    /** Candidates for the maximum value (decreasing). */
+    private MonotonicQueue maximums;
+
+    /** The position that will be assigned to the next value added. */
+    private long nextAdded;
+
+    /** The position of the next value to be removed. */
+    private long nextRemoved;
+
+    /**
+     * Creates a new instance for an empty sequence.
+     */
+    public RollingMinMax() {
+        this.minimums = new MonotonicQueue(true);
+        this.maximums = new MonotonicQueue(false);
+        this.nextAdded = 0L;
+        this.nextRemoved = 0L;
+    }
+
+    /**
+     * Returns the number of values in the sequence (including any
+     * <code>Double.NaN</code> values).
+     *
+     * @return The number of values.
+     */
+    public int getCount() {
+        return (int) (this.nextAdded - this.nextRemoved);
+    }
+
+    /**
+     * Returns the minimum value in the sequence, ignoring
+     * <code>Double.NaN</code> values.
+     *
+     * @return The minimum (<code>Double.NaN</code> if there are no values).
+     */
+    public double getMinimum() {
+        return this.minimums.first();
+    }
+
+    /**
+     * Returns the maximum value in the sequence, ignoring
+     * <code>Double.NaN</code> values.
+     *
+     * @return The maximum (<code>Double.NaN</code> if there are no values).
+     */
+    public double getMaximum() {
+        return this.maximums.first();
+    }
+
+    /**
+     * Adds a value to the end of the sequence.
+     *
+     * @param value  the value (<code>Double.NaN</code> permitted).
+     */
+    public void add(double value) {
+        long position = this.nextAdded++;
+        if (!Double.isNaN(value)) {
+            this.minimums.add(position, value);
+            this.maximums.add(position, value);
+        }
+    }
+
+    /**
+     * Removes the first value from the sequence.
+     *
+     * @throws IllegalStateException if the sequence is empty.
+     */
+    public void removeFirst() {
+        if (this.nextRemoved == this.nextAdded) {
+            throw new IllegalStateException("The sequence is empty.");
+        }
+        long position = this.nextRemoved++;
+        this.minimums.removeIfFirst(position);
+        this.maximums.removeIfFirst(position);
+    }
+
+    /**
+     * Removes all values from the sequence.
+     */
+    public void clear() {
+        this.minimums.clear();
+        this.maximums.clear();
+        this.nextAdded = 0L;
+        this.nextRemoved = 0L;
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     */
+    @Override
+    public Object clone() {
+        try {
+            RollingMinMax clone = (RollingMinMax) super.clone();
+            clone.minimums = (MonotonicQueue) this.minimums.clone();
+            clone.maximums = (MonotonicQueue) this.maximums.clone();
+            return clone;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+    /**
+     * A queue of (position, value) pairs, held in circular arrays, in which
+     * the values are kept in increasing (or decreasing) order.
+     */
+    private static class MonotonicQueue implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2218345537062457153L;
+
+        /** If true, values increase from head to tail. */
+        private boolean increasing;
+
+        /** The positions (the array length is always a power of two). */
+        private long[] positions;
+
+        /** The values (same length as positions). */
+        private double[] values;
+
+        /** The array index of the first entry. */
+        private int head;
+
+        /** The number of entries. */
+        private int size;
+
+        /**
+         * Creates a new empty queue.
+         *
+         * @param increasing  the ordering of the values.
+         */
+        MonotonicQueue(boolean increasing) {
+            this.increasing = increasing;
+            this.positions = new long[16];
+            this.values = new double[16];
+        }
+
+        /**
+         * Returns the value at the head of the queue.
+         *
+         * @return The value (<code>Double.NaN</code> if the queue is empty).
+         */
+        double first() {
+            return this.size > 0 ? this.values[this.head] : Double.NaN;
+        }
+
+        /**
+         * Adds an entry at the tail of the queue, first discarding any
+         * entries that can no longer be the minimum (or maximum).
+         *
+         * @param position  the position of the value in the sequence.
+         * @param value  the value.
+         */
+        void add(long position, double value) {
+            int mask = this.values.length - 1;
+            while (this.size > 0) {
+                double last = this.values[(this.head + this.size - 1) & mask];
+                if (this.increasing ? last < value : last > value) {
+                    break;
+                }
+                this.size--;
+            }
+            if (this.size == this.values.length) {
+                grow();
+                mask = this.values.length - 1;
+            }
+            int slot = (this.head + this.size) & mask;
+            this.positions[slot] = position;
+            this.values[slot] = value;
+            this.size++;
+        }
+
+        /**
+         * Removes the entry at the head of the queue if it has the specified
+         * position.
+         *
+         * @param position  the position.
+         */
+        void removeIfFirst(long position) {
+            if (this.size > 0 && this.positions[this.head] == position) {
+                this.head = (this.head + 1) & (this.values.length - 1);
+                this.size--;
+            }
+        }
+
+        /**
+         * Removes all entries.
+         */
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Doubles the capacity of the queue.
+         */
+        private void grow() {
+            int length = this.values.length;
+            long[] newPositions = new long[length << 1];
+            double[] newValues = new double[length << 1];
+            int firstPart = length - this.head;
+            System.arraycopy(this.positions, this.head, newPositions, 0,
+                    firstPart);
+            System.arraycopy(this.positions, 0, newPositions, firstPart,
+                    this.head);
+            System.arraycopy(this.values, this.head, newValues, 0, firstPart);
+            System.arraycopy(this.values, 0, newValues, firstPart, this.head);
+            this.positions = newPositions;
+            this.values = newValues;
+            this.head = 0;
+        }
+
+        /**
+         * Returns a clone of the queue (the arrays are copied, so the clone
+         * is independent of this queue).
+         *
+         * @return A clone.
+         *
+         * @throws CloneNotSupportedException if there is a problem cloning.
+         */
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            MonotonicQueue clone = (MonotonicQueue) super.clone();
+            clone.positions = (long[]) this.positions.clone();
+            clone.values = (double[]) this.values.clone();
+            return clone;
+        }
+
+    }
+
+}
@@ -51,6 +51,9 @@
  * 26-Sep-2007 : Added isEmpty() and getItemCount() methods (DG);
  * 16-Oct-2011 : Added vetoable property change support for series name (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added fireSeriesChanged(SeriesChangeType, int, int);
+ * 18-Oct-2026 : Added beginBatch(), endBatch() and addAllSorted();
+ * 18-Oct-2026 : Added concurrent mode and snapshots;
  * 
  */
 
@@ -62,6 +65,9 @@ import java.beans.PropertyVetoException;
 import java.beans.VetoableChangeListener;
 import java.beans.VetoableChangeSupport;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import javax.swing.event.EventListenerList;
 
@@ -101,6 +107,24 @@ public abstract class Series implements Cloneable, Serializable {
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /**
+     * The change events collected while a batch is in progress (at other
+     * times this is <code>null</code>).
+     */
+    private transient ChangeBatch batch;
+
+    /**
+     * A flag that controls whether or not the series is in concurrent mode
+     * (see {@link #setConcurrent(boolean)}).
+     */
+    private boolean concurrent;
+
+    /**
+     * The most recent snapshot of the series (<code>null</code> if no
+     * snapshot has been created since the series last changed).
+     */
+    private transient volatile Series snapshot;
+
     /**
      * Creates a new series with the specified key.
      *
@@ -218,6 +242,151 @@ public abstract class Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Starts a batch of changes to the series.  Until the matching call to
+     * {@link #endBatch()}, change events are not sent to registered
+     * listeners; instead a single event describing all the changes is sent
+     * when the batch ends.  Batches can be nested, in which case the event
+     * is sent when the outermost batch ends.
+     *
+     * @see #endBatch()
+     *
+     * @since 1.0.20
+     */
+    public void beginBatch() {
+        if (this.batch == null) {
+            this.batch = new ChangeBatch();
+        }
+        else {
+            this.batch.begin();
+        }
+    }
+
+    /**
+     * Ends a batch of changes to the series started by
+     * {@link #beginBatch()}.  If this ends the outermost batch and the series
+     * changed during the batch, a single {@link SeriesChangeEvent} is sent to
+     * all registered listeners.  Appends to consecutive items, and updates,
+     * are reported with the combined item range, other combinations of
+     * changes are reported as {@link SeriesChangeType#STRUCTURE} changes.
+     *
+     * @throws IllegalStateException if there is no batch in progress.
+     *
+     * @see #beginBatch()
+     *
+     * @since 1.0.20
+     */
+    public void endBatch() {
+        if (this.batch == null) {
+            throw new IllegalStateException("No batch in progress.");
+        }
+        if (!this.batch.end()) {
+            return;
+        }
+        ChangeBatch b = this.batch;
+        this.batch = null;
+        if (b.getEventCount() == 1) {
+            notifyListeners((SeriesChangeEvent) b.getFirstEvent());
+        }
+        else if (b.getEventCount() > 1) {
+            notifyListeners(new SeriesChangeEvent(this, b.getType(),
+                    b.getFirstItem(), b.getLastItem()));
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether or not the series is in
+     * concurrent mode.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setConcurrent(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isConcurrent() {
+        return this.concurrent;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the series is in concurrent
+     * mode.  In concurrent mode, one thread can modify the series while
+     * other threads (for example, a thread that draws a chart) read the
+     * snapshots returned by {@link #getSnapshot()}, without locking the
+     * series for the duration of the read.  Changes to the series are made
+     * while holding the lock on the series, and existing data items are
+     * replaced rather than modified, so that a snapshot never changes once
+     * it has been created.  Change events are sent to the registered
+     * listeners on the thread that modifies the series.
+     *
+     * @param concurrent  the new flag value.
+     *
+     * @see #isConcurrent()
+     *
+     * @since 1.0.20
+     */
+    public synchronized void setConcurrent(boolean concurrent) {
+        this.concurrent = concurrent;
+        this.snapshot = null;
+    }
+
+    /**
+     * Returns a snapshot of the series, that is a series containing the
+     * same data items as this series does now.  The snapshot is reused
+     * until this series changes, so repeated calls are cheap.  The snapshot
+     * is intended for reading only, and should not be modified.  It is only
+     * guaranteed to stay unchanged when the series is in concurrent mode.
+     *
+     * @return The snapshot (never <code>null</code>).
+     *
+     * @see #setConcurrent(boolean)
+     *
+     * @since 1.0.20
+     */
+    public Series getSnapshot() {
+        Series result = this.snapshot;
+        if (result == null) {
+            synchronized (this) {
+                result = this.snapshot;
+                if (result == null) {
+                    result = createSnapshot();
+                    this.snapshot = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new snapshot of the series.  This method is called while
+     * holding the lock on the series.  The default implementation returns a
+     * clone of the series, subclasses can override it to share the data
+     * items (which are not modified in concurrent mode).
+     *
+     * @return A new snapshot.
+     *
+     * @since 1.0.20
+     */
+    protected Series createSnapshot() {
+        try {
+            return (Series) clone();
+        }
+        catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Discards the current snapshot of the series.  Subclasses call this
+     * method (while holding the lock on the series) whenever the data
+     * changes.
+     *
+     * @since 1.0.20
+     */
+    protected void invalidateSnapshot() {
+        this.snapshot = null;
+    }
+
     /**
      * Returns <code>true</code> if the series contains no data items, and
      * <code>false</code> otherwise.
@@ -260,6 +429,8 @@ public abstract class Series implements Cloneable, Serializable {
         clone.listeners = new EventListenerList();
         clone.propertyChangeSupport = new PropertyChangeSupport(clone);
         clone.vetoableChangeSupport = new VetoableChangeSupport(clone);
+        clone.batch = null;
+        clone.snapshot = null;
         return clone;
     }
 
@@ -335,6 +506,24 @@ public abstract class Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Signals to registered listeners that a range of items in the series
+     * has been changed.
+     *
+     * @param type  the kind of change (<code>null</code> not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     *
+     * @since 1.0.20
+     */
+    protected void fireSeriesChanged(SeriesChangeType type, int firstItem,
+            int lastItem) {
+        if (this.notify) {
+            notifyListeners(new SeriesChangeEvent(this, type, firstItem,
+                    lastItem));
+        }
+    }
+
     /**
      * Sends a change event to all registered listeners.
      *
@@ -343,6 +532,11 @@ public abstract class Series implements Cloneable, Serializable {
      */
     protected void notifyListeners(SeriesChangeEvent event) {
 
+        if (this.batch != null) {
+            this.batch.add(event, 0, event.getType(), event.getFirstItem(),
+                    event.getLastItem());
+            return;
+        }
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
@@ -353,6 +547,81 @@ public abstract class Series implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Adds new items to a list of items sorted into ascending order.  The
+     * new items are sorted (the sort is stable) and, unless they all belong
+     * at the end of the list, merged with the existing items in a single
+     * pass.  This takes time proportional to the total number of items,
+     * rather than the time needed to insert each new item separately.  New
+     * items are placed after any existing items that compare as equal, as
+     * for the <code>add()</code> methods of the subclasses.  If an exception
+     * is thrown, <code>items</code> is not modified.
+     *
+     * @param items  the existing items, in ascending order
+     *     (<code>null</code> not permitted).
+     * @param newItems  the new items, which must be mutually comparable with
+     *     the existing items (<code>null</code> not permitted, this list is
+     *     sorted in place).
+     * @param allowDuplicates  a flag that controls whether new items may
+     *     compare as equal to other items.
+     *
+     * @return <code>true</code> if the new items were all added at the end
+     *     of the list.
+     *
+     * @throws SeriesException if <code>allowDuplicates</code> is
+     *     <code>false</code> and a new item compares as equal to another
+     *     item.
+     *
+     * @since 1.0.20
+     */
+    protected static boolean addAllSorted(List items, List newItems,
+            boolean allowDuplicates) {
+        ParamChecks.nullNotPermitted(items, "items");
+        ParamChecks.nullNotPermitted(newItems, "newItems");
+        int newCount = newItems.size();
+        if (newCount == 0) {
+            return true;
+        }
+        Collections.sort(newItems);
+        if (!allowDuplicates) {
+            for (int i = 1; i < newCount; i++) {
+                Comparable item = (Comparable) newItems.get(i);
+                if (item.compareTo(newItems.get(i - 1)) == 0) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+        int count = items.size();
+        Comparable first = (Comparable) newItems.get(0);
+        int c = count > 0 ? first.compareTo(items.get(count - 1)) : 1;
+        if (c > 0 || (c == 0 && allowDuplicates)) {
+            items.addAll(newItems);
+            return true;
+        }
+        List merged = new ArrayList(count + newCount);
+        int i = 0;
+        int j = 0;
+        while (i < count && j < newCount) {
+            Comparable item = (Comparable) newItems.get(j);
+            c = item.compareTo(items.get(i));
+            if (c == 0 && !allowDuplicates) {
+                throw new SeriesException("X-value already exists.");
+            }
+            if (c >= 0) {
+                merged.add(items.get(i++));
+            }
+            else {
+                merged.add(item);
+                j++;
+            }
+        }
+        merged.addAll(items.subList(i, count));
+        merged.addAll(newItems.subList(j, newCount));
+        items.clear();
+        items.addAll(merged);
+        return false;
+    }
+
     /**
      * Adds a property change listener to the series.
      *
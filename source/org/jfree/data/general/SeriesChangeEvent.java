@@ -36,6 +36,7 @@
  * -------
  * 15-Nov-2001 : Version 1 (DG);
  * 18-Aug-2003 : Implemented Serializable (DG);
+ * 18-Oct-2026 : Added change type and item range;
  *
  */
 
@@ -44,21 +45,101 @@ package org.jfree.data.general;
 import java.io.Serializable;
 import java.util.EventObject;
 
+import org.jfree.chart.util.ParamChecks;
+
 /**
- * An event with details of a change to a series.
+ * An event with details of a change to a series.  An event may describe the
+ * kind of change and the range of items affected (see
+ * {@link #getType()}), an event created with the single argument constructor
+ * describes an unspecified change ({@link SeriesChangeType#STRUCTURE}).
  */
 public class SeriesChangeEvent extends EventObject implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 1593866085210089052L;
 
+    /**
+     * The kind of change (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    private SeriesChangeType type;
+
+    /**
+     * The index of the first item affected by the change (-1 if not
+     * specified).
+     *
+     * @since 1.0.20
+     */
+    private int firstItem;
+
+    /**
+     * The index of the last item affected by the change (-1 if not
+     * specified).
+     *
+     * @since 1.0.20
+     */
+    private int lastItem;
+
     /**
      * Constructs a new event.
      *
      * @param source  the source of the change event.
      */
     public SeriesChangeEvent(Object source) {
+        this(source, SeriesChangeType.STRUCTURE, -1, -1);
+    }
+
+    /**
+     * Constructs a new event describing a change to a range of items.
+     *
+     * @param source  the source of the change event.
+     * @param type  the kind of change (<code>null</code> not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     *
+     * @since 1.0.20
+     */
+    public SeriesChangeEvent(Object source, SeriesChangeType type,
+            int firstItem, int lastItem) {
         super(source);
+        ParamChecks.nullNotPermitted(type, "type");
+        this.type = type;
+        this.firstItem = firstItem;
+        this.lastItem = lastItem;
+    }
+
+    /**
+     * Returns the kind of change.
+     *
+     * @return The kind of change (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public SeriesChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the first item affected by the change.
+     *
+     * @return The item index (-1 if not specified).
+     *
+     * @since 1.0.20
+     */
+    public int getFirstItem() {
+        return this.firstItem;
+    }
+
+    /**
+     * Returns the index of the last item affected by the change.
+     *
+     * @return The item index (-1 if not specified).
+     *
+     * @since 1.0.20
+     */
+    public int getLastItem() {
+        return this.lastItem;
     }
 
 }
@@ -0,0 +1,81 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * SeriesChangeType.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * The kind of change described by a {@link SeriesChangeEvent} or a
+ * {@link DatasetChangeEvent}.  Together with an item range, the kind allows
+ * listeners (for example the bounds cache used by {@link DatasetUtilities})
+ * to update derived information without examining every item.
+ *
+ * @since 1.0.20
+ */
+public enum SeriesChangeType {
+
+    /**
+     * Items were added at the end of a series.  The item range gives the
+     * indices of the new items.  A series with a maximum item count may also
+     * have dropped items from the front, listeners can detect this by
+     * comparing the item count with the end of the item range.
+     */
+    APPEND,
+
+    /**
+     * The y-values (or other values, but not the x-values) of existing items
+     * were changed.  The item range gives the indices of the changed items,
+     * the number of items and their order are unchanged.
+     */
+    UPDATE,
+
+    /**
+     * Items were removed from a series.  The item range gives the indices
+     * the items had before they were removed.
+     */
+    REMOVE,
+
+    /**
+     * Any other change (including the insertion of items before the end of a
+     * series, and the addition or removal of series).  Listeners should
+     * assume that every item may have changed.
+     */
+    STRUCTURE
+
+}
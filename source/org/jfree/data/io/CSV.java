@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 24-Nov-2003 : Version 1 (DG);
+ * 18-Oct-2026 : Added a reference to DelimitedDataReader;
  *
  */
 
@@ -51,7 +52,8 @@ import org.jfree.data.category.DefaultCategoryDataset;
 /**
  * A utility class for reading {@link CategoryDataset} data from a CSV file.
  * This initial version is very basic, and won't handle errors in the data
- * file very gracefully.
+ * file very gracefully.  To read x/y, time series or OHLC data from large
+ * files, see {@link DelimitedDataReader}.
  */
 public class CSV {
 
@@ -0,0 +1,1562 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * DelimitedDataReader.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.time.StreamingTimeSeriesCollection;
+import org.jfree.data.xy.DefaultHighLowDataset;
+import org.jfree.data.xy.DefaultXYDataset;
+
+/**
+ * A reader for large delimited (CSV) files, that loads selected columns
+ * into x/y, time series and OHLC datasets.  {@link CSV} reads a
+ * {@link org.jfree.data.category.CategoryDataset} one line at a time,
+ * creating strings and <code>Double</code> objects for each field.  This
+ * class instead:
+ * <ul>
+ * <li>maps the file into memory and parses the bytes directly, so that no
+ * objects are created for the rows;</li>
+ * <li>splits large files into chunks at line boundaries and parses the
+ * chunks in parallel (see {@link #setParallel(boolean)});</li>
+ * <li>parses only the selected columns (the other fields are skipped);</li>
+ * <li>stores the values in <code>double[]</code> columns, which are used
+ * directly by the datasets that it creates.</li>
+ * </ul>
+ * The file must use an encoding in which the delimiters, digits and date
+ * characters are single bytes with their ASCII values, such as UTF-8 or
+ * ISO-8859-1.  Lines end with LF or CR-LF.  A field can be enclosed in
+ * text delimiters (so that it can contain the field delimiter) but cannot
+ * span lines.  Empty fields, and missing fields at the end of a line, are
+ * read as <code>Double.NaN</code>, and blank lines are ignored.
+ * <P>
+ * Numbers are read in the formats accepted by
+ * {@link Double#parseDouble(String)}, and are rounded in the same way.
+ * Dates and times are read in the ISO-8601 formats
+ * <code>yyyy-MM-dd</code>, <code>yyyy-MM-ddTHH:mm</code> and
+ * <code>yyyy-MM-ddTHH:mm:ss.SSS</code> (with a space or 'T' before the
+ * time, and optional seconds, fraction and time zone, for example
+ * <code>Z</code> or <code>+01:00</code>).  Other dates are read with the
+ * date format, if one is set (see {@link #setDateFormat(DateFormat)}), or
+ * as numbers of milliseconds since 1-Jan-1970.  Dates without
+ * a time zone are interpreted in the reader's time zone (see
+ * {@link #setTimeZone(TimeZone)}).
+ *
+ * @since 1.0.20
+ */
+public class DelimitedDataReader {
+
+    /** The minimum number of bytes for each parallel task. */
+    static final int MIN_BYTES_PER_TASK = 1 << 22;
+
+    /** The maximum number of bytes in a chunk (mapped as one buffer). */
+    private static final int MAX_BYTES_PER_TASK = 1 << 30;
+
+    /** The character set for the column names. */
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /** The field delimiter. */
+    private char fieldDelimiter;
+
+    /** The text delimiter. */
+    private char textDelimiter;
+
+    /** A flag that controls whether the first line holds column names. */
+    private boolean firstLineHeader;
+
+    /** The time zone for dates without a time zone. */
+    private TimeZone timeZone;
+
+    /** The date format (<code>null</code> permitted). */
+    private DateFormat dateFormat;
+
+    /** A flag that controls whether large files are parsed in parallel. */
+    private boolean parallel;
+
+    /**
+     * Creates a new reader where the field delimiter is a comma, and the
+     * text delimiter is a double-quote.
+     */
+    public DelimitedDataReader() {
+        this(',', '"');
+    }
+
+    /**
+     * Creates a new reader with the specified field and text delimiters.
+     *
+     * @param fieldDelimiter  the field delimiter (usually a comma,
+     *     semi-colon, colon, tab or space).
+     * @param textDelimiter  the text delimiter (usually a single or double
+     *     quote).
+     */
+    public DelimitedDataReader(char fieldDelimiter, char textDelimiter) {
+        if (fieldDelimiter > 127 || textDelimiter > 127
+                || fieldDelimiter == textDelimiter) {
+            throw new IllegalArgumentException(
+                    "Requires distinct ASCII delimiters.");
+        }
+        this.fieldDelimiter = fieldDelimiter;
+        this.textDelimiter = textDelimiter;
+        this.firstLineHeader = true;
+        this.timeZone = TimeZone.getDefault();
+        this.parallel = true;
+    }
+
+    /**
+     * Returns the flag that controls whether the first line of a file holds
+     * the column names (used as series keys) rather than data.  The default
+     * value is <code>true</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setFirstLineHeader(boolean)
+     */
+    public boolean isFirstLineHeader() {
+        return this.firstLineHeader;
+    }
+
+    /**
+     * Sets the flag that controls whether the first line of a file holds
+     * the column names rather than data.  If there are no column names, the
+     * series keys are "Column 1", "Column 2" and so on.  A column name that
+     * is repeated in the header is made unique by appending the column
+     * number, for example "Price (column 3)".
+     *
+     * @param header  the new flag value.
+     *
+     * @see #isFirstLineHeader()
+     */
+    public void setFirstLineHeader(boolean header) {
+        this.firstLineHeader = header;
+    }
+
+    /**
+     * Returns the time zone used for dates that do not specify one.
+     *
+     * @return The time zone (never <code>null</code>).
+     *
+     * @see #setTimeZone(TimeZone)
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Sets the time zone used for dates that do not specify one.  The
+     * default is the JVM's default time zone.
+     *
+     * @param zone  the time zone (<code>null</code> not permitted).
+     *
+     * @see #getTimeZone()
+     */
+    public void setTimeZone(TimeZone zone) {
+        ParamChecks.nullNotPermitted(zone, "zone");
+        this.timeZone = zone;
+    }
+
+    /**
+     * Returns the format used for dates that are not in an ISO-8601
+     * format.
+     *
+     * @return The date format (possibly <code>null</code>).
+     *
+     * @see #setDateFormat(DateFormat)
+     */
+    public DateFormat getDateFormat() {
+        return this.dateFormat;
+    }
+
+    /**
+     * Sets the format used for dates that are not in an ISO-8601 format.
+     * The format is copied for each parallel task.  Parsing with a
+     * <code>DateFormat</code> is much slower than parsing ISO-8601 dates or
+     * numbers of milliseconds.
+     *
+     * @param format  the date format (<code>null</code> permitted, in which
+     *     case such dates are read as numbers of milliseconds).
+     *
+     * @see #getDateFormat()
+     */
+    public void setDateFormat(DateFormat format) {
+        this.dateFormat = format;
+    }
+
+    /**
+     * Returns the flag that controls whether large files are parsed in
+     * parallel.  The default value is <code>true</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallel(boolean)
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Sets the flag that controls whether large files are parsed in
+     * parallel.  When it is set, a file is split into chunks of at least
+     * 4MB, and the chunks are parsed on the calling thread and the threads
+     * of the common fork-join pool.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallel()
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Reads the specified columns of a file as numbers.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param columns  the column indices (zero-based, <code>null</code> not
+     *     permitted).
+     *
+     * @return The values, one array for each of the specified columns.
+     *
+     * @throws IOException if there is a problem reading the file, or a
+     *     value cannot be parsed.
+     */
+    public double[][] readColumns(File file, int[] columns)
+            throws IOException {
+        ParamChecks.nullNotPermitted(columns, "columns");
+        return read(file, columns, new boolean[columns.length]).values;
+    }
+
+    /**
+     * Reads an {@link org.jfree.data.xy.XYDataset} from a file, with one
+     * series for each of the y-columns.  The series share the array of
+     * x-values, and the values are in the same order as the lines in the
+     * file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param xColumn  the index of the column holding the x-values
+     *     (zero-based).
+     * @param yColumns  the indices of the columns holding the y-values
+     *     (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is a problem reading the file, or a
+     *     value cannot be parsed.
+     * @throws IllegalArgumentException if a y-column is repeated.
+     */
+    public DefaultXYDataset readXYDataset(File file, int xColumn,
+            int[] yColumns) throws IOException {
+        ParamChecks.nullNotPermitted(yColumns, "yColumns");
+        int[] columns = new int[yColumns.length + 1];
+        columns[0] = xColumn;
+        System.arraycopy(yColumns, 0, columns, 1, yColumns.length);
+        Table table = read(file, columns, new boolean[columns.length]);
+        String[] keys = seriesKeys(table.names, columns);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        for (int s = 0; s < yColumns.length; s++) {
+            dataset.addSeries(keys[s], new double[][] {
+                    table.values[0], table.values[s + 1]});
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads a time series collection from a file, with one series for each
+     * of the value columns.  Lines with no date are skipped, and the rows
+     * are sorted by date if they are not in order in the file.  The values
+     * are stored with <code>float</code> precision.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param dateColumn  the index of the column holding the dates
+     *     (zero-based).
+     * @param valueColumns  the indices of the columns holding the values
+     *     (<code>null</code> not permitted).
+     *
+     * @return The collection.
+     *
+     * @throws IOException if there is a problem reading the file, or a
+     *     value cannot be parsed.
+     * @throws IllegalArgumentException if a value column is repeated.
+     */
+    public StreamingTimeSeriesCollection readTimeSeriesCollection(File file,
+            int dateColumn, int[] valueColumns) throws IOException {
+        ParamChecks.nullNotPermitted(valueColumns, "valueColumns");
+        int[] columns = new int[valueColumns.length + 1];
+        columns[0] = dateColumn;
+        System.arraycopy(valueColumns, 0, columns, 1, valueColumns.length);
+        boolean[] dates = new boolean[columns.length];
+        dates[0] = true;
+        Table table = read(file, columns, dates);
+        String[] keys = seriesKeys(table.names, columns);
+        int[] order = datedRows(table.values[0], true);
+        StreamingTimeSeriesCollection dataset
+                = new StreamingTimeSeriesCollection(Math.max(order.length, 1));
+        for (int s = 0; s < valueColumns.length; s++) {
+            dataset.addSeries(keys[s]);
+        }
+        float[] row = new float[valueColumns.length];
+        dataset.beginBatch();
+        try {
+            for (int item : order) {
+                for (int s = 0; s < row.length; s++) {
+                    row[s] = (float) table.values[s + 1][item];
+                }
+                dataset.append((long) table.values[0][item], row);
+            }
+        }
+        finally {
+            dataset.endBatch();
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads an {@link org.jfree.data.xy.OHLCDataset} from a file.  Lines
+     * with no date are skipped, and the other lines are kept in the order
+     * of the file.  The series key is the name of the file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param dateColumn  the index of the column holding the dates.
+     * @param openColumn  the index of the column holding the open values.
+     * @param highColumn  the index of the column holding the high values.
+     * @param lowColumn  the index of the column holding the low values.
+     * @param closeColumn  the index of the column holding the close values.
+     * @param volumeColumn  the index of the column holding the volumes
+     *     (-1 if there is no volume column, in which case the volumes are
+     *     zero).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is a problem reading the file, or a
+     *     value cannot be parsed.
+     */
+    public DefaultHighLowDataset readOHLCDataset(File file, int dateColumn,
+            int openColumn, int highColumn, int lowColumn, int closeColumn,
+            int volumeColumn) throws IOException {
+        int[] columns = new int[] {dateColumn, openColumn, highColumn,
+                lowColumn, closeColumn};
+        if (volumeColumn >= 0) {
+            columns = Arrays.copyOf(columns, 6);
+            columns[5] = volumeColumn;
+        }
+        boolean[] dates = new boolean[columns.length];
+        dates[0] = true;
+        Table table = read(file, columns, dates);
+        int[] order = datedRows(table.values[0], false);
+        int n = order.length;
+        Date[] date = new Date[n];
+        double[][] values = new double[5][n];
+        for (int i = 0; i < n; i++) {
+            int item = order[i];
+            date[i] = new Date((long) table.values[0][item]);
+            for (int k = 1; k < columns.length; k++) {
+                values[k - 1][i] = table.values[k][item];
+            }
+        }
+        return new DefaultHighLowDataset(file.getName(), date, values[1],
+                values[2], values[0], values[3], values[4]);
+    }
+
+    /**
+     * Returns the series keys for the columns after the first (the x or
+     * date column), appending the column number to a name that is
+     * repeated in the header.
+     *
+     * @param names  the column names.
+     * @param columns  the column indices.
+     *
+     * @return The series keys.
+     *
+     * @throws IllegalArgumentException if a series column is repeated.
+     */
+    private static String[] seriesKeys(String[] names, int[] columns) {
+        String[] keys = new String[columns.length - 1];
+        for (int s = 0; s < keys.length; s++) {
+            int column = columns[s + 1];
+            boolean repeated = false;
+            for (int k = 1; k < columns.length; k++) {
+                if (k != s + 1 && names[k].equals(names[s + 1])) {
+                    if (columns[k] == column) {
+                        throw new IllegalArgumentException("Column " + column
+                                + " is requested for more than one series.");
+                    }
+                    repeated = true;
+                }
+            }
+            keys[s] = repeated ? names[s + 1] + " (column " + (column + 1)
+                    + ")" : names[s + 1];
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the indices of the rows that have a date, optionally sorted
+     * by date.
+     *
+     * @param dates  the dates (<code>Double.NaN</code> for no date).
+     * @param sort  sort the rows by date?
+     *
+     * @return The row indices.
+     */
+    private static int[] datedRows(double[] dates, boolean sort) {
+        int[] order = new int[dates.length];
+        int n = 0;
+        boolean sorted = true;
+        for (int i = 0; i < dates.length; i++) {
+            if (!Double.isNaN(dates[i])) {
+                if (n > 0 && dates[i] < dates[order[n - 1]]) {
+                    sorted = false;
+                }
+                order[n++] = i;
+            }
+        }
+        order = Arrays.copyOf(order, n);
+        if (sort && !sorted) {
+            mergeSort(order, new int[n], 0, n, dates);
+        }
+        return order;
+    }
+
+    /**
+     * Sorts a range of row indices by date, keeping rows with the same
+     * date in their original order.
+     *
+     * @param order  the row indices.
+     * @param work  a work array (the same length as <code>order</code>).
+     * @param from  the start of the range (inclusive).
+     * @param to  the end of the range (exclusive).
+     * @param dates  the dates.
+     */
+    private static void mergeSort(int[] order, int[] work, int from, int to,
+            double[] dates) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(order, work, from, mid, dates);
+        mergeSort(order, work, mid, to, dates);
+        if (dates[order[mid - 1]] <= dates[order[mid]]) {
+            return;
+        }
+        System.arraycopy(order, from, work, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && dates[work[i]] <= dates[work[j]])) {
+                order[k] = work[i++];
+            }
+            else {
+                order[k] = work[j++];
+            }
+        }
+    }
+
+    /**
+     * Reads the specified columns of a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param columns  the column indices.
+     * @param dates  flags that indicate which columns hold dates.
+     *
+     * @return The column names and values.
+     *
+     * @throws IOException if there is a problem reading the file, or a
+     *     value cannot be parsed.
+     */
+    private Table read(File file, int[] columns, boolean[] dates)
+            throws IOException {
+        ParamChecks.nullNotPermitted(file, "file");
+        // each distinct column is parsed once, into its own slot
+        int[] slots = new int[0];
+        int[] slotOfColumn = new int[columns.length];
+        List<Boolean> slotDates = new ArrayList<Boolean>();
+        for (int k = 0; k < columns.length; k++) {
+            int column = columns[k];
+            if (column < 0) {
+                throw new IllegalArgumentException("Negative column index: "
+                        + column);
+            }
+            if (column >= slots.length) {
+                int size = slots.length;
+                slots = Arrays.copyOf(slots, column + 1);
+                Arrays.fill(slots, size, column + 1, -1);
+            }
+            if (slots[column] < 0) {
+                slots[column] = slotDates.size();
+                slotDates.add(dates[k]);
+            }
+            else if (slotDates.get(slots[column]) != dates[k]) {
+                throw new IllegalArgumentException("Column " + column
+                        + " cannot be read as both dates and numbers.");
+            }
+            slotOfColumn[k] = slots[column];
+        }
+        boolean[] parsedDates = new boolean[slotDates.size()];
+        for (int slot = 0; slot < parsedDates.length; slot++) {
+            parsedDates[slot] = slotDates.get(slot);
+        }
+
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long size = channel.size();
+            long start = 0;
+            ByteBuffer bom = ByteBuffer.allocate(3);
+            channel.read(bom, 0);
+            if (bom.position() == 3 && bom.get(0) == (byte) 0xEF
+                    && bom.get(1) == (byte) 0xBB
+                    && bom.get(2) == (byte) 0xBF) {
+                start = 3;
+            }
+            List<String> header = null;
+            if (this.firstLineHeader) {
+                long end = findLineStart(channel, start, size);
+                ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+                channel.read(buffer, start);
+                header = splitLine(new String(buffer.array(), UTF8));
+                start = end;
+            }
+            String[] names = new String[columns.length];
+            for (int k = 0; k < columns.length; k++) {
+                int column = columns[k];
+                if (header != null && column < header.size()) {
+                    names[k] = header.get(column);
+                }
+                else {
+                    names[k] = "Column " + (column + 1);
+                }
+            }
+            double[][] parsed;
+            try {
+                parsed = parse(channel, start, size, slots, parsedDates);
+            }
+            catch (FieldException e) {
+                throw new IOException(e.getMessage() + " on line "
+                        + lineNumber(channel, e.offset) + " of " + file);
+            }
+            double[][] values = new double[columns.length][];
+            for (int k = 0; k < columns.length; k++) {
+                values[k] = parsed[slotOfColumn[k]];
+            }
+            return new Table(names, values);
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Parses the lines in a region of a file, in parallel chunks if the
+     * region is large enough.
+     *
+     * @param channel  the file channel.
+     * @param start  the start of the region.
+     * @param end  the end of the region.
+     * @param slots  the slot for each column (-1 for columns that are not
+     *     parsed).
+     * @param dates  flags that indicate which slots hold dates.
+     *
+     * @return The values, one array for each slot.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    private double[][] parse(FileChannel channel, long start, long end,
+            final int[] slots, final boolean[] dates) throws IOException {
+        long length = end - start;
+        // one task for the calling thread and one for each worker thread
+        int tasks = 1;
+        if (this.parallel) {
+            tasks = (int) Math.min(
+                    ForkJoinPool.getCommonPoolParallelism() + 1,
+                    length / MIN_BYTES_PER_TASK);
+        }
+        tasks = (int) Math.max(tasks, (length - 1) / MAX_BYTES_PER_TASK + 1);
+        tasks = Math.max(tasks, 1);
+        long[] bounds = new long[tasks + 1];
+        bounds[0] = start;
+        bounds[tasks] = end;
+        for (int t = 1; t < tasks; t++) {
+            long nominal = start + length * t / tasks;
+            bounds[t] = Math.max(bounds[t - 1],
+                    findLineStart(channel, nominal - 1, end));
+        }
+        final char delimiter = this.fieldDelimiter;
+        final char quote = this.textDelimiter;
+        final TimeZone zone = this.timeZone;
+        final DateFormat format = this.dateFormat;
+        List<Future<Chunk>> futures = new ArrayList<Future<Chunk>>();
+        Chunk[] chunks = new Chunk[tasks];
+        try {
+            for (int t = 1; t < tasks; t++) {
+                final ByteBuffer buffer = channel.map(
+                        FileChannel.MapMode.READ_ONLY, bounds[t],
+                        bounds[t + 1] - bounds[t]);
+                final long offset = bounds[t];
+                Callable<Chunk> task = new Callable<Chunk>() {
+                    @Override
+                    public Chunk call() throws FieldException {
+                        return new Parser(delimiter, quote, slots, dates,
+                                zone, format).parse(buffer, offset);
+                    }
+                };
+                futures.add(ForkJoinPool.commonPool().submit(task));
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    bounds[0], bounds[1] - bounds[0]);
+            chunks[0] = new Parser(delimiter, quote, slots, dates, zone,
+                    format).parse(buffer, bounds[0]);
+            for (int t = 1; t < tasks; t++) {
+                chunks[t] = getChunk(futures.get(t - 1));
+            }
+        }
+        finally {
+            for (Future<Chunk> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return merge(chunks, dates.length);
+    }
+
+    /**
+     * Returns the chunk parsed by a task.
+     *
+     * @param future  the task.
+     *
+     * @return The chunk.
+     *
+     * @throws IOException if the task failed or the calling thread is
+     *     interrupted.
+     */
+    private static Chunk getChunk(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading.");
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Concatenates the values in a sequence of chunks.
+     *
+     * @param chunks  the chunks.
+     * @param slotCount  the number of slots.
+     *
+     * @return The values, one array for each slot.
+     */
+    private static double[][] merge(Chunk[] chunks, int slotCount) {
+        int count = 0;
+        for (Chunk chunk : chunks) {
+            count += chunk.count;
+        }
+        double[][] result = new double[slotCount][];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (chunks.length == 1) {
+                double[] values = chunks[0].values[slot];
+                result[slot] = values.length == count ? values
+                        : Arrays.copyOf(values, count);
+                continue;
+            }
+            result[slot] = new double[count];
+            int position = 0;
+            for (Chunk chunk : chunks) {
+                System.arraycopy(chunk.values[slot], 0, result[slot],
+                        position, chunk.count);
+                position += chunk.count;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position after the first line feed at or after the
+     * specified position.
+     *
+     * @param channel  the file channel.
+     * @param position  the position.
+     * @param end  the end of the file.
+     *
+     * @return The start of the next line (<code>end</code> if there is no
+     *     line feed).
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    private static long findLineStart(FileChannel channel, long position,
+            long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long p = position;
+        while (p < end) {
+            buffer.clear();
+            int n = channel.read(buffer, p);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') {
+                    return p + i + 1;
+                }
+            }
+            p += n;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the number of the line containing the specified position
+     * (the first line is line 1).
+     *
+     * @param channel  the file channel.
+     * @param position  the position.
+     *
+     * @return The line number.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    private static long lineNumber(FileChannel channel, long position)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(65536);
+        long line = 1;
+        long p = 0;
+        while (p < position) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), position - p));
+            int n = channel.read(buffer, p);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') {
+                    line++;
+                }
+            }
+            p += n;
+        }
+        return line;
+    }
+
+    /**
+     * Splits a line (the header) into fields, removing white space and
+     * text delimiters around each field.
+     *
+     * @param line  the line.
+     *
+     * @return The fields.
+     */
+    private List<String> splitLine(String line) {
+        List<String> result = new ArrayList<String>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == this.textDelimiter) {
+                quoted = !quoted;
+            }
+            else if (c == this.fieldDelimiter && !quoted) {
+                result.add(field.toString().trim());
+                field.setLength(0);
+            }
+            else {
+                field.append(c);
+            }
+        }
+        result.add(field.toString().trim());
+        return result;
+    }
+
+    /**
+     * The names and values of the columns read from a file.
+     */
+    private static class Table {
+
+        /** The column names. */
+        String[] names;
+
+        /** The values, one array for each column. */
+        double[][] values;
+
+        /**
+         * Creates a new table.
+         *
+         * @param names  the column names.
+         * @param values  the values.
+         */
+        Table(String[] names, double[][] values) {
+            this.names = names;
+            this.values = values;
+        }
+
+    }
+
+    /**
+     * The values parsed from a chunk of a file.
+     */
+    private static class Chunk {
+
+        /**
+         * The values, one array for each slot (the arrays can be longer
+         * than the number of rows).
+         */
+        double[][] values;
+
+        /** The number of rows. */
+        int count;
+
+    }
+
+    /**
+     * An exception for a field that cannot be parsed.
+     */
+    private static class FieldException extends IOException {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2418853447513106185L;
+
+        /** The position of the field in the file. */
+        long offset;
+
+        /**
+         * Creates a new exception.
+         *
+         * @param message  the message.
+         * @param offset  the position of the field in the file.
+         */
+        FieldException(String message, long offset) {
+            super(message);
+            this.offset = offset;
+        }
+
+    }
+
+    /**
+     * 128-bit approximations (rounded down) of the powers of ten, scaled so
+     * that the most significant bit is set, for the Eisel-Lemire algorithm.
+     */
+    private static class PowersOfTen {
+
+        /** The smallest power of ten in the table. */
+        static final int MIN_EXPONENT = -348;
+
+        /** The largest power of ten in the table. */
+        static final int MAX_EXPONENT = 347;
+
+        /** The high 64 bits of each approximation. */
+        static final long[] HIGH = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+
+        /** The low 64 bits of each approximation. */
+        static final long[] LOW = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+
+        static {
+            BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(
+                    BigInteger.ONE);
+            for (int e = MIN_EXPONENT; e <= MAX_EXPONENT; e++) {
+                BigInteger value;
+                if (e >= 0) {
+                    value = BigInteger.TEN.pow(e);
+                    int shift = value.bitLength() - 128;
+                    value = shift > 0 ? value.shiftRight(shift)
+                            : value.shiftLeft(-shift);
+                }
+                else {
+                    BigInteger divisor = BigInteger.TEN.pow(-e);
+                    value = BigInteger.ONE.shiftLeft(divisor.bitLength()
+                            + 127).divide(divisor);
+                }
+                HIGH[e - MIN_EXPONENT] = value.shiftRight(64).longValue();
+                LOW[e - MIN_EXPONENT] = value.and(mask).longValue();
+            }
+        }
+
+    }
+
+    /**
+     * Parses the lines in a chunk of a file.  A parser is used by one
+     * thread only.
+     */
+    private static class Parser {
+
+        /** Exact powers of ten. */
+        private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3,
+                1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14,
+                1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+        /** The largest integer that is exactly representable (2^53). */
+        private static final long MAX_EXACT = 1L << 53;
+
+        /** The number of milliseconds in an hour. */
+        private static final long HOUR = 3600000L;
+
+        /** The field delimiter. */
+        private final byte delimiter;
+
+        /** The text delimiter. */
+        private final byte quote;
+
+        /** The slot for each column (-1 for columns that are skipped). */
+        private final int[] slots;
+
+        /** Flags that indicate which slots hold dates. */
+        private final boolean[] dates;
+
+        /** The time zone for dates without a time zone. */
+        private final TimeZone zone;
+
+        /** The date format (<code>null</code> permitted). */
+        private final DateFormat format;
+
+        /** A calendar for the time zone (created when first required). */
+        private Calendar calendar;
+
+        /** The local hour for the cached time zone offset. */
+        private long cachedHour;
+
+        /** The time zone offset for the cached local hour. */
+        private long cachedOffset;
+
+        /**
+         * Creates a new parser.
+         *
+         * @param delimiter  the field delimiter.
+         * @param quote  the text delimiter.
+         * @param slots  the slot for each column.
+         * @param dates  flags that indicate which slots hold dates.
+         * @param zone  the time zone for dates without a time zone.
+         * @param format  the date format (<code>null</code> permitted).
+         */
+        Parser(char delimiter, char quote, int[] slots, boolean[] dates,
+                TimeZone zone, DateFormat format) {
+            this.delimiter = (byte) delimiter;
+            this.quote = (byte) quote;
+            this.slots = slots;
+            this.dates = dates;
+            this.zone = zone;
+            this.format = format != null ? (DateFormat) format.clone()
+                    : null;
+            this.cachedHour = Long.MIN_VALUE;
+        }
+
+        /**
+         * Parses the lines in a buffer.
+         *
+         * @param buffer  the buffer (a whole number of lines, except that
+         *     the last line need not end with a line feed).
+         * @param offset  the position of the buffer in the file.
+         *
+         * @return The values.
+         *
+         * @throws FieldException if a value cannot be parsed.
+         */
+        Chunk parse(ByteBuffer buffer, long offset) throws FieldException {
+            int end = buffer.limit();
+            int slotCount = this.dates.length;
+            int capacity = Math.max(16, Math.min(end / 16, 1 << 20));
+            double[][] values = new double[slotCount][capacity];
+            int count = 0;
+            int pos = 0;
+            while (pos < end) {
+                if (count == capacity) {
+                    capacity = capacity * 2;
+                    for (int slot = 0; slot < slotCount; slot++) {
+                        values[slot] = Arrays.copyOf(values[slot], capacity);
+                    }
+                }
+                for (int slot = 0; slot < slotCount; slot++) {
+                    values[slot][count] = Double.NaN;
+                }
+                int lineStart = pos;
+                int field = 0;
+                while (true) {
+                    int start = pos;
+                    int stop;
+                    if (pos < end && buffer.get(pos) == this.quote) {
+                        start = ++pos;
+                        while (pos < end && buffer.get(pos) != this.quote
+                                && buffer.get(pos) != '\n') {
+                            pos++;
+                        }
+                        stop = pos;
+                        pos = skipField(buffer, pos, end);
+                    }
+                    else {
+                        pos = skipField(buffer, pos, end);
+                        stop = pos;
+                    }
+                    if (field < this.slots.length && this.slots[field] >= 0) {
+                        int slot = this.slots[field];
+                        values[slot][count] = this.dates[slot]
+                                ? parseDate(buffer, start, stop, offset)
+                                : parseNumber(buffer, start, stop, offset);
+                    }
+                    field++;
+                    if (pos < end && buffer.get(pos) == this.delimiter) {
+                        pos++;
+                    }
+                    else {
+                        break;
+                    }
+                }
+                if (pos < end) {
+                    pos++;  // the line feed
+                }
+                if (field > 1 || trimStart(buffer, lineStart, pos)
+                        < trimEnd(buffer, lineStart, pos)) {
+                    count++;
+                }
+            }
+            Chunk chunk = new Chunk();
+            chunk.values = values;
+            chunk.count = count;
+            return chunk;
+        }
+
+        /**
+         * Returns the position of the next field delimiter or line feed.
+         *
+         * @param buffer  the buffer.
+         * @param pos  the position to start from.
+         * @param end  the end of the buffer.
+         *
+         * @return The position (<code>end</code> if there is no delimiter
+         *     or line feed).
+         */
+        private int skipField(ByteBuffer buffer, int pos, int end) {
+            while (pos < end) {
+                byte b = buffer.get(pos);
+                if (b == this.delimiter || b == '\n') {
+                    return pos;
+                }
+                pos++;
+            }
+            return end;
+        }
+
+        /**
+         * Returns the position of the first character in a field that is
+         * not white space (or a text delimiter).
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param stop  the end of the field.
+         *
+         * @return The position.
+         */
+        private int trimStart(ByteBuffer buffer, int start, int stop) {
+            while (start < stop && isSpace(buffer.get(start))) {
+                start++;
+            }
+            return start;
+        }
+
+        /**
+         * Returns the position after the last character in a field that is
+         * not white space (or a text delimiter).
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param stop  the end of the field.
+         *
+         * @return The position.
+         */
+        private int trimEnd(ByteBuffer buffer, int start, int stop) {
+            while (stop > start && isSpace(buffer.get(stop - 1))) {
+                stop--;
+            }
+            return stop;
+        }
+
+        /**
+         * Returns <code>true</code> if the specified character is ignored
+         * at the start or end of a field.
+         *
+         * @param b  the character.
+         *
+         * @return A boolean.
+         */
+        private boolean isSpace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r' || b == '\n'
+                    || b == this.quote;
+        }
+
+        /**
+         * Parses a number.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param stop  the end of the field.
+         * @param offset  the position of the buffer in the file.
+         *
+         * @return The number (<code>Double.NaN</code> for an empty field).
+         *
+         * @throws FieldException if the field is not a number.
+         */
+        double parseNumber(ByteBuffer buffer, int start, int stop,
+                long offset) throws FieldException {
+            int s = trimStart(buffer, start, stop);
+            int e = trimEnd(buffer, s, stop);
+            if (s == e) {
+                return Double.NaN;
+            }
+            int i = s;
+            boolean negative = false;
+            byte b = buffer.get(i);
+            if (b == '-' || b == '+') {
+                negative = (b == '-');
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean exact = true;
+            boolean any = false;
+            while (i < e && (b = buffer.get(i)) >= '0' && b <= '9') {
+                any = true;
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (mantissa > 0) {
+                        digits++;
+                    }
+                }
+                else {
+                    exponent++;
+                    exact &= (b == '0');
+                }
+                i++;
+            }
+            if (i < e && buffer.get(i) == '.') {
+                i++;
+                while (i < e && (b = buffer.get(i)) >= '0' && b <= '9') {
+                    any = true;
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (b - '0');
+                        if (mantissa > 0) {
+                            digits++;
+                        }
+                        exponent--;
+                    }
+                    else {
+                        exact &= (b == '0');
+                    }
+                    i++;
+                }
+            }
+            if (any && i < e && ((b = buffer.get(i)) == 'e' || b == 'E')) {
+                i++;
+                boolean negativeExponent = false;
+                if (i < e && ((b = buffer.get(i)) == '-' || b == '+')) {
+                    negativeExponent = (b == '-');
+                    i++;
+                }
+                int value = 0;
+                boolean anyDigits = false;
+                while (i < e && (b = buffer.get(i)) >= '0' && b <= '9') {
+                    value = Math.min(value * 10 + (b - '0'), 100000);
+                    anyDigits = true;
+                    i++;
+                }
+                if (!anyDigits) {
+                    any = false;
+                }
+                exponent += negativeExponent ? -value : value;
+            }
+            if (any && i == e && exact) {
+                if (mantissa < MAX_EXACT && exponent >= -22
+                        && exponent <= 22) {
+                    // both operands are exact, so the result is correctly
+                    // rounded (the same as Double.parseDouble())
+                    double v = exponent >= 0
+                            ? mantissa * POWERS_OF_TEN[exponent]
+                            : mantissa / POWERS_OF_TEN[-exponent];
+                    return negative ? -v : v;
+                }
+                double v = toDouble(mantissa, exponent, negative);
+                if (!Double.isNaN(v)) {
+                    return v;
+                }
+            }
+            String text = text(buffer, s, e);
+            try {
+                return Double.parseDouble(text);
+            }
+            catch (NumberFormatException ex) {
+                throw new FieldException("Invalid number '" + text + "'",
+                        offset + s);
+            }
+        }
+
+        /**
+         * Returns the double closest to <code>mantissa * 10^exponent</code>
+         * using the Eisel-Lemire algorithm, which multiplies the mantissa
+         * by a 128-bit approximation of the power of ten and gives up
+         * (returning <code>Double.NaN</code>) in the rare cases where the
+         * approximation is not accurate enough to round correctly.
+         *
+         * @param mantissa  the mantissa (not negative).
+         * @param exponent  the power of ten.
+         * @param negative  a flag that indicates a negative number.
+         *
+         * @return The number, or <code>Double.NaN</code> if it must be
+         *     found some other way.
+         */
+        private static double toDouble(long mantissa, int exponent,
+                boolean negative) {
+            if (mantissa == 0) {
+                return negative ? -0.0 : 0.0;
+            }
+            if (exponent < PowersOfTen.MIN_EXPONENT
+                    || exponent > PowersOfTen.MAX_EXPONENT) {
+                return Double.NaN;
+            }
+            int index = exponent - PowersOfTen.MIN_EXPONENT;
+            int zeros = Long.numberOfLeadingZeros(mantissa);
+            long m = mantissa << zeros;
+            long binaryExponent = ((217706L * exponent) >> 16) + 64 + 1023
+                    - zeros;
+            long high = multiplyHigh(m, PowersOfTen.HIGH[index]);
+            long low = m * PowersOfTen.HIGH[index];
+            if ((high & 0x1FF) == 0x1FF
+                    && Long.compareUnsigned(low + m, m) < 0) {
+                long yHigh = multiplyHigh(m, PowersOfTen.LOW[index]);
+                long yLow = m * PowersOfTen.LOW[index];
+                long mergedHigh = high;
+                long mergedLow = low + yHigh;
+                if (Long.compareUnsigned(mergedLow, low) < 0) {
+                    mergedHigh++;
+                }
+                if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow == -1L
+                        && Long.compareUnsigned(yLow + m, m) < 0) {
+                    return Double.NaN;
+                }
+                high = mergedHigh;
+                low = mergedLow;
+            }
+            long msb = high >>> 63;
+            long result = high >>> (msb + 9);
+            binaryExponent -= 1 ^ msb;
+            if (low == 0 && (high & 0x1FF) == 0 && (result & 3) == 1) {
+                return Double.NaN;  // half-way between two doubles
+            }
+            result += result & 1;
+            result >>>= 1;
+            if ((result >>> 53) > 0) {
+                result >>>= 1;
+                binaryExponent++;
+            }
+            if (binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+                return Double.NaN;  // subnormal or infinite
+            }
+            long bits = (binaryExponent << 52) | (result & 0xFFFFFFFFFFFFFL);
+            if (negative) {
+                bits |= Long.MIN_VALUE;
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        /**
+         * Returns the high 64 bits of the unsigned 128-bit product of two
+         * unsigned 64-bit values.
+         *
+         * @param x  the first value.
+         * @param y  the second value.
+         *
+         * @return The high 64 bits of the product.
+         */
+        private static long multiplyHigh(long x, long y) {
+            long x0 = x & 0xFFFFFFFFL;
+            long x1 = x >>> 32;
+            long y0 = y & 0xFFFFFFFFL;
+            long y1 = y >>> 32;
+            long p00 = x0 * y0;
+            long p01 = x0 * y1;
+            long p10 = x1 * y0;
+            long p11 = x1 * y1;
+            long middle = (p00 >>> 32) + (p01 & 0xFFFFFFFFL)
+                    + (p10 & 0xFFFFFFFFL);
+            return p11 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+        }
+
+        /**
+         * Parses a date.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param stop  the end of the field.
+         * @param offset  the position of the buffer in the file.
+         *
+         * @return The date in milliseconds since 1-Jan-1970
+         *     (<code>Double.NaN</code> for an empty field).
+         *
+         * @throws FieldException if the field is not a date.
+         */
+        double parseDate(ByteBuffer buffer, int start, int stop,
+                long offset) throws FieldException {
+            int s = trimStart(buffer, start, stop);
+            int e = trimEnd(buffer, s, stop);
+            if (s == e) {
+                return Double.NaN;
+            }
+            if (e - s >= 10 && buffer.get(s + 4) == '-'
+                    && number(buffer, s, 4, e) >= 0) {
+                long millis = parseISODate(buffer, s, e);
+                if (millis == Long.MIN_VALUE) {
+                    throw new FieldException("Invalid date '"
+                            + text(buffer, s, e) + "'", offset + s);
+                }
+                return millis;
+            }
+            if (this.format != null) {
+                String text = text(buffer, s, e);
+                ParsePosition position = new ParsePosition(0);
+                Date date = this.format.parse(text, position);
+                if (date != null && position.getIndex() == text.length()) {
+                    return date.getTime();
+                }
+                try {
+                    return parseNumber(buffer, s, e, offset);
+                }
+                catch (FieldException ex) {
+                    throw new FieldException("Invalid date '" + text + "'",
+                            offset + s);
+                }
+            }
+            return parseNumber(buffer, s, e, offset);
+        }
+
+        /**
+         * Parses an ISO-8601 date.
+         *
+         * @param buffer  the buffer.
+         * @param s  the start of the date.
+         * @param e  the end of the date.
+         *
+         * @return The date in milliseconds since 1-Jan-1970
+         *     (<code>Long.MIN_VALUE</code> if the date is not valid).
+         */
+        private long parseISODate(ByteBuffer buffer, int s, int e) {
+            int year = number(buffer, s, 4, e);
+            int month = buffer.get(s + 7) == '-' ? number(buffer, s + 5, 2, e)
+                    : -1;
+            int day = number(buffer, s + 8, 2, e);
+            int hour = 0;
+            int minute = 0;
+            int second = 0;
+            int millisecond = 0;
+            int i = s + 10;
+            if (i < e && (buffer.get(i) == 'T' || buffer.get(i) == ' ')) {
+                hour = number(buffer, i + 1, 2, e);
+                minute = i + 3 < e && buffer.get(i + 3) == ':'
+                        ? number(buffer, i + 4, 2, e) : -1;
+                i += 6;
+                if (i < e && buffer.get(i) == ':') {
+                    second = number(buffer, i + 1, 2, e);
+                    i += 3;
+                    if (i < e && (buffer.get(i) == '.'
+                            || buffer.get(i) == ',')) {
+                        i++;
+                        int scale = 100;
+                        byte b;
+                        while (i < e && (b = buffer.get(i)) >= '0'
+                                && b <= '9') {
+                            millisecond += (b - '0') * scale;
+                            scale /= 10;
+                            i++;
+                        }
+                    }
+                }
+            }
+            if (month < 1 || month > 12 || day < 1 || day > 31 || hour < 0
+                    || hour > 23 || minute < 0 || minute > 59 || second < 0
+                    || second > 59) {
+                return Long.MIN_VALUE;
+            }
+            long local = daysFromCivil(year, month, day) * 24 * HOUR
+                    + hour * HOUR + minute * 60000L + second * 1000L
+                    + millisecond;
+            if (i == e) {
+                return local - localOffset(local, year, month, day, hour);
+            }
+            byte b = buffer.get(i);
+            if (b == 'Z' && i + 1 == e) {
+                return local;
+            }
+            if (b == '+' || b == '-') {
+                int zoneHours = number(buffer, i + 1, 2, e);
+                int j = i + 3;
+                if (j < e && buffer.get(j) == ':') {
+                    j++;
+                }
+                int zoneMinutes = j == e ? 0 : number(buffer, j, 2, e);
+                if (zoneHours < 0 || zoneMinutes < 0
+                        || (j < e && j + 2 != e)) {
+                    return Long.MIN_VALUE;
+                }
+                long zoneOffset = zoneHours * HOUR + zoneMinutes * 60000L;
+                return b == '+' ? local - zoneOffset : local + zoneOffset;
+            }
+            return Long.MIN_VALUE;
+        }
+
+        /**
+         * Returns the offset of the time zone from UTC for a local time.
+         * The offset is cached for each hour, since time zone transitions
+         * occur on the hour, so for a file in date order the calendar is
+         * used once for each hour in the file at most.
+         *
+         * @param local  the local time (in milliseconds, as if in UTC).
+         * @param year  the year.
+         * @param month  the month (1 to 12).
+         * @param day  the day of the month.
+         * @param hour  the hour.
+         *
+         * @return The offset (in milliseconds).
+         */
+        private long localOffset(long local, int year, int month, int day,
+                int hour) {
+            long localHour = Math.floorDiv(local, HOUR);
+            if (localHour != this.cachedHour) {
+                if (this.calendar == null) {
+                    this.calendar = new GregorianCalendar(this.zone);
+                }
+                this.calendar.clear();
+                this.calendar.set(year, month - 1, day, hour, 0, 0);
+                this.cachedOffset = localHour * HOUR
+                        - this.calendar.getTimeInMillis();
+                this.cachedHour = localHour;
+            }
+            return this.cachedOffset;
+        }
+
+        /**
+         * Returns the number of days from 1-Jan-1970 to the specified date
+         * in the proleptic Gregorian calendar.
+         *
+         * @param year  the year.
+         * @param month  the month (1 to 12).
+         * @param day  the day of the month.
+         *
+         * @return The number of days.
+         */
+        private static long daysFromCivil(int year, int month, int day) {
+            long y = month <= 2 ? year - 1 : year;
+            long era = (y >= 0 ? y : y - 399) / 400;
+            long yearOfEra = y - era * 400;
+            long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5
+                    + day - 1;
+            long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+                    + dayOfYear;
+            return era * 146097 + dayOfEra - 719468;
+        }
+
+        /**
+         * Parses a fixed number of digits.
+         *
+         * @param buffer  the buffer.
+         * @param start  the position of the first digit.
+         * @param count  the number of digits.
+         * @param end  the end of the field.
+         *
+         * @return The number (-1 if the characters are not all digits).
+         */
+        private static int number(ByteBuffer buffer, int start, int count,
+                int end) {
+            if (start + count > end) {
+                return -1;
+            }
+            int result = 0;
+            for (int i = start; i < start + count; i++) {
+                byte b = buffer.get(i);
+                if (b < '0' || b > '9') {
+                    return -1;
+                }
+                result = result * 10 + (b - '0');
+            }
+            return result;
+        }
+
+        /**
+         * Returns the text of a field.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param stop  the end of the field.
+         *
+         * @return The text.
+         */
+        private static String text(ByteBuffer buffer, int start, int stop) {
+            byte[] bytes = new byte[stop - start];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(start + i);
+            }
+            return new String(bytes, UTF8);
+        }
+
+    }
+
+}
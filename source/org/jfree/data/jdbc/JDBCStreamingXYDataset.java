@@ -0,0 +1,1350 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * JDBCStreamingXYDataset.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.jdbc;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.ConcurrentDataset;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYRangeInfo;
+import org.jfree.util.Log;
+
+/**
+ * An {@link org.jfree.data.xy.XYDataset} over a JDBC result set, for queries
+ * that return too many rows for {@link JDBCXYDataset}.  As for that class,
+ * the first column of the result set holds the x-values (numbers or dates)
+ * and each of the remaining columns holds the y-values for one series.  The
+ * differences are:
+ * <ul>
+ * <li>the rows are read from the result set as a stream (see
+ * {@link #setFetchSize(int)}) into one <code>double[]</code> column for the
+ * x-values and one for each series, rather than into a list of rows of
+ * <code>Number</code> objects, so that each value takes eight bytes;</li>
+ * <li>the rows are made visible in batches while a query runs (see
+ * {@link #setBatchSize(int)}), with one change event per batch, and the
+ * query can run on a background thread (see
+ * {@link #executeQueryInBackground(String, Executor)});</li>
+ * <li>new rows can be appended with a query that selects the rows after the
+ * largest x-value in the dataset (see
+ * {@link #executeIncrementalQuery(String)}), which can be run periodically
+ * to keep the dataset up to date.</li>
+ * </ul>
+ * A query can run while other threads read the dataset:  the rows that have
+ * been read are never modified, so a snapshot (see {@link #getSnapshot()})
+ * is created without copying the data, and {@link org.jfree.chart.plot.XYPlot}
+ * draws a snapshot rather than the dataset itself.  Change events are sent
+ * to the registered listeners on the thread that runs the query, unless a
+ * notification executor is set (see
+ * {@link #setNotificationExecutor(Executor)}).
+ *
+ * @since 1.0.20
+ */
+public class JDBCStreamingXYDataset extends AbstractXYDataset
+        implements TableXYDataset, XYDomainInfo, XYRangeInfo, DomainInfo,
+        RangeInfo, ConcurrentDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3183706580742186627L;
+
+    /** The default fetch size. */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /** The default batch size. */
+    public static final int DEFAULT_BATCH_SIZE = 50000;
+
+    /** The initial capacity of the columns. */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** The database connection. */
+    private transient Connection connection;
+
+    /** The number of rows to fetch from the database at a time. */
+    private int fetchSize;
+
+    /** The number of rows read by a query between change events. */
+    private int batchSize;
+
+    /**
+     * The executor used to send change events (<code>null</code> to send
+     * them on the thread that runs the query).
+     */
+    private transient Executor notificationExecutor;
+
+    /** The rows (replaced, never modified, as rows are read). */
+    private volatile Columns columns;
+
+    /** A flag that indicates whether or not this dataset is a snapshot. */
+    private boolean readOnly;
+
+    /**
+     * The most recent snapshot (<code>null</code> if no snapshot has been
+     * created).
+     */
+    private transient volatile JDBCStreamingXYDataset snapshot;
+
+    /**
+     * Creates a new dataset (initially empty) using the specified database
+     * connection.
+     *
+     * @param con  the database connection (<code>null</code> permitted, in
+     *     which case a connection must be supplied with each query).
+     */
+    public JDBCStreamingXYDataset(Connection con) {
+        this.connection = con;
+        this.fetchSize = DEFAULT_FETCH_SIZE;
+        this.batchSize = DEFAULT_BATCH_SIZE;
+        this.columns = Columns.EMPTY;
+    }
+
+    /**
+     * Creates a new dataset (initially empty) and establishes a new database
+     * connection.
+     *
+     * @param url  the URL of the database connection.
+     * @param driverName  the database driver class name.
+     * @param user  the database user.
+     * @param password  the database user's password.
+     *
+     * @throws ClassNotFoundException if the driver cannot be found.
+     * @throws SQLException if there is a problem connecting to the database.
+     */
+    public JDBCStreamingXYDataset(String url, String driverName, String user,
+            String password) throws ClassNotFoundException, SQLException {
+        this((Connection) null);
+        Class.forName(driverName);
+        this.connection = DriverManager.getConnection(url, user, password);
+    }
+
+    /**
+     * Creates a read-only snapshot of the specified rows.
+     *
+     * @param columns  the rows.
+     */
+    private JDBCStreamingXYDataset(Columns columns) {
+        this((Connection) null);
+        this.columns = columns;
+        this.readOnly = true;
+    }
+
+    /**
+     * Returns the number of rows that the JDBC driver is asked to fetch
+     * from the database at a time.
+     *
+     * @return The fetch size.
+     *
+     * @see #setFetchSize(int)
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Sets the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time, for the queries executed after this call.
+     * Some drivers read the whole result set into memory unless a fetch
+     * size is given (and, for some, unless auto-commit is switched off for
+     * the connection).
+     *
+     * @param size  the fetch size (zero to use the driver's default).
+     *
+     * @see #getFetchSize()
+     */
+    public void setFetchSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requires 'size' >= 0.");
+        }
+        this.fetchSize = size;
+    }
+
+    /**
+     * Returns the number of rows that a query reads before they are made
+     * visible and a change event is sent.
+     *
+     * @return The batch size.
+     *
+     * @see #setBatchSize(int)
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Sets the number of rows that a query reads before they are made
+     * visible and a change event is sent, for the queries executed after
+     * this call.  The remaining rows are made visible when the query
+     * completes.
+     *
+     * @param size  the batch size (must be greater than zero).
+     *
+     * @see #getBatchSize()
+     */
+    public void setBatchSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Requires 'size' > 0.");
+        }
+        this.batchSize = size;
+    }
+
+    /**
+     * Returns the executor used to send change events to the registered
+     * listeners.
+     *
+     * @return The executor (possibly <code>null</code>).
+     *
+     * @see #setNotificationExecutor(Executor)
+     */
+    public Executor getNotificationExecutor() {
+        return this.notificationExecutor;
+    }
+
+    /**
+     * Sets the executor used to send change events to the registered
+     * listeners.  For a chart in a Swing component, an executor that calls
+     * <code>SwingUtilities.invokeLater()</code> ensures that the chart is
+     * updated on the event dispatch thread while a query runs on a
+     * background thread.
+     *
+     * @param executor  the executor (<code>null</code> permitted, in which
+     *     case change events are sent on the thread that runs the query).
+     *
+     * @see #getNotificationExecutor()
+     */
+    public void setNotificationExecutor(Executor executor) {
+        this.notificationExecutor = executor;
+    }
+
+    /**
+     * Returns <code>true</code> if the x-values in the dataset were read
+     * from a date, time or timestamp column (in which case they are
+     * milliseconds since 1-Jan-1970), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public boolean isTimeSeries() {
+        return this.columns.timeSeries;
+    }
+
+    /**
+     * Replaces the rows in the dataset with the rows returned by the
+     * specified query, using the dataset's connection.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows read.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public int executeQuery(String query) throws SQLException {
+        return executeQuery(this.connection, query);
+    }
+
+    /**
+     * Replaces the rows in the dataset with the rows returned by the
+     * specified query.  The existing rows remain visible until the first
+     * batch of rows has been read.  If the current thread is interrupted,
+     * the rows read so far are kept and the query is abandoned.
+     *
+     * @param con  the connection (<code>null</code> not permitted).
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows read.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public synchronized int executeQuery(Connection con, String query)
+            throws SQLException {
+        ParamChecks.nullNotPermitted(query, "query");
+        checkConnection(con);
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = con.createStatement();
+            statement.setFetchSize(this.fetchSize);
+            resultSet = statement.executeQuery(query);
+            return read(resultSet, null);
+        }
+        finally {
+            close(resultSet, statement);
+        }
+    }
+
+    /**
+     * Runs {@link #executeQuery(String)} on a thread provided by the
+     * specified executor.  The rows are made visible in batches as they are
+     * read, and cancelling the returned future (with interruption) stops
+     * the query.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     * @param executor  the executor (<code>null</code> not permitted).
+     *
+     * @return The future result (the number of rows read).
+     */
+    public Future<Integer> executeQueryInBackground(final String query,
+            Executor executor) {
+        ParamChecks.nullNotPermitted(query, "query");
+        Callable<Integer> task = new Callable<Integer>() {
+            @Override
+            public Integer call() throws SQLException {
+                return executeQuery(query);
+            }
+        };
+        return submit(task, executor);
+    }
+
+    /**
+     * Appends the rows returned by the specified query, using the
+     * dataset's connection.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows appended.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     *
+     * @see #executeIncrementalQuery(Connection, String)
+     */
+    public int executeIncrementalQuery(String query) throws SQLException {
+        return executeIncrementalQuery(this.connection, query);
+    }
+
+    /**
+     * Appends the rows returned by the specified query, which has a single
+     * parameter (<code>?</code>) that is set to the largest x-value in the
+     * dataset, as a timestamp for a time series and as a number otherwise.
+     * This makes it possible to fetch only the rows added to a table since
+     * the last query, for example:
+     * <pre>SELECT t, price FROM ticks WHERE t &gt; ? ORDER BY t</pre>
+     * The query must return the same columns as the query that populated
+     * the dataset.
+     *
+     * @param con  the connection (<code>null</code> not permitted).
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows appended.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     * @throws IllegalStateException if the dataset has no x-values.
+     */
+    public synchronized int executeIncrementalQuery(Connection con,
+            String query) throws SQLException {
+        ParamChecks.nullNotPermitted(query, "query");
+        checkConnection(con);
+        Columns base = this.columns;
+        if (Double.isNaN(base.maxX)) {
+            throw new IllegalStateException(
+                    "The dataset has no x-values to continue from.");
+        }
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = con.prepareStatement(query);
+            statement.setFetchSize(this.fetchSize);
+            if (base.timeSeries) {
+                statement.setTimestamp(1, new Timestamp((long) base.maxX));
+            }
+            else {
+                statement.setDouble(1, base.maxX);
+            }
+            resultSet = statement.executeQuery();
+            return read(resultSet, base);
+        }
+        finally {
+            close(resultSet, statement);
+        }
+    }
+
+    /**
+     * Runs {@link #executeIncrementalQuery(String)} on a thread provided by
+     * the specified executor.  To refresh the dataset periodically, pass
+     * the query to <code>executeIncrementalQuery(String)</code> in a task
+     * scheduled with a
+     * <code>java.util.concurrent.ScheduledExecutorService</code>.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     * @param executor  the executor (<code>null</code> not permitted).
+     *
+     * @return The future result (the number of rows appended).
+     */
+    public Future<Integer> executeIncrementalQueryInBackground(
+            final String query, Executor executor) {
+        ParamChecks.nullNotPermitted(query, "query");
+        Callable<Integer> task = new Callable<Integer>() {
+            @Override
+            public Integer call() throws SQLException {
+                return executeIncrementalQuery(query);
+            }
+        };
+        return submit(task, executor);
+    }
+
+    /**
+     * Closes the database connection.
+     */
+    public void close() {
+        try {
+            if (this.connection != null) {
+                this.connection.close();
+            }
+        }
+        catch (SQLException e) {
+            Log.warn("Unable to close the connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Throws an exception if the dataset is a snapshot or there is no
+     * connection.
+     *
+     * @param con  the connection.
+     *
+     * @throws SQLException if <code>con</code> is <code>null</code>.
+     */
+    private void checkConnection(Connection con) throws SQLException {
+        if (this.readOnly) {
+            throw new IllegalStateException("A snapshot cannot be modified.");
+        }
+        if (con == null) {
+            throw new SQLException(
+                    "There is no database to execute the query.");
+        }
+    }
+
+    /**
+     * Runs a task with an executor.
+     *
+     * @param task  the task.
+     * @param executor  the executor (<code>null</code> not permitted).
+     *
+     * @return The future result of the task.
+     */
+    private static Future<Integer> submit(Callable<Integer> task,
+            Executor executor) {
+        ParamChecks.nullNotPermitted(executor, "executor");
+        FutureTask<Integer> future = new FutureTask<Integer>(task);
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * Closes a result set and statement, ignoring any exceptions.
+     *
+     * @param resultSet  the result set (<code>null</code> permitted).
+     * @param statement  the statement (<code>null</code> permitted).
+     */
+    private static void close(ResultSet resultSet, Statement statement) {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            }
+            catch (SQLException e) {
+                // the rows have been read, so there is nothing to do
+            }
+        }
+        if (statement != null) {
+            try {
+                statement.close();
+            }
+            catch (SQLException e) {
+                // the rows have been read, so there is nothing to do
+            }
+        }
+    }
+
+    /**
+     * Reads the rows from a result set, making them visible (and sending a
+     * change event) after each batch and at the end.
+     *
+     * @param resultSet  the result set.
+     * @param base  the rows to append to (<code>null</code> to replace the
+     *     rows in the dataset).
+     *
+     * @return The number of rows read.
+     *
+     * @throws SQLException if there is a problem reading the result set.
+     */
+    private int read(ResultSet resultSet, Columns base) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<Integer> validColumns = new ArrayList<Integer>();
+        for (int column = 1; column <= columnCount; column++) {
+            int type = metaData.getColumnType(column);
+            if (isSupported(type)) {
+                validColumns.add(column);
+            }
+            else if (column > 1) {
+                Log.warn("Unable to load column " + column + " (" + type
+                        + "," + metaData.getColumnClassName(column) + ")");
+            }
+        }
+        if (validColumns.isEmpty() || validColumns.get(0) != 1) {
+            throw new SQLException(
+                    "The first column does not contain numbers or dates.");
+        }
+        if (validColumns.size() < 2) {
+            throw new SQLException(
+                    "Not enough valid columns were generated by the query.");
+        }
+        int seriesCount = validColumns.size() - 1;
+        int[] columnIndices = new int[seriesCount + 1];
+        int[] types = new int[seriesCount + 1];
+        String[] names = new String[seriesCount];
+        for (int i = 0; i <= seriesCount; i++) {
+            columnIndices[i] = validColumns.get(i);
+            types[i] = metaData.getColumnType(columnIndices[i]);
+            if (i > 0) {
+                names[i - 1] = metaData.getColumnLabel(columnIndices[i]);
+            }
+        }
+        boolean timeSeries = isTime(types[0]);
+
+        Loader loader;
+        if (base == null) {
+            loader = new Loader(names, timeSeries);
+        }
+        else {
+            if (base.timeSeries != timeSeries
+                    || base.names.length != seriesCount) {
+                throw new SQLException("The columns returned by the query "
+                        + "do not match the columns in the dataset.");
+            }
+            loader = new Loader(base);
+        }
+        int published = 0;
+        double[] row = new double[seriesCount + 1];
+        Thread thread = Thread.currentThread();
+        while (!thread.isInterrupted() && resultSet.next()) {
+            for (int i = 0; i <= seriesCount; i++) {
+                row[i] = readValue(resultSet, columnIndices[i], types[i]);
+            }
+            loader.add(row);
+            if (loader.rowsRead - published >= this.batchSize) {
+                publish(loader.toColumns());
+                published = loader.rowsRead;
+            }
+        }
+        if (base == null || loader.rowsRead > published) {
+            publish(loader.toColumns());
+        }
+        return loader.rowsRead;
+    }
+
+    /**
+     * Returns <code>true</code> if values can be read from a column of the
+     * specified type, and <code>false</code> otherwise.
+     *
+     * @param type  the column type (see {@link Types}).
+     *
+     * @return A boolean.
+     */
+    private static boolean isSupported(int type) {
+        switch (type) {
+            case Types.NUMERIC:
+            case Types.REAL:
+            case Types.INTEGER:
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.DECIMAL:
+            case Types.BIT:
+            case Types.BIGINT:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return true;
+            default:
+                return isTime(type);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the specified column type holds dates or
+     * times, and <code>false</code> otherwise.
+     *
+     * @param type  the column type (see {@link Types}).
+     *
+     * @return A boolean.
+     */
+    private static boolean isTime(int type) {
+        return type == Types.DATE || type == Types.TIME
+                || type == Types.TIMESTAMP;
+    }
+
+    /**
+     * Reads a value from the current row of a result set.
+     *
+     * @param resultSet  the result set.
+     * @param column  the column index (starting from 1).
+     * @param type  the column type (see {@link Types}).
+     *
+     * @return The value (milliseconds since 1-Jan-1970 for a date or time,
+     *     and <code>Double.NaN</code> for an SQL <code>NULL</code>).
+     *
+     * @throws SQLException if there is a problem reading the value.
+     */
+    private static double readValue(ResultSet resultSet, int column,
+            int type) throws SQLException {
+        Date date;
+        switch (type) {
+            case Types.DATE:
+                date = resultSet.getDate(column);
+                break;
+            case Types.TIME:
+                date = resultSet.getTime(column);
+                break;
+            case Types.TIMESTAMP:
+                date = resultSet.getTimestamp(column);
+                break;
+            case Types.BIT:
+                boolean b = resultSet.getBoolean(column);
+                return resultSet.wasNull() ? Double.NaN : (b ? 1.0 : 0.0);
+            default:
+                double value = resultSet.getDouble(column);
+                return resultSet.wasNull() ? Double.NaN : value;
+        }
+        return date != null ? date.getTime() : Double.NaN;
+    }
+
+    /**
+     * Makes the specified rows visible and sends a change event to all
+     * registered listeners.
+     *
+     * @param newColumns  the rows.
+     */
+    private void publish(Columns newColumns) {
+        this.columns = newColumns;
+        Executor executor = this.notificationExecutor;
+        if (executor == null) {
+            fireDatasetChanged();
+        }
+        else {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    fireDatasetChanged();
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.columns.names.length;
+    }
+
+    /**
+     * Returns the key for a series, which is the label of the column that
+     * holds the y-values for the series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        String name = this.columns.names[series];
+        return name != null ? name : "";
+    }
+
+    /**
+     * Returns the number of rows in the dataset.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.columns.count;
+    }
+
+    /**
+     * Returns the number of items in a series, which is the number of rows
+     * in the dataset.
+     *
+     * @param series  the series index (ignored).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.columns.count;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (ignored, since all series share the
+     *     same x-values).
+     * @param item  the item index.
+     *
+     * @return The x-value (possibly <code>Double.NaN</code>).
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        Columns c = this.columns;
+        if (item >= c.count) {
+            throw new IndexOutOfBoundsException("Invalid item: " + item);
+        }
+        return c.x[item];
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index.
+     *
+     * @return The x-value (a <code>Long</code> for a time series, and
+     *     <code>null</code> if the value is missing).
+     */
+    @Override
+    public Number getX(int series, int item) {
+        double x = getXValue(series, item);
+        if (Double.isNaN(x)) {
+            return null;
+        }
+        return isTimeSeries() ? (Number) Long.valueOf((long) x)
+                : Double.valueOf(x);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        Columns c = this.columns;
+        if (item >= c.count) {
+            throw new IndexOutOfBoundsException("Invalid item: " + item);
+        }
+        return c.y[series][item];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value (<code>null</code> if the value is missing).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : Double.valueOf(y);
+    }
+
+    /**
+     * Returns the order of the x-values, which is
+     * {@link DomainOrder#ASCENDING} if the rows were read in ascending order
+     * of x-value (with no missing x-values), and {@link DomainOrder#NONE}
+     * otherwise.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.columns.ascending ? DomainOrder.ASCENDING
+                : DomainOrder.NONE;
+    }
+
+    /**
+     * Returns the minimum x-value.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     x-values).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        return this.columns.minX;
+    }
+
+    /**
+     * Returns the maximum x-value.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     x-values).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        return this.columns.maxX;
+    }
+
+    /**
+     * Returns the range of the x-values.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no x-values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Columns c = this.columns;
+        if (Double.isNaN(c.minX)) {
+            return null;
+        }
+        return new Range(c.minX, c.maxX);
+    }
+
+    /**
+     * Returns the range of the x-values, which are shared by all the
+     * series.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no x-values or none
+     *     of the keys belong to a series in the dataset).
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Columns c = this.columns;
+        if (c.seriesIndices(visibleSeriesKeys).length == 0) {
+            return null;
+        }
+        return getDomainBounds(includeInterval);
+    }
+
+    /**
+     * Returns the minimum y-value.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     y-values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     y-values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values.  This is maintained as the rows
+     * are read, so no items are visited.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Columns c = this.columns;
+        return c.findValueRange(c.allSeries(), null);
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, for the
+     * items with an x-value in the specified range.  No items are visited
+     * if the x-range includes all the x-values.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        Columns c = this.columns;
+        return c.findValueRange(c.seriesIndices(visibleSeriesKeys), xRange);
+    }
+
+    /**
+     * Returns <code>true</code>, since the rows can be replaced or appended
+     * to by a query running on another thread, unless this dataset is
+     * itself a snapshot.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isConcurrent() {
+        return !this.readOnly;
+    }
+
+    /**
+     * Returns a read-only snapshot of the dataset.  The snapshot shares the
+     * rows with this dataset (rows are never modified once they have been
+     * read), so it is created in constant time.
+     *
+     * @return The snapshot (never <code>null</code>).
+     */
+    @Override
+    public Dataset getSnapshot() {
+        if (this.readOnly) {
+            return this;
+        }
+        Columns c = this.columns;
+        JDBCStreamingXYDataset result = this.snapshot;
+        if (result == null || result.columns != c) {
+            result = new JDBCStreamingXYDataset(c);
+            this.snapshot = result;
+        }
+        return result;
+    }
+
+    /**
+     * An immutable view of the rows in the dataset:  the first
+     * <code>count</code> elements of the arrays.  Later rows are added
+     * after these elements (or to new arrays), so the view never changes.
+     */
+    private static final class Columns implements Serializable {
+
+        /** A view with no series and no rows. */
+        static final Columns EMPTY = new Columns(new String[0], false,
+                new double[0], new double[0][], 0, Double.NaN, Double.NaN,
+                new double[0], new double[0], true);
+
+        /** The series names. */
+        final String[] names;
+
+        /** A flag that indicates whether the x-values are timestamps. */
+        final boolean timeSeries;
+
+        /** The x-values. */
+        final double[] x;
+
+        /** The y-values, one array per series. */
+        final double[][] y;
+
+        /** The number of rows. */
+        final int count;
+
+        /** The minimum x-value (<code>Double.NaN</code> if none). */
+        final double minX;
+
+        /** The maximum x-value (<code>Double.NaN</code> if none). */
+        final double maxX;
+
+        /** The minimum y-value for each series. */
+        final double[] minY;
+
+        /** The maximum y-value for each series. */
+        final double[] maxY;
+
+        /** A flag that indicates whether the x-values are ascending. */
+        final boolean ascending;
+
+        /**
+         * Creates a new view.
+         *
+         * @param names  the series names.
+         * @param timeSeries  whether the x-values are timestamps.
+         * @param x  the x-values.
+         * @param y  the y-values.
+         * @param count  the number of rows.
+         * @param minX  the minimum x-value.
+         * @param maxX  the maximum x-value.
+         * @param minY  the minimum y-value for each series.
+         * @param maxY  the maximum y-value for each series.
+         * @param ascending  whether the x-values are ascending.
+         */
+        Columns(String[] names, boolean timeSeries, double[] x,
+                double[][] y, int count, double minX, double maxX,
+                double[] minY, double[] maxY, boolean ascending) {
+            this.names = names;
+            this.timeSeries = timeSeries;
+            this.x = x;
+            this.y = y;
+            this.count = count;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minY = minY;
+            this.maxY = maxY;
+            this.ascending = ascending;
+        }
+
+        /**
+         * Returns the indices of all the series.
+         *
+         * @return The series indices.
+         */
+        int[] allSeries() {
+            int[] result = new int[this.names.length];
+            for (int s = 0; s < result.length; s++) {
+                result[s] = s;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the indices of the series with the specified keys.
+         *
+         * @param seriesKeys  the series keys (<code>null</code> not
+         *     permitted).
+         *
+         * @return The series indices.
+         */
+        int[] seriesIndices(List seriesKeys) {
+            ParamChecks.nullNotPermitted(seriesKeys, "seriesKeys");
+            int[] result = new int[this.names.length];
+            int n = 0;
+            for (int s = 0; s < this.names.length; s++) {
+                String key = this.names[s] != null ? this.names[s] : "";
+                if (seriesKeys.contains(key)) {
+                    result[n++] = s;
+                }
+            }
+            int[] trimmed = new int[n];
+            System.arraycopy(result, 0, trimmed, 0, n);
+            return trimmed;
+        }
+
+        /**
+         * Returns the range of the y-values in the specified series, for
+         * the rows with an x-value in the specified range.
+         *
+         * @param series  the series indices.
+         * @param xRange  the x-range (<code>null</code> for all rows).
+         *
+         * @return The range (<code>null</code> if there are no values).
+         */
+        Range findValueRange(int[] series, Range xRange) {
+            if (this.count == 0 || series.length == 0) {
+                return null;
+            }
+            double lower = Double.POSITIVE_INFINITY;
+            double upper = Double.NEGATIVE_INFINITY;
+            if (xRange == null || (xRange.contains(this.minX)
+                    && xRange.contains(this.maxX))) {
+                for (int s : series) {
+                    // NaN (no values in the series) fails both tests
+                    if (this.minY[s] < lower) {
+                        lower = this.minY[s];
+                    }
+                    if (this.maxY[s] > upper) {
+                        upper = this.maxY[s];
+                    }
+                }
+            }
+            else {
+                int first = 0;
+                int last = this.count - 1;
+                if (this.ascending) {
+                    first = firstItemAtOrAfter(xRange.getLowerBound());
+                    last = firstItemAfter(xRange.getUpperBound()) - 1;
+                }
+                for (int item = first; item <= last; item++) {
+                    if (!xRange.contains(this.x[item])) {
+                        continue;
+                    }
+                    for (int s : series) {
+                        double v = this.y[s][item];
+                        if (v < lower) {
+                            lower = v;
+                        }
+                        if (v > upper) {
+                            upper = v;
+                        }
+                    }
+                }
+            }
+            if (lower > upper) {
+                return null;
+            }
+            return new Range(lower, upper);
+        }
+
+        /**
+         * Returns the index of the first row with an x-value that is not
+         * less than the specified value (the rows must be in ascending
+         * order).
+         *
+         * @param value  the value.
+         *
+         * @return The row index (the row count if there is no such row).
+         */
+        private int firstItemAtOrAfter(double value) {
+            int low = 0;
+            int high = this.count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.x[mid] < value) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the index of the first row with an x-value that is
+         * greater than the specified value (the rows must be in ascending
+         * order).
+         *
+         * @param value  the value.
+         *
+         * @return The row index (the row count if there is no such row).
+         */
+        private int firstItemAfter(double value) {
+            int low = 0;
+            int high = this.count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.x[mid] <= value) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+    }
+
+    /**
+     * Collects the rows read by a query.  The rows are written after the
+     * rows that are already visible, and the arrays are replaced (rather
+     * than modified) when they need to grow, so that the views returned by
+     * {@link #toColumns()} never change.
+     */
+    private static final class Loader {
+
+        /** The series names. */
+        private final String[] names;
+
+        /** A flag that indicates whether the x-values are timestamps. */
+        private final boolean timeSeries;
+
+        /** The x-values. */
+        private double[] x;
+
+        /** The y-values. */
+        private double[][] y;
+
+        /** The number of rows. */
+        private int count;
+
+        /** The number of rows read by this loader. */
+        int rowsRead;
+
+        /** The minimum x-value. */
+        private double minX;
+
+        /** The maximum x-value. */
+        private double maxX;
+
+        /** The minimum y-value for each series. */
+        private double[] minY;
+
+        /** The maximum y-value for each series. */
+        private double[] maxY;
+
+        /** A flag that indicates whether the x-values are ascending. */
+        private boolean ascending;
+
+        /** The last non-missing x-value. */
+        private double lastX;
+
+        /**
+         * Creates a loader for new rows.
+         *
+         * @param names  the series names.
+         * @param timeSeries  whether the x-values are timestamps.
+         */
+        Loader(String[] names, boolean timeSeries) {
+            this.names = names;
+            this.timeSeries = timeSeries;
+            this.x = new double[INITIAL_CAPACITY];
+            this.y = new double[names.length][INITIAL_CAPACITY];
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = new double[names.length];
+            this.maxY = new double[names.length];
+            Arrays.fill(this.minY, Double.NaN);
+            Arrays.fill(this.maxY, Double.NaN);
+            this.ascending = true;
+            this.lastX = Double.NaN;
+        }
+
+        /**
+         * Creates a loader that appends rows to existing rows.
+         *
+         * @param base  the existing rows.
+         */
+        Loader(Columns base) {
+            this.names = base.names;
+            this.timeSeries = base.timeSeries;
+            this.x = base.x;
+            this.y = base.y.clone();
+            this.count = base.count;
+            this.minX = base.minX;
+            this.maxX = base.maxX;
+            this.minY = base.minY.clone();
+            this.maxY = base.maxY.clone();
+            this.ascending = base.ascending;
+            this.lastX = Double.NaN;
+            for (int item = base.count - 1; item >= 0; item--) {
+                if (!Double.isNaN(base.x[item])) {
+                    this.lastX = base.x[item];
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Adds a row.
+         *
+         * @param row  the x-value followed by the y-value for each series.
+         */
+        void add(double[] row) {
+            if (this.count == this.x.length) {
+                grow();
+            }
+            double xx = row[0];
+            this.x[this.count] = xx;
+            if (Double.isNaN(xx)) {
+                this.ascending = false;
+            }
+            else {
+                if (xx < this.lastX) {
+                    this.ascending = false;
+                }
+                this.lastX = xx;
+                if (!(xx >= this.minX)) {
+                    this.minX = xx;
+                }
+                if (!(xx <= this.maxX)) {
+                    this.maxX = xx;
+                }
+            }
+            for (int s = 0; s < this.y.length; s++) {
+                double yy = row[s + 1];
+                this.y[s][this.count] = yy;
+                if (!Double.isNaN(yy)) {
+                    if (!(yy >= this.minY[s])) {
+                        this.minY[s] = yy;
+                    }
+                    if (!(yy <= this.maxY[s])) {
+                        this.maxY[s] = yy;
+                    }
+                }
+            }
+            this.count++;
+            this.rowsRead++;
+        }
+
+        /**
+         * Replaces the arrays with arrays of twice the size.
+         */
+        private void grow() {
+            int capacity = Math.max(INITIAL_CAPACITY, this.x.length * 2);
+            double[] newX = new double[capacity];
+            System.arraycopy(this.x, 0, newX, 0, this.count);
+            this.x = newX;
+            for (int s = 0; s < this.y.length; s++) {
+                double[] newY = new double[capacity];
+                System.arraycopy(this.y[s], 0, newY, 0, this.count);
+                this.y[s] = newY;
+            }
+        }
+
+        /**
+         * Returns a view of the rows added so far.
+         *
+         * @return The view.
+         */
+        Columns toColumns() {
+            return new Columns(this.names, this.timeSeries, this.x,
+                    this.y.clone(), this.count, this.minX, this.maxX,
+                    this.minY.clone(), this.maxY.clone(), this.ascending);
+        }
+
+    }
+
+}
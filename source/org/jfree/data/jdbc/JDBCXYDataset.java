@@ -67,6 +67,7 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 17-Oct-2006 : Deprecated unused methods - see bug 1578293 (DG);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
+ * 18-Oct-2026 : Added a reference to JDBCStreamingXYDataset;
  *
  */
 
@@ -98,6 +99,8 @@ import org.jfree.util.Log;
  * executeQuery can be called a number of times.
  *
  * The database connection is read-only and no write back facility exists.
+ * For queries that return a large number of rows, see
+ * {@link JDBCStreamingXYDataset}.
  */
 public class JDBCXYDataset extends AbstractXYDataset
         implements XYDataset, TableXYDataset, RangeInfo {
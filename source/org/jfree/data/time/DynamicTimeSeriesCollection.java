@@ -57,6 +57,8 @@
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 01-Jul-2014 : Add millisecond time period - see patch #310 by Ricardo JL
  *               Rufino (DG);
+ * 18-Oct-2026 : Send typed change events from addValue() and
+ *               appendData();
  *
  */
 
@@ -69,6 +71,7 @@ import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 
@@ -443,17 +446,24 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
                 + seriesNumber + "unspecified in c'tor"
             );
         }
+        boolean added = false;
         if (this.valueHistory[seriesNumber] == null) {
             this.valueHistory[seriesNumber]
                 = new ValueSequence(this.historyCount);
             this.seriesCount++;
+            added = true;
         }
         // But if that series array already exists, just overwrite its contents
         //synchronized(this)
         //{
             this.valueHistory[seriesNumber].enterData(index, value);
         //}
-        fireSeriesChanged();
+        if (added) {
+            fireSeriesChanged();
+        }
+        else {
+            fireItemUpdated(seriesNumber, index);
+        }
     }
 
     /**
@@ -657,16 +667,23 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
             throw new IllegalArgumentException(
                     "More data than series to put them in");
         }
+        boolean added = false;
         int s;   // index to select the "series"
         for (s = 0; s < nDataPoints; s++) {
             // check whether the "valueHistory" array member exists; if not,
             // create them:
             if (this.valueHistory[s] == null) {
                 this.valueHistory[s] = new ValueSequence(this.historyCount);
+                added = true;
             }
             this.valueHistory[s].enterData(this.newestAt, newData[s]);
         }
-        fireSeriesChanged();
+        if (added) {
+            fireSeriesChanged();
+        }
+        else {
+            fireItemUpdated(nDataPoints == 1 ? 0 : -1, this.newestAt);
+        }
     }
 
     /**
@@ -844,6 +861,20 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
         seriesChanged(new SeriesChangeEvent(this));
     }
 
+    /**
+     * Sends a {@link org.jfree.data.general.DatasetChangeEvent} to all
+     * registered listeners, describing an update to the values at one
+     * position in the FIFO's.  The x-values do not change.
+     *
+     * @param series  the series index (<code>-1</code> for all series).
+     * @param arrayIndex  the array index (not the item index) of the
+     *     updated values.
+     */
+    private void fireItemUpdated(int series, int arrayIndex) {
+        int item = wrapOffset(arrayIndex - this.oldestAt);
+        fireDatasetChanged(series, SeriesChangeType.UPDATE, item, item);
+    }
+
     // The next 3 functions override the base-class implementation of
     // the DomainInfo interface.  Using saved limits (updated by
     // each updateTime() call), improves performance.
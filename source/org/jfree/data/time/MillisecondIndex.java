@@ -0,0 +1,268 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * MillisecondIndex.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 18-Oct-2026 : Added duplicate();
+ * 18-Oct-2026 : Made the index immutable, so it can be read without
+ *               locking;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * A cache of the first, middle and last millisecond of the time periods in
+ * a {@link TimeSeries}, evaluated in one time zone.  The cache covers the
+ * first <code>getCount()</code> items of the series and is extended as
+ * required, so the milliseconds for an item are calculated only once unless
+ * items are inserted or removed before it.  Items removed from the start of
+ * the series are dropped from the cache without moving the other values.
+ * <P>
+ * An index is immutable:  the methods that change the cache return a new
+ * index, which the series publishes through a volatile field, so the cached
+ * values can be read without locking the series.  Successive indices share
+ * their arrays.  A new index only writes to array elements beyond those that
+ * an earlier index covers, and it copies the arrays first if some of those
+ * elements have been covered before (after items were truncated).  The
+ * methods that change the cache must be called while holding the lock on
+ * the series, since they share a calendar.
+ */
+final class MillisecondIndex {
+
+    /** The time zone. */
+    private final TimeZone zone;
+
+    /** A calendar for the time zone (used only to extend the cache). */
+    private final Calendar calendar;
+
+    /** The first millisecond of each time period. */
+    private final long[] first;
+
+    /** The middle millisecond of each time period. */
+    private final long[] middle;
+
+    /** The last millisecond of each time period. */
+    private final long[] last;
+
+    /** The array index for the first item in the series. */
+    private final int start;
+
+    /** The number of items (from the start of the series) in the cache. */
+    private final int count;
+
+    /**
+     * A flag that indicates that the array elements after the items in the
+     * cache may be read through another index, so they must not be
+     * overwritten.
+     */
+    private final boolean shared;
+
+    /**
+     * Creates a new (empty) index.
+     *
+     * @param zone  the time zone (<code>null</code> not permitted).
+     */
+    MillisecondIndex(TimeZone zone) {
+        this(zone, Calendar.getInstance(zone), new long[0], new long[0],
+                new long[0], 0, 0, false);
+    }
+
+    /**
+     * Creates a new index.
+     *
+     * @param zone  the time zone.
+     * @param calendar  the calendar for the time zone.
+     * @param first  the first millisecond of each time period.
+     * @param middle  the middle millisecond of each time period.
+     * @param last  the last millisecond of each time period.
+     * @param start  the array index for the first item in the series.
+     * @param count  the number of items in the cache.
+     * @param shared  the flag for the array elements after the items.
+     */
+    private MillisecondIndex(TimeZone zone, Calendar calendar, long[] first,
+            long[] middle, long[] last, int start, int count,
+            boolean shared) {
+        this.zone = zone;
+        this.calendar = calendar;
+        this.first = first;
+        this.middle = middle;
+        this.last = last;
+        this.start = start;
+        this.count = count;
+        this.shared = shared;
+    }
+
+    /**
+     * Returns an index with the same values, for a snapshot of the series.
+     * The new index has its own calendar, and copies the arrays before it
+     * is extended, since the arrays are shared with this index.
+     *
+     * @return The new index.
+     */
+    MillisecondIndex duplicate() {
+        return new MillisecondIndex(this.zone,
+                Calendar.getInstance(this.zone), this.first, this.middle,
+                this.last, this.start, this.count, true);
+    }
+
+    /**
+     * Returns the time zone.
+     *
+     * @return The time zone.
+     */
+    TimeZone getTimeZone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the number of items in the cache.
+     *
+     * @return The number of items.
+     */
+    int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the cached millisecond for an item.
+     *
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getCount() - 1</code>).
+     * @param anchor  the position within the time period.
+     *
+     * @return The millisecond.
+     */
+    long getMillisecond(int item, TimePeriodAnchor anchor) {
+        int i = this.start + item;
+        if (anchor == TimePeriodAnchor.START) {
+            return this.first[i];
+        }
+        else if (anchor == TimePeriodAnchor.MIDDLE) {
+            return this.middle[i];
+        }
+        return this.last[i];
+    }
+
+    /**
+     * Returns an index that covers all the items in the series.
+     *
+     * @param data  the data items for the series.
+     *
+     * @return The index (possibly this index).
+     */
+    MillisecondIndex update(List data) {
+        int size = data.size();
+        if (size <= this.count) {
+            return this;
+        }
+        long[] f = this.first;
+        long[] m = this.middle;
+        long[] l = this.last;
+        int s = this.start;
+        if (this.shared || s + size > f.length) {
+            int capacity = f.length;
+            if (size > capacity / 2) {
+                capacity = Math.max(16, size * 2);
+            }
+            f = copy(this.first, capacity);
+            m = copy(this.middle, capacity);
+            l = copy(this.last, capacity);
+            s = 0;
+        }
+        for (int item = this.count; item < size; item++) {
+            RegularTimePeriod period
+                    = ((TimeSeriesDataItem) data.get(item)).getPeriod();
+            int i = s + item;
+            f[i] = period.getFirstMillisecond(this.calendar);
+            m[i] = period.getMiddleMillisecond(this.calendar);
+            l[i] = period.getLastMillisecond(this.calendar);
+        }
+        return new MillisecondIndex(this.zone, this.calendar, f, m, l, s,
+                size, false);
+    }
+
+    /**
+     * Returns a copy of the cached values in an array with the specified
+     * length (the values are moved to the start of the array).
+     *
+     * @param values  the values.
+     * @param length  the array length.
+     *
+     * @return The new array.
+     */
+    private long[] copy(long[] values, int length) {
+        long[] result = new long[length];
+        System.arraycopy(values, this.start, result, 0, this.count);
+        return result;
+    }
+
+    /**
+     * Returns an index without the values for items that have been removed
+     * from the start of the series.
+     *
+     * @param n  the number of items removed.
+     *
+     * @return The new index.
+     */
+    MillisecondIndex removeFirst(int n) {
+        int removed = Math.min(n, this.count);
+        return new MillisecondIndex(this.zone, this.calendar, this.first,
+                this.middle, this.last, this.start + removed,
+                this.count - removed, this.shared);
+    }
+
+    /**
+     * Returns an index without the values for the items from the specified
+     * index onwards, following a change to the series at that index.
+     *
+     * @param index  the index of the first changed item.
+     *
+     * @return The index (possibly this index).
+     */
+    MillisecondIndex truncate(int index) {
+        int n = Math.min(this.count, Math.max(index, 0));
+        if (n == this.count) {
+            return this;
+        }
+        return new MillisecondIndex(this.zone, this.calendar, this.first,
+                this.middle, this.last, this.start, n, true);
+    }
+
+}
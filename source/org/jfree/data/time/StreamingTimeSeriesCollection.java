@@ -0,0 +1,992 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------------
+ * StreamingTimeSeriesCollection.java
+ * ----------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYRangeInfo;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A dataset for streaming data:  a sliding window of rows, where each row
+ * has a timestamp (in milliseconds, the same x-values as a
+ * {@link TimeSeriesCollection} uses) and one value for each series.  This is
+ * an alternative to {@link DynamicTimeSeriesCollection} with the following
+ * features:
+ * <ul>
+ * <li>the timestamps can be irregular (they only need to be
+ * non-decreasing);</li>
+ * <li>series can be added and removed at any time (a new series has no
+ * values, <code>Double.NaN</code>, for the existing rows);</li>
+ * <li>the values are held in one <code>float[]</code> column per series,
+ * and the timestamps in a single <code>long[]</code> time index shared by
+ * all the series, so {@link #getXValue(int, int)} and
+ * {@link #getYValue(int, int)} do not allocate;</li>
+ * <li>appending a row, and evicting the oldest rows (when the maximum item
+ * count or the maximum item age is exceeded), takes constant time;</li>
+ * <li>the minimum and maximum values for each block of 1024 rows are
+ * maintained as rows are appended, so the range of the values (in total,
+ * or for a range of timestamps) is found without visiting every item.</li>
+ * </ul>
+ * The storage grows as required up to the maximum item count, so that a
+ * collection sized for (say) 50 series of one million rows only uses
+ * memory for the rows it holds.  Values are stored with <code>float</code>
+ * precision.
+ * <P>
+ * Each call to {@link #append(long, float[])} sends a
+ * {@link org.jfree.data.general.DatasetChangeEvent}, and a chart redraw
+ * follows each event.  For high update rates, add the rows in batches
+ * between calls to {@link #beginBatch()} and {@link #endBatch()} so that
+ * only one event is sent per batch.  This class is not thread-safe, so the
+ * updates should be made on the thread that draws the chart (typically the
+ * event dispatch thread).
+ *
+ * @since 1.0.20
+ */
+public class StreamingTimeSeriesCollection extends AbstractXYDataset
+        implements XYDomainInfo, XYRangeInfo, DomainInfo, RangeInfo,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4725931180271644408L;
+
+    /** The number of rows in each block of the range index. */
+    private static final int BLOCK_SIZE = 1024;
+
+    /** The maximum number of rows. */
+    private int maximumItemCount;
+
+    /** The maximum age of a row, relative to the newest row. */
+    private long maximumItemAge;
+
+    /** The series keys. */
+    private List<Comparable> keys;
+
+    /** The time index (a ring buffer, see head and itemCount). */
+    private long[] times;
+
+    /** The values for each series (ring buffers in step with times). */
+    private List<float[]> values;
+
+    /** The minimum value in each block of rows, for each series. */
+    private List<float[]> blockMinimums;
+
+    /** The maximum value in each block of rows, for each series. */
+    private List<float[]> blockMaximums;
+
+    /** The slot in the ring buffers that holds the oldest row. */
+    private int head;
+
+    /** The number of rows. */
+    private int itemCount;
+
+    /**
+     * Creates a new collection with no series and no rows.
+     *
+     * @param maximumItemCount  the maximum number of rows (when a row is
+     *     appended to a full collection, the oldest row is removed).
+     */
+    public StreamingTimeSeriesCollection(int maximumItemCount) {
+        this(maximumItemCount, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new collection with no series and no rows.
+     *
+     * @param maximumItemCount  the maximum number of rows (when a row is
+     *     appended to a full collection, the oldest row is removed).
+     * @param maximumItemAge  the maximum age of a row, in milliseconds
+     *     (when a row is appended, the rows with a timestamp more than this
+     *     much older are removed).
+     */
+    public StreamingTimeSeriesCollection(int maximumItemCount,
+            long maximumItemAge) {
+        if (maximumItemCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumItemCount' > 0.");
+        }
+        if (maximumItemAge < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumItemAge' >= 0.");
+        }
+        this.maximumItemCount = maximumItemCount;
+        this.maximumItemAge = maximumItemAge;
+        this.keys = new ArrayList<Comparable>();
+        this.times = new long[0];
+        this.values = new ArrayList<float[]>();
+        this.blockMinimums = new ArrayList<float[]>();
+        this.blockMaximums = new ArrayList<float[]>();
+        this.head = 0;
+        this.itemCount = 0;
+    }
+
+    /**
+     * Returns the maximum number of rows.
+     *
+     * @return The maximum number of rows.
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Returns the maximum age of a row, relative to the newest row.
+     *
+     * @return The maximum age (in milliseconds).
+     *
+     * @see #setMaximumItemAge(long)
+     */
+    public long getMaximumItemAge() {
+        return this.maximumItemAge;
+    }
+
+    /**
+     * Sets the maximum age of a row, relative to the newest row, removes
+     * any rows that are now too old and, if any rows were removed, sends a
+     * change event to all registered listeners.
+     *
+     * @param age  the maximum age (in milliseconds, must be zero or
+     *     greater).
+     *
+     * @see #getMaximumItemAge()
+     */
+    public void setMaximumItemAge(long age) {
+        if (age < 0) {
+            throw new IllegalArgumentException("Requires 'age' >= 0.");
+        }
+        this.maximumItemAge = age;
+        if (this.itemCount > 0) {
+            int removed = removeOldItems(getTime(this.itemCount - 1));
+            if (removed > 0) {
+                fireDatasetChanged(-1, SeriesChangeType.REMOVE, 0,
+                        removed - 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.keys.get(series);
+    }
+
+    /**
+     * Returns the index of the series with the specified key.
+     *
+     * @param seriesKey  the series key (<code>null</code> permitted).
+     *
+     * @return The series index, or -1 if there is no such series.
+     */
+    @Override
+    public int indexOf(Comparable seriesKey) {
+        return this.keys.indexOf(seriesKey);
+    }
+
+    /**
+     * Adds a series to the collection and sends a change event to all
+     * registered listeners.  The new series has no values (that is,
+     * <code>Double.NaN</code>) for the rows that are already in the
+     * collection.
+     *
+     * @param key  the series key (<code>null</code> not permitted, must be
+     *     different to the keys of the existing series).
+     *
+     * @return The index of the new series.
+     */
+    public int addSeries(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        if (this.keys.contains(key)) {
+            throw new IllegalArgumentException("This dataset already "
+                    + "contains a series with the key " + key);
+        }
+        float[] column = new float[this.times.length];
+        Arrays.fill(column, Float.NaN);
+        float[] minimums = new float[this.times.length / BLOCK_SIZE];
+        float[] maximums = new float[this.times.length / BLOCK_SIZE];
+        Arrays.fill(minimums, Float.POSITIVE_INFINITY);
+        Arrays.fill(maximums, Float.NEGATIVE_INFINITY);
+        this.keys.add(key);
+        this.values.add(column);
+        this.blockMinimums.add(minimums);
+        this.blockMaximums.add(maximums);
+        fireDatasetChanged();
+        return this.keys.size() - 1;
+    }
+
+    /**
+     * Removes a series from the collection and sends a change event to all
+     * registered listeners.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     */
+    public void removeSeries(int series) {
+        if (series < 0 || series >= this.keys.size()) {
+            throw new IllegalArgumentException("Series index out of bounds.");
+        }
+        this.keys.remove(series);
+        this.values.remove(series);
+        this.blockMinimums.remove(series);
+        this.blockMaximums.remove(series);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the collection and sends a change event to all
+     * registered listeners.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if there is no series with the key.
+     */
+    public void removeSeries(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        int series = indexOf(key);
+        if (series < 0) {
+            throw new UnknownKeyException("Key not found: " + key);
+        }
+        removeSeries(series);
+    }
+
+    /**
+     * Returns the number of rows in the collection.
+     *
+     * @return The number of rows.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the number of items in a series, which is the same as the
+     * number of rows in the collection.
+     *
+     * @param series  the series index (ignored).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the timestamp for a row.
+     *
+     * @param item  the row index (in the range <code>0</code> to
+     *     <code>getItemCount() - 1</code>, the oldest row has index 0).
+     *
+     * @return The timestamp (in milliseconds).
+     */
+    public long getTime(int item) {
+        return this.times[slot(item)];
+    }
+
+    /**
+     * Returns the index of the first row with the specified timestamp or,
+     * if there is no such row, <code>-(insertionPoint + 1)</code> where the
+     * insertion point is the index of the first row with a later timestamp
+     * (or the item count, if there is no such row).  The result is found by
+     * a binary search of the time index.
+     *
+     * @param time  the timestamp (in milliseconds).
+     *
+     * @return The row index.
+     */
+    public int getItemIndex(long time) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getTime(mid) < time) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        if (low < this.itemCount && getTime(low) == time) {
+            return low;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the x-value (the timestamp) for an item.
+     *
+     * @param series  the series index (ignored, the series share the
+     *     timestamps).
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.times[slot(item)];
+    }
+
+    /**
+     * Returns the x-value (the timestamp) for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return Long.valueOf(getTime(item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.values.get(series)[slot(item)];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value (<code>null</code> if the series has no value for
+     *     the item).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : Double.valueOf(y);
+    }
+
+    /**
+     * Returns the order of the x-values, which is always
+     * {@link DomainOrder#ASCENDING}.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Appends a row to the collection, removes the oldest rows if the
+     * maximum item count or age is exceeded, and sends a change event to
+     * all registered listeners.
+     *
+     * @param time  the timestamp (in milliseconds, not earlier than the
+     *     timestamp of the newest row).
+     * @param rowValues  the values, one for each series in the collection
+     *     (<code>null</code> not permitted, <code>Float.NaN</code> for a
+     *     missing value).
+     */
+    public void append(long time, float[] rowValues) {
+        ParamChecks.nullNotPermitted(rowValues, "rowValues");
+        int seriesCount = this.keys.size();
+        if (rowValues.length != seriesCount) {
+            throw new IllegalArgumentException("Requires one value for "
+                    + "each of the " + seriesCount + " series.");
+        }
+        if (this.itemCount > 0 && time < getTime(this.itemCount - 1)) {
+            throw new IllegalArgumentException("Requires 'time' not before "
+                    + "the time of the newest row.");
+        }
+        if (this.itemCount == this.maximumItemCount) {
+            removeFirstItem();
+        }
+        if (this.itemCount == this.times.length) {
+            grow();
+        }
+        int slot = ringSlot(this.itemCount);
+        this.times[slot] = time;
+        int block = slot / BLOCK_SIZE;
+        boolean newBlock = (slot % BLOCK_SIZE == 0);
+        for (int s = 0; s < seriesCount; s++) {
+            float value = rowValues[s];
+            this.values.get(s)[slot] = value;
+            float[] minimums = this.blockMinimums.get(s);
+            float[] maximums = this.blockMaximums.get(s);
+            if (newBlock) {
+                minimums[block] = Float.POSITIVE_INFINITY;
+                maximums[block] = Float.NEGATIVE_INFINITY;
+            }
+            if (value < minimums[block]) {
+                minimums[block] = value;
+            }
+            if (value > maximums[block]) {
+                maximums[block] = value;
+            }
+        }
+        this.itemCount++;
+        removeOldItems(time);
+        fireDatasetChanged(-1, SeriesChangeType.APPEND, this.itemCount - 1,
+                this.itemCount - 1);
+    }
+
+    /**
+     * Removes all the rows from the collection (the series are kept) and
+     * sends a change event to all registered listeners.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.head = 0;
+            this.itemCount = 0;
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns the ring buffer slot for a row.
+     *
+     * @param item  the row index.
+     *
+     * @return The slot.
+     */
+    private int slot(int item) {
+        if (item < 0 || item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index " + item
+                    + " out of bounds for " + this.itemCount + " items.");
+        }
+        return ringSlot(item);
+    }
+
+    /**
+     * Returns the ring buffer slot for a row, without checking the row
+     * index.
+     *
+     * @param item  the row index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     *
+     * @return The slot.
+     */
+    private int ringSlot(int item) {
+        int slot = this.head + item;
+        if (slot >= this.times.length) {
+            slot -= this.times.length;
+        }
+        return slot;
+    }
+
+    /**
+     * Removes the oldest row (without sending an event).
+     */
+    private void removeFirstItem() {
+        this.head++;
+        if (this.head == this.times.length) {
+            this.head = 0;
+        }
+        this.itemCount--;
+    }
+
+    /**
+     * Removes the rows that are older than the maximum item age (without
+     * sending an event).
+     *
+     * @param latest  the timestamp of the newest row.
+     *
+     * @return The number of rows removed.
+     */
+    private int removeOldItems(long latest) {
+        if (this.maximumItemAge == Long.MAX_VALUE) {
+            return 0;
+        }
+        int removed = 0;
+        while (this.itemCount > 0
+                && latest - getTime(0) > this.maximumItemAge) {
+            removeFirstItem();
+            removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * Enlarges the ring buffers (the capacity is always a multiple of the
+     * block size, and is limited by the maximum item count) and rebuilds
+     * the range index.
+     */
+    private void grow() {
+        int capacity = Math.max(BLOCK_SIZE, this.times.length * 2);
+        int limit = (int) Math.min(Integer.MAX_VALUE - BLOCK_SIZE,
+                ((long) this.maximumItemCount + BLOCK_SIZE - 1)
+                / BLOCK_SIZE * BLOCK_SIZE);
+        capacity = Math.min(capacity, limit);
+        long[] newTimes = new long[capacity];
+        for (int i = 0; i < this.itemCount; i++) {
+            newTimes[i] = getTime(i);
+        }
+        int blockCount = capacity / BLOCK_SIZE;
+        for (int s = 0; s < this.keys.size(); s++) {
+            float[] column = new float[capacity];
+            float[] minimums = new float[blockCount];
+            float[] maximums = new float[blockCount];
+            Arrays.fill(minimums, Float.POSITIVE_INFINITY);
+            Arrays.fill(maximums, Float.NEGATIVE_INFINITY);
+            for (int i = 0; i < this.itemCount; i++) {
+                float value = this.values.get(s)[slot(i)];
+                column[i] = value;
+                int block = i / BLOCK_SIZE;
+                if (value < minimums[block]) {
+                    minimums[block] = value;
+                }
+                if (value > maximums[block]) {
+                    maximums[block] = value;
+                }
+            }
+            this.values.set(s, column);
+            this.blockMinimums.set(s, minimums);
+            this.blockMaximums.set(s, maximums);
+        }
+        this.times = newTimes;
+        this.head = 0;
+    }
+
+    /**
+     * Returns the range of the values in one series for the rows
+     * <code>first</code> to <code>last</code> (inclusive).  Whole blocks of
+     * rows are covered by the block minimums and maximums, so only the
+     * rows in the partial blocks at each end are visited.
+     *
+     * @param series  the series index.
+     * @param first  the index of the first row.
+     * @param last  the index of the last row.
+     * @param result  the running minimum (element 0) and maximum (element
+     *     1), updated by this method.
+     */
+    private void updateValueRange(int series, int first, int last,
+            double[] result) {
+        float[] column = this.values.get(series);
+        float[] minimums = this.blockMinimums.get(series);
+        float[] maximums = this.blockMaximums.get(series);
+        int item = first;
+        while (item <= last) {
+            int slot = slot(item);
+            if (slot % BLOCK_SIZE == 0 && item + BLOCK_SIZE - 1 <= last) {
+                // the block holds exactly the rows item to
+                // item + BLOCK_SIZE - 1, which were appended after the
+                // block was reset
+                int block = slot / BLOCK_SIZE;
+                result[0] = Math.min(result[0], minimums[block]);
+                result[1] = Math.max(result[1], maximums[block]);
+                item += BLOCK_SIZE;
+            }
+            else {
+                float value = column[slot];
+                if (value < result[0]) {
+                    result[0] = value;
+                }
+                if (value > result[1]) {
+                    result[1] = value;
+                }
+                item++;
+            }
+        }
+    }
+
+    /**
+     * Returns the range of the values in the specified series, for the
+     * rows <code>first</code> to <code>last</code> (inclusive).
+     *
+     * @param seriesIndices  the series indices.
+     * @param first  the index of the first row.
+     * @param last  the index of the last row.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    private Range findValueRange(List<Integer> seriesIndices, int first,
+            int last) {
+        double[] result = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        for (int series : seriesIndices) {
+            updateValueRange(series, first, last, result);
+        }
+        if (result[0] > result[1]) {
+            return null;
+        }
+        return new Range(result[0], result[1]);
+    }
+
+    /**
+     * Returns the indices of all the series.
+     *
+     * @return The series indices.
+     */
+    private List<Integer> allSeries() {
+        List<Integer> result = new ArrayList<Integer>();
+        for (int s = 0; s < this.keys.size(); s++) {
+            result.add(s);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indices of the series with the specified keys.
+     *
+     * @param seriesKeys  the series keys (<code>null</code> not permitted).
+     *
+     * @return The series indices.
+     */
+    private List<Integer> seriesIndices(List seriesKeys) {
+        ParamChecks.nullNotPermitted(seriesKeys, "seriesKeys");
+        List<Integer> result = new ArrayList<Integer>();
+        for (Object key : seriesKeys) {
+            int s = this.keys.indexOf(key);
+            if (s >= 0) {
+                result.add(s);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the minimum x-value (the earliest timestamp).
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     rows).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        return this.itemCount > 0 ? getTime(0) : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value (the latest timestamp).
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     rows).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        return this.itemCount > 0 ? getTime(this.itemCount - 1) : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values (the timestamps).
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no rows).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        if (this.itemCount == 0) {
+            return null;
+        }
+        return new Range(getTime(0), getTime(this.itemCount - 1));
+    }
+
+    /**
+     * Returns the range of the x-values (the timestamps) for the specified
+     * series.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no rows or none of
+     *     the keys belong to a series in the collection).
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        if (seriesIndices(visibleSeriesKeys).isEmpty()) {
+            return null;
+        }
+        return getDomainBounds(includeInterval);
+    }
+
+    /**
+     * Returns the minimum y-value.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        if (this.itemCount == 0) {
+            return null;
+        }
+        return findValueRange(allSeries(), 0, this.itemCount - 1);
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, for the
+     * rows with a timestamp in the specified range.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     (<code>null</code> not permitted).
+     * @param xRange  the range of timestamps (<code>null</code> not
+     *     permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        List<Integer> seriesIndices = seriesIndices(visibleSeriesKeys);
+        if (this.itemCount == 0 || seriesIndices.isEmpty()) {
+            return null;
+        }
+        int first = firstItemAtOrAfter(xRange.getLowerBound());
+        int last = firstItemAfter(xRange.getUpperBound()) - 1;
+        if (first > last) {
+            return null;
+        }
+        return findValueRange(seriesIndices, first, last);
+    }
+
+    /**
+     * Returns the index of the first row with a timestamp that is not less
+     * than the specified value.
+     *
+     * @param x  the value.
+     *
+     * @return The row index (the item count if there is no such row).
+     */
+    private int firstItemAtOrAfter(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getTime(mid) < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first row with a timestamp that is greater
+     * than the specified value.
+     *
+     * @param x  the value.
+     *
+     * @return The row index (the item count if there is no such row).
+     */
+    private int firstItemAfter(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getTime(mid) <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.  Two
+     * collections are equal if they have the same maximum item count and
+     * age, the same series keys and the same rows.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingTimeSeriesCollection)) {
+            return false;
+        }
+        StreamingTimeSeriesCollection that
+                = (StreamingTimeSeriesCollection) obj;
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        if (this.maximumItemAge != that.maximumItemAge) {
+            return false;
+        }
+        if (!this.keys.equals(that.keys)) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (getTime(i) != that.getTime(i)) {
+                return false;
+            }
+            for (int s = 0; s < this.keys.size(); s++) {
+                if (Float.floatToIntBits(this.values.get(s)[slot(i)])
+                        != Float.floatToIntBits(
+                        that.values.get(s)[that.slot(i)])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.maximumItemCount;
+        result = 29 * result + this.keys.hashCode();
+        result = 29 * result + this.itemCount;
+        if (this.itemCount > 0) {
+            long first = getTime(0);
+            long last = getTime(this.itemCount - 1);
+            result = 29 * result + (int) (first ^ (first >>> 32));
+            result = 29 * result + (int) (last ^ (last >>> 32));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of this collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        StreamingTimeSeriesCollection clone
+                = (StreamingTimeSeriesCollection) super.clone();
+        clone.keys = new ArrayList<Comparable>(this.keys);
+        clone.times = (long[]) this.times.clone();
+        clone.values = cloneColumns(this.values);
+        clone.blockMinimums = cloneColumns(this.blockMinimums);
+        clone.blockMaximums = cloneColumns(this.blockMaximums);
+        return clone;
+    }
+
+    /**
+     * Returns a deep copy of a list of arrays.
+     *
+     * @param columns  the arrays.
+     *
+     * @return The copy.
+     */
+    private static List<float[]> cloneColumns(List<float[]> columns) {
+        List<float[]> result = new ArrayList<float[]>(columns.size());
+        for (float[] column : columns) {
+            result.add((float[]) column.clone());
+        }
+        return result;
+    }
+
+}
@@ -85,6 +85,14 @@
  * 03-Dec-2011 : Fixed bug 3446965 which affects the y-range calculation for 
  *               the series (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Store items in a RingBufferList and track the y-bounds with
+ *               RollingMinMax when a maximum item count or age is set;
+ * 18-Oct-2026 : Added addAll() methods;
+ * 18-Oct-2026 : Send typed change events with item ranges;
+ * 18-Oct-2026 : Support concurrent mode;
+ * 18-Oct-2026 : Cache the milliseconds for the time periods;
+ * 18-Oct-2026 : Copy the cached milliseconds into snapshots;
+ * 18-Oct-2026 : Publish the millisecond index through a volatile field;
  * 
  */
 
@@ -93,6 +101,7 @@ package org.jfree.data.time;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -103,8 +112,11 @@ import java.util.TimeZone;
 
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.Range;
+import org.jfree.data.general.RingBufferList;
+import org.jfree.data.general.RollingMinMax;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.util.ObjectUtilities;
 
@@ -161,6 +173,24 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private double maxY;
 
+    /**
+     * Tracks the y-bounds while the series is a rolling window (that is, a
+     * maximum item count or age is set) and items are only appended at the
+     * end and removed from the start.  At other times this is
+     * <code>null</code>.
+     */
+    private RollingMinMax yWindow;
+
+    /**
+     * The cached first, middle and last milliseconds for the time periods,
+     * in the time zone most recently passed to
+     * {@link #getMillisecond(int, TimePeriodAnchor, TimeZone)}
+     * (<code>null</code> until that method is called).  The index is
+     * immutable and is replaced as a whole (while holding the lock on the
+     * series), so it can be read without locking.
+     */
+    private transient volatile MillisecondIndex millisecondIndex;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -190,7 +220,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         this.domain = domain;
         this.range = range;
         this.timePeriodClass = null;
-        this.data = new java.util.ArrayList();
+        this.data = new RingBufferList();
         this.maximumItemCount = Integer.MAX_VALUE;
         this.maximumItemAge = Long.MAX_VALUE;
         this.minY = Double.NaN;
@@ -286,13 +316,16 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * If you add a new item to the series such that the number of items will
      * exceed the maximum item count, then the FIRST element in the series is
      * automatically removed, ensuring that the maximum item count is not
-     * exceeded.
+     * exceeded.  The items are stored in a circular buffer, so removing the
+     * first item takes constant time, and while items are only appended at
+     * the end of the series the y-bounds are updated without iterating
+     * through the items.
      *
      * @param maximum  the maximum (requires &gt;= 0).
      *
      * @see #getMaximumItemCount()
      */
-    public void setMaximumItemCount(int maximum) {
+    public synchronized void setMaximumItemCount(int maximum) {
         if (maximum < 0) {
             throw new IllegalArgumentException("Negative 'maximum' argument.");
         }
@@ -301,6 +334,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (count > maximum) {
             delete(0, count - maximum - 1);
         }
+        else {
+            updateMinMaxYByIteration();
+        }
     }
 
     /**
@@ -326,11 +362,12 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *
      * @see #getMaximumItemAge()
      */
-    public void setMaximumItemAge(long periods) {
+    public synchronized void setMaximumItemAge(long periods) {
         if (periods < 0) {
             throw new IllegalArgumentException("Negative 'periods' argument.");
         }
         this.maximumItemAge = periods;
+        updateMinMaxYByIteration();
         removeAgedItems(true);  // remove old items and notify if necessary
     }
 
@@ -394,21 +431,32 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (this.data.isEmpty()) {
             return null;
         }
-        Calendar calendar = Calendar.getInstance(zone);
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
+        // the items are ordered, so find the first item in the range with a
+        // binary search of the (cached) x-values
+        int count = this.data.size();
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getMillisecond(mid, xAnchor, zone) < xRange.getLowerBound()) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
         double lowY = Double.POSITIVE_INFINITY;
         double highY = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < this.data.size(); i++) {
+        for (int i = low; i < count; i++) {
+            if (getMillisecond(i, xAnchor, zone) > xRange.getUpperBound()) {
+                break;
+            }
             TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(i);
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
-                    lowY = Math.min(lowY, v);
-                    highY = Math.max(highY, v);
-                }
+            Number n = item.getValue();
+            if (n != null) {
+                double v = n.doubleValue();
+                lowY = Math.min(lowY, v);
+                highY = Math.max(highY, v);
             }
         }
         if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
@@ -550,6 +598,76 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         return getRawDataItem(index).getPeriod();
     }
 
+    /**
+     * Returns the millisecond (relative to the epoch) at the specified
+     * position within the time period for an item, evaluated in the
+     * specified time zone.  The first, middle and last milliseconds of each
+     * time period are cached, so this method only calculates them once for
+     * each item (for the most recently used time zone) and after that it
+     * returns the cached value without locking the series.
+     *
+     * @param index  the item index.
+     * @param anchor  the position within the time period (<code>null</code>
+     *     not permitted).
+     * @param zone  the time zone (<code>null</code> not permitted).
+     *
+     * @return The millisecond.
+     *
+     * @see RegularTimePeriod#getMillisecond(TimePeriodAnchor, Calendar)
+     *
+     * @since 1.0.20
+     */
+    public long getMillisecond(int index, TimePeriodAnchor anchor,
+            TimeZone zone) {
+        MillisecondIndex cache = this.millisecondIndex;
+        if (cache != null && index >= 0 && index < cache.getCount()
+                && (cache.getTimeZone() == zone
+                || cache.getTimeZone().equals(zone))) {
+            return cache.getMillisecond(index, anchor);
+        }
+        ParamChecks.nullNotPermitted(anchor, "anchor");
+        return updateMillisecondIndex(index, zone).getMillisecond(index,
+                anchor);
+    }
+
+    /**
+     * Updates the cached milliseconds so that they cover all the items in
+     * the series, in the specified time zone.
+     *
+     * @param index  the index of the item that is required.
+     * @param zone  the time zone (<code>null</code> not permitted).
+     *
+     * @return The cache.
+     */
+    private synchronized MillisecondIndex updateMillisecondIndex(int index,
+            TimeZone zone) {
+        ParamChecks.nullNotPermitted(zone, "zone");
+        if (index < 0 || index >= this.data.size()) {
+            throw new IndexOutOfBoundsException("Index " + index
+                    + " out of bounds for " + this.data.size() + " items.");
+        }
+        MillisecondIndex cache = this.millisecondIndex;
+        if (cache == null || !cache.getTimeZone().equals(zone)) {
+            cache = new MillisecondIndex(zone);
+        }
+        cache = cache.update(this.data);
+        this.millisecondIndex = cache;
+        return cache;
+    }
+
+    /**
+     * Discards the cached milliseconds for the items from the specified
+     * index onwards, following a change to the series at that index.
+     *
+     * @param index  the index of the first changed item.
+     */
+    private void invalidateMilliseconds(int index) {
+        MillisecondIndex cache = this.millisecondIndex;
+        if (cache != null) {
+            this.millisecondIndex = cache.truncate(index);
+        }
+    }
+
     /**
      * Returns a time period that would be the next in sequence on the end of
      * the time series.
@@ -655,41 +773,38 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *              permitted).
      * @param notify  notify listeners?
      */
-    public void add(TimeSeriesDataItem item, boolean notify) {
+    public synchronized void add(TimeSeriesDataItem item, boolean notify) {
         ParamChecks.nullNotPermitted(item, "item");
         item = (TimeSeriesDataItem) item.clone();
         Class c = item.getPeriod().getClass();
         if (this.timePeriodClass == null) {
             this.timePeriodClass = c;
         }
-        else if (!this.timePeriodClass.equals(c)) {
-            StringBuilder b = new StringBuilder();
-            b.append("You are trying to add data where the time period class ");
-            b.append("is ");
-            b.append(item.getPeriod().getClass().getName());
-            b.append(", but the TimeSeries is expecting an instance of ");
-            b.append(this.timePeriodClass.getName());
-            b.append(".");
-            throw new SeriesException(b.toString());
+        else {
+            checkTimePeriodClass(this.timePeriodClass, item.getPeriod());
         }
 
         // make the change (if it's not a duplicate time period)...
         boolean added = false;
+        boolean appended = false;
         int count = getItemCount();
         if (count == 0) {
             this.data.add(item);
             added = true;
+            appended = true;
         }
         else {
             RegularTimePeriod last = getTimePeriod(getItemCount() - 1);
             if (item.getPeriod().compareTo(last) > 0) {
                 this.data.add(item);
                 added = true;
+                appended = true;
             }
             else {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    invalidateMilliseconds(-index - 1);
                     added = true;
                 }
                 else {
@@ -706,22 +821,155 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (added) {
             updateBoundsForAddedItem(item);
+            updateWindowForAddedItem(item, appended);
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                removeFirstItem();
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
+            invalidateSnapshot();
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChangedForAddedItem(appended);
             }
         }
 
     }
 
+    /**
+     * Checks that a time period is an instance of the expected class.
+     *
+     * @param expected  the expected class.
+     * @param period  the time period.
+     *
+     * @throws SeriesException if the time period is not an instance of the
+     *     expected class.
+     */
+    private static void checkTimePeriodClass(Class expected,
+            RegularTimePeriod period) {
+        if (!expected.equals(period.getClass())) {
+            StringBuilder b = new StringBuilder();
+            b.append("You are trying to add data where the time period class ");
+            b.append("is ");
+            b.append(period.getClass().getName());
+            b.append(", but the TimeSeries is expecting an instance of ");
+            b.append(expected.getName());
+            b.append(".");
+            throw new SeriesException(b.toString());
+        }
+    }
+
+    /**
+     * Adds the specified items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  The new items
+     * are sorted and then merged with the existing items in one pass, which
+     * is much faster than adding a large number of items one at a time.
+     *
+     * @param periods  the time periods (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, the array
+     *     must have the same length as <code>periods</code>).
+     *
+     * @throws SeriesException if a time period is a duplicate, or is not an
+     *     instance of the time period class for the series (in which case
+     *     no items are added).
+     *
+     * @since 1.0.20
+     */
+    public void addAll(RegularTimePeriod[] periods, double[] values) {
+        ParamChecks.nullNotPermitted(periods, "periods");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (periods.length != values.length) {
+            throw new IllegalArgumentException(
+                    "The 'periods' and 'values' arrays differ in length.");
+        }
+        List items = new ArrayList(periods.length);
+        for (int i = 0; i < periods.length; i++) {
+            items.add(new TimeSeriesDataItem(periods[i], values[i]));
+        }
+        addItems(items);
+    }
+
+    /**
+     * Adds the items returned by an iterator to the series and sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  The
+     * items are copied, as for {@link #add(TimeSeriesDataItem)}.
+     *
+     * @param items  an iterator over {@link TimeSeriesDataItem} instances
+     *     (<code>null</code> not permitted).
+     *
+     * @throws SeriesException if a time period is a duplicate, or is not an
+     *     instance of the time period class for the series (in which case
+     *     no items are added).
+     *
+     * @see #addAll(RegularTimePeriod[], double[])
+     *
+     * @since 1.0.20
+     */
+    public void addAll(Iterator items) {
+        ParamChecks.nullNotPermitted(items, "items");
+        List list = new ArrayList();
+        while (items.hasNext()) {
+            TimeSeriesDataItem item = (TimeSeriesDataItem) items.next();
+            ParamChecks.nullNotPermitted(item, "item");
+            list.add(item.clone());
+        }
+        addItems(list);
+    }
+
+    /**
+     * Adds a list of new items to the series, updates the cached y-bounds,
+     * removes items to enforce the maximum item count and age, and sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param items  the new items (these are not copied).
+     */
+    private synchronized void addItems(List items) {
+        int count = items.size();
+        if (count == 0) {
+            return;
+        }
+        Class c = this.timePeriodClass;
+        for (int i = 0; i < count; i++) {
+            RegularTimePeriod period
+                    = ((TimeSeriesDataItem) items.get(i)).getPeriod();
+            if (c == null) {
+                c = period.getClass();
+            }
+            checkTimePeriodClass(c, period);
+        }
+        boolean appended = addAllSorted(this.data, items, false);
+        this.timePeriodClass = c;
+        if (!appended) {
+            invalidateMilliseconds(0);
+        }
+        if (appended) {
+            for (int i = 0; i < count; i++) {
+                TimeSeriesDataItem item = (TimeSeriesDataItem) items.get(i);
+                updateBoundsForAddedItem(item);
+                updateWindowForAddedItem(item, true);
+            }
+        }
+        else {
+            updateMinMaxYByIteration();
+        }
+        int excess = getItemCount() - this.maximumItemCount;
+        if (excess > 0) {
+            removeFirstItems(excess);
+        }
+        removeAgedItems(false);
+        invalidateSnapshot();
+        int size = getItemCount();
+        if (appended && size > 0) {
+            fireSeriesChanged(SeriesChangeType.APPEND,
+                    size - Math.min(count, size), size - 1);
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
     /**
      * Adds a new data item to the series and sends a {@link SeriesChangeEvent}
      * to all registered listeners.
@@ -795,7 +1043,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @param period  the period (<code>null</code> not permitted).
      * @param value  the value (<code>null</code> permitted).
      */
-    public void update(RegularTimePeriod period, Number value) {
+    public synchronized void update(RegularTimePeriod period, Number value) {
         TimeSeriesDataItem temp = new TimeSeriesDataItem(period, value);
         int index = Collections.binarySearch(this.data, temp);
         if (index < 0) {
@@ -811,7 +1059,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @param index  the index of the data item.
      * @param value  the new value (<code>null</code> permitted).
      */
-    public void update(int index, Number value) {
+    public synchronized void update(int index, Number value) {
         TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(index);
         boolean iterate = false;
         Number oldYN = item.getValue();
@@ -821,7 +1069,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
         }
-        item.setValue(value);
+        setItemValue(index, value);
+        this.yWindow = null;
         if (iterate) {
             updateMinMaxYByIteration();
         }
@@ -830,7 +1079,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             this.minY = minIgnoreNaN(this.minY, yy);
             this.maxY = maxIgnoreNaN(this.maxY, yy);
         }
-        fireSeriesChanged();
+        fireSeriesChanged(SeriesChangeType.UPDATE, index, index);
     }
 
     /**
@@ -841,7 +1090,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *
      * @return A series containing the values that were overwritten.
      */
-    public TimeSeries addAndOrUpdate(TimeSeries series) {
+    public synchronized TimeSeries addAndOrUpdate(TimeSeries series) {
         TimeSeries overwritten = new TimeSeries("Overwritten values from: "
                 + getKey());
         for (int i = 0; i < series.getItemCount(); i++) {
@@ -898,7 +1147,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *
      * @since 1.0.14
      */
-    public TimeSeriesDataItem addOrUpdate(TimeSeriesDataItem item) {
+    public synchronized TimeSeriesDataItem addOrUpdate(
+            TimeSeriesDataItem item) {
 
         ParamChecks.nullNotPermitted(item, "item");
         Class periodClass = item.getPeriod().getClass();
@@ -913,6 +1163,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new SeriesException(msg);
         }
         TimeSeriesDataItem overwritten = null;
+        boolean appended = false;
         int index = Collections.binarySearch(this.data, item);
         if (index >= 0) {
             TimeSeriesDataItem existing
@@ -926,7 +1177,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             if (!Double.isNaN(oldY)) {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
-            existing.setValue(item.getValue());
+            setItemValue(index, item.getValue());
+            this.yWindow = null;
             if (iterate) {
                 updateMinMaxYByIteration();
             }
@@ -939,18 +1191,26 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         else {
             item = (TimeSeriesDataItem) item.clone();
             this.data.add(-index - 1, item);
+            invalidateMilliseconds(-index - 1);
+            appended = -index - 1 == getItemCount() - 1;
             updateBoundsForAddedItem(item);
+            updateWindowForAddedItem(item, appended);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                removeFirstItem();
             }
         }
         removeAgedItems(false);  // remove old items if necessary, but
                                  // don't notify anyone, because that
                                  // happens next anyway...
-        fireSeriesChanged();
+        invalidateSnapshot();
+        if (overwritten != null) {
+            fireSeriesChanged(SeriesChangeType.UPDATE, index, index);
+        }
+        else {
+            fireSeriesChangedForAddedItem(appended);
+        }
         return overwritten;
 
     }
@@ -963,21 +1223,21 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @param notify  controls whether or not a {@link SeriesChangeEvent} is
      *                sent to registered listeners IF any items are removed.
      */
-    public void removeAgedItems(boolean notify) {
+    public synchronized void removeAgedItems(boolean notify) {
         // check if there are any values earlier than specified by the history
         // count...
         if (getItemCount() > 1) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
-            while ((latest - getTimePeriod(0).getSerialIndex())
+            int count = 0;
+            while ((latest - getTimePeriod(count).getSerialIndex())
                     > this.maximumItemAge) {
-                this.data.remove(0);
-                removed = true;
+                count++;
             }
-            if (removed) {
-                updateMinMaxYByIteration();
+            if (count > 0) {
+                removeFirstItems(count);
+                invalidateSnapshot();
                 if (notify) {
-                    fireSeriesChanged();
+                    fireSeriesChanged(SeriesChangeType.REMOVE, 0, count - 1);
                 }
             }
         }
@@ -993,7 +1253,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @param notify  controls whether or not a {@link SeriesChangeEvent} is
      *                sent to registered listeners IF any items are removed.
      */
-    public void removeAgedItems(long latest, boolean notify) {
+    public synchronized void removeAgedItems(long latest, boolean notify) {
         if (this.data.isEmpty()) {
             return;  // nothing to do
         }
@@ -1020,16 +1280,16 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // check if there are any values earlier than specified by the history
         // count...
-        boolean removed = false;
-        while (getItemCount() > 0 && (index
-                - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
-            removed = true;
+        int count = 0;
+        while (count < getItemCount() && (index - getTimePeriod(
+                count).getSerialIndex()) > this.maximumItemAge) {
+            count++;
         }
-        if (removed) {
-            updateMinMaxYByIteration();
+        if (count > 0) {
+            removeFirstItems(count);
+            invalidateSnapshot();
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChanged(SeriesChangeType.REMOVE, 0, count - 1);
             }
         }
     }
@@ -1038,13 +1298,15 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * Removes all data items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
      */
-    public void clear() {
-        if (this.data.size() > 0) {
+    public synchronized void clear() {
+        int count = this.data.size();
+        if (count > 0) {
             this.data.clear();
+            invalidateMilliseconds(0);
             this.timePeriodClass = null;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
-            fireSeriesChanged();
+            updateMinMaxYByIteration();
+            invalidateSnapshot();
+            fireSeriesChanged(SeriesChangeType.REMOVE, 0, count - 1);
         }
     }
 
@@ -1056,16 +1318,27 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @param period  the period of the item to delete (<code>null</code> not
      *                permitted).
      */
-    public void delete(RegularTimePeriod period) {
+    public synchronized void delete(RegularTimePeriod period) {
         int index = getIndex(period);
-        if (index >= 0) {
+        if (index == 0 && this.yWindow != null) {
+            removeFirstItem();
+            if (this.data.isEmpty()) {
+                this.timePeriodClass = null;
+            }
+            invalidateSnapshot();
+            fireSeriesChanged(SeriesChangeType.REMOVE, 0, 0);
+        }
+        else if (index >= 0) {
             TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.remove(
                     index);
+            invalidateMilliseconds(index);
+            this.yWindow = null;
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
             }
-            fireSeriesChanged();
+            invalidateSnapshot();
+            fireSeriesChanged(SeriesChangeType.REMOVE, index, index);
         }
     }
 
@@ -1088,19 +1361,24 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *
      * @since 1.0.14
      */
-    public void delete(int start, int end, boolean notify) {
+    public synchronized void delete(int start, int end, boolean notify) {
         if (end < start) {
             throw new IllegalArgumentException("Requires start <= end.");
         }
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
+        this.data.subList(start, end + 1).clear();
+        if (start == 0 && this.millisecondIndex != null) {
+            this.millisecondIndex = this.millisecondIndex.removeFirst(end + 1);
+        }
+        else {
+            invalidateMilliseconds(start);
         }
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
         }
+        invalidateSnapshot();
         if (notify) {
-            fireSeriesChanged();
+            fireSeriesChanged(SeriesChangeType.REMOVE, start, end);
         }
     }
 
@@ -1123,9 +1401,44 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         TimeSeries clone = (TimeSeries) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.millisecondIndex = null;
+        if (this.yWindow != null) {
+            clone.yWindow = (RollingMinMax) this.yWindow.clone();
+        }
         return clone;
     }
 
+    /**
+     * Creates a snapshot of the series.  The snapshot shares the data items
+     * with this series, which is safe because the items are replaced rather
+     * than modified in concurrent mode, and starts with a copy of the cached
+     * milliseconds.
+     *
+     * @return A new snapshot.
+     *
+     * @see #setConcurrent(boolean)
+     */
+    @Override
+    protected Series createSnapshot() {
+        TimeSeries copy = new TimeSeries(getKey(), this.domain, this.range);
+        copy.setDescription(getDescription());
+        copy.timePeriodClass = this.timePeriodClass;
+        if (this.data instanceof RingBufferList) {
+            copy.data = (List) ((RingBufferList) this.data).clone();
+        }
+        else {
+            copy.data = new ArrayList(this.data);
+        }
+        copy.maximumItemCount = this.maximumItemCount;
+        copy.maximumItemAge = this.maximumItemAge;
+        copy.minY = this.minY;
+        copy.maxY = this.maxY;
+        if (this.millisecondIndex != null) {
+            copy.millisecondIndex = this.millisecondIndex.duplicate();
+        }
+        return copy;
+    }
+
     /**
      * Creates a new timeseries by copying a subset of the data in this time
      * series.
@@ -1147,9 +1460,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Requires start <= end.");
         }
         TimeSeries copy = (TimeSeries) super.clone();
-        copy.minY = Double.NaN;
-        copy.maxY = Double.NaN;
-        copy.data = new java.util.ArrayList();
+        copy.data = new RingBufferList();
+        copy.millisecondIndex = null;
+        copy.updateMinMaxYByIteration();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item
@@ -1207,7 +1520,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (emptyRange) {
             TimeSeries copy = (TimeSeries) super.clone();
-            copy.data = new java.util.ArrayList();
+            copy.data = new RingBufferList();
+            copy.millisecondIndex = null;
+            copy.updateMinMaxYByIteration();
             return copy;
         }
         return createCopy(startIndex, endIndex);
@@ -1335,10 +1650,119 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     private void updateMinMaxYByIteration() {
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        boolean rolling = this.maximumItemCount < Integer.MAX_VALUE
+                || this.maximumItemAge < Long.MAX_VALUE;
+        this.yWindow = rolling ? new RollingMinMax() : null;
         Iterator iterator = this.data.iterator();
         while (iterator.hasNext()) {
             TimeSeriesDataItem item = (TimeSeriesDataItem) iterator.next();
             updateBoundsForAddedItem(item);
+            updateWindowForAddedItem(item, true);
+        }
+    }
+
+    /**
+     * Updates the rolling window tracker (if it is in use) for an item that
+     * has just been added to the series.  If the item was not appended at
+     * the end of the series, the tracker is discarded.
+     *
+     * @param item  the item added (<code>null</code> not permitted).
+     * @param appended  a flag indicating whether the item was added at the
+     *     end of the series.
+     */
+    private void updateWindowForAddedItem(TimeSeriesDataItem item,
+            boolean appended) {
+        if (this.yWindow != null) {
+            if (appended) {
+                Number yN = item.getValue();
+                this.yWindow.add(yN != null ? yN.doubleValue() : Double.NaN);
+            }
+            else {
+                this.yWindow = null;
+            }
+        }
+    }
+
+    /**
+     * Sets the value of an existing item.  In concurrent mode, the item is
+     * replaced by an updated copy so that snapshots of the series do not
+     * change.
+     *
+     * @param index  the item index.
+     * @param value  the new value (<code>null</code> permitted).
+     */
+    private void setItemValue(int index, Number value) {
+        TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(index);
+        if (isConcurrent()) {
+            item = (TimeSeriesDataItem) item.clone();
+            item.setValue(value);
+            this.data.set(index, item);
+        }
+        else {
+            item.setValue(value);
+        }
+        invalidateSnapshot();
+    }
+
+    /**
+     * Sends a {@link SeriesChangeEvent} for an item that has just been added
+     * to the series.
+     *
+     * @param appended  a flag indicating whether the item was added at the
+     *     end of the series.
+     */
+    private void fireSeriesChangedForAddedItem(boolean appended) {
+        if (appended) {
+            int last = this.data.size() - 1;
+            fireSeriesChanged(SeriesChangeType.APPEND, last, last);
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Removes the first item in the series (to enforce the maximum item
+     * count or age) and updates the cached y-bounds.  While the rolling
+     * window tracker is in use, this does not require iterating through the
+     * remaining items.
+     */
+    private void removeFirstItem() {
+        TimeSeriesDataItem removed = (TimeSeriesDataItem) this.data.remove(0);
+        if (this.millisecondIndex != null) {
+            this.millisecondIndex = this.millisecondIndex.removeFirst(1);
+        }
+        if (this.yWindow != null) {
+            this.yWindow.removeFirst();
+            this.minY = this.yWindow.getMinimum();
+            this.maxY = this.yWindow.getMaximum();
+        }
+        else {
+            updateBoundsForRemovedItem(removed);
+        }
+    }
+
+    /**
+     * Removes the specified number of items from the start of the series
+     * and updates the cached y-bounds.
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirstItems(int count) {
+        if (this.millisecondIndex != null) {
+            this.millisecondIndex = this.millisecondIndex.removeFirst(count);
+        }
+        if (this.yWindow != null) {
+            for (int i = 0; i < count; i++) {
+                this.data.remove(0);
+                this.yWindow.removeFirst();
+            }
+            this.minY = this.yWindow.getMinimum();
+            this.maxY = this.yWindow.getMaximum();
+        }
+        else {
+            this.data.subList(0, count).clear();
+            updateMinMaxYByIteration();
         }
     }
 
@@ -83,6 +83,9 @@
  * 26-Jun-2009 : Fixed clone() (DG);
  * 08-Jan-2012 : Fixed getRangeBounds() method (bug 3445507) (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Implemented ConcurrentDataset;
+ * 18-Oct-2026 : Read the x-values from the millisecond cache in each series;
+ * 18-Oct-2026 : Reuse the snapshot until the collection changes;
  *
  */
 
@@ -93,6 +96,7 @@ import java.beans.PropertyVetoException;
 import java.beans.VetoableChangeListener;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Iterator;
@@ -103,6 +107,8 @@ import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.DomainInfo;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
+import org.jfree.data.general.ConcurrentDataset;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
@@ -120,7 +126,7 @@ import org.jfree.util.ObjectUtilities;
  */
 public class TimeSeriesCollection extends AbstractIntervalXYDataset
         implements XYDataset, IntervalXYDataset, DomainInfo, XYDomainInfo,
-        XYRangeInfo, VetoableChangeListener, Serializable {
+        XYRangeInfo, VetoableChangeListener, ConcurrentDataset, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 834149929022371137L;
@@ -147,6 +153,12 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     private boolean domainIsPointsInTime;
 
+    /**
+     * The most recent snapshot of the collection (<code>null</code> if no
+     * snapshot has been created yet).
+     */
+    private transient volatile TimeSeriesCollection snapshot;
+
     /**
      * Constructs an empty dataset, tied to the default timezone.
      */
@@ -378,7 +390,9 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public void addSeries(TimeSeries series) {
         ParamChecks.nullNotPermitted(series, "series");
-        this.data.add(series);
+        synchronized (this) {
+            this.data.add(series);
+        }
         series.addChangeListener(this);
         series.addVetoableChangeListener(this);
         fireDatasetChanged();
@@ -392,7 +406,9 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public void removeSeries(TimeSeries series) {
         ParamChecks.nullNotPermitted(series, "series");
-        this.data.remove(series);
+        synchronized (this) {
+            this.data.remove(series);
+        }
         series.removeChangeListener(this);
         series.removeVetoableChangeListener(this);
         fireDatasetChanged();
@@ -425,7 +441,9 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         }
 
         // remove all the series from the collection and notify listeners.
-        this.data.clear();
+        synchronized (this) {
+            this.data.clear();
+        }
         fireDatasetChanged();
 
     }
@@ -454,8 +472,8 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public double getXValue(int series, int item) {
         TimeSeries s = (TimeSeries) this.data.get(series);
-        RegularTimePeriod period = s.getTimePeriod(item);
-        return getX(period);
+        return s.getMillisecond(item, this.xPosition,
+                this.workingCalendar.getTimeZone());
     }
 
     /**
@@ -469,8 +487,8 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public Number getX(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        RegularTimePeriod period = ts.getTimePeriod(item);
-        return new Long(getX(period));
+        return new Long(ts.getMillisecond(item, this.xPosition,
+                this.workingCalendar.getTimeZone()));
     }
 
     /**
@@ -503,10 +521,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
+    public Number getStartX(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        return new Long(ts.getTimePeriod(item).getFirstMillisecond(
-                this.workingCalendar));
+        return new Long(ts.getMillisecond(item, TimePeriodAnchor.START,
+                this.workingCalendar.getTimeZone()));
     }
 
     /**
@@ -518,10 +536,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
+    public Number getEndX(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        return new Long(ts.getTimePeriod(item).getLastMillisecond(
-                this.workingCalendar));
+        return new Long(ts.getMillisecond(item, TimePeriodAnchor.END,
+                this.workingCalendar.getTimeZone()));
     }
 
     /**
@@ -576,17 +594,28 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      *         the time.
      */
     public int[] getSurroundingItems(int series, long milliseconds) {
-        int[] result = new int[] {-1, -1};
         TimeSeries timeSeries = getSeries(series);
-        for (int i = 0; i < timeSeries.getItemCount(); i++) {
-            Number x = getX(series, i);
-            long m = x.longValue();
-            if (m <= milliseconds) {
-                result[0] = i;
+        TimeZone zone = this.workingCalendar.getTimeZone();
+        // find the first item with an x-value >= milliseconds
+        int count = timeSeries.getItemCount();
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timeSeries.getMillisecond(mid, this.xPosition, zone)
+                    < milliseconds) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
             }
-            if (m >= milliseconds) {
-                result[1] = i;
-                break;
+        }
+        int[] result = new int[] {low - 1, -1};
+        if (low < count) {
+            result[1] = low;
+            if (timeSeries.getMillisecond(low, this.xPosition, zone)
+                    == milliseconds) {
+                result[0] = low;
             }
         }
         return result;
@@ -820,6 +849,90 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * Returns <code>true</code> if any of the series in the collection is in
+     * concurrent mode.
+     *
+     * @return A boolean.
+     *
+     * @see TimeSeries#setConcurrent(boolean)
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public synchronized boolean isConcurrent() {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (((TimeSeries) this.data.get(i)).isConcurrent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a snapshot of the collection, containing snapshots of the
+     * series in the collection (see {@link TimeSeries#getSnapshot()}).  The
+     * snapshot uses the same time zone and x-position as this collection.
+     * The snapshot is reused until the collection or one of its series
+     * changes, so that the plot reads the same snapshot (and its cached
+     * bounds) for the axis ranges and for drawing the items.
+     *
+     * @return The snapshot (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public Dataset getSnapshot() {
+        Object[] series;
+        TimeZone zone;
+        synchronized (this) {
+            series = this.data.toArray();
+            zone = this.workingCalendar.getTimeZone();
+        }
+        // the series snapshots are created without holding the lock on the
+        // collection, to avoid a deadlock with a thread that is modifying a
+        // series (and holds the lock on that series)
+        Series[] snapshots = new Series[series.length];
+        for (int i = 0; i < series.length; i++) {
+            snapshots[i] = ((TimeSeries) series[i]).getSnapshot();
+        }
+        TimeSeriesCollection result = this.snapshot;
+        if (result != null && isSnapshot(result, snapshots, zone)) {
+            return result;
+        }
+        result = new TimeSeriesCollection(zone);
+        result.data.addAll(Arrays.asList(snapshots));
+        result.xPosition = this.xPosition;
+        result.domainIsPointsInTime = this.domainIsPointsInTime;
+        this.snapshot = result;
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>snapshot</code> is a snapshot of
+     * this collection that contains the specified series snapshots.
+     *
+     * @param snapshot  the collection snapshot.
+     * @param series  the current series snapshots.
+     * @param zone  the current time zone.
+     *
+     * @return A boolean.
+     */
+    private boolean isSnapshot(TimeSeriesCollection snapshot, Series[] series,
+            TimeZone zone) {
+        if (snapshot.data.size() != series.length) {
+            return false;
+        }
+        for (int i = 0; i < series.length; i++) {
+            if (snapshot.data.get(i) != series[i]) {
+                return false;
+            }
+        }
+        return snapshot.xPosition == this.xPosition
+                && snapshot.domainIsPointsInTime == this.domainIsPointsInTime
+                && snapshot.workingCalendar.getTimeZone().equals(zone);
+    }
+
     /**
      * Returns a clone of this time series collection.
      *
@@ -833,6 +946,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         TimeSeriesCollection clone = (TimeSeriesCollection) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
         clone.workingCalendar = (Calendar) this.workingCalendar.clone();
+        clone.snapshot = null;
         return clone;
     }
 
@@ -37,11 +37,16 @@
  * 04-Dec-2006 : Version 1 (DG);
  * 17-Jun-2009 : Added remove(int) method (DG);
  * 21-Nov-2013 : Added add(OHLCItem) method - feature request #385 (DG);
+ * 18-Oct-2026 : Added addAll(Iterator);
  *
  */
 
 package org.jfree.data.time.ohlc;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.ComparableObjectItem;
 import org.jfree.data.ComparableObjectSeries;
@@ -126,6 +131,41 @@ public class OHLCSeries extends ComparableObjectSeries {
                 item.getLowValue(), item.getCloseValue());
     }
 
+    /**
+     * Adds the items returned by an iterator to the series and sends a
+     * single change event to all registered listeners.  The values from each
+     * item are copied into a new object, as for {@link #add(OHLCItem)}.
+     *
+     * @param items  an iterator over {@link OHLCItem} instances
+     *     (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void addAll(Iterator items) {
+        ParamChecks.nullNotPermitted(items, "items");
+        Class periodClass = null;
+        if (getItemCount() > 0) {
+            periodClass = getPeriod(0).getClass();
+        }
+        List list = new ArrayList();
+        while (items.hasNext()) {
+            OHLCItem item = (OHLCItem) items.next();
+            ParamChecks.nullNotPermitted(item, "item");
+            RegularTimePeriod period = item.getPeriod();
+            if (periodClass == null) {
+                periodClass = period.getClass();
+            }
+            else if (!periodClass.equals(period.getClass())) {
+                throw new IllegalArgumentException(
+                        "Can't mix RegularTimePeriod class types.");
+            }
+            list.add(new OHLCItem(period, item.getOpenValue(),
+                    item.getHighValue(), item.getLowValue(),
+                    item.getCloseValue()));
+        }
+        addAll(list);
+    }
+
     /**
      * Removes the item with the specified index.
      *
@@ -0,0 +1,246 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DecimatedXYDataset.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainOrder;
+
+/**
+ * A read-only view of an {@link XYDataset} that presents a selected subset
+ * of the items in each series.  The {@link org.jfree.chart.plot.XYPlot}
+ * uses this class to pass the items chosen by an
+ * {@link org.jfree.chart.renderer.xy.XYDecimator} to a renderer.  For any
+ * series without a selection, all the items in the underlying dataset are
+ * presented.
+ * <P>
+ * This class does not register for change events from the underlying
+ * dataset, it is intended to be used for the duration of a single drawing
+ * operation only.
+ *
+ * @since 1.0.20
+ */
+public class DecimatedXYDataset extends AbstractXYDataset {
+
+    /** The underlying dataset. */
+    private XYDataset underlying;
+
+    /**
+     * The selected item indices for each series (an entry is
+     * <code>null</code> if all items in the series are selected).
+     */
+    private int[][] itemIndices;
+
+    /**
+     * Creates a new view with all items selected.
+     *
+     * @param underlying  the underlying dataset (<code>null</code> not
+     *     permitted).
+     */
+    public DecimatedXYDataset(XYDataset underlying) {
+        ParamChecks.nullNotPermitted(underlying, "underlying");
+        this.underlying = underlying;
+        this.itemIndices = new int[underlying.getSeriesCount()][];
+    }
+
+    /**
+     * Returns the underlying dataset that was specified via the constructor.
+     *
+     * @return The underlying dataset (never <code>null</code>).
+     */
+    public XYDataset getUnderlyingDataset() {
+        return this.underlying;
+    }
+
+    /**
+     * Returns the indices (in the underlying dataset) of the items selected
+     * for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item indices (<code>null</code> if all items are selected).
+     *
+     * @see #setItemIndices(int, int[])
+     */
+    public int[] getItemIndices(int series) {
+        if (series < this.itemIndices.length) {
+            return this.itemIndices[series];
+        }
+        return null;
+    }
+
+    /**
+     * Sets the indices (in the underlying dataset) of the items selected for
+     * a series.  The indices must be in ascending order.  No change event is
+     * sent to registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     * @param indices  the item indices (<code>null</code> to select all
+     *     items).  The array is not copied.
+     *
+     * @see #getItemIndices(int)
+     */
+    public void setItemIndices(int series, int[] indices) {
+        if (series >= this.itemIndices.length) {
+            int[][] expanded = new int[series + 1][];
+            System.arraycopy(this.itemIndices, 0, expanded, 0,
+                    this.itemIndices.length);
+            this.itemIndices = expanded;
+        }
+        this.itemIndices[series] = indices;
+    }
+
+    /**
+     * Returns the index of an item in the underlying dataset.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index in this view (zero-based).
+     *
+     * @return The item index in the underlying dataset.
+     */
+    public int getUnderlyingItem(int series, int item) {
+        int[] indices = getItemIndices(series);
+        return indices != null ? indices[item] : item;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.underlying.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.underlying.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the order of the domain (x-) values in the dataset.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.underlying.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of selected items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        int[] indices = getItemIndices(series);
+        if (indices != null) {
+            return indices.length;
+        }
+        return this.underlying.getItemCount(series);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index in this view (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.underlying.getX(series, getUnderlyingItem(series, item));
+    }
+
+    /**
+     * Returns the x-value (as a double primitive) for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index in this view (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.underlying.getXValue(series,
+                getUnderlyingItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index in this view (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return this.underlying.getY(series, getUnderlyingItem(series, item));
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index in this view (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.underlying.getYValue(series,
+                getUnderlyingItem(series, item));
+    }
+
+}
@@ -0,0 +1,1256 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * FastXYSeries.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1, based on XYSeries;
+ * 18-Oct-2026 : Added optional pyramid index;
+ * 18-Oct-2026 : Describe appended, updated and removed items in change
+ *               events;
+ * 18-Oct-2026 : Added addAll(double[], double[]);
+ * 18-Oct-2026 : Support concurrent mode;
+ * 18-Oct-2026 : Reject a negative maximum item count;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.RollingMinMax;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A sequence of zero or more (x, y) data items held in two growable
+ * <code>double[]</code> arrays.  This is an alternative to {@link XYSeries}
+ * for very large series:  there is no {@link XYDataItem} object per point,
+ * and the {@link #getXValue(int)} and {@link #getYValue(int)} methods do not
+ * allocate.  Missing y-values are represented by <code>Double.NaN</code>.
+ * <p>
+ * By default, items are sorted into ascending order by x-value (appending an
+ * item with an x-value that is not less than the last x-value in the series
+ * takes constant time) and duplicate x-values are permitted.
+ *
+ * @see FastXYSeriesCollection
+ *
+ * @since 1.0.20
+ */
+public class FastXYSeries extends Series implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2853227064925618135L;
+
+    /** The initial capacity of the data arrays. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Storage for the x-values (itemCount values are in use, starting at
+     * offset).
+     */
+    private double[] xData;
+
+    /** Storage for the y-values (see xData). */
+    private double[] yData;
+
+    /** The array index of the first item in the series. */
+    private int offset;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The maximum number of items for the series. */
+    private int maximumItemCount = Integer.MAX_VALUE;
+
+    /**
+     * A flag that controls whether the items are automatically sorted
+     * (by x-value ascending).
+     */
+    private boolean autoSort;
+
+    /** A flag that controls whether or not duplicate x-values are allowed. */
+    private boolean allowDuplicateXValues;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Tracks the x-bounds while the series is a rolling window (that is, a
+     * maximum item count is set) and items are only appended at the end and
+     * removed from the start.  At other times this is <code>null</code>.
+     */
+    private RollingMinMax xWindow;
+
+    /** Tracks the y-bounds (see xWindow). */
+    private RollingMinMax yWindow;
+
+    /** A flag that controls whether a pyramid index is maintained. */
+    private boolean pyramidIndexEnabled;
+
+    /**
+     * The pyramid index, maintained while items are only appended and removed
+     * from the front of the series (<code>null</code> if the index is not
+     * enabled or must be rebuilt).
+     */
+    private XYPyramidIndex pyramidIndex;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public FastXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public FastXYSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public FastXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        super(key);
+        this.xData = new double[INITIAL_CAPACITY];
+        this.yData = new double[INITIAL_CAPACITY];
+        this.itemCount = 0;
+        this.autoSort = autoSort;
+        this.allowDuplicateXValues = allowDuplicateXValues;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the flag that controls whether the items in the series are
+     * automatically sorted.  There is no setter for this flag, it must be
+     * defined in the series constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean getAutoSort() {
+        return this.autoSort;
+    }
+
+    /**
+     * Returns a flag that controls whether duplicate x-values are allowed.
+     * This flag can only be set in the constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean getAllowDuplicateXValues() {
+        return this.allowDuplicateXValues;
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest x-value.
+     */
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest x-value.
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest y-value.
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest y-value.
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the maximum number of items that will be retained in the series.
+     * The default value is <code>Integer.MAX_VALUE</code>.
+     *
+     * @return The maximum item count.
+     *
+     * @see #setMaximumItemCount(int)
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If you add a new item to the series such that the number of items will
+     * exceed the maximum item count, then the first element in the series is
+     * automatically removed.  Removing the first item takes constant time
+     * and, while items are only appended at the end of the series, the bounds
+     * are updated without iterating through the items.  If the series already
+     * holds more items than the new maximum, the oldest items are removed and
+     * a {@link SeriesChangeEvent} is sent to all registered listeners.
+     *
+     * @param maximum  the maximum number of items for the series (must be
+     *     zero or greater).
+     */
+    public synchronized void setMaximumItemCount(int maximum) {
+        ParamChecks.requireNonNegative(maximum, "maximum");
+        this.maximumItemCount = maximum;
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeRange(0, remove);
+        }
+        findBoundsByIteration();
+        invalidateSnapshot();
+        if (remove > 0) {
+            fireSeriesChanged(SeriesChangeType.REMOVE, 0, remove - 1);
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether the series maintains an
+     * {@link XYPyramidIndex} of its y-values.  The default value is
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setPyramidIndexEnabled(boolean)
+     */
+    public boolean isPyramidIndexEnabled() {
+        return this.pyramidIndexEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the series maintains an
+     * {@link XYPyramidIndex} of its y-values.  The index is updated
+     * incrementally while items are appended to the end of the series and
+     * removed from the front; any other change causes the index to be
+     * rebuilt the next time it is requested.  No change event is sent, since
+     * the data is unchanged.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @see #getPyramidIndex()
+     */
+    public void setPyramidIndexEnabled(boolean enabled) {
+        this.pyramidIndexEnabled = enabled;
+        if (!enabled) {
+            this.pyramidIndex = null;
+        }
+    }
+
+    /**
+     * Returns the pyramid index for the series, building it first if
+     * necessary.
+     *
+     * @return The index (<code>null</code> if the index is not enabled).
+     *
+     * @see #setPyramidIndexEnabled(boolean)
+     */
+    public synchronized XYPyramidIndex getPyramidIndex() {
+        if (!this.pyramidIndexEnabled) {
+            return null;
+        }
+        if (this.pyramidIndex == null) {
+            XYPyramidIndex index = new XYPyramidIndex();
+            for (int i = this.offset; i < this.offset + this.itemCount; i++) {
+                index.add(this.yData[i]);
+            }
+            this.pyramidIndex = index;
+        }
+        return this.pyramidIndex;
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xData[this.offset + index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yData[this.offset + index];
+    }
+
+    /**
+     * Returns the x-value at the specified index.  This method allocates a
+     * new <code>Number</code> on every call, use {@link #getXValue(int)}
+     * where possible.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.  This method allocates a
+     * new <code>Number</code> on every call, use {@link #getYValue(int)}
+     * where possible.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (never <code>null</code>, but possibly
+     *     <code>Double.NaN</code>).
+     */
+    public Number getY(int index) {
+        return new Double(getYValue(index));
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public synchronized void add(double x, double y, boolean notify) {
+        int index;
+        if (this.autoSort) {
+            // we add *after* any duplicates, and the common case of an
+            // append in x-order is handled without searching
+            if (this.itemCount == 0 || x > getXValue(this.itemCount - 1)) {
+                index = this.itemCount;
+            }
+            else {
+                index = upperBound(x);
+                if (!this.allowDuplicateXValues && index > 0
+                        && getXValue(index - 1) == x) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+        else {
+            if (!this.allowDuplicateXValues && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        insert(index, x, y);
+        updateBoundsForAddedItem(x, y);
+        boolean appended = index == this.itemCount - 1;
+        updateWindowsForAddedItem(x, y, appended);
+        if (this.itemCount > this.maximumItemCount) {
+            removeFirstItem();
+        }
+        invalidateSnapshot();
+        if (notify) {
+            if (appended) {
+                fireSeriesChanged(SeriesChangeType.APPEND,
+                        this.itemCount - 1, this.itemCount - 1);
+            }
+            else {
+                fireSeriesChanged();
+            }
+        }
+    }
+
+    /**
+     * Adds the specified items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  For a sorted
+     * series, the new items are sorted and then merged with the existing
+     * items in one pass, which is much faster than adding a large number of
+     * items one at a time.  Items that are already in order and follow the
+     * existing items are simply appended.
+     *
+     * @param xValues  the x-values (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted, the
+     *     array must have the same length as <code>xValues</code>).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series
+     *     (in which case no items are added).
+     */
+    public synchronized void addAll(double[] xValues, double[] yValues) {
+        ParamChecks.nullNotPermitted(xValues, "xValues");
+        ParamChecks.nullNotPermitted(yValues, "yValues");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "The 'xValues' and 'yValues' arrays differ in length.");
+        }
+        int count = xValues.length;
+        if (count == 0) {
+            return;
+        }
+        double[] x = xValues;
+        double[] y = yValues;
+        if (this.autoSort && !isAscending(xValues)) {
+            int[] order = sortedOrder(xValues);
+            x = new double[count];
+            y = new double[count];
+            for (int i = 0; i < count; i++) {
+                x[i] = xValues[order[i]];
+                y[i] = yValues[order[i]];
+            }
+        }
+        if (!this.allowDuplicateXValues) {
+            checkForDuplicates(x);
+        }
+        boolean appended = true;
+        if (this.autoSort && this.itemCount > 0) {
+            double lastX = getXValue(this.itemCount - 1);
+            appended = x[0] > lastX
+                    || (x[0] == lastX && this.allowDuplicateXValues);
+        }
+        if (appended) {
+            for (int i = 0; i < count; i++) {
+                insert(this.itemCount, x[i], y[i]);
+                updateBoundsForAddedItem(x[i], y[i]);
+                updateWindowsForAddedItem(x[i], y[i], true);
+            }
+        }
+        else {
+            merge(x, y);
+        }
+        int excess = this.itemCount - this.maximumItemCount;
+        if (excess > 0) {
+            if (appended && this.yWindow != null) {
+                for (int i = 0; i < excess; i++) {
+                    removeFirstItem();
+                }
+            }
+            else {
+                removeRange(0, excess);
+                findBoundsByIteration();
+            }
+        }
+        invalidateSnapshot();
+        int size = this.itemCount;
+        if (appended && size > 0) {
+            fireSeriesChanged(SeriesChangeType.APPEND,
+                    size - Math.min(count, size), size - 1);
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Updates the y-value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>Double.NaN</code> permitted).
+     */
+    public synchronized void updateByIndex(int index, double y) {
+        checkIndex(index);
+        double oldY = this.yData[this.offset + index];
+        this.yData[this.offset + index] = y;
+        this.xWindow = null;
+        this.yWindow = null;
+        this.pyramidIndex = null;
+        updateBoundsForUpdatedY(oldY, y);
+        invalidateSnapshot();
+        fireSeriesChanged(SeriesChangeType.UPDATE, index, index);
+    }
+
+    /**
+     * Updates an item in the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> permitted).
+     *
+     * @throws SeriesException if there is no existing item with the specified
+     *         x-value.
+     */
+    public synchronized void update(double x, double y) {
+        int index = indexOf(x);
+        if (index < 0) {
+            throw new SeriesException("No observation for x = " + x);
+        }
+        updateByIndex(index, y);
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If duplicate
+     * x-values are permitted, this method always adds a new item.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return The y-value that was overwritten, or <code>Double.NaN</code>
+     *     if no item was overwritten.
+     */
+    public synchronized double addOrUpdate(double x, double y) {
+        if (!this.allowDuplicateXValues) {
+            int index = indexOf(x);
+            if (index >= 0) {
+                double oldY = this.yData[this.offset + index];
+                updateByIndex(index, y);
+                return oldY;
+            }
+        }
+        add(x, y, true);
+        return Double.NaN;
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     */
+    public synchronized void remove(int index) {
+        checkIndex(index);
+        if (index == 0 && this.yWindow != null) {
+            removeFirstItem();
+        }
+        else {
+            double x = this.xData[this.offset + index];
+            double y = this.yData[this.offset + index];
+            removeRange(index, index + 1);
+            this.xWindow = null;
+            this.yWindow = null;
+            updateBoundsForRemovedItem(x, y);
+        }
+        invalidateSnapshot();
+        fireSeriesChanged(SeriesChangeType.REMOVE, index, index);
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based, inclusive, not less than
+     *     <code>start</code>).
+     */
+    public synchronized void delete(int start, int end) {
+        checkIndex(start);
+        checkIndex(end);
+        if (start > end) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        removeRange(start, end + 1);
+        findBoundsByIteration();
+        invalidateSnapshot();
+        fireSeriesChanged(SeriesChangeType.REMOVE, start, end);
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    public synchronized void clear() {
+        int count = this.itemCount;
+        if (count > 0) {
+            this.itemCount = 0;
+            this.offset = 0;
+            if (this.pyramidIndex != null) {
+                this.pyramidIndex.clear();
+            }
+            findBoundsByIteration();
+            invalidateSnapshot();
+            fireSeriesChanged(SeriesChangeType.REMOVE, 0, count - 1);
+        }
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the index is found by a binary search and (as for
+     * <code>Arrays.binarySearch()</code>) a negative result encodes the
+     * insertion point as <code>(-(insertion point) - 1)</code>.  For an
+     * unsorted series the items are searched in order and -1 is returned if
+     * there is no match.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (this.autoSort) {
+            int result = Arrays.binarySearch(this.xData, this.offset,
+                    this.offset + this.itemCount, x);
+            return result >= 0 ? result - this.offset : result + this.offset;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (this.xData[this.offset + i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    public double[][] toArray() {
+        double[][] result = new double[2][];
+        int end = this.offset + this.itemCount;
+        result[0] = Arrays.copyOfRange(this.xData, this.offset, end);
+        result[1] = Arrays.copyOfRange(this.yData, this.offset, end);
+        return result;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than
+     * <code>x</code> (the series must be sorted).
+     *
+     * @param x  the x-value.
+     *
+     * @return The index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     */
+    private int upperBound(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xData[this.offset + mid] <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns <code>true</code> if the values in an array are in ascending
+     * order.
+     *
+     * @param values  the values.
+     *
+     * @return A boolean.
+     */
+    private static boolean isAscending(double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (!(values[i - 1] <= values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the indices of the values in an array, in ascending order of
+     * the values.  The sort is stable, so the indices of equal values stay
+     * in order.
+     *
+     * @param values  the values.
+     *
+     * @return The indices.
+     */
+    private static int[] sortedOrder(double[] values) {
+        int n = values.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        int[] work = new int[n];
+        for (int width = 1; width < n; width <<= 1) {
+            for (int low = 0; low < n; low += width << 1) {
+                int mid = Math.min(low + width, n);
+                int high = Math.min(low + (width << 1), n);
+                int i = low;
+                int j = mid;
+                for (int k = low; k < high; k++) {
+                    if (j >= high || (i < mid
+                            && values[order[i]] <= values[order[j]])) {
+                        work[k] = order[i++];
+                    }
+                    else {
+                        work[k] = order[j++];
+                    }
+                }
+            }
+            int[] swap = order;
+            order = work;
+            work = swap;
+        }
+        return order;
+    }
+
+    /**
+     * Checks that the specified x-values contain no duplicates and, for an
+     * unsorted series, that none of them is already in the series.  For a
+     * sorted series, the x-values must be in ascending order.
+     *
+     * @param x  the x-values.
+     *
+     * @throws SeriesException if there is a duplicate x-value.
+     */
+    private void checkForDuplicates(double[] x) {
+        if (this.autoSort) {
+            for (int i = 1; i < x.length; i++) {
+                if (x[i] == x[i - 1]) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+            // duplicates of existing items are found by merge()
+        }
+        else {
+            Set values = new HashSet();
+            for (int i = 0; i < this.itemCount; i++) {
+                values.add(new Double(this.xData[this.offset + i]));
+            }
+            for (int i = 0; i < x.length; i++) {
+                if (!values.add(new Double(x[i]))) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges sorted new items with the items in the series, in new arrays.
+     * New items are placed after existing items with the same x-value.  The
+     * pyramid index is discarded and the cached bounds are recalculated.
+     *
+     * @param x  the new x-values, in ascending order.
+     * @param y  the new y-values.
+     *
+     * @throws SeriesException if duplicate x-values are not permitted and a
+     *     new x-value matches an existing x-value (in which case the series
+     *     is not changed).
+     */
+    private void merge(double[] x, double[] y) {
+        int total = this.itemCount + x.length;
+        int capacity = Math.max(INITIAL_CAPACITY, total + (total >> 1));
+        double[] newX = new double[capacity];
+        double[] newY = new double[capacity];
+        int i = this.offset;
+        int end = this.offset + this.itemCount;
+        int j = 0;
+        for (int k = 0; k < total; k++) {
+            if (j < x.length && i < end && x[j] == this.xData[i]
+                    && !this.allowDuplicateXValues) {
+                throw new SeriesException("X-value already exists.");
+            }
+            if (j >= x.length || (i < end && this.xData[i] <= x[j])) {
+                newX[k] = this.xData[i];
+                newY[k] = this.yData[i++];
+            }
+            else {
+                newX[k] = x[j];
+                newY[k] = y[j++];
+            }
+        }
+        this.xData = newX;
+        this.yData = newY;
+        this.offset = 0;
+        this.itemCount = total;
+        this.pyramidIndex = null;
+        findBoundsByIteration();
+    }
+
+    /**
+     * Inserts an item at the specified index.  If there is no free space at
+     * the end of the arrays, the items are first moved back to the start of
+     * the arrays (if at least half the space is free) or copied into larger
+     * arrays.
+     *
+     * @param index  the index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int index, double x, double y) {
+        if (this.offset + this.itemCount == this.xData.length) {
+            int length = this.xData.length;
+            if (this.itemCount < (length >> 1)) {
+                System.arraycopy(this.xData, this.offset, this.xData, 0,
+                        this.itemCount);
+                System.arraycopy(this.yData, this.offset, this.yData, 0,
+                        this.itemCount);
+            }
+            else {
+                int capacity = Math.max(INITIAL_CAPACITY,
+                        length + (length >> 1));
+                double[] newX = new double[capacity];
+                double[] newY = new double[capacity];
+                System.arraycopy(this.xData, this.offset, newX, 0,
+                        this.itemCount);
+                System.arraycopy(this.yData, this.offset, newY, 0,
+                        this.itemCount);
+                this.xData = newX;
+                this.yData = newY;
+            }
+            this.offset = 0;
+        }
+        int i = this.offset + index;
+        if (index < this.itemCount) {
+            int moved = this.itemCount - index;
+            System.arraycopy(this.xData, i, this.xData, i + 1, moved);
+            System.arraycopy(this.yData, i, this.yData, i + 1, moved);
+        }
+        this.xData[i] = x;
+        this.yData[i] = y;
+        this.itemCount++;
+        if (this.pyramidIndex != null) {
+            if (index == this.itemCount - 1) {
+                this.pyramidIndex.add(y);
+            }
+            else {
+                this.pyramidIndex = null;
+            }
+        }
+    }
+
+    /**
+     * Removes the items from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive).  Removing items from the start of the
+     * series takes constant time.  The cached bounds are not updated.
+     *
+     * @param start  the start index.
+     * @param end  the end index.
+     */
+    private void removeRange(int start, int end) {
+        if (start == 0) {
+            this.offset += end;
+            if (this.pyramidIndex != null) {
+                this.pyramidIndex.removeFirst(end);
+            }
+        }
+        else {
+            this.pyramidIndex = null;
+            int moved = this.itemCount - end;
+            if (moved > 0) {
+                System.arraycopy(this.xData, this.offset + end, this.xData,
+                        this.offset + start, moved);
+                System.arraycopy(this.yData, this.offset + end, this.yData,
+                        this.offset + start, moved);
+            }
+        }
+        this.itemCount -= (end - start);
+        if (this.itemCount == 0) {
+            this.offset = 0;
+        }
+    }
+
+    /**
+     * Checks that an item index is valid.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been removed.
+     *
+     * @param x  the x-value of the item removed.
+     * @param y  the y-value of the item removed.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        boolean itemContributesToXBounds = !Double.isNaN(x)
+                && (x <= this.minX || x >= this.maxX);
+        boolean itemContributesToYBounds = !Double.isNaN(y)
+                && (y <= this.minY || y >= this.maxY);
+        if (itemContributesToYBounds) {
+            findBoundsByIteration();
+        }
+        else if (itemContributesToXBounds) {
+            if (this.autoSort && this.itemCount > 0) {
+                this.minX = this.xData[this.offset];
+                this.maxX = this.xData[this.offset + this.itemCount - 1];
+            }
+            else {
+                findBoundsByIteration();
+            }
+        }
+    }
+
+    /**
+     * Updates the cached y-bounds on the basis that a y-value has changed
+     * from <code>oldY</code> to <code>newY</code>.
+     *
+     * @param oldY  the old y-value.
+     * @param newY  the new y-value.
+     */
+    private void updateBoundsForUpdatedY(double oldY, double newY) {
+        if (!Double.isNaN(oldY) && (oldY <= this.minY || oldY >= this.maxY)) {
+            findBoundsByIteration();
+        }
+        else {
+            this.minY = minIgnoreNaN(this.minY, newY);
+            this.maxY = maxIgnoreNaN(this.maxY, newY);
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series, by iterating
+     * through all the data items.
+     */
+    private void findBoundsByIteration() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        boolean rolling = this.maximumItemCount < Integer.MAX_VALUE;
+        this.xWindow = rolling ? new RollingMinMax() : null;
+        this.yWindow = rolling ? new RollingMinMax() : null;
+        for (int i = this.offset; i < this.offset + this.itemCount; i++) {
+            updateBoundsForAddedItem(this.xData[i], this.yData[i]);
+            updateWindowsForAddedItem(this.xData[i], this.yData[i], true);
+        }
+    }
+
+    /**
+     * Updates the rolling window bounds trackers (if they are in use) for an
+     * item that has just been added to the series.  If the item was not
+     * appended at the end of the series, the trackers are discarded.
+     *
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added.
+     * @param appended  a flag indicating whether the item was added at the
+     *     end of the series.
+     */
+    private void updateWindowsForAddedItem(double x, double y,
+            boolean appended) {
+        if (this.yWindow != null) {
+            if (appended) {
+                this.xWindow.add(x);
+                this.yWindow.add(y);
+            }
+            else {
+                this.xWindow = null;
+                this.yWindow = null;
+            }
+        }
+    }
+
+    /**
+     * Removes the first item in the series (to enforce the maximum item
+     * count) and updates the cached bounds.
+     */
+    private void removeFirstItem() {
+        double x = this.xData[this.offset];
+        double y = this.yData[this.offset];
+        removeRange(0, 1);
+        if (this.yWindow != null) {
+            this.xWindow.removeFirst();
+            this.yWindow.removeFirst();
+            this.minX = this.xWindow.getMinimum();
+            this.maxX = this.xWindow.getMaximum();
+            this.minY = this.yWindow.getMinimum();
+            this.maxY = this.yWindow.getMaximum();
+        }
+        else {
+            updateBoundsForRemovedItem(x, y);
+        }
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * Creates a snapshot of the series.  The snapshot holds a copy of the
+     * items in arrays of the exact size, since the arrays of this series are
+     * modified in place.
+     *
+     * @return A new snapshot.
+     *
+     * @see #setConcurrent(boolean)
+     */
+    @Override
+    protected Series createSnapshot() {
+        FastXYSeries copy = new FastXYSeries(getKey(), this.autoSort,
+                this.allowDuplicateXValues);
+        copy.setDescription(getDescription());
+        int end = this.offset + this.itemCount;
+        copy.xData = Arrays.copyOfRange(this.xData, this.offset, end);
+        copy.yData = Arrays.copyOfRange(this.yData, this.offset, end);
+        copy.itemCount = this.itemCount;
+        copy.maximumItemCount = this.maximumItemCount;
+        copy.minX = this.minX;
+        copy.maxX = this.maxX;
+        copy.minY = this.minY;
+        copy.maxY = this.maxY;
+        copy.pyramidIndexEnabled = this.pyramidIndexEnabled;
+        return copy;
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        FastXYSeries clone = (FastXYSeries) super.clone();
+        clone.xData = (double[]) this.xData.clone();
+        clone.yData = (double[]) this.yData.clone();
+        if (this.xWindow != null) {
+            clone.xWindow = (RollingMinMax) this.xWindow.clone();
+            clone.yWindow = (RollingMinMax) this.yWindow.clone();
+        }
+        if (this.pyramidIndex != null) {
+            clone.pyramidIndex = (XYPyramidIndex) this.pyramidIndex.clone();
+        }
+        return clone;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof FastXYSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        FastXYSeries that = (FastXYSeries) obj;
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        if (this.autoSort != that.autoSort) {
+            return false;
+        }
+        if (this.allowDuplicateXValues != that.allowDuplicateXValues) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.doubleToLongBits(this.xData[this.offset + i])
+                    != Double.doubleToLongBits(that.xData[that.offset + i])) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.yData[this.offset + i])
+                    != Double.doubleToLongBits(that.yData[that.offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        // it is too slow to look at every data item, so let's just look at
+        // the first, middle and last items...
+        int count = this.itemCount;
+        if (count > 0) {
+            result = 29 * result + hashItem(0);
+        }
+        if (count > 1) {
+            result = 29 * result + hashItem(count - 1);
+        }
+        if (count > 2) {
+            result = 29 * result + hashItem(count / 2);
+        }
+        result = 29 * result + this.maximumItemCount;
+        result = 29 * result + (this.autoSort ? 1 : 0);
+        result = 29 * result + (this.allowDuplicateXValues ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Returns a hash code for the item at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return A hash code.
+     */
+    private int hashItem(int index) {
+        long x = Double.doubleToLongBits(this.xData[this.offset + index]);
+        long y = Double.doubleToLongBits(this.yData[this.offset + index]);
+        return 29 * (int) (x ^ (x >>> 32)) + (int) (y ^ (y >>> 32));
+    }
+
+}
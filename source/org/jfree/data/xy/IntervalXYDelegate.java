@@ -48,6 +48,9 @@
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 06-Mar-2009 : Implemented hashCode() (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Use the details in dataset change events to avoid
+ *               recalculating the interval width from scratch;
+ * 18-Oct-2026 : Added copyFor(XYDataset);
  *
  */
 
@@ -63,6 +66,7 @@ import org.jfree.data.RangeInfo;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.util.PublicCloneable;
 
 /**
@@ -114,6 +118,13 @@ public class IntervalXYDelegate implements DatasetChangeListener,
      */
     private double autoIntervalWidth;
 
+    /**
+     * The item count for each series when the automatic interval width was
+     * last calculated (<code>null</code> if not known).  This is used to
+     * update the width incrementally when items are appended to a series.
+     */
+    private transient int[] itemCounts;
+
     /**
      * Creates a new delegate that.
      *
@@ -378,20 +389,61 @@ public class IntervalXYDelegate implements DatasetChangeListener,
 
     /**
      * Handles events from the dataset by recalculating the interval if
-     * necessary.
+     * necessary.  Updates to the y-values do not change the interval, and
+     * for items appended to a series only the gaps between the new items
+     * (and the previous last item) are examined.
      *
      * @param e  the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent e) {
-        // TODO: by coding the event with some information about what changed
-        // in the dataset, we could make the recalculation of the interval
-        // more efficient in some cases (for instance, if the change is
-        // just an update to a y-value, then the x-interval doesn't need
-        // updating)...
-        if (this.autoWidth) {
-            this.autoIntervalWidth = recalculateInterval();
+        if (!this.autoWidth) {
+            return;
+        }
+        if (e.getDataset() == this.dataset && e.getSeries() >= 0) {
+            if (e.getType() == SeriesChangeType.UPDATE) {
+                return;
+            }
+            if (e.getType() == SeriesChangeType.APPEND
+                    && appendToInterval(e.getSeries(), e.getFirstItem(),
+                    e.getLastItem())) {
+                return;
+            }
+        }
+        this.autoIntervalWidth = recalculateInterval();
+    }
+
+    /**
+     * Updates the automatic interval width for items appended to a series,
+     * if the series has not changed in any other way since the width was
+     * last calculated.
+     *
+     * @param series  the series index.
+     * @param first  the index of the first appended item.
+     * @param last  the index of the last appended item.
+     *
+     * @return A boolean indicating whether the width was updated.
+     */
+    private boolean appendToInterval(int series, int first, int last) {
+        if (this.itemCounts == null || series >= this.itemCounts.length
+                || this.itemCounts[series] != first
+                || this.dataset.getSeriesCount() != this.itemCounts.length
+                || this.dataset.getItemCount(series) != last + 1) {
+            return false;
         }
+        double result = this.autoIntervalWidth;
+        int start = Math.max(first, 1);
+        if (start <= last) {
+            double prev = this.dataset.getXValue(series, start - 1);
+            for (int item = start; item <= last; item++) {
+                double x = this.dataset.getXValue(series, item);
+                result = Math.min(result, x - prev);
+                prev = x;
+            }
+        }
+        this.autoIntervalWidth = result;
+        this.itemCounts[series] = last + 1;
+        return true;
     }
 
     /**
@@ -402,9 +454,12 @@ public class IntervalXYDelegate implements DatasetChangeListener,
     private double recalculateInterval() {
         double result = Double.POSITIVE_INFINITY;
         int seriesCount = this.dataset.getSeriesCount();
+        int[] counts = new int[seriesCount];
         for (int series = 0; series < seriesCount; series++) {
             result = Math.min(result, calculateIntervalForSeries(series));
+            counts[series] = this.dataset.getItemCount(series);
         }
+        this.itemCounts = counts;
         return result;
     }
 
@@ -429,6 +484,27 @@ public class IntervalXYDelegate implements DatasetChangeListener,
         return result;
     }
 
+    /**
+     * Returns a copy of this delegate for a snapshot of the dataset.  The
+     * copy has the same settings and the same automatic interval width, so
+     * the width does not need to be recalculated for the snapshot.
+     *
+     * @param dataset  the snapshot (<code>null</code> not permitted).
+     *
+     * @return The copy.
+     */
+    IntervalXYDelegate copyFor(XYDataset dataset) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        try {
+            IntervalXYDelegate copy = (IntervalXYDelegate) clone();
+            copy.dataset = dataset;
+            return copy;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Tests the delegate for equality with an arbitrary object.  The
      * equality test considers two delegates to be equal if they would
@@ -468,7 +544,11 @@ public class IntervalXYDelegate implements DatasetChangeListener,
      */
     @Override
     public Object clone() throws CloneNotSupportedException {
-        return super.clone();
+        IntervalXYDelegate clone = (IntervalXYDelegate) super.clone();
+        if (this.itemCounts != null) {
+            clone.itemCounts = (int[]) this.itemCounts.clone();
+        }
+        return clone;
     }
 
     /**
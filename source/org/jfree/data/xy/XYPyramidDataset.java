@@ -0,0 +1,65 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * XYPyramidDataset.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An {@link XYDataset} that can supply a multi-resolution
+ * {@link XYPyramidIndex} for some or all of its series.  The index is used
+ * by {@link org.jfree.data.general.DatasetUtilities} to find the range of
+ * y-values within an x-range, and by
+ * {@link org.jfree.chart.renderer.xy.MinMaxXYDecimator} to select the items
+ * to draw, without visiting every item in the series.
+ *
+ * @since 1.0.20
+ */
+public interface XYPyramidDataset extends XYDataset {
+
+    /**
+     * Returns the pyramid index for a series.  The item indices used by the
+     * index are the same as the item indices in the dataset.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The index (<code>null</code> if the series is not indexed).
+     */
+    public XYPyramidIndex getPyramidIndex(int series);
+
+}
@@ -0,0 +1,555 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * XYPyramidIndex.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.data.Range;
+
+/**
+ * A multi-resolution (pyramid) index of the y-values in one series of an
+ * {@link XYDataset}.  The index holds the minimum and maximum y-value (and
+ * the positions of those items) for aligned buckets of 2<sup>k</sup> items,
+ * for every k from a leaf size up to the size of the series.  It is
+ * maintained incrementally as items are appended to, or removed from the
+ * front of, the series, in O(log n) time per item.
+ * <P>
+ * Any range of items can be decomposed into O(log n) buckets plus at most
+ * two partial leaf buckets, so the y-range of the items can be found in
+ * O(log n) time (see {@link #findYRange(XYDataset, int, int, int)}) and a
+ * reduced set of items that preserves the extremes at a given resolution
+ * can be found in time proportional to the resolution (see
+ * {@link #selectItems(XYDataset, int, int, int, int)}).  Items that fall in
+ * partial leaf buckets are read from the dataset.
+ * <P>
+ * The index does not hold a reference to the dataset; the owner of the
+ * index is responsible for keeping it in step with the series (an index
+ * whose item count differs from the series should not be used).
+ *
+ * @see XYPyramidDataset
+ *
+ * @since 1.0.20
+ */
+public class XYPyramidIndex implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3405126613785230952L;
+
+    /** The default number of items in a leaf bucket (as a power of 2). */
+    public static final int DEFAULT_LEAF_SHIFT = 4;
+
+    /** The number of items in a leaf bucket (as a power of 2). */
+    private int leafShift;
+
+    /** The absolute position of the first item in the series. */
+    private long start;
+
+    /** The absolute position following the last item in the series. */
+    private long end;
+
+    /** The levels of the index, from the leaf level upwards. */
+    private Level[] levels;
+
+    /** The number of levels in use. */
+    private int levelCount;
+
+    /**
+     * Creates a new empty index with the default leaf size.
+     */
+    public XYPyramidIndex() {
+        this(DEFAULT_LEAF_SHIFT);
+    }
+
+    /**
+     * Creates a new empty index.
+     *
+     * @param leafShift  the number of items in a leaf bucket, as a power of
+     *     two (in the range 0 to 30).
+     */
+    public XYPyramidIndex(int leafShift) {
+        if (leafShift < 0 || leafShift > 30) {
+            throw new IllegalArgumentException(
+                    "Requires 'leafShift' in the range 0 to 30.");
+        }
+        this.leafShift = leafShift;
+        clear();
+    }
+
+    /**
+     * Returns the number of items in the series that is indexed.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return (int) (this.end - this.start);
+    }
+
+    /**
+     * Returns the number of levels in the index.
+     *
+     * @return The level count.
+     */
+    public int getLevelCount() {
+        return this.levelCount;
+    }
+
+    /**
+     * Records an item appended to the end of the series.
+     *
+     * @param y  the y-value (<code>Double.NaN</code> permitted).
+     */
+    public void add(double y) {
+        long pos = this.end++;
+        for (int k = 0; k < this.levelCount; k++) {
+            this.levels[k].add(pos, y);
+        }
+        Level top = this.levels[this.levelCount - 1];
+        if (top.size > 1 && top.shift < 62) {
+            if (this.levelCount == this.levels.length) {
+                Level[] expanded = new Level[this.levelCount * 2];
+                System.arraycopy(this.levels, 0, expanded, 0,
+                        this.levelCount);
+                this.levels = expanded;
+            }
+            this.levels[this.levelCount++] = top.createParent();
+        }
+    }
+
+    /**
+     * Records the removal of items from the front of the series.
+     *
+     * @param count  the number of items removed.
+     */
+    public void removeFirst(int count) {
+        if (count < 0 || count > getItemCount()) {
+            throw new IllegalArgumentException("Invalid 'count' argument.");
+        }
+        this.start += count;
+        for (int k = 0; k < this.levelCount; k++) {
+            this.levels[k].removeBefore(this.start);
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        this.start = 0L;
+        this.end = 0L;
+        this.levels = new Level[8];
+        this.levels[0] = new Level(this.leafShift);
+        this.levelCount = 1;
+    }
+
+    /**
+     * Returns the range of the y-values (ignoring <code>NaN</code> values)
+     * for the items from <code>first</code> to <code>last</code> inclusive.
+     *
+     * @param dataset  the dataset (used to read items that are not covered
+     *     by a whole bucket).
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The range, or <code>null</code> if there are no
+     *     non-<code>NaN</code> y-values in the items.
+     */
+    public Range findYRange(XYDataset dataset, int series, int first,
+            int last) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        long pos = this.start + first;
+        long hi = this.start + last + 1;
+        while (pos < hi) {
+            Level level = null;
+            int slot = -1;
+            for (int k = this.levelCount - 1; k >= 0 && level == null; k--) {
+                slot = this.levels[k].findSlot(pos, hi, false);
+                if (slot >= 0) {
+                    level = this.levels[k];
+                }
+            }
+            if (level != null) {
+                if (level.minPos[slot] >= 0) {
+                    minimum = Math.min(minimum, level.minY[slot]);
+                    maximum = Math.max(maximum, level.maxY[slot]);
+                }
+                pos += 1L << level.shift;
+            }
+            else {
+                double y = dataset.getYValue(series, (int) (pos - this.start));
+                if (!Double.isNaN(y)) {
+                    minimum = Math.min(minimum, y);
+                    maximum = Math.max(maximum, y);
+                }
+                pos++;
+            }
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Returns the indices of a reduced set of the items from
+     * <code>first</code> to <code>last</code> inclusive, in ascending order.
+     * The items are divided into at least <code>bucketCount</code> buckets
+     * and the first, minimum, maximum and last item in each bucket is
+     * selected.  Buckets that contain <code>NaN</code> y-values are divided
+     * further so that the <code>NaN</code> items themselves are selected.
+     *
+     * @param dataset  the dataset (used to read items that are not covered
+     *     by a whole bucket).
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     * @param bucketCount  the minimum number of buckets.
+     *
+     * @return The item indices, or <code>null</code> if the buckets would be
+     *     no larger than the leaf buckets (in which case the index offers no
+     *     benefit).
+     */
+    public int[] selectItems(XYDataset dataset, int series, int first,
+            int last, int bucketCount) {
+        long count = last - first + 1;
+        int maxShift = 62;
+        while (maxShift > 0 && (count >> maxShift) < bucketCount) {
+            maxShift--;
+        }
+        if (maxShift <= this.leafShift) {
+            return null;
+        }
+        int[] result = new int[Math.min((int) count, 4 * bucketCount + 64)];
+        int n = 0;
+        long pos = this.start + first;
+        long hi = this.start + last + 1;
+        while (pos < hi) {
+            Level level = null;
+            int slot = -1;
+            for (int k = this.levelCount - 1; k >= 0 && level == null; k--) {
+                if (this.levels[k].shift <= maxShift) {
+                    slot = this.levels[k].findSlot(pos, hi, true);
+                    if (slot >= 0) {
+                        level = this.levels[k];
+                    }
+                }
+            }
+            if (n + 4 > result.length) {
+                result = Arrays.copyOf(result, result.length * 2);
+            }
+            if (level != null) {
+                // first <= lo <= up <= last, skip any duplicates
+                long bucketEnd = pos + (1L << level.shift) - 1;
+                long lo = Math.min(level.minPos[slot], level.maxPos[slot]);
+                long up = Math.max(level.minPos[slot], level.maxPos[slot]);
+                result[n++] = (int) (pos - this.start);
+                if (lo > pos && lo < bucketEnd) {
+                    result[n++] = (int) (lo - this.start);
+                }
+                if (up > lo && up > pos && up < bucketEnd) {
+                    result[n++] = (int) (up - this.start);
+                }
+                if (bucketEnd > pos) {
+                    result[n++] = (int) (bucketEnd - this.start);
+                }
+                pos = bucketEnd + 1;
+            }
+            else {
+                result[n++] = (int) (pos - this.start);
+                pos++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Returns a clone of the index.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        XYPyramidIndex clone = (XYPyramidIndex) super.clone();
+        clone.levels = new Level[this.levels.length];
+        for (int k = 0; k < this.levelCount; k++) {
+            clone.levels[k] = (Level) this.levels[k].clone();
+        }
+        return clone;
+    }
+
+    /**
+     * One level of the index, holding the statistics for consecutive
+     * buckets of 2<sup>shift</sup> items.
+     */
+    private static class Level implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 5273402875925131841L;
+
+        /** The number of items in a bucket (as a power of 2). */
+        private int shift;
+
+        /** The bucket number for the slot at <code>head</code>. */
+        private long firstBucket;
+
+        /** The index of the first slot in use. */
+        private int head;
+
+        /** The number of slots in use. */
+        private int size;
+
+        /** The minimum y-value in each bucket. */
+        private double[] minY;
+
+        /** The maximum y-value in each bucket. */
+        private double[] maxY;
+
+        /**
+         * The position of the minimum y-value in each bucket (-1 if the
+         * bucket contains only <code>NaN</code> values).
+         */
+        private long[] minPos;
+
+        /** The position of the maximum y-value in each bucket. */
+        private long[] maxPos;
+
+        /** The number of <code>NaN</code> y-values in each bucket. */
+        private int[] nanCount;
+
+        /**
+         * Creates a new empty level.
+         *
+         * @param shift  the number of items in a bucket (as a power of 2).
+         */
+        Level(int shift) {
+            this.shift = shift;
+            allocate(4);
+        }
+
+        /**
+         * Creates a new set of arrays with the specified capacity, copying
+         * the slots in use to the start of the arrays.
+         *
+         * @param capacity  the capacity.
+         */
+        private void allocate(int capacity) {
+            double[] newMinY = new double[capacity];
+            double[] newMaxY = new double[capacity];
+            long[] newMinPos = new long[capacity];
+            long[] newMaxPos = new long[capacity];
+            int[] newNanCount = new int[capacity];
+            if (this.size > 0) {
+                System.arraycopy(this.minY, this.head, newMinY, 0, this.size);
+                System.arraycopy(this.maxY, this.head, newMaxY, 0, this.size);
+                System.arraycopy(this.minPos, this.head, newMinPos, 0,
+                        this.size);
+                System.arraycopy(this.maxPos, this.head, newMaxPos, 0,
+                        this.size);
+                System.arraycopy(this.nanCount, this.head, newNanCount, 0,
+                        this.size);
+            }
+            this.minY = newMinY;
+            this.maxY = newMaxY;
+            this.minPos = newMinPos;
+            this.maxPos = newMaxPos;
+            this.nanCount = newNanCount;
+            this.head = 0;
+        }
+
+        /**
+         * Adds an empty slot for the specified bucket, which must follow the
+         * last bucket in the level.
+         *
+         * @param bucket  the bucket number.
+         */
+        private void appendSlot(long bucket) {
+            if (this.head + this.size == this.minY.length) {
+                int capacity = this.minY.length;
+                allocate(this.size < (capacity >> 1) ? capacity
+                        : capacity * 2);
+            }
+            if (this.size == 0) {
+                this.firstBucket = bucket;
+            }
+            int i = this.head + this.size;
+            this.minPos[i] = -1L;
+            this.maxPos[i] = -1L;
+            this.nanCount[i] = 0;
+            this.size++;
+        }
+
+        /**
+         * Merges statistics into the last slot in the level.
+         *
+         * @param lo  the minimum y-value.
+         * @param loPos  the position of the minimum y-value (-1 if there is
+         *     no non-<code>NaN</code> value).
+         * @param hi  the maximum y-value.
+         * @param hiPos  the position of the maximum y-value.
+         * @param nans  the number of <code>NaN</code> values.
+         */
+        private void merge(double lo, long loPos, double hi, long hiPos,
+                int nans) {
+            int i = this.head + this.size - 1;
+            this.nanCount[i] += nans;
+            if (loPos < 0) {
+                return;
+            }
+            if (this.minPos[i] < 0 || lo < this.minY[i]) {
+                this.minY[i] = lo;
+                this.minPos[i] = loPos;
+            }
+            if (this.maxPos[i] < 0 || hi > this.maxY[i]) {
+                this.maxY[i] = hi;
+                this.maxPos[i] = hiPos;
+            }
+        }
+
+        /**
+         * Adds an item to the level.
+         *
+         * @param pos  the absolute position of the item.
+         * @param y  the y-value.
+         */
+        void add(long pos, double y) {
+            long bucket = pos >> this.shift;
+            if (this.size == 0 || bucket >= this.firstBucket + this.size) {
+                appendSlot(bucket);
+            }
+            if (Double.isNaN(y)) {
+                merge(0.0, -1L, 0.0, -1L, 1);
+            }
+            else {
+                merge(y, pos, y, pos, 0);
+            }
+        }
+
+        /**
+         * Creates a new level with buckets twice the size of the buckets in
+         * this level.
+         *
+         * @return The new level.
+         */
+        Level createParent() {
+            Level parent = new Level(this.shift + 1);
+            for (int j = 0; j < this.size; j++) {
+                int i = this.head + j;
+                long bucket = (this.firstBucket + j) >> 1;
+                if (parent.size == 0
+                        || bucket >= parent.firstBucket + parent.size) {
+                    parent.appendSlot(bucket);
+                }
+                parent.merge(this.minY[i], this.minPos[i], this.maxY[i],
+                        this.maxPos[i], this.nanCount[i]);
+            }
+            return parent;
+        }
+
+        /**
+         * Discards the buckets that lie entirely before a position.
+         *
+         * @param pos  the position.
+         */
+        void removeBefore(long pos) {
+            long bucket = pos >> this.shift;
+            int n = (int) Math.min(this.size, Math.max(0L,
+                    bucket - this.firstBucket));
+            this.head += n;
+            this.size -= n;
+            this.firstBucket += n;
+            if (this.size == 0) {
+                this.head = 0;
+            }
+        }
+
+        /**
+         * Returns the slot for the bucket that starts at <code>pos</code>,
+         * provided that the bucket ends at or before <code>hi</code>.
+         *
+         * @param pos  the position.
+         * @param hi  the end position (exclusive).
+         * @param requireNoNaN  if <code>true</code>, a bucket containing
+         *     <code>NaN</code> values is not returned.
+         *
+         * @return The slot index, or -1.
+         */
+        int findSlot(long pos, long hi, boolean requireNoNaN) {
+            long bucketSize = 1L << this.shift;
+            if ((pos & (bucketSize - 1)) != 0 || pos + bucketSize > hi) {
+                return -1;
+            }
+            long j = (pos >> this.shift) - this.firstBucket;
+            if (j < 0 || j >= this.size) {
+                return -1;
+            }
+            int slot = this.head + (int) j;
+            if (requireNoNaN && this.nanCount[slot] > 0) {
+                return -1;
+            }
+            return slot;
+        }
+
+        /**
+         * Returns a clone of the level.
+         *
+         * @return A clone.
+         *
+         * @throws CloneNotSupportedException not thrown by this class.
+         */
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            Level clone = (Level) super.clone();
+            clone.minY = (double[]) this.minY.clone();
+            clone.maxY = (double[]) this.maxY.clone();
+            clone.minPos = (long[]) this.minPos.clone();
+            clone.maxPos = (long[]) this.maxPos.clone();
+            clone.nanCount = (int[]) this.nanCount.clone();
+            return clone;
+        }
+
+    }
+
+}
@@ -75,19 +75,31 @@
  * 10-Jun-2009 : Make clones to isolate XYDataItem instances used
  *               for data storage (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Store items in a RingBufferList and track the bounds with
+ *               RollingMinMax when a maximum item count is set;
+ * 18-Oct-2026 : Describe appended, updated and removed items in change
+ *               events;
+ * 18-Oct-2026 : Added addAll() methods;
+ * 18-Oct-2026 : Support concurrent mode;
  * 
  */
 
 package org.jfree.data.xy;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.jfree.chart.util.ParamChecks;
 
+import org.jfree.data.general.RingBufferList;
+import org.jfree.data.general.RollingMinMax;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.util.ObjectUtilities;
 
@@ -134,6 +146,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * Tracks the x-bounds while the series is a rolling window (that is,
+     * a maximum item count is set) and items are only appended at the end
+     * and removed from the start.  At other times this is <code>null</code>.
+     */
+    private RollingMinMax xWindow;
+
+    /** Tracks the y-bounds (see xWindow). */
+    private RollingMinMax yWindow;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -170,7 +192,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public XYSeries(Comparable key, boolean autoSort,
             boolean allowDuplicateXValues) {
         super(key);
-        this.data = new java.util.ArrayList();
+        this.data = new RingBufferList();
         this.autoSort = autoSort;
         this.allowDuplicateXValues = allowDuplicateXValues;
         this.minX = Double.NaN;
@@ -307,10 +329,58 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         this.maxX = Double.NaN;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        boolean rolling = this.maximumItemCount < Integer.MAX_VALUE;
+        this.xWindow = rolling ? new RollingMinMax() : null;
+        this.yWindow = rolling ? new RollingMinMax() : null;
         Iterator iterator = this.data.iterator();
         while (iterator.hasNext()) {
             XYDataItem item = (XYDataItem) iterator.next();
             updateBoundsForAddedItem(item);
+            updateWindowsForAddedItem(item, true);
+        }
+    }
+
+    /**
+     * Updates the rolling window bounds trackers (if they are in use) for an
+     * item that has just been added to the series.  If the item was not
+     * appended at the end of the series, the trackers are discarded.
+     *
+     * @param item  the item added (<code>null</code> not permitted).
+     * @param appended  a flag indicating whether the item was added at the
+     *     end of the series.
+     */
+    private void updateWindowsForAddedItem(XYDataItem item,
+            boolean appended) {
+        if (this.yWindow != null) {
+            if (appended) {
+                this.xWindow.add(item.getXValue());
+                this.yWindow.add(item.getYValue());
+            }
+            else {
+                this.xWindow = null;
+                this.yWindow = null;
+            }
+        }
+    }
+
+    /**
+     * Removes the first item in the series (to enforce the maximum item
+     * count) and updates the cached bounds.  While the rolling window
+     * trackers are in use, this does not require iterating through the
+     * remaining items.
+     */
+    private void removeFirstItem() {
+        XYDataItem removed = (XYDataItem) this.data.remove(0);
+        if (this.yWindow != null) {
+            this.xWindow.removeFirst();
+            this.yWindow.removeFirst();
+            this.minX = this.xWindow.getMinimum();
+            this.maxX = this.xWindow.getMaximum();
+            this.minY = this.yWindow.getMinimum();
+            this.maxY = this.yWindow.getMaximum();
+        }
+        else {
+            updateBoundsForRemovedItem(removed);
         }
     }
 
@@ -374,7 +444,10 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * If you add a new item to the series such that the number of items will
      * exceed the maximum item count, then the first element in the series is
      * automatically removed, ensuring that the maximum item count is not
-     * exceeded.
+     * exceeded.  The items are stored in a circular buffer, so removing the
+     * first item takes constant time, and while items are only appended
+     * at the end of the series the bounds are updated without iterating
+     * through the items.
      * <p>
      * Typically this value is set before the series is populated with data,
      * but if it is applied later, it may cause some items to be removed from
@@ -383,13 +456,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *
      * @param maximum  the maximum number of items for the series.
      */
-    public void setMaximumItemCount(int maximum) {
+    public synchronized void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
-            findBoundsByIteration();
-            fireSeriesChanged();
+            invalidateSnapshot();
+        }
+        findBoundsByIteration();
+        if (remove > 0) {
+            fireSeriesChanged(SeriesChangeType.REMOVE, 0, remove - 1);
         }
     }
 
@@ -503,7 +579,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *                {@link SeriesChangeEvent} is sent to all registered
      *                listeners.
      */
-    public void add(XYDataItem item, boolean notify) {
+    public synchronized void add(XYDataItem item, boolean notify) {
         ParamChecks.nullNotPermitted(item, "item");
         item = (XYDataItem) item.clone();
         if (this.autoSort) {
@@ -543,11 +619,135 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             this.data.add(item);
         }
         updateBoundsForAddedItem(item);
+        boolean appended = this.data.get(this.data.size() - 1) == item;
+        updateWindowsForAddedItem(item, appended);
         if (getItemCount() > this.maximumItemCount) {
-            XYDataItem removed = (XYDataItem) this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            removeFirstItem();
         }
+        invalidateSnapshot();
         if (notify) {
+            fireSeriesChangedForAddedItem(appended);
+        }
+    }
+
+    /**
+     * Adds the specified items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  For a sorted
+     * series, the new items are sorted and then merged with the existing
+     * items in one pass, which is much faster than adding a large number of
+     * items one at a time.
+     *
+     * @param xValues  the x-values (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted, the
+     *     array must have the same length as <code>xValues</code>).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series
+     *     (in which case no items are added).
+     *
+     * @since 1.0.20
+     */
+    public void addAll(double[] xValues, double[] yValues) {
+        ParamChecks.nullNotPermitted(xValues, "xValues");
+        ParamChecks.nullNotPermitted(yValues, "yValues");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "The 'xValues' and 'yValues' arrays differ in length.");
+        }
+        List items = new ArrayList(xValues.length);
+        for (int i = 0; i < xValues.length; i++) {
+            items.add(new XYDataItem(xValues[i], yValues[i]));
+        }
+        addItems(items);
+    }
+
+    /**
+     * Adds the items returned by an iterator to the series and sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  The
+     * items are copied, as for {@link #add(XYDataItem)}.
+     *
+     * @param items  an iterator over {@link XYDataItem} instances
+     *     (<code>null</code> not permitted).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series
+     *     (in which case no items are added).
+     *
+     * @see #addAll(double[], double[])
+     *
+     * @since 1.0.20
+     */
+    public void addAll(Iterator items) {
+        ParamChecks.nullNotPermitted(items, "items");
+        List list = new ArrayList();
+        while (items.hasNext()) {
+            XYDataItem item = (XYDataItem) items.next();
+            ParamChecks.nullNotPermitted(item, "item");
+            list.add(item.clone());
+        }
+        addItems(list);
+    }
+
+    /**
+     * Adds a list of new items to the series, updates the cached bounds and
+     * sends a single {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param items  the new items (these are not copied).
+     */
+    private synchronized void addItems(List items) {
+        int count = items.size();
+        if (count == 0) {
+            return;
+        }
+        boolean appended;
+        if (this.autoSort) {
+            appended = addAllSorted(this.data, items,
+                    this.allowDuplicateXValues);
+        }
+        else {
+            if (!this.allowDuplicateXValues) {
+                Set xValues = new HashSet();
+                for (int i = 0; i < this.data.size(); i++) {
+                    xValues.add(((XYDataItem) this.data.get(i)).getX());
+                }
+                for (int i = 0; i < count; i++) {
+                    if (!xValues.add(((XYDataItem) items.get(i)).getX())) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            this.data.addAll(items);
+            appended = true;
+        }
+        int excess = this.data.size() - this.maximumItemCount;
+        if (appended && this.yWindow != null) {
+            for (int i = 0; i < count; i++) {
+                XYDataItem item = (XYDataItem) items.get(i);
+                updateBoundsForAddedItem(item);
+                updateWindowsForAddedItem(item, true);
+            }
+            for (int i = 0; i < excess; i++) {
+                removeFirstItem();
+            }
+        }
+        else if (appended && excess <= 0) {
+            for (int i = 0; i < count; i++) {
+                updateBoundsForAddedItem((XYDataItem) items.get(i));
+            }
+        }
+        else {
+            if (excess > 0) {
+                this.data.subList(0, excess).clear();
+            }
+            findBoundsByIteration();
+        }
+        invalidateSnapshot();
+        int size = this.data.size();
+        if (appended && size > 0) {
+            fireSeriesChanged(SeriesChangeType.APPEND,
+                    size - Math.min(count, size), size - 1);
+        }
+        else {
             fireSeriesChanged();
         }
     }
@@ -559,10 +759,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @param start  the start index (zero-based).
      * @param end  the end index (zero-based).
      */
-    public void delete(int start, int end) {
+    public synchronized void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
         findBoundsByIteration();
-        fireSeriesChanged();
+        invalidateSnapshot();
+        fireSeriesChanged(SeriesChangeType.REMOVE, start, end);
     }
 
     /**
@@ -573,10 +774,20 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *
      * @return The item removed.
      */
-    public XYDataItem remove(int index) {
-        XYDataItem removed = (XYDataItem) this.data.remove(index);
-        updateBoundsForRemovedItem(removed);
-        fireSeriesChanged();
+    public synchronized XYDataItem remove(int index) {
+        XYDataItem removed;
+        if (index == 0 && this.yWindow != null) {
+            removed = (XYDataItem) this.data.get(0);
+            removeFirstItem();
+        }
+        else {
+            removed = (XYDataItem) this.data.remove(index);
+            this.xWindow = null;
+            this.yWindow = null;
+            updateBoundsForRemovedItem(removed);
+        }
+        invalidateSnapshot();
+        fireSeriesChanged(SeriesChangeType.REMOVE, index, index);
         return removed;
     }
 
@@ -590,7 +801,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
 
      * @return The item removed.
      */
-    public XYDataItem remove(Number x) {
+    public synchronized XYDataItem remove(Number x) {
         return remove(indexOf(x));
     }
 
@@ -598,14 +809,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * Removes all data items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
      */
-    public void clear() {
-        if (this.data.size() > 0) {
+    public synchronized void clear() {
+        int count = this.data.size();
+        if (count > 0) {
             this.data.clear();
-            this.minX = Double.NaN;
-            this.maxX = Double.NaN;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
-            fireSeriesChanged();
+            findBoundsByIteration();
+            invalidateSnapshot();
+            fireSeriesChanged(SeriesChangeType.REMOVE, 0, count - 1);
         }
     }
 
@@ -666,7 +876,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @deprecated Renamed {@link #updateByIndex(int, Number)} to avoid
      *         confusion with the {@link #update(Number, Number)} method.
      */
-    public void update(int index, Number y) {
+    public synchronized void update(int index, Number y) {
         XYDataItem item = getRawDataItem(index);
 
         // figure out if we need to iterate through all the y-values
@@ -675,7 +885,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         if (!Double.isNaN(oldY)) {
             iterate = oldY <= this.minY || oldY >= this.maxY;
         }
-        item.setY(y);
+        setItemY(index, y);
+        this.xWindow = null;
+        this.yWindow = null;
 
         if (iterate) {
             findBoundsByIteration();
@@ -685,7 +897,45 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             this.minY = minIgnoreNaN(this.minY, yy);
             this.maxY = maxIgnoreNaN(this.maxY, yy);
         }
-        fireSeriesChanged();
+        fireSeriesChanged(SeriesChangeType.UPDATE, index, index);
+    }
+
+    /**
+     * Sets the y-value of an existing item.  In concurrent mode, the item is
+     * replaced by an updated copy so that snapshots of the series do not
+     * change.
+     *
+     * @param index  the item index.
+     * @param y  the new y-value (<code>null</code> permitted).
+     */
+    private void setItemY(int index, Number y) {
+        XYDataItem item = (XYDataItem) this.data.get(index);
+        if (isConcurrent()) {
+            item = (XYDataItem) item.clone();
+            item.setY(y);
+            this.data.set(index, item);
+        }
+        else {
+            item.setY(y);
+        }
+        invalidateSnapshot();
+    }
+
+    /**
+     * Sends a {@link SeriesChangeEvent} for an item that has just been added
+     * to the series.
+     *
+     * @param appended  a flag indicating whether the item was added at the
+     *     end of the series.
+     */
+    private void fireSeriesChangedForAddedItem(boolean appended) {
+        if (appended) {
+            int last = this.data.size() - 1;
+            fireSeriesChanged(SeriesChangeType.APPEND, last, last);
+        }
+        else {
+            fireSeriesChanged();
+        }
     }
 
     /**
@@ -748,7 +998,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @throws SeriesException if there is no existing item with the specified
      *         x-value.
      */
-    public void update(Number x, Number y) {
+    public synchronized void update(Number x, Number y) {
         int index = indexOf(x);
         if (index < 0) {
             throw new SeriesException("No observation for x = " + x);
@@ -797,7 +1047,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      *
      * @since 1.0.14
      */
-    public XYDataItem addOrUpdate(XYDataItem item) {
+    public synchronized XYDataItem addOrUpdate(XYDataItem item) {
         ParamChecks.nullNotPermitted(item, "item");
         if (this.allowDuplicateXValues) {
             add(item);
@@ -816,7 +1066,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             if (!Double.isNaN(oldY)) {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
-            existing.setY(item.getY());
+            setItemY(index, item.getY());
+            this.xWindow = null;
+            this.yWindow = null;
 
             if (iterate) {
                 findBoundsByIteration();
@@ -826,6 +1078,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 this.minY = minIgnoreNaN(this.minY, yy);
                 this.maxY = maxIgnoreNaN(this.maxY, yy);
             }
+            fireSeriesChanged(SeriesChangeType.UPDATE, index, index);
         }
         else {
             // if the series is sorted, the negative index is a result from
@@ -840,14 +1093,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 this.data.add(item);
             }
             updateBoundsForAddedItem(item);
+            boolean appended = this.data.get(this.data.size() - 1) == item;
+            updateWindowsForAddedItem(item, appended);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                XYDataItem removed = (XYDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                removeFirstItem();
             }
+            invalidateSnapshot();
+            fireSeriesChangedForAddedItem(appended);
         }
-        fireSeriesChanged();
         return overwritten;
     }
 
@@ -910,9 +1165,41 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         XYSeries clone = (XYSeries) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        if (this.xWindow != null) {
+            clone.xWindow = (RollingMinMax) this.xWindow.clone();
+            clone.yWindow = (RollingMinMax) this.yWindow.clone();
+        }
         return clone;
     }
 
+    /**
+     * Creates a snapshot of the series.  The snapshot shares the data items
+     * with this series, which is safe because the items are replaced rather
+     * than modified in concurrent mode.
+     *
+     * @return A new snapshot.
+     *
+     * @see #setConcurrent(boolean)
+     */
+    @Override
+    protected Series createSnapshot() {
+        XYSeries copy = new XYSeries(getKey(), this.autoSort,
+                this.allowDuplicateXValues);
+        copy.setDescription(getDescription());
+        if (this.data instanceof RingBufferList) {
+            copy.data = (List) ((RingBufferList) this.data).clone();
+        }
+        else {
+            copy.data = new ArrayList(this.data);
+        }
+        copy.maximumItemCount = this.maximumItemCount;
+        copy.minX = this.minX;
+        copy.maxX = this.maxX;
+        copy.minY = this.minY;
+        copy.maxY = this.maxY;
+        return copy;
+    }
+
     /**
      * Creates a new series by copying a subset of the data in this time series.
      *
@@ -927,7 +1214,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throws CloneNotSupportedException {
 
         XYSeries copy = (XYSeries) super.clone();
-        copy.data = new java.util.ArrayList();
+        copy.data = new RingBufferList();
+        copy.findBoundsByIteration();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
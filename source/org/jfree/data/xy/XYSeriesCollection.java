@@ -60,6 +60,9 @@
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 21-Nov-2013 : Fixed bug where removeSeries(int) was not deregistering 
  *               vetoable listener (DG);
+ * 18-Oct-2026 : Enabled the bounds cache;
+ * 18-Oct-2026 : Implemented ConcurrentDataset;
+ * 18-Oct-2026 : Reuse the snapshot until the collection changes;
  *
  */
 
@@ -69,6 +72,7 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyVetoException;
 import java.beans.VetoableChangeListener;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -80,6 +84,8 @@ import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.ConcurrentDataset;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
 import org.jfree.util.ObjectUtilities;
@@ -91,7 +97,8 @@ import org.jfree.util.PublicCloneable;
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
         implements IntervalXYDataset, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        VetoableChangeListener, ConcurrentDataset, PublicCloneable,
+        Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -102,6 +109,12 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
     /** The interval delegate (used to calculate the start and end x-values). */
     private IntervalXYDelegate intervalDelegate;
 
+    /**
+     * The most recent snapshot of the collection (<code>null</code> if no
+     * snapshot has been created yet).
+     */
+    private transient volatile XYSeriesCollection snapshot;
+
     /**
      * Constructs an empty dataset.
      */
@@ -142,6 +155,19 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return DomainOrder.ASCENDING;
     }
 
+    /**
+     * Returns <code>true</code>, since every change to the items in the
+     * series is reported by a change event.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    protected boolean isBoundsCacheSupported() {
+        return true;
+    }
+
     /**
      * Adds a series to the collection and sends a {@link DatasetChangeEvent}
      * to all registered listeners.
@@ -158,7 +184,9 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
                 "This dataset already contains a series with the key " 
                 + series.getKey());
         }
-        this.data.add(series);
+        synchronized (this) {
+            this.data.add(series);
+        }
         series.addChangeListener(this);
         series.addVetoableChangeListener(this);
         fireDatasetChanged();
@@ -191,7 +219,9 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         if (this.data.contains(series)) {
             series.removeChangeListener(this);
             series.removeVetoableChangeListener(this);
-            this.data.remove(series);
+            synchronized (this) {
+                this.data.remove(series);
+            }
             fireDatasetChanged();
         }
     }
@@ -210,7 +240,9 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         }
 
         // Remove all the series from the collection and notify listeners.
-        this.data.clear();
+        synchronized (this) {
+            this.data.clear();
+        }
         fireDatasetChanged();
     }
 
@@ -459,9 +491,91 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         clone.data = (List) ObjectUtilities.deepClone(this.data);
         clone.intervalDelegate
                 = (IntervalXYDelegate) this.intervalDelegate.clone();
+        clone.snapshot = null;
         return clone;
     }
 
+    /**
+     * Returns <code>true</code> if any of the series in the collection is in
+     * concurrent mode.
+     *
+     * @return A boolean.
+     *
+     * @see XYSeries#setConcurrent(boolean)
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public synchronized boolean isConcurrent() {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (((XYSeries) this.data.get(i)).isConcurrent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a snapshot of the collection, containing snapshots of the
+     * series in the collection (see {@link XYSeries#getSnapshot()}).  The
+     * snapshot has the same interval settings as this collection.  The
+     * snapshot is reused until the collection or one of its series changes,
+     * so that the plot reads the same snapshot (and its cached bounds) for
+     * the axis ranges and for drawing the items.
+     *
+     * @return The snapshot (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public Dataset getSnapshot() {
+        Object[] series;
+        synchronized (this) {
+            series = this.data.toArray();
+        }
+        // the series snapshots are created without holding the lock on the
+        // collection, to avoid a deadlock with a thread that is modifying a
+        // series (and holds the lock on that series)
+        Series[] snapshots = new Series[series.length];
+        for (int i = 0; i < series.length; i++) {
+            snapshots[i] = ((XYSeries) series[i]).getSnapshot();
+        }
+        XYSeriesCollection result = this.snapshot;
+        if (result != null && isSnapshot(result, snapshots)) {
+            return result;
+        }
+        result = new XYSeriesCollection();
+        result.data.addAll(Arrays.asList(snapshots));
+        result.removeChangeListener(result.intervalDelegate);
+        result.intervalDelegate = this.intervalDelegate.copyFor(result);
+        this.snapshot = result;
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>snapshot</code> is a snapshot of
+     * this collection that contains the specified series snapshots.
+     *
+     * @param snapshot  the collection snapshot.
+     * @param series  the current series snapshots.
+     *
+     * @return A boolean.
+     */
+    private boolean isSnapshot(XYSeriesCollection snapshot, Series[] series) {
+        if (snapshot.data.size() != series.length) {
+            return false;
+        }
+        for (int i = 0; i < series.length; i++) {
+            if (snapshot.data.get(i) != series[i]) {
+                return false;
+            }
+        }
+        // the automatic interval width is not included in the equality test
+        return snapshot.intervalDelegate.equals(this.intervalDelegate)
+                && snapshot.intervalDelegate.getIntervalWidth()
+                == this.intervalDelegate.getIntervalWidth();
+    }
+
     /**
      * Returns a hash code.
      *
@@ -37,6 +37,9 @@
  * 13-Jul-2004 : Version 1 (DG);
  * 12-Jan-2009 : Added test2502355() (DG);
  * 08-Jun-2009 : Added testSetMouseWheelEnabled() (DG);
+ * 18-Oct-2026 : Added tests for the layered buffer;
+ * 18-Oct-2026 : Added testAsyncRendering();
+ * 18-Oct-2026 : Check the rendering info used for background frames;
  */
 
 package org.jfree.chart;
@@ -44,18 +47,36 @@ package org.jfree.chart;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.EventListener;
 import java.util.List;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.CaretListener;
 
+import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.SpatialEntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.title.TextTitle;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
 /**
@@ -343,4 +364,265 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         panel.setMouseWheelEnabled(false);
         assertFalse(panel.isMouseWheelEnabled());
     }
+
+    /**
+     * A renderer that counts the items it draws.
+     */
+    static class CountingRenderer extends XYLineAndShapeRenderer {
+
+        int count;
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+                int series, int item, CrosshairState crosshairState,
+                int pass) {
+            this.count++;
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    /**
+     * Creates a chart with two datasets, each with its own renderer.
+     *
+     * @param s1  the series for the first dataset.
+     * @param s2  the series for the second dataset.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createLayeredChart(XYSeries s1, XYSeries s2) {
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(s1), PlotOrientation.VERTICAL, true,
+                true, false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setRenderer(0, new CountingRenderer());
+        plot.setDataset(1, new XYSeriesCollection(s2));
+        plot.setRenderer(1, new CountingRenderer());
+        plot.getDomainAxis().setRange(0.0, 20.0);
+        plot.getRangeAxis().setRange(0.0, 20.0);
+        plot.setDomainCrosshairVisible(true);
+        plot.setDomainCrosshairValue(3.0);
+        plot.addAnnotation(new XYTextAnnotation("Note", 5.0, 5.0));
+        return chart;
+    }
+
+    /**
+     * Paints a panel into an image.
+     *
+     * @param panel  the panel.
+     *
+     * @return The image.
+     */
+    private BufferedImage paint(ChartPanel panel) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that two images are the same (allowing for rounding in the
+     * alpha compositing of the layers).
+     *
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     */
+    private void assertSameImage(BufferedImage expected,
+            BufferedImage actual) {
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int p1 = expected.getRGB(x, y);
+                int p2 = actual.getRGB(x, y);
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int c1 = (p1 >>> shift) & 0xFF;
+                    int c2 = (p2 >>> shift) & 0xFF;
+                    assertTrue("Pixel " + x + "," + y,
+                            Math.abs(c1 - c2) <= 2);
+                }
+            }
+        }
+    }
+
+    /**
+     * The layered buffer should give the same image and entities as drawing
+     * the chart in one pass, and redraw only the layers affected by a
+     * change.
+     */
+    @Test
+    public void testLayeredBuffer() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, i);
+            s2.add(i, 10 - i);
+        }
+        JFreeChart chart1 = createLayeredChart(s1, s2);
+        JFreeChart chart2 = createLayeredChart(s1, s2);
+        ChartPanel layered = new ChartPanel(chart1);
+        layered.setLayeredBufferEnabled(true);
+        ChartPanel single = new ChartPanel(chart2);
+        assertFalse(single.isLayeredBufferEnabled());
+        layered.setSize(400, 300);
+        single.setSize(400, 300);
+        assertSameImage(paint(single), paint(layered));
+        assertEquals(single.getChartRenderingInfo().getEntityCollection()
+                .getEntityCount(), layered.getChartRenderingInfo()
+                .getEntityCollection().getEntityCount());
+
+        // a change to the second dataset doesn't redraw the first one
+        XYPlot plot = (XYPlot) chart1.getPlot();
+        CountingRenderer r0 = (CountingRenderer) plot.getRenderer(0);
+        CountingRenderer r1 = (CountingRenderer) plot.getRenderer(1);
+        r0.count = 0;
+        r1.count = 0;
+        s2.add(10.0, 1.0);
+        assertSameImage(paint(single), paint(layered));
+        assertEquals(0, r0.count);
+        assertTrue(r1.count > 0);
+        assertEquals(single.getChartRenderingInfo().getEntityCollection()
+                .getEntityCount(), layered.getChartRenderingInfo()
+                .getEntityCollection().getEntityCount());
+
+        // moving the crosshair doesn't redraw any data
+        r1.count = 0;
+        plot.setDomainCrosshairValue(7.0);
+        ((XYPlot) chart2.getPlot()).setDomainCrosshairValue(7.0);
+        assertSameImage(paint(single), paint(layered));
+        assertEquals(0, r0.count);
+        assertEquals(0, r1.count);
+
+        // a title change that leaves the data area alone only redraws the
+        // background
+        chart1.getTitle().setText("Another title");
+        chart2.getTitle().setText("Another title");
+        assertSameImage(paint(single), paint(layered));
+        assertEquals(0, r0.count);
+        assertEquals(0, r1.count);
+
+        // a title change that moves the data area redraws everything
+        chart1.addSubtitle(new TextTitle("Subtitle"));
+        chart2.addSubtitle(new TextTitle("Subtitle"));
+        assertSameImage(paint(single), paint(layered));
+        assertTrue(r0.count > 0);
+
+        // a change to the axis range redraws everything
+        r0.count = 0;
+        plot.getRangeAxis().setRange(0.0, 30.0);
+        ((XYPlot) chart2.getPlot()).getRangeAxis().setRange(0.0, 30.0);
+        assertSameImage(paint(single), paint(layered));
+        assertTrue(r0.count > 0);
+    }
+
+    /**
+     * Waits (up to 10 seconds) for the panel to receive a frame drawn in
+     * the background.
+     *
+     * @param panel  the panel.
+     * @param info  the rendering info before the frame was requested.
+     *
+     * @throws Exception if there is a problem.
+     */
+    private void waitForFrame(ChartPanel panel, ChartRenderingInfo info)
+            throws Exception {
+        long end = System.currentTimeMillis() + 10000L;
+        while (panel.getChartRenderingInfo() == info
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10L);
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    // flushes the event queue
+                }
+            });
+        }
+        assertTrue(panel.getChartRenderingInfo() != info);
+    }
+
+    /**
+     * With asynchronous rendering the chart is drawn off the event dispatch
+     * thread, and the panel paints the completed frame.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testAsyncRendering() throws Exception {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, i);
+            s2.add(i, 10 - i);
+        }
+        JFreeChart chart1 = createLayeredChart(s1, s2);
+        JFreeChart chart2 = createLayeredChart(s1, s2);
+        final List<ChartProgressEvent> events
+                = new java.util.ArrayList<ChartProgressEvent>();
+        final List<Thread> threads = new java.util.ArrayList<Thread>();
+        chart1.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                synchronized (events) {
+                    events.add(event);
+                    threads.add(Thread.currentThread());
+                }
+            }
+        });
+        ChartPanel async = new ChartPanel(chart1);
+        async.getChartRenderingInfo().setEntityCollection(
+                new SpatialEntityCollection());
+        async.setAsyncRenderingEnabled(true);
+        assertTrue(async.isAsyncRenderingEnabled());
+        ChartPanel single = new ChartPanel(chart2);
+        async.setSize(400, 300);
+        single.setSize(400, 300);
+
+        // the first paint has nothing to show, but requests a frame
+        ChartRenderingInfo info = async.getChartRenderingInfo();
+        paint(async);
+        waitForFrame(async, info);
+        assertSameImage(paint(single), paint(async));
+        assertEquals(single.getChartRenderingInfo().getEntityCollection()
+                .getEntityCount(), async.getChartRenderingInfo()
+                .getEntityCollection().getEntityCount());
+        assertTrue(async.getChartRenderingInfo().getEntityCollection()
+                instanceof SpatialEntityCollection);
+        ChartRenderingInfo first = async.getChartRenderingInfo();
+        synchronized (events) {
+            assertEquals(2, events.size());
+            assertEquals(ChartProgressEvent.DRAWING_STARTED,
+                    events.get(0).getType());
+            ChartProgressEvent finished = events.get(1);
+            assertEquals(ChartProgressEvent.DRAWING_FINISHED,
+                    finished.getType());
+            assertEquals(finished.getTime() - events.get(0).getTime(),
+                    finished.getElapsedTime());
+            assertTrue(threads.get(0) != Thread.currentThread());
+        }
+
+        // after a zoom the old frame is painted until the new one is ready
+        info = async.getChartRenderingInfo();
+        ((XYPlot) chart1.getPlot()).getDomainAxis().setRange(0.0, 10.0);
+        ((XYPlot) chart2.getPlot()).getDomainAxis().setRange(0.0, 10.0);
+        assertNotNull(paint(async));
+        waitForFrame(async, info);
+        assertSameImage(paint(single), paint(async));
+
+        // the third frame reuses the rendering info of the first
+        info = async.getChartRenderingInfo();
+        ((XYPlot) chart1.getPlot()).getDomainAxis().setRange(0.0, 9.0);
+        ((XYPlot) chart2.getPlot()).getDomainAxis().setRange(0.0, 9.0);
+        paint(async);
+        waitForFrame(async, info);
+        assertSame(first, async.getChartRenderingInfo());
+        assertSameImage(paint(single), paint(async));
+        assertEquals(single.getChartRenderingInfo().getEntityCollection()
+                .getEntityCount(), async.getChartRenderingInfo()
+                .getEntityCollection().getEntityCount());
+
+        async.setAsyncRenderingEnabled(false);
+        assertSameImage(paint(single), paint(async));
+    }
 }
@@ -0,0 +1,295 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * ChartRenderingServiceTest.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 18-Oct-2026 : Added testCancelQueued() and testShutdownWakesSubmitter();
+ *
+ */
+
+package org.jfree.chart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChartRenderingService} class.
+ */
+public class ChartRenderingServiceTest {
+
+    /**
+     * Creates a line chart for testing.
+     *
+     * @param itemCount  the number of items.
+     *
+     * @return A chart.
+     */
+    private static JFreeChart createChart(int itemCount) {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < itemCount; i++) {
+            series.add(i, Math.sin(i / 5.0));
+        }
+        return ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+    }
+
+    /**
+     * Decodes an image.
+     *
+     * @param result  the rendering result.
+     *
+     * @return The image.
+     *
+     * @throws IOException if the image cannot be decoded.
+     */
+    private static BufferedImage decode(ChartRenderingResult result)
+            throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(result.getData()));
+    }
+
+    /**
+     * Renders several charts (including the same chart more than once, and
+     * different image sizes on the same worker) and checks the results.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testSubmit() throws Exception {
+        ChartRenderingService service = new ChartRenderingService(2, 1);
+        JFreeChart shared = createChart(50);
+        List<Future<ChartRenderingResult>> futures
+                = new ArrayList<Future<ChartRenderingResult>>();
+        for (int i = 0; i < 10; i++) {
+            JFreeChart chart = (i % 2 == 0) ? shared : createChart(i * 10);
+            futures.add(service.submit(chart, 200 + i * 10, 150,
+                    ImageFormat.PNG));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            ChartRenderingResult result = futures.get(i).get();
+            assertEquals(ImageFormat.PNG, result.getFormat());
+            assertEquals(200 + i * 10, result.getWidth());
+            assertTrue(result.getDrawNanos() >= 0);
+            assertTrue(result.getEncodeNanos() >= 0);
+            BufferedImage image = decode(result);
+            assertEquals(200 + i * 10, image.getWidth());
+            assertEquals(150, image.getHeight());
+        }
+        service.shutdown();
+        assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * The service should produce the same image as
+     * {@link JFreeChart#createBufferedImage(int, int, int,
+     * ChartRenderingInfo)}, including for a reused (larger) buffer.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testSameImage() throws Exception {
+        ChartRenderingService service = new ChartRenderingService(1, 0);
+        JFreeChart chart = createChart(20);
+        chart.setBackgroundPaint(null);
+        service.submit(chart, 400, 300, ImageFormat.PNG).get();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        ChartRenderingResult result = service.submit(chart, 300, 200,
+                ImageFormat.PNG, info).get();
+        assertNotNull(result.getInfo());
+        assertEquals(300.0, info.getChartArea().getWidth(), 0.0);
+        BufferedImage actual = decode(result);
+        BufferedImage expected = chart.createBufferedImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB, null);
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+        service.shutdown();
+    }
+
+    /**
+     * Charts can be encoded as JPEG.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testJPEG() throws Exception {
+        ChartRenderingService service = new ChartRenderingService(1, 0);
+        ChartRenderingResult result = service.submit(createChart(10), 120,
+                80, ImageFormat.JPEG).get();
+        BufferedImage image = decode(result);
+        assertEquals(120, image.getWidth());
+        assertEquals(80, image.getHeight());
+        service.shutdown();
+    }
+
+    /**
+     * An exception thrown while drawing is reported through the future.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testDrawFailure() throws Exception {
+        ChartRenderingService service = new ChartRenderingService(1, 0);
+        try {
+            service.submit(createChart(10), 100, 100, "unknown").get();
+            fail("Expected an ExecutionException.");
+        }
+        catch (ExecutionException e) {
+            // expected
+        }
+        // the failed task must have released its place in the queue
+        assertNotNull(service.submit(createChart(10), 100, 100,
+                ImageFormat.PNG).get());
+        service.shutdown();
+    }
+
+    /**
+     * Charts are rejected after the service is shut down.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testShutdown() throws Exception {
+        ChartRenderingService service = new ChartRenderingService(1, 0);
+        service.shutdown();
+        assertTrue(service.isShutdown());
+        try {
+            service.submit(createChart(10), 100, 100, ImageFormat.PNG);
+            fail("Expected a RejectedExecutionException.");
+        }
+        catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Cancelling charts that are waiting for a worker gives back their queue
+     * slots.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test(timeout = 30000)
+    public void testCancelQueued() throws Exception {
+        ChartRenderingService service = new ChartRenderingService(1, 1);
+        JFreeChart chart = createChart(10);
+        List<Future<ChartRenderingResult>> futures
+                = new ArrayList<Future<ChartRenderingResult>>();
+        // the worker blocks on the chart lock, so later charts stay queued
+        synchronized (chart) {
+            futures.add(service.submit(chart, 100, 100, ImageFormat.PNG));
+            for (int i = 0; i < 5; i++) {
+                Future<ChartRenderingResult> f = service.submit(
+                        createChart(10), 100, 100, ImageFormat.PNG);
+                assertTrue(f.cancel(false));
+            }
+            futures.add(service.submit(createChart(10), 100, 100,
+                    ImageFormat.PNG));
+        }
+        for (Future<ChartRenderingResult> f : futures) {
+            assertNotNull(f.get().getData());
+        }
+        service.shutdown();
+        assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * A thread waiting for space in the queue is woken up when the service is
+     * shut down, and charts that were still queued are cancelled by
+     * shutdownNow().
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test(timeout = 30000)
+    public void testShutdownWakesSubmitter() throws Exception {
+        final ChartRenderingService service = new ChartRenderingService(1, 1);
+        JFreeChart chart = createChart(10);
+        final Throwable[] error = new Throwable[1];
+        Future<ChartRenderingResult> queued;
+        synchronized (chart) {
+            service.submit(chart, 100, 100, ImageFormat.PNG);
+            queued = service.submit(createChart(10), 100, 100,
+                    ImageFormat.PNG);
+            Thread submitter = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        service.submit(createChart(10), 100, 100,
+                                ImageFormat.PNG);
+                    }
+                    catch (Throwable t) {
+                        error[0] = t;
+                    }
+                }
+            };
+            submitter.start();
+            while (submitter.getState() != Thread.State.WAITING) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, service.shutdownNow());
+            submitter.join();
+        }
+        assertTrue(error[0] instanceof RejectedExecutionException);
+        assertTrue(queued.isCancelled());
+        try {
+            queued.get();
+            fail("Expected a CancellationException.");
+        }
+        catch (CancellationException e) {
+            // expected
+        }
+    }
+
+}
@@ -1104,4 +1104,109 @@ public class SegmentedTimelineTest {
 
     }
 
+    /**
+     * Creates a timeline with segments of 10ms (2 included, 3 excluded) and
+     * an exception in every third included segment, plus two ranges.
+     *
+     * @return The timeline.
+     */
+    private SegmentedTimeline createTimelineWithManyExceptions() {
+        SegmentedTimeline stl = new SegmentedTimeline(10, 2, 3);
+        stl.setStartTime(946684800000L);
+        int included = 0;
+        for (long ms = 946684800000L; ms < 946684810000L; ms += 10) {
+            if (stl.containsDomainValue(ms) && included++ % 3 == 1) {
+                stl.addException(ms);
+            }
+        }
+        stl.addException(946684812000L, 946684812019L);
+        stl.addException(946684812050L, 946684812069L);
+        return stl;
+    }
+
+    /**
+     * Checks getExceptionSegmentCount() against the sum of the intersections
+     * with each exception segment.
+     */
+    @Test
+    public void testExceptionSegmentCount() {
+        SegmentedTimeline stl = createTimelineWithManyExceptions();
+        for (long from = 946684799900L; from < 946684812200L; from += 37) {
+            for (long to = from - 10; to < from + 500; to += 13) {
+                long expected = 0;
+                for (Iterator iterator = stl.getExceptionSegments().iterator();
+                        iterator.hasNext();) {
+                    SegmentedTimeline.Segment segment
+                            = (SegmentedTimeline.Segment) iterator.next();
+                    SegmentedTimeline.Segment intersection
+                            = segment.intersect(from, to);
+                    if (intersection != null) {
+                        expected += intersection.getSegmentCount();
+                    }
+                }
+                assertEquals(expected, stl.getExceptionSegmentCount(from, to));
+            }
+        }
+    }
+
+    /**
+     * Checks that the timeline values for the included milliseconds are
+     * consecutive and that toMillisecond() reverses toTimelineValue().
+     */
+    @Test
+    public void testTranslationsWithManyExceptions() {
+        SegmentedTimeline stl = createTimelineWithManyExceptions();
+        long expected = 0;
+        for (long ms = 946684800000L; ms < 946684812200L; ms++) {
+            if (stl.containsDomainValue(ms)) {
+                assertEquals(expected, stl.toTimelineValue(ms));
+                assertEquals(ms, stl.toMillisecond(expected));
+                expected++;
+            }
+        }
+    }
+
+    /**
+     * Checks containsDomainValue() against the segment that contains each
+     * millisecond, including milliseconds before the start time.
+     */
+    @Test
+    public void testContainsDomainValueWithManyExceptions() {
+        SegmentedTimeline stl = createTimelineWithManyExceptions();
+        for (long ms = 946684799900L; ms < 946684812200L; ms++) {
+            assertEquals(stl.getSegment(ms).inIncludeSegments(),
+                    stl.containsDomainValue(ms));
+        }
+    }
+
+    /**
+     * Checks that addExceptions(long[]) gives the same result as adding the
+     * exceptions one at a time.
+     */
+    @Test
+    public void testAddExceptionsArray() {
+        long[] exceptions = new long[] {946684800100L, 946684800020L,
+                946684800050L, 946684800100L, 946684800000L, 946684800250L,
+                946684800150L, 946684800060L, 946684800050L};
+        SegmentedTimeline stl1 = new SegmentedTimeline(10, 2, 3);
+        stl1.setStartTime(946684800000L);
+        stl1.addException(946684800150L);
+        stl1.addException(946684800200L, 946684800219L);
+        SegmentedTimeline stl2 = new SegmentedTimeline(10, 2, 3);
+        stl2.setStartTime(946684800000L);
+        stl2.addException(946684800150L);
+        stl2.addException(946684800200L, 946684800219L);
+        for (int i = 0; i < exceptions.length; i++) {
+            stl1.addException(exceptions[i]);
+        }
+        stl2.addExceptions(exceptions);
+        assertEquals(stl1, stl2);
+        assertEquals(7, stl2.getExceptionSegments().size());
+        for (long ms = 946684800000L; ms < 946684800400L; ms++) {
+            assertEquals(stl1.containsDomainValue(ms),
+                    stl2.containsDomainValue(ms));
+            assertEquals(stl1.toTimelineValue(ms), stl2.toTimelineValue(ms));
+        }
+    }
+
 }
@@ -0,0 +1,270 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * FastPNGEncoderTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link FastPNGEncoder} class.
+ */
+public class FastPNGEncoderTest {
+
+    /**
+     * Creates an image with a few flat colours and a transparent area.
+     *
+     * @param type  the image type.
+     *
+     * @return An image.
+     */
+    private static BufferedImage createFlatImage(int type) {
+        BufferedImage image = new BufferedImage(61, 37, type);
+        Graphics2D g2 = image.createGraphics();
+        g2.setColor(Color.RED);
+        g2.fillRect(0, 0, 30, 37);
+        g2.setColor(new Color(0, 0, 255, 128));
+        g2.fillRect(20, 10, 30, 20);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Creates an image with more than 256 colours.
+     *
+     * @param type  the image type.
+     *
+     * @return An image.
+     */
+    private static BufferedImage createGradientImage(int type) {
+        BufferedImage image = new BufferedImage(300, 40, type);
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 300; x++) {
+                int alpha = 40 + (x + y) % 200;
+                image.setRGB(x, y, new Color(x * 255 / 300, y * 6,
+                        (x * y) % 256, alpha).getRGB());
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Decodes a PNG image and checks that its pixels match the original.
+     *
+     * @param expected  the original image.
+     * @param png  the encoded image.
+     * @param alpha  is the alpha channel expected to be kept?
+     *
+     * @throws IOException if the image cannot be decoded.
+     */
+    private static void checkImage(BufferedImage expected, byte[] png,
+            boolean alpha) throws IOException {
+        BufferedImage actual = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int e = expected.getRGB(x, y);
+                if (!alpha) {
+                    e = e | 0xFF000000;
+                }
+                assertEquals("(" + x + ", " + y + ")", e,
+                        actual.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Images are decoded unchanged for every filter, with and without a
+     * palette.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testFilters() throws IOException {
+        BufferedImage[] images = {
+            createFlatImage(BufferedImage.TYPE_INT_ARGB),
+            createGradientImage(BufferedImage.TYPE_INT_ARGB),
+            createGradientImage(BufferedImage.TYPE_INT_RGB)
+        };
+        int[] filters = {FastPNGEncoder.FILTER_NONE,
+            FastPNGEncoder.FILTER_SUB, FastPNGEncoder.FILTER_UP,
+            FastPNGEncoder.FILTER_AVERAGE, FastPNGEncoder.FILTER_PAETH,
+            FastPNGEncoder.FILTER_ADAPTIVE};
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        for (int i = 0; i < images.length; i++) {
+            for (int f = 0; f < filters.length; f++) {
+                encoder.setFilter(filters[f]);
+                encoder.setPaletteEnabled(f % 2 == 0);
+                checkImage(images[i], encoder.encode(images[i]), true);
+            }
+        }
+    }
+
+    /**
+     * A palette is used for images with few colours, and gives a smaller
+     * file.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testPalette() throws IOException {
+        BufferedImage image = createFlatImage(BufferedImage.TYPE_INT_ARGB);
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        byte[] indexed = encoder.encode(image);
+        assertEquals(3, indexed[25]);  // the colour type in IHDR
+        encoder.setPaletteEnabled(false);
+        byte[] direct = encoder.encode(image);
+        assertEquals(6, direct[25]);
+        assertTrue(indexed.length < direct.length);
+        checkImage(image, indexed, true);
+
+        // too many colours for a palette
+        encoder.setPaletteEnabled(true);
+        byte[] gradient = encoder.encode(createGradientImage(
+                BufferedImage.TYPE_INT_ARGB));
+        assertEquals(6, gradient[25]);
+    }
+
+    /**
+     * When alpha encoding is off, pixels are written as opaque RGB.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testEncodingAlpha() throws IOException {
+        BufferedImage image = createGradientImage(
+                BufferedImage.TYPE_INT_ARGB);
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        encoder.setEncodingAlpha(false);
+        encoder.setPaletteEnabled(false);
+        byte[] png = encoder.encode(image);
+        assertEquals(2, png[25]);
+        checkImage(image, png, false);
+    }
+
+    /**
+     * Sub-images and image types without an int raster are supported.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testOtherImages() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        BufferedImage image = createGradientImage(
+                BufferedImage.TYPE_INT_ARGB);
+        BufferedImage sub = image.getSubimage(13, 7, 100, 20);
+        checkImage(sub, encoder.encode(sub), true);
+        BufferedImage bgr = createGradientImage(
+                BufferedImage.TYPE_3BYTE_BGR);
+        checkImage(bgr, encoder.encode(bgr), true);
+    }
+
+    /**
+     * The same bytes are written to a stream, a channel and a byte array,
+     * and reusing an encoder for a different size of image works.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testOutputs() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        BufferedImage image = createGradientImage(
+                BufferedImage.TYPE_INT_RGB);
+        byte[] png = encoder.encode(image);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(image, out);
+        assertArrayEquals(png, out.toByteArray());
+        out.reset();
+        encoder.encode(image, Channels.newChannel(out));
+        assertArrayEquals(png, out.toByteArray());
+        BufferedImage small = createFlatImage(BufferedImage.TYPE_INT_ARGB);
+        checkImage(small, encoder.encode(small), true);
+    }
+
+    /**
+     * Checks the compression level and filter settings.
+     */
+    @Test
+    public void testSettings() {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        encoder.setQuality(9.0f);
+        assertEquals(9, encoder.getCompressionLevel());
+        assertEquals(9.0f, encoder.getQuality(), 0.0f);
+        try {
+            encoder.setCompressionLevel(10);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            encoder.setFilter(5);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The factory returns this encoder for PNG.
+     */
+    @Test
+    public void testFactory() {
+        assertTrue(ImageEncoderFactory.newInstance(ImageFormat.PNG)
+                instanceof FastPNGEncoder);
+    }
+
+}
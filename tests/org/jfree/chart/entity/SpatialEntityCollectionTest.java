@@ -0,0 +1,262 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * SpatialEntityCollectionTest.java
+ * --------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SpatialEntityCollection} class.
+ */
+public class SpatialEntityCollectionTest {
+
+    /**
+     * Fills a spatial and a standard collection with the same random
+     * entities, including some large ones that overlap everything.
+     *
+     * @param spatial  the spatial collection.
+     * @param standard  the standard collection.
+     * @param count  the number of entities.
+     */
+    private static void fill(SpatialEntityCollection spatial,
+            StandardEntityCollection standard, int count) {
+        Random random = new Random(123L);
+        for (int i = 0; i < count; i++) {
+            ChartEntity entity;
+            if (i % 100 == 50) {
+                entity = new ChartEntity(new Rectangle2D.Double(100, 100,
+                        600, 400), "large " + i);
+            }
+            else if (i % 2 == 0) {
+                entity = new ChartEntity(new Ellipse2D.Double(
+                        random.nextDouble() * 1000, random.nextDouble() * 800,
+                        6, 6), "ellipse " + i);
+            }
+            else {
+                entity = new ChartEntity(new Rectangle2D.Double(
+                        random.nextDouble() * 1000, random.nextDouble() * 800,
+                        random.nextDouble() * 40, random.nextDouble() * 40),
+                        "rect " + i);
+            }
+            spatial.add(entity);
+            standard.add(entity);
+        }
+    }
+
+    /**
+     * Point queries return the same entity as the linear search in
+     * {@link StandardEntityCollection}.
+     */
+    @Test
+    public void testGetEntityForPoint() {
+        SpatialEntityCollection spatial = new SpatialEntityCollection();
+        StandardEntityCollection standard = new StandardEntityCollection();
+        assertNull(spatial.getEntity(1.0, 1.0));
+        fill(spatial, standard, 2000);
+        Random random = new Random(456L);
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 1100 - 50;
+            double y = random.nextDouble() * 900 - 50;
+            assertSame(standard.getEntity(x, y), spatial.getEntity(x, y));
+        }
+
+        // entities added after a query are found
+        ChartEntity top = new ChartEntity(new Rectangle2D.Double(-500, -500,
+                10, 10));
+        spatial.add(top);
+        assertSame(top, spatial.getEntity(-495, -495));
+        spatial.clear();
+        assertNull(spatial.getEntity(-495, -495));
+    }
+
+    /**
+     * Entities with very large bounds are found.
+     */
+    @Test
+    public void testLargeBounds() {
+        SpatialEntityCollection c = new SpatialEntityCollection();
+        ChartEntity e1 = new ChartEntity(new Rectangle2D.Double(
+                -Double.MAX_VALUE, 0.0, Double.MAX_VALUE, 10.0));
+        c.add(e1);
+        ChartEntity e2 = new ChartEntity(new Rectangle2D.Double(-1.0, 0.0,
+                0.5, 1.0));
+        c.add(e2);
+        assertSame(e2, c.getEntity(-0.75, 0.5));
+        assertSame(e1, c.getEntity(-1e300, 5.0));
+        assertNull(c.getEntity(1.0, 5.0));
+    }
+
+    /**
+     * Rectangle queries return the intersecting entities in order.
+     */
+    @Test
+    public void testGetEntitiesForRectangle() {
+        SpatialEntityCollection spatial = new SpatialEntityCollection();
+        StandardEntityCollection standard = new StandardEntityCollection();
+        fill(spatial, standard, 1000);
+        Random random = new Random(789L);
+        for (int i = 0; i < 200; i++) {
+            Rectangle2D r = new Rectangle2D.Double(
+                    random.nextDouble() * 1000 - 20,
+                    random.nextDouble() * 800 - 20,
+                    random.nextDouble() * 150, random.nextDouble() * 150);
+            List expected = new ArrayList();
+            Iterator iterator = standard.iterator();
+            while (iterator.hasNext()) {
+                ChartEntity entity = (ChartEntity) iterator.next();
+                if (entity.getArea().intersects(r)) {
+                    expected.add(entity);
+                }
+            }
+            assertEquals(expected, spatial.getEntities(r));
+        }
+    }
+
+    /**
+     * The entities of a chart drawn with a spatial collection give the same
+     * hits as a linear search.
+     */
+    @Test
+    public void testChartRenderingInfo() {
+        XYSeries series = new XYSeries("S1");
+        Random random = new Random(1L);
+        for (int i = 0; i < 500; i++) {
+            series.add(random.nextDouble(), random.nextDouble());
+        }
+        JFreeChart chart = ChartFactory.createScatterPlot("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        ChartRenderingInfo info = new ChartRenderingInfo(
+                new SpatialEntityCollection());
+        chart.createBufferedImage(400, 300, info);
+        EntityCollection spatial = info.getEntityCollection();
+        assertTrue(spatial.getEntityCount() > 500);
+        StandardEntityCollection standard = new StandardEntityCollection();
+        standard.addAll(spatial);
+        for (int x = 0; x < 400; x += 3) {
+            for (int y = 0; y < 300; y += 3) {
+                assertSame(standard.getEntity(x, y), spatial.getEntity(x, y));
+            }
+        }
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        SpatialEntityCollection c1 = new SpatialEntityCollection();
+        SpatialEntityCollection c2 = new SpatialEntityCollection();
+        assertTrue(c1.equals(c2));
+
+        PieSectionEntity e1 = new PieSectionEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), new DefaultPieDataset(), 0, 1, "Key",
+                "ToolTip", "URL");
+        c1.add(e1);
+        assertFalse(c1.equals(c2));
+        PieSectionEntity e2 = new PieSectionEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), new DefaultPieDataset(), 0, 1, "Key",
+                "ToolTip", "URL");
+        c2.add(e2);
+        assertTrue(c1.equals(c2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PieSectionEntity e1 = new PieSectionEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), new DefaultPieDataset(), 0, 1, "Key",
+                "ToolTip", "URL");
+        SpatialEntityCollection c1 = new SpatialEntityCollection();
+        c1.add(e1);
+        assertSame(e1, c1.getEntity(2.0, 3.0));
+        SpatialEntityCollection c2 = (SpatialEntityCollection) c1.clone();
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+
+        // check independence
+        c1.clear();
+        assertFalse(c1.equals(c2));
+        assertNull(c1.getEntity(2.0, 3.0));
+        assertEquals(e1, c2.getEntity(2.0, 3.0));
+        c2.clear();
+        assertTrue(c1.equals(c2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PieSectionEntity e1 = new PieSectionEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), new DefaultPieDataset(), 0, 1, "Key",
+                "ToolTip", "URL");
+        SpatialEntityCollection c1 = new SpatialEntityCollection();
+        c1.add(e1);
+        c1.getEntity(2.0, 3.0);
+        SpatialEntityCollection c2 = (SpatialEntityCollection)
+                TestUtilities.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals(e1, c2.getEntity(2.0, 3.0));
+    }
+
+}
@@ -0,0 +1,238 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ImageMapWriterTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.imagemap;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Comparator;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.util.StringUtils;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link ImageMapWriter} class.
+ */
+public class ImageMapWriterTest {
+
+    /** The line separator. */
+    private static final String EOL = StringUtils.getLineSeparator();
+
+    /**
+     * Writes a map with the specified writer.
+     *
+     * @param mapWriter  the writer.
+     * @param info  the rendering info.
+     *
+     * @return The map.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static String write(ImageMapWriter mapWriter,
+            ChartRenderingInfo info) throws IOException {
+        StringWriter writer = new StringWriter();
+        mapWriter.writeImageMap(writer, "map", info);
+        return writer.toString();
+    }
+
+    /**
+     * Returns an area tag for a rectangle entity with a tool tip.
+     *
+     * @param coords  the coordinates.
+     * @param toolTip  the tool tip.
+     *
+     * @return The tag.
+     */
+    private static String rect(String coords, String toolTip) {
+        return "<area shape=\"rect\" coords=\"" + coords + "\" title=\""
+                + toolTip + "\" alt=\"\" nohref=\"nohref\"/>" + EOL;
+    }
+
+    /**
+     * The writer and ImageMapUtilities should produce the same map for a
+     * chart.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testSameAsImageMapUtilities() throws IOException {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(2.0, "R1", "C2");
+        dataset.addValue(3.0, "R2", "C1");
+        JFreeChart chart = ChartFactory.createBarChart("Title", "X", "Y",
+                dataset);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.createBufferedImage(400, 300, info);
+        String expected = ImageMapUtilities.getImageMap("map", info);
+        assertEquals(expected, write(new ImageMapWriter(), info));
+        assertTrue(expected.contains("coords="));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ImageMapWriter().writeImageMap(out, "map", info);
+        assertEquals(expected, out.toString("UTF-8"));
+    }
+
+    /**
+     * Check that small areas are left out when a minimum size is set.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testMinimumAreaSize() throws IOException {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(10, 10, 0.5,
+                0.5), "A"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(20, 10, 0.5,
+                5.0), "B"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(30, 10, 5.0,
+                5.0), "C"));
+        ImageMapWriter mapWriter = new ImageMapWriter();
+        assertEquals(3, write(mapWriter, info).split("<area").length - 1);
+        mapWriter.setMinimumAreaSize(1.0);
+        assertEquals("<map id=\"map\" name=\"map\">" + EOL
+                + rect("30,10,35,15", "C") + rect("20,10,21,15", "B")
+                + "</map>", write(mapWriter, info));
+    }
+
+    /**
+     * Check that areas inside a rectangle that is written first, and
+     * duplicate polygons, are left out when culling is switched on.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testCullOccludedAreas() throws IOException {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        EntityCollection entities = info.getEntityCollection();
+        // entities added first are written last (they are underneath)
+        entities.add(new ChartEntity(new Rectangle2D.Double(12, 12, 4, 4),
+                "A"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(60, 60, 10, 10),
+                "B"));
+        entities.add(new ChartEntity(new Ellipse2D.Double(100, 100, 8, 8),
+                "C"));
+        entities.add(new ChartEntity(new Ellipse2D.Double(100, 100, 8, 8),
+                "D"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(10, 10, 100, 20),
+                "E"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(50, 50, 30, 30),
+                "F"));
+        ImageMapWriter mapWriter = new ImageMapWriter();
+        String all = write(mapWriter, info);
+        assertEquals(6, all.split("<area").length - 1);
+
+        mapWriter.setCullOccludedAreas(true);
+        String culled = write(mapWriter, info);
+        assertEquals(3, culled.split("<area").length - 1);
+        assertTrue(culled.contains("title=\"F\""));
+        assertTrue(culled.contains("title=\"E\""));
+        assertTrue(culled.contains("title=\"D\""));
+        assertFalse(culled.contains("title=\"C\""));
+        assertFalse(culled.contains("title=\"B\""));
+        assertFalse(culled.contains("title=\"A\""));
+    }
+
+    /**
+     * Some checks for the maximum entity count.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testMaximumEntityCount() throws IOException {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        EntityCollection entities = info.getEntityCollection();
+        for (int i = 0; i < 5; i++) {
+            entities.add(new ChartEntity(new Rectangle2D.Double(i * 10, 0,
+                    5 + i, 5), String.valueOf(i)));
+        }
+        ImageMapWriter mapWriter = new ImageMapWriter();
+        mapWriter.setMaximumEntityCount(2);
+        // without a comparator, the entities drawn last are kept
+        assertEquals("<map id=\"map\" name=\"map\">" + EOL
+                + rect("40,0,49,5", "4") + rect("30,0,38,5", "3")
+                + "</map>", write(mapWriter, info));
+
+        // rank the entities by width, smallest first
+        mapWriter.setPriorityComparator(new Comparator<ChartEntity>() {
+            @Override
+            public int compare(ChartEntity e1, ChartEntity e2) {
+                return Double.compare(e1.getArea().getBounds2D().getWidth(),
+                        e2.getArea().getBounds2D().getWidth());
+            }
+        });
+        assertEquals("<map id=\"map\" name=\"map\">" + EOL
+                + rect("10,0,16,5", "1") + rect("0,0,5,5", "0")
+                + "</map>", write(mapWriter, info));
+
+        mapWriter.setMaximumEntityCount(0);
+        assertEquals("<map id=\"map\" name=\"map\">" + EOL + "</map>",
+                write(mapWriter, info));
+    }
+
+    /**
+     * The shape coordinates are cached by the entity, and recalculated when
+     * the area is replaced.
+     */
+    @Test
+    public void testShapeCoordsCache() {
+        ChartEntity entity = new ChartEntity(new Rectangle2D.Double(1, 2, 3,
+                4));
+        String coords = entity.getShapeCoords();
+        assertEquals("1,2,4,6", coords);
+        assertTrue(coords == entity.getShapeCoords());
+        entity.setArea(new Rectangle2D.Double(2, 3, 4, 5));
+        assertEquals("2,3,6,8", entity.getShapeCoords());
+    }
+
+}
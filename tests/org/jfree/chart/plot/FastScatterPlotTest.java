@@ -37,6 +37,7 @@
  * 18-Mar-2003 : Version 1 (DG);
  * 29-Jan-2009 : Updated testEquals() (DG);
  * 26-Mar-2009 : Updated testEquals() for new panning fields (DG);
+ * 18-Oct-2026 : Added tests for the density paint scale;
  *
  */
 
@@ -50,12 +51,18 @@ import static org.junit.Assert.fail;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.Stroke;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
 
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtilities;
+import org.jfree.chart.axis.LogarithmicAxis;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.renderer.LookupPaintScale;
 import org.junit.Test;
 
 /**
@@ -127,6 +134,13 @@ public class FastScatterPlotTest {
         plot2.setRangePannable(true);
         assertTrue(plot1.equals(plot2));
 
+        plot1.setDensityPaintScale(new LookupPaintScale(0.0, 10.0,
+                Color.blue));
+        assertFalse(plot1.equals(plot2));
+        plot2.setDensityPaintScale(new LookupPaintScale(0.0, 10.0,
+                Color.blue));
+        assertTrue(plot1.equals(plot2));
+
     }
 
     /**
@@ -219,6 +233,110 @@ public class FastScatterPlotTest {
         }
     }
 
+    /**
+     * Renders a plot into a new image, with a data area that covers the
+     * image.
+     *
+     * @param plot  the plot.
+     *
+     * @return The image.
+     */
+    private BufferedImage render(FastScatterPlot plot) {
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        plot.render(g2, new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0), null,
+                null);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that the density image covers the same pixels as the points,
+     * for enough points that they are counted by more than one task.
+     */
+    @Test
+    public void testDensityPixels() {
+        int n = FastScatterPlot.MIN_POINTS_PER_TASK * 3;
+        float[][] data = new float[2][n];
+        Random random = new Random(1L);
+        for (int i = 0; i < n; i++) {
+            // some of the points are outside the axis ranges
+            data[0][i] = (float) (random.nextGaussian() * 5.0);
+            data[1][i] = (float) (random.nextGaussian() * 5.0);
+        }
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(-10.0, 10.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(-8.0, 12.0);
+        FastScatterPlot plot = new FastScatterPlot(data, xAxis, yAxis);
+        plot.setPaint(Color.red);
+        BufferedImage points = render(plot);
+        plot.setDensityPaintScale(new LookupPaintScale(0.0, n, Color.red));
+        BufferedImage density = render(plot);
+        for (int y = 0; y < 100; y++) {
+            for (int x = 0; x < 200; x++) {
+                assertEquals(points.getRGB(x, y), density.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Checks that the density image covers the same pixels as the points
+     * when a NumberAxis subclass overrides the linear transform.  The image
+     * is drawn twice, since the check for the axis class is cached.
+     */
+    @Test
+    public void testDensityPixelsNonLinear() {
+        int n = FastScatterPlot.MIN_POINTS_PER_TASK * 3;
+        float[][] data = new float[2][n];
+        Random random = new Random(1L);
+        for (int i = 0; i < n; i++) {
+            data[0][i] = (float) (1.0 + random.nextDouble() * 999.0);
+            data[1][i] = (float) (random.nextGaussian() * 5.0);
+        }
+        LogarithmicAxis xAxis = new LogarithmicAxis("X");
+        xAxis.setRange(1.0, 1000.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(-8.0, 12.0);
+        FastScatterPlot plot = new FastScatterPlot(data, xAxis, yAxis);
+        plot.setPaint(Color.red);
+        BufferedImage points = render(plot);
+        plot.setDensityPaintScale(new LookupPaintScale(0.0, n, Color.red));
+        for (int pass = 0; pass < 2; pass++) {
+            BufferedImage density = render(plot);
+            for (int y = 0; y < 100; y++) {
+                for (int x = 0; x < 200; x++) {
+                    assertEquals(points.getRGB(x, y), density.getRGB(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the pixel colors are looked up from the number of points
+     * in each pixel.
+     */
+    @Test
+    public void testDensityCounts() {
+        float[][] data = new float[][] {{10.5f, 10.5f, 10.5f, 20.5f, 30.5f},
+                {50.5f, 50.5f, 50.5f, 50.5f, 150.0f}};
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 200.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 100.0);
+        FastScatterPlot plot = new FastScatterPlot(data, xAxis, yAxis);
+        LookupPaintScale scale = new LookupPaintScale(0.0, 10.0, Color.red);
+        scale.add(1.0, Color.blue);
+        scale.add(2.0, Color.green);
+        plot.setDensityPaintScale(scale);
+        BufferedImage image = render(plot);
+        assertEquals(Color.green.getRGB(), image.getRGB(10, 49));
+        assertEquals(Color.blue.getRGB(), image.getRGB(20, 49));
+        assertEquals(0, image.getRGB(30, 49));
+        assertEquals(0, image.getRGB(11, 49));
+    }
+
     /**
      * Populates the data array with random values.
      *
@@ -46,6 +46,7 @@
  *               testRemoveRangeMarker() (DG);
  * 10-May-2009 : Extended testEquals(), added testCloning3() (DG);
  * 06-Jul-2009 : Added testBug2817504() (DG);
+ * 18-Oct-2026 : Added testDatasetChangedConfiguresMappedAxes();
  *
  */
 
@@ -87,6 +88,7 @@ import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.util.DefaultShadowGenerator;
+import org.jfree.data.Range;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
@@ -1371,5 +1373,40 @@ public class XYPlotTest {
         plot.addRangeMarker(99, yMarker1, Layer.FOREGROUND);
         assertTrue(plot.getRangeMarkers(99, Layer.FOREGROUND).contains(yMarker1));
     }
-    
+
+    /**
+     * Changes to the items in a dataset update the axes the dataset is
+     * mapped to.
+     */
+    @Test
+    public void testDatasetChangedConfiguresMappedAxes() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        XYSeries s2 = new XYSeries("S2");
+        s2.add(1.0, 10.0);
+        s2.add(2.0, 20.0);
+        NumberAxis yAxis0 = new NumberAxis("Y0");
+        yAxis0.setAutoRangeIncludesZero(false);
+        NumberAxis yAxis1 = new NumberAxis("Y1");
+        yAxis1.setAutoRangeIncludesZero(false);
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setAutoRangeIncludesZero(false);
+        XYPlot plot = new XYPlot(new XYSeriesCollection(s1), xAxis, yAxis0,
+                new XYLineAndShapeRenderer());
+        plot.setRangeAxis(1, yAxis1);
+        plot.setDataset(1, new XYSeriesCollection(s2));
+        plot.setRenderer(1, new XYLineAndShapeRenderer());
+        plot.mapDatasetToRangeAxis(1, 1);
+
+        s1.updateByIndex(1, new Double(100.0));
+        assertTrue(yAxis0.getUpperBound() >= 100.0);
+        assertTrue(yAxis1.getUpperBound() < 100.0);
+        Range yRange0 = yAxis0.getRange();
+        s2.add(50.0, 5.0);
+        assertTrue(xAxis.getUpperBound() >= 50.0);
+        assertTrue(yAxis1.getLowerBound() <= 5.0);
+        assertEquals(yRange0, yAxis0.getRange());
+    }
+
 }
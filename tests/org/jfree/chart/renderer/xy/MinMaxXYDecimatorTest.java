@@ -0,0 +1,336 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * MinMaxXYDecimatorTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Iterator;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtilities;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.xy.FastXYSeries;
+import org.jfree.data.xy.FastXYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MinMaxXYDecimator} class.
+ */
+public class MinMaxXYDecimatorTest {
+
+    /**
+     * A renderer that counts the items it is asked to draw on the first
+     * pass.
+     */
+    static class CountingRenderer extends XYLineAndShapeRenderer {
+
+        /** The number of items drawn on the first pass. */
+        int count;
+
+        /**
+         * Creates a renderer that draws lines only.
+         */
+        CountingRenderer() {
+            super(true, false);
+        }
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+                int series, int item, CrosshairState crosshairState,
+                int pass) {
+            if (pass == 0) {
+                this.count++;
+            }
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    /**
+     * Creates a plot with the domain axis fixed at the range 0 to 100.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The plot.
+     */
+    private XYPlot createPlot(XYSeriesCollection dataset) {
+        NumberAxis xAxis = new NumberAxis("X");
+        XYPlot plot = new XYPlot(dataset, xAxis, new NumberAxis("Y"),
+                new XYLineAndShapeRenderer());
+        xAxis.setRange(0.0, 100.0);
+        return plot;
+    }
+
+    /**
+     * Creates a series with 100 items per unit along the x-axis, so that
+     * there are 100 items per pixel in a 100 pixel wide data area.
+     *
+     * @param autoSort  the auto sort flag for the series.
+     *
+     * @return The series.
+     */
+    private XYSeries createSeries(boolean autoSort) {
+        XYSeries s = new XYSeries("S1", autoSort, true);
+        for (int i = 0; i < 10000; i++) {
+            s.add(i / 100.0, (i * 7919) % 1000);
+        }
+        return s;
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        MinMaxXYDecimator d1 = new MinMaxXYDecimator(2.0);
+        MinMaxXYDecimator d2 = new MinMaxXYDecimator(2.0);
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+        assertFalse(d1.equals(new MinMaxXYDecimator(3.0)));
+        assertEquals(new MinMaxXYDecimator(), new MinMaxXYDecimator(4.0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        MinMaxXYDecimator d1 = new MinMaxXYDecimator(2.5);
+        MinMaxXYDecimator d2 = (MinMaxXYDecimator) TestUtilities.serialised(
+                d1);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Each pixel column should contribute its first, minimum, maximum and
+     * last items, in ascending order.
+     */
+    @Test
+    public void testSelectItems() {
+        XYSeries s = createSeries(true);
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        XYPlot plot = createPlot(dataset);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 50.0);
+        MinMaxXYDecimator d = new MinMaxXYDecimator();
+        int[] items = d.selectItems(plot, dataset, 0, 0, 9999,
+                plot.getDomainAxis(), area);
+        assertTrue(items.length <= 4 * 100);
+        assertTrue(items.length >= 2 * 100);
+        assertEquals(0, items[0]);
+        assertEquals(9999, items[items.length - 1]);
+        for (int i = 1; i < items.length; i++) {
+            assertTrue(items[i - 1] < items[i]);
+        }
+
+        // every column keeps its extremes, so the y-range is unchanged
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < items.length; i++) {
+            minY = Math.min(minY, s.getY(items[i]).doubleValue());
+            maxY = Math.max(maxY, s.getY(items[i]).doubleValue());
+        }
+        assertEquals(s.getMinY(), minY, 0.0);
+        assertEquals(s.getMaxY(), maxY, 0.0);
+    }
+
+    /**
+     * Items with a null y-value must survive decimation so that gaps in the
+     * series are still drawn.
+     */
+    @Test
+    public void testSelectItemsWithGap() {
+        XYSeries s = createSeries(true);
+        s.updateByIndex(5050, null);
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        XYPlot plot = createPlot(dataset);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 50.0);
+        int[] items = new MinMaxXYDecimator().selectItems(plot, dataset, 0,
+                0, 9999, plot.getDomainAxis(), area);
+        boolean found = false;
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == 5050) {
+                found = true;
+                assertEquals(5049, items[i - 1]);
+                assertEquals(5051, items[i + 1]);
+            }
+        }
+        assertTrue(found);
+    }
+
+    /**
+     * With a pyramid index the selection still keeps the extremes of the
+     * series, without visiting every item.
+     */
+    @Test
+    public void testSelectItemsWithPyramidIndex() {
+        FastXYSeries s = new FastXYSeries("S1");
+        s.setPyramidIndexEnabled(true);
+        for (int i = 0; i < 100000; i++) {
+            s.add(i / 1000.0, (i * 7919) % 1000, false);
+        }
+        FastXYSeriesCollection dataset = new FastXYSeriesCollection(s);
+        NumberAxis xAxis = new NumberAxis("X");
+        XYPlot plot = new XYPlot(dataset, xAxis, new NumberAxis("Y"),
+                new XYLineAndShapeRenderer());
+        xAxis.setRange(0.0, 100.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 50.0);
+        int[] items = new MinMaxXYDecimator().selectItems(plot, dataset, 0,
+                0, 99999, xAxis, area);
+        assertTrue(items.length <= 4 * 100);
+        assertEquals(0, items[0]);
+        assertEquals(99999, items[items.length - 1]);
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < items.length; i++) {
+            if (i > 0) {
+                assertTrue(items[i - 1] < items[i]);
+            }
+            minY = Math.min(minY, s.getYValue(items[i]));
+            maxY = Math.max(maxY, s.getYValue(items[i]));
+        }
+        assertEquals(s.getMinY(), minY, 0.0);
+        assertEquals(s.getMaxY(), maxY, 0.0);
+    }
+
+    /**
+     * No decimation takes place for small or unordered series.
+     */
+    @Test
+    public void testNoDecimation() {
+        XYSeriesCollection dataset = new XYSeriesCollection(
+                createSeries(true));
+        XYPlot plot = createPlot(dataset);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 50.0);
+        MinMaxXYDecimator d = new MinMaxXYDecimator();
+        assertNull(d.selectItems(plot, dataset, 0, 0, 350,
+                plot.getDomainAxis(), area));
+
+        dataset = new XYSeriesCollection(createSeries(false));
+        plot = createPlot(dataset);
+        assertNull(d.selectItems(plot, dataset, 0, 0, 9999,
+                plot.getDomainAxis(), area));
+    }
+
+    /**
+     * Draws a chart with a decimating renderer and checks that only the
+     * selected items are drawn.
+     */
+    @Test
+    public void testDrawWithDecimator() {
+        XYSeriesCollection dataset = new XYSeriesCollection(
+                createSeries(true));
+        XYPlot plot = createPlot(dataset);
+        CountingRenderer r = new CountingRenderer();
+        r.setDecimator(new MinMaxXYDecimator());
+        plot.setRenderer(r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.createBufferedImage(300, 200);
+        assertTrue(r.count > 0);
+        assertTrue(r.count < 4 * 300);
+    }
+
+    /**
+     * Entities, shapes and item labels need every item (with its index in
+     * the dataset), so they turn the decimation off.
+     */
+    @Test
+    public void testDrawWithoutDecimation() {
+        XYSeriesCollection dataset = new XYSeriesCollection(
+                createSeries(true));
+        XYPlot plot = createPlot(dataset);
+        CountingRenderer r = new CountingRenderer();
+        r.setDecimator(new MinMaxXYDecimator());
+        plot.setRenderer(r);
+        JFreeChart chart = new JFreeChart(plot);
+
+        // entities are collected
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.createBufferedImage(300, 200, info);
+        assertEquals(10000, r.count);
+        int entities = 0;
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            Object entity = iterator.next();
+            if (entity instanceof XYItemEntity) {
+                XYItemEntity xyEntity = (XYItemEntity) entity;
+                assertEquals(entities, xyEntity.getItem());
+                entities++;
+            }
+        }
+        assertEquals(10000, entities);
+
+        // shapes are visible
+        r.count = 0;
+        r.setBaseShapesVisible(true);
+        chart.createBufferedImage(300, 200);
+        assertEquals(10000, r.count);
+
+        // item labels are visible
+        r.count = 0;
+        r.setBaseShapesVisible(false);
+        r.setBaseItemLabelsVisible(true);
+        chart.createBufferedImage(300, 200);
+        assertEquals(10000, r.count);
+
+        // and decimation is back on once they are all off
+        r.count = 0;
+        r.setBaseItemLabelsVisible(false);
+        chart.createBufferedImage(300, 200);
+        assertTrue(r.count < 4 * 300);
+    }
+
+}
@@ -40,6 +40,7 @@
  * 17-May-2007 : Added testGetLegendItemSeriesIndex() (DG);
  * 22-Apr-2008 : Added testPublicCloneable (DG);
  * 10-Jun-2009 : Check new fields (DG);
+ * 18-Oct-2026 : Check decimator field in testEquals();
  *
  */
 
@@ -125,6 +126,11 @@ public class XYAreaRendererTest {
         r2.setGradientTransformer(new StandardGradientPaintTransformer(
                 GradientPaintTransformType.CENTER_VERTICAL));
         assertTrue(r1.equals(r2));
+
+        r1.setDecimator(new MinMaxXYDecimator(2.0));
+        assertFalse(r1.equals(r2));
+        r2.setDecimator(new MinMaxXYDecimator(2.0));
+        assertTrue(r1.equals(r2));
     }
 
     /**
@@ -40,6 +40,7 @@
  * 17-May-2007 : Added testGetLegendItemSeriesIndex() (DG);
  * 22-Apr-2008 : Added testPublicCloneable (DG);
  * 19-Jun-2008 : Added testFindRangeBounds() (DG);
+ * 18-Oct-2026 : Added testBarEntities();
  *
  */
 
@@ -49,13 +50,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.TestUtilities;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.labels.ItemLabelPosition;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
@@ -366,5 +372,42 @@ public class XYBarRendererTest {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * The bars are drawn with a working rectangle from the renderer state
+     * when no entities are collected, check that each entity still has its
+     * own area.
+     */
+    @Test
+    public void testBarEntities() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 2.0);
+        dataset.addSeries(series);
+        dataset.setIntervalWidth(0.5);
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("x"),
+                new NumberAxis("y"), new XYBarRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), info);
+        g2.dispose();
+        Rectangle2D[] bars = new Rectangle2D[2];
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            Object entity = iterator.next();
+            if (entity instanceof XYItemEntity) {
+                XYItemEntity e = (XYItemEntity) entity;
+                bars[e.getItem()] = (Rectangle2D) e.getArea();
+            }
+        }
+        assertTrue(bars[0] != bars[1]);
+        assertEquals(bars[0].getWidth(), bars[1].getWidth(), 0.0001);
+        assertTrue(bars[0].getHeight() < bars[1].getHeight());
+        assertTrue(bars[0].getX() < bars[1].getX());
+    }
 
 }
@@ -38,6 +38,7 @@
  * 09-Mar-2007 : Added independence check to testCloning (DG);
  * 22-Apr-2008 : Added testPublicCloneable (DG);
  * 20-Oct-2011 : Added testFindDomainBounds() and testFindRangeBounds() (DG);
+ * 18-Oct-2026 : Added tests for drawing grids as images;
  *
  */
 
@@ -46,16 +47,30 @@ package org.jfree.chart.renderer.xy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
 
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtilities;
 
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.GrayPaintScale;
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.data.Range;
+import org.jfree.data.general.DefaultHeatMapDataset;
+import org.jfree.data.general.HeatMapXYZDataset;
 import org.jfree.data.xy.DefaultXYZDataset;
+import org.jfree.data.xy.XYZDataset;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.util.PublicCloneable;
@@ -98,6 +113,12 @@ public class XYBlockRendererTest {
         r2.setPaintScale(new GrayPaintScale(0.0, 1.0));
         assertTrue(r1.equals(r2));
 
+        // drawAsImage
+        r1.setDrawAsImage(true);
+        assertFalse(r1.equals(r2));
+        r2.setDrawAsImage(true);
+        assertTrue(r1.equals(r2));
+
     }
 
     /**
@@ -215,5 +236,201 @@ public class XYBlockRendererTest {
         r = renderer.findDomainBounds(dataset);
         assertNull(r);
     }    
-           
+
+    /**
+     * Creates a dataset with a grid of items, ordered by y then x.
+     *
+     * @param xCount  the number of x-values.
+     * @param yCount  the number of y-values.
+     *
+     * @return The dataset.
+     */
+    private DefaultXYZDataset createGrid(int xCount, int yCount) {
+        double[][] data = new double[3][xCount * yCount];
+        for (int y = 0; y < yCount; y++) {
+            for (int x = 0; x < xCount; x++) {
+                int i = y * xCount + x;
+                data[0][i] = 10.0 + x;
+                data[1][i] = 20.0 + y;
+                data[2][i] = (x * 7 + y * 3) % 4 + 0.5;
+            }
+        }
+        DefaultXYZDataset dataset = new DefaultXYZDataset();
+        dataset.addSeries("S1", data);
+        return dataset;
+    }
+
+    /**
+     * Some checks for the grid detection.
+     */
+    @Test
+    public void testFindGrid() {
+        XYBlockRenderer.Grid grid = XYBlockRenderer.Grid.find(
+                createGrid(4, 3), 0, 1.0, 1.0);
+        assertEquals(4, grid.xCount);
+        assertEquals(3, grid.yCount);
+        assertTrue(grid.xFastest);
+        assertEquals(6, grid.getItem(2, 1));
+        assertEquals(2, grid.getXIndex(6));
+        assertEquals(1, grid.getYIndex(6));
+
+        DefaultHeatMapDataset heatMap = new DefaultHeatMapDataset(4, 3, 0.0,
+                4.0, 0.0, 3.0);
+        grid = XYBlockRenderer.Grid.find(new HeatMapXYZDataset("S1", heatMap),
+                0, 1.0, 1.0);
+        assertEquals(4, grid.xCount);
+        assertEquals(3, grid.yCount);
+        assertFalse(grid.xFastest);
+        assertEquals(7, grid.getItem(2, 1));
+        assertNull(XYBlockRenderer.Grid.find(new HeatMapXYZDataset("S1",
+                heatMap), 0, 1.0, 2.0));
+
+        // the spacing must match the block size
+        assertNull(XYBlockRenderer.Grid.find(createGrid(4, 3), 0, 2.0, 1.0));
+
+        // an item out of place
+        DefaultXYZDataset dataset = createGrid(4, 3);
+        double[][] data = new double[][] {{10.0, 11.0, 12.0, 10.0},
+                {20.0, 20.0, 21.0, 21.0}, {1.0, 2.0, 3.0, 4.0}};
+        dataset.addSeries("S2", data);
+        assertNull(XYBlockRenderer.Grid.find(dataset, 1, 1.0, 1.0));
+    }
+
+    /**
+     * Some checks for the findCells() method.
+     */
+    @Test
+    public void testFindCells() {
+        int[] cells = XYBlockRenderer.findCells(new double[] {10.0, 12.0,
+                14.5}, 9, 7);
+        assertEquals(-1, cells[0]);
+        assertEquals(0, cells[1]);
+        assertEquals(0, cells[2]);
+        assertEquals(1, cells[3]);
+        assertEquals(1, cells[4]);
+        assertEquals(-1, cells[5]);
+
+        // descending edges, as for a y-axis
+        cells = XYBlockRenderer.findCells(new double[] {14.5, 12.0, 10.0}, 9,
+                7);
+        assertEquals(-1, cells[0]);
+        assertEquals(1, cells[1]);
+        assertEquals(1, cells[2]);
+        assertEquals(0, cells[3]);
+        assertEquals(0, cells[4]);
+        assertEquals(-1, cells[5]);
+    }
+
+    /**
+     * Draws a chart with a block renderer.
+     *
+     * @param dataset  the dataset.
+     * @param drawAsImage  the renderer's drawAsImage flag.
+     * @param orientation  the plot orientation.
+     * @param info  the rendering info.
+     *
+     * @return The image.
+     */
+    private BufferedImage drawChart(XYZDataset dataset, boolean drawAsImage,
+            PlotOrientation orientation, ChartRenderingInfo info) {
+        XYBlockRenderer renderer = new XYBlockRenderer();
+        LookupPaintScale scale = new LookupPaintScale(0.0, 4.0, Color.white);
+        scale.add(0.0, Color.red);
+        scale.add(1.0, Color.green);
+        scale.add(2.0, Color.blue);
+        scale.add(3.0, Color.yellow);
+        renderer.setPaintScale(scale);
+        renderer.setDrawAsImage(drawAsImage);
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setInverted(true);
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, renderer);
+        plot.setOrientation(orientation);
+        JFreeChart chart = new JFreeChart(null, JFreeChart.DEFAULT_TITLE_FONT,
+                plot, false);
+        BufferedImage image = new BufferedImage(600, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 600, 400), info);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that the image has the same colors as the blocks at the block
+     * centers, and that the same entities are created.
+     */
+    @Test
+    public void testDrawAsImage() {
+        XYZDataset[] datasets = new XYZDataset[] {createGrid(60, 40),
+                new HeatMapXYZDataset("S1", createHeatMap(50, 30))};
+        PlotOrientation[] orientations = new PlotOrientation[] {
+                PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL};
+        for (int d = 0; d < datasets.length; d++) {
+            for (int o = 0; o < orientations.length; o++) {
+                XYZDataset dataset = datasets[d];
+                assertNotNull(XYBlockRenderer.Grid.find(dataset, 0, 1.0,
+                        1.0));
+                ChartRenderingInfo info1 = new ChartRenderingInfo();
+                BufferedImage blocks = drawChart(dataset, false,
+                        orientations[o], info1);
+                ChartRenderingInfo info2 = new ChartRenderingInfo();
+                BufferedImage image = drawChart(dataset, true,
+                        orientations[o], info2);
+                int n = dataset.getItemCount(0);
+                assertEquals(n, countItemEntities(info1));
+                assertEquals(n, countItemEntities(info2));
+                Iterator iterator = info2.getEntityCollection().iterator();
+                while (iterator.hasNext()) {
+                    Object entity = iterator.next();
+                    if (!(entity instanceof XYItemEntity)) {
+                        continue;
+                    }
+                    Rectangle2D r = ((XYItemEntity) entity).getArea()
+                            .getBounds2D();
+                    int x = (int) r.getCenterX();
+                    int y = (int) r.getCenterY();
+                    assertEquals(blocks.getRGB(x, y), image.getRGB(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a heat map.
+     *
+     * @param xCount  the number of x-values.
+     * @param yCount  the number of y-values.
+     *
+     * @return The heat map.
+     */
+    private DefaultHeatMapDataset createHeatMap(int xCount, int yCount) {
+        DefaultHeatMapDataset heatMap = new DefaultHeatMapDataset(xCount,
+                yCount, 0.0, xCount, 0.0, yCount);
+        for (int x = 0; x < xCount; x++) {
+            for (int y = 0; y < yCount; y++) {
+                heatMap.setZValue(x, y, (x * 5 + y) % 4 + 0.5);
+            }
+        }
+        return heatMap;
+    }
+
+    /**
+     * Returns the number of item entities.
+     *
+     * @param info  the rendering info.
+     *
+     * @return The number of entities.
+     */
+    private int countItemEntities(ChartRenderingInfo info) {
+        int result = 0;
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof XYItemEntity) {
+                result++;
+            }
+        }
+        return result;
+    }
+
 }
@@ -39,6 +39,10 @@
  * 21-Feb-2007 : Check independence in testCloning() (DG);
  * 17-May-2007 : Added testGetLegendItemSeriesIndex() (DG);
  * 22-Apr-2008 : Added testPublicCloneable() (DG);
+ * 18-Oct-2026 : Check decimator field in testEquals();
+ * 18-Oct-2026 : Added testDrawWithAndWithoutEntities();
+ * 18-Oct-2026 : Added testDrawSecondaryPassOverride();
+ * 18-Oct-2026 : Added testDrawSecondaryPassWithState();
  *
  */
 
@@ -48,19 +52,33 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
+import java.awt.Graphics2D;
+import java.awt.Shape;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.TestUtilities;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.urls.TimeSeriesURLGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.util.PublicCloneable;
@@ -151,6 +169,11 @@ public class XYLineAndShapeRendererTest {
         assertFalse(r1.equals(r2));
         r2.setDrawSeriesLineAsPath(true);
         assertTrue(r1.equals(r2));
+
+        r1.setDecimator(new MinMaxXYDecimator(2.0));
+        assertFalse(r1.equals(r2));
+        r2.setDecimator(new MinMaxXYDecimator(2.0));
+        assertTrue(r1.equals(r2));
     }
 
     /**
@@ -313,4 +336,135 @@ public class XYLineAndShapeRendererTest {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * When no entities are collected the renderer draws the item shapes
+     * using working shapes from the renderer state - check that the output
+     * is the same, and that the entity areas are not shared.
+     */
+    @Test
+    public void testDrawWithAndWithoutEntities() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int s = 0; s < 3; s++) {
+            XYSeries series = new XYSeries("S" + s);
+            for (int i = 0; i < 10; i++) {
+                series.add(i, i * (s + 1) + s);
+            }
+            dataset.addSeries(series);
+        }
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer();
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("x"),
+                new NumberAxis("y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage image1 = draw(chart, info);
+        BufferedImage image2 = draw(chart, null);
+        for (int x = 0; x < image1.getWidth(); x++) {
+            for (int y = 0; y < image1.getHeight(); y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+        Set areas = new HashSet();
+        int count = 0;
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            Object entity = iterator.next();
+            if (entity instanceof XYItemEntity) {
+                Shape area = ((XYItemEntity) entity).getArea();
+                assertTrue(areas.add(area.getBounds2D()));
+                count++;
+            }
+        }
+        assertEquals(30, count);
+    }
+
+    /**
+     * A subclass that overrides drawSecondaryPass() must have its method
+     * called for each item, with and without entities.
+     */
+    @Test
+    public void testDrawSecondaryPassOverride() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 10; i++) {
+            series.add(i, i);
+        }
+        final List<Integer> items = new ArrayList<Integer>();
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer() {
+            @Override
+            protected void drawSecondaryPass(Graphics2D g2, XYPlot plot,
+                    XYDataset dataset, int pass, int series, int item,
+                    ValueAxis domainAxis, Rectangle2D dataArea,
+                    ValueAxis rangeAxis, CrosshairState crosshairState,
+                    EntityCollection entities) {
+                items.add(item);
+            }
+        };
+        XYPlot plot = new XYPlot(new XYSeriesCollection(series),
+                new NumberAxis("x"), new NumberAxis("y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        draw(chart, null);
+        assertEquals(10, items.size());
+        items.clear();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        draw(chart, info);
+        assertEquals(10, items.size());
+        // the override replaces the default, so no item entities are added
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            assertFalse(iterator.next() instanceof XYItemEntity);
+        }
+    }
+
+    /**
+     * The renderer state is passed to the drawSecondaryPass() overload that
+     * accepts it, when the other overload is not overridden.
+     */
+    @Test
+    public void testDrawSecondaryPassWithState() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 10; i++) {
+            series.add(i, i);
+        }
+        final List<XYItemRendererState> states
+                = new ArrayList<XYItemRendererState>();
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer() {
+            @Override
+            protected void drawSecondaryPass(XYItemRendererState state,
+                    Graphics2D g2, XYPlot plot, XYDataset dataset, int pass,
+                    int series, int item, ValueAxis domainAxis,
+                    Rectangle2D dataArea, ValueAxis rangeAxis,
+                    CrosshairState crosshairState,
+                    EntityCollection entities) {
+                states.add(state);
+                super.drawSecondaryPass(state, g2, plot, dataset, pass,
+                        series, item, domainAxis, dataArea, rangeAxis,
+                        crosshairState, entities);
+            }
+        };
+        XYPlot plot = new XYPlot(new XYSeriesCollection(series),
+                new NumberAxis("x"), new NumberAxis("y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        draw(chart, null);
+        assertEquals(10, states.size());
+        for (XYItemRendererState state : states) {
+            assertTrue(state != null);
+        }
+    }
+
+    /**
+     * Draws a chart to an image.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info (<code>null</code> permitted).
+     *
+     * @return The image.
+     */
+    private BufferedImage draw(JFreeChart chart, ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), info);
+        g2.dispose();
+        return image;
+    }
+
 }
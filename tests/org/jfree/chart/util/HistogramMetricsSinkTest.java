@@ -0,0 +1,228 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * HistogramMetricsSinkTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link HistogramMetricsSink} and {@link RenderMetrics}
+ * classes.
+ */
+public class HistogramMetricsSinkTest {
+
+    /**
+     * Some checks for the histogram statistics.
+     */
+    @Test
+    public void testHistogram() {
+        HistogramMetricsSink sink = new HistogramMetricsSink();
+        assertNull(sink.getHistogram("a"));
+        for (int i = 1; i <= 100; i++) {
+            sink.recordCount("a", i);
+        }
+        sink.recordTime("b", 5000L);
+        assertEquals(2, sink.getNames().size());
+        assertEquals("a", sink.getNames().get(0));
+
+        HistogramMetricsSink.Histogram h = sink.getHistogram("a");
+        assertEquals(100L, h.getCount());
+        assertEquals(5050L, h.getTotal());
+        assertEquals(1L, h.getMinimum());
+        assertEquals(100L, h.getMaximum());
+        assertEquals(50.5, h.getMean(), 1e-9);
+        assertEquals(false, h.isTime());
+        // 1 is in bucket 1, 2-3 in bucket 2, 64-100 in bucket 7
+        assertEquals(1L, h.getBucketCount(1));
+        assertEquals(2L, h.getBucketCount(2));
+        assertEquals(37L, h.getBucketCount(7));
+        assertEquals(63L, h.getPercentile(50.0));
+        assertEquals(100L, h.getPercentile(99.0));
+        assertEquals(1L, h.getPercentile(0.0));
+
+        // the histogram is a copy
+        sink.recordCount("a", 1000);
+        assertEquals(100L, h.getCount());
+        assertEquals(101L, sink.getHistogram("a").getCount());
+
+        assertTrue(sink.getHistogram("b").isTime());
+        assertTrue(sink.toString().contains("b: count=1, total=5.0"));
+
+        sink.reset();
+        assertEquals(0, sink.getNames().size());
+    }
+
+    /**
+     * Creates a chart for testing.
+     *
+     * @return A chart.
+     */
+    private static JFreeChart createChart() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i % 7);
+        }
+        return ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+    }
+
+    /**
+     * Check that drawing a chart with a sink records the drawing metrics.
+     */
+    @Test
+    public void testChartMetrics() {
+        JFreeChart chart = createChart();
+        HistogramMetricsSink sink = new HistogramMetricsSink();
+        chart.setMetricsSink(sink);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info);
+        g2.dispose();
+
+        assertEquals(1L, sink.getHistogram(RenderMetrics.CHART_DRAW)
+                .getCount());
+        assertEquals(1L, sink.getHistogram(RenderMetrics.CHART_TITLES)
+                .getCount());
+        assertEquals(1L, sink.getHistogram(RenderMetrics.PLOT_DRAW)
+                .getCount());
+        assertTrue(sink.getHistogram(RenderMetrics.AXIS_TICKS).getCount()
+                >= 2);
+        assertTrue(sink.getHistogram(RenderMetrics.AXIS_TICK_COUNT)
+                .getTotal() > 0);
+        assertEquals(1L, sink.getHistogram(RenderMetrics.RENDERER_PASS)
+                .getCount());
+        // the line renderer has two passes
+        assertEquals(200L, sink.getHistogram(RenderMetrics.ITEMS_DRAWN)
+                .getTotal());
+        assertEquals(0L, sink.getHistogram(RenderMetrics.ITEMS_SKIPPED)
+                .getTotal());
+        assertEquals(info.getEntityCollection().getEntityCount(),
+                sink.getHistogram(RenderMetrics.ENTITIES_CREATED)
+                .getTotal());
+
+        // the sink is only bound while the chart is drawn
+        assertNull(RenderMetrics.getSink());
+
+        // no metrics are recorded without a sink
+        sink.reset();
+        chart.setMetricsSink(null);
+        chart.createBufferedImage(400, 300);
+        assertEquals(0, sink.getNames().size());
+    }
+
+    /**
+     * Check that items outside the axis range are counted as skipped.
+     */
+    @Test
+    public void testItemsSkipped() {
+        JFreeChart chart = createChart();
+        chart.getXYPlot().getDomainAxis().setRange(10.0, 19.0);
+        HistogramMetricsSink sink = new HistogramMetricsSink();
+        chart.setMetricsSink(sink);
+        chart.createBufferedImage(400, 300);
+        // items 9 to 20 are drawn (including one either side of the range)
+        assertEquals(24L, sink.getHistogram(RenderMetrics.ITEMS_DRAWN)
+                .getTotal());
+        assertEquals(176L, sink.getHistogram(RenderMetrics.ITEMS_SKIPPED)
+                .getTotal());
+    }
+
+    /**
+     * Some checks for the bind() and unbind() methods, and for the encoder
+     * metrics.
+     *
+     * @throws IOException if there is an encoding problem.
+     */
+    @Test
+    public void testBind() throws IOException {
+        assertNull(RenderMetrics.getSink());
+        HistogramMetricsSink s1 = new HistogramMetricsSink();
+        HistogramMetricsSink s2 = new HistogramMetricsSink();
+        MetricsSink previous1 = RenderMetrics.bind(s1);
+        try {
+            assertNull(previous1);
+            assertSame(s1, RenderMetrics.getSink());
+            MetricsSink previous2 = RenderMetrics.bind(s2);
+            assertSame(s1, previous2);
+            assertSame(s2, RenderMetrics.getSink());
+            RenderMetrics.unbind(previous2);
+            assertSame(s1, RenderMetrics.getSink());
+
+            // a chart without its own sink uses the bound sink, and so does
+            // the encoder
+            byte[] png = ChartUtilities.encodeAsPNG(
+                    createChart().createBufferedImage(200, 100));
+            assertEquals(1L, s1.getHistogram(RenderMetrics.CHART_DRAW)
+                    .getCount());
+            assertEquals(1L, s1.getHistogram(RenderMetrics.ENCODE)
+                    .getCount());
+            assertEquals(png.length, s1.getHistogram(
+                    RenderMetrics.ENCODED_BYTES).getTotal());
+        }
+        finally {
+            RenderMetrics.unbind(previous1);
+        }
+        assertNull(RenderMetrics.getSink());
+        EncoderUtil.encode(new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB), ImageFormat.PNG);
+        assertEquals(1L, s1.getHistogram(RenderMetrics.ENCODE).getCount());
+        assertNull(s2.getHistogram(RenderMetrics.ENCODE));
+    }
+
+}
@@ -38,13 +38,21 @@
  * 08-Mar-2007 : Added testCloning() (DG);
  * 21-Nov-2007 : Added testBug1835955() method (DG);
  * 09-May-2008 : Added testPublicCloneable() (DG);
+ * 18-Oct-2026 : Added testBatch();
+ * 18-Oct-2026 : Added testChangeEventDetails();
  *
  */
 
 package org.jfree.data.category;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jfree.chart.TestUtilities;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.util.PublicCloneable;
 
 import static org.junit.Assert.assertEquals;
@@ -374,4 +382,67 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+    /**
+     * A batch of changes sends a single event.
+     */
+    @Test
+    public void testBatch() {
+        final List events = new ArrayList();
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                events.add(event);
+            }
+        });
+        d.beginBatch();
+        for (int i = 0; i < 100; i++) {
+            d.addValue(i, "R" + (i % 3), "C" + i);
+        }
+        assertTrue(events.isEmpty());
+        d.endBatch();
+        assertEquals(1, events.size());
+        assertEquals(100, d.getColumnCount());
+    }
+
+
+    /**
+     * Changes to existing values are reported as updates to one item, other
+     * changes as structural changes.
+     */
+    @Test
+    public void testChangeEventDetails() {
+        final List events = new ArrayList();
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        d.addValue(3.0, "R2", "C1");
+        d.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                events.add(event);
+            }
+        });
+        d.setValue(4.0, "R2", "C1");
+        d.incrementValue(1.0, "R1", "C2");
+        d.addValue(5.0, "R3", "C1");
+        d.addValue(6.0, "R1", "C3");
+        d.removeValue("R1", "C1");
+        assertEquals(5, events.size());
+        DatasetChangeEvent e = (DatasetChangeEvent) events.get(0);
+        assertEquals(SeriesChangeType.UPDATE, e.getType());
+        assertEquals(1, e.getSeries());
+        assertEquals(0, e.getFirstItem());
+        assertEquals(0, e.getLastItem());
+        e = (DatasetChangeEvent) events.get(1);
+        assertEquals(SeriesChangeType.UPDATE, e.getType());
+        assertEquals(0, e.getSeries());
+        assertEquals(1, e.getFirstItem());
+        assertEquals(1, e.getLastItem());
+        for (int i = 2; i < 5; i++) {
+            e = (DatasetChangeEvent) events.get(i);
+            assertEquals(SeriesChangeType.STRUCTURE, e.getType());
+        }
+    }
+
 }
@@ -0,0 +1,303 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * DenseCategoryDatasetTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.util.PublicCloneable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DenseCategoryDataset} class.
+ */
+public class DenseCategoryDatasetTest {
+
+    /**
+     * Some checks for the getValue() methods.
+     */
+    @Test
+    public void testGetValue() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(new Integer(2), "R1", "C2");
+        d.addValue(null, "R2", "C1");
+        assertEquals(new Double(1.0), d.getValue("R1", "C1"));
+        assertEquals(new Double(2.0), d.getValue(0, 1));
+        assertNull(d.getValue("R2", "C1"));
+        assertNull(d.getValue("R2", "C2"));
+        assertTrue(Double.isNaN(d.getDoubleValue(1, 1)));
+        assertEquals(1, d.getRowIndex("R2"));
+        assertEquals(-1, d.getRowIndex("XX"));
+        assertEquals(-1, d.getColumnIndex("XX"));
+        try {
+            d.getValue("XX", "C1");
+            fail("Expected an UnknownKeyException.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        try {
+            d.getValue("R1", "XX");
+            fail("Expected an UnknownKeyException.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        try {
+            d.getValue(0, 2);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the incrementValue() method.
+     */
+    @Test
+    public void testIncrementValue() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(null, "R1", "C2");
+        d.incrementValue(2.0, "R1", "C1");
+        d.incrementValue(3.0, "R1", "C2");
+        assertEquals(new Double(3.0), d.getValue("R1", "C1"));
+        assertEquals(new Double(3.0), d.getValue("R1", "C2"));
+    }
+
+    /**
+     * A sequence of random changes gives the same content as the same
+     * changes to a {@link DefaultCategoryDataset}, including when the
+     * matrix has to grow.
+     */
+    @Test
+    public void testCompareWithDefault() {
+        DenseCategoryDataset dense = new DenseCategoryDataset(1, 1);
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        Random random = new Random(42L);
+        for (int i = 0; i < 2000; i++) {
+            String row = "R" + random.nextInt(30);
+            String column = "C" + random.nextInt(40);
+            int op = random.nextInt(20);
+            if (op == 0 && d.getRowIndex(row) >= 0) {
+                d.removeRow(row);
+                dense.removeRow(row);
+            }
+            else if (op == 1 && d.getColumnIndex(column) >= 0) {
+                d.removeColumn(column);
+                dense.removeColumn(column);
+            }
+            else if (op == 2 && d.getRowIndex(row) >= 0
+                    && d.getColumnIndex(column) >= 0) {
+                d.removeValue(row, column);
+                dense.removeValue(row, column);
+            }
+            else {
+                Double value = new Double(random.nextInt(1000));
+                d.setValue(value, row, column);
+                dense.setValue(value, row, column);
+            }
+            assertTrue(dense.equals(d));
+        }
+        assertTrue(d.equals(dense));
+        assertEquals(DatasetUtilities.iterateRangeBounds(d),
+                DatasetUtilities.findRangeBounds(dense));
+    }
+
+    /**
+     * Some checks for the removeRow() and removeColumn() methods.
+     */
+    @Test
+    public void testRemoveRowAndColumn() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        d.addValue(3.0, "R2", "C1");
+        d.addValue(4.0, "R2", "C2");
+        d.addValue(5.0, "R3", "C3");
+        d.removeRow("R1");
+        assertEquals(Arrays.asList(new String[] {"R2", "R3"}),
+                d.getRowKeys());
+        assertEquals(0, d.getRowIndex("R2"));
+        assertEquals(new Double(4.0), d.getValue("R2", "C2"));
+        d.removeColumn(0);
+        assertEquals(Arrays.asList(new String[] {"C2", "C3"}),
+                d.getColumnKeys());
+        assertEquals(new Double(4.0), d.getValue(0, 0));
+        assertEquals(new Double(5.0), d.getValue("R3", "C3"));
+        assertEquals(1, d.getColumnIndex("C3"));
+        try {
+            d.removeRow("XX");
+            fail("Expected an UnknownKeyException.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        try {
+            d.removeColumn("XX");
+            fail("Expected an UnknownKeyException.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        d.clear();
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+        d.addValue(6.0, "R1", "C1");
+        assertEquals(new Double(6.0), d.getValue(0, 0));
+    }
+
+    /**
+     * Some checks for the range bounds.
+     */
+    @Test
+    public void testRangeBounds() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        assertNull(DatasetUtilities.findRangeBounds(d));
+        assertTrue(Double.isNaN(d.getRangeLowerBound(false)));
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(-2.0, "R1", "C2");
+        d.addValue(7.0, "R2", "C1");
+        d.addValue(Double.NaN, "R2", "C2");
+        assertEquals(new Range(-2.0, 7.0), DatasetUtilities.findRangeBounds(
+                d));
+        List visible = new ArrayList();
+        visible.add("R1");
+        assertEquals(new Range(-2.0, 1.0), DatasetUtilities.findRangeBounds(
+                d, visible, true));
+        assertEquals(7.0, d.getRangeUpperBound(true), 0.0);
+    }
+
+    /**
+     * Changes to existing values are reported as updates to one item, other
+     * changes as structural changes.
+     */
+    @Test
+    public void testChangeEventDetails() {
+        final List events = new ArrayList();
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(3.0, "R2", "C1");
+        d.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                events.add(event);
+            }
+        });
+        d.setValue(4.0, "R2", "C1");
+        d.addValue(5.0, "R3", "C1");
+        assertEquals(2, events.size());
+        DatasetChangeEvent e = (DatasetChangeEvent) events.get(0);
+        assertEquals(SeriesChangeType.UPDATE, e.getType());
+        assertEquals(1, e.getSeries());
+        assertEquals(0, e.getFirstItem());
+        e = (DatasetChangeEvent) events.get(1);
+        assertEquals(SeriesChangeType.STRUCTURE, e.getType());
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        d1.setValue(23.4, "R1", "C1");
+        DenseCategoryDataset d2 = new DenseCategoryDataset();
+        d2.setValue(23.4, "R1", "C1");
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d2.setValue(36.5, "R1", "C1");
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        d1.setValue(23.4, "R1", "C1");
+        d1.setValue(null, "R2", "C2");
+        DenseCategoryDataset d2 = (DenseCategoryDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(1, d2.getRowIndex("R2"));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        d1.setValue(1.0, "R1", "C1");
+        d1.setValue(2.0, "R1", "C2");
+        DenseCategoryDataset d2 = (DenseCategoryDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.setValue(3.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.addValue(4.0, "R2", "C1");
+        assertEquals(1, d1.getRowCount());
+        assertTrue(d2 instanceof PublicCloneable);
+    }
+
+}
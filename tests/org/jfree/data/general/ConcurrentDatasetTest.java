@@ -0,0 +1,462 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * ConcurrentDatasetTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 18-Oct-2026 : Added testFastXYSeriesCollection(), testSnapshotReused()
+ *               and testDataRangeFromSnapshot();
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.FastXYSeries;
+import org.jfree.data.xy.FastXYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Stress tests for the {@link ConcurrentDataset} implementations, with one
+ * thread modifying the series while another thread draws charts and reads
+ * snapshots.
+ */
+public class ConcurrentDatasetTest {
+
+    /** The number of times the chart is drawn by each test. */
+    private static final int DRAW_COUNT = 200;
+
+    /**
+     * A thread that modifies an {@link XYSeries} until it is stopped.
+     */
+    static class XYSeriesWriter extends Thread {
+
+        /** The series. */
+        private XYSeries series;
+
+        /** A flag that stops the thread. */
+        private volatile boolean stopped;
+
+        /** The error thrown by the thread, if any. */
+        private volatile Throwable error;
+
+        /**
+         * Creates a new writer.
+         *
+         * @param series  the series.
+         */
+        XYSeriesWriter(XYSeries series) {
+            this.series = series;
+        }
+
+        @Override
+        public void run() {
+            try {
+                double x = 0.0;
+                while (!this.stopped) {
+                    x = x + 1.0;
+                    this.series.add(x, Math.sin(x / 10.0));
+                    int count = this.series.getItemCount();
+                    if (x % 7 == 0) {
+                        this.series.updateByIndex(count / 2,
+                                new Double(x % 13));
+                    }
+                    if (x % 11 == 0 && count > 2) {
+                        this.series.remove(count / 3);
+                    }
+                }
+            }
+            catch (Throwable t) {
+                this.error = t;
+            }
+        }
+
+    }
+
+    /**
+     * A thread that appends to a {@link TimeSeries} until it is stopped.
+     */
+    static class TimeSeriesWriter extends Thread {
+
+        /** The series. */
+        private TimeSeries series;
+
+        /** A flag that stops the thread. */
+        private volatile boolean stopped;
+
+        /** The error thrown by the thread, if any. */
+        private volatile Throwable error;
+
+        /**
+         * Creates a new writer.
+         *
+         * @param series  the series.
+         */
+        TimeSeriesWriter(TimeSeries series) {
+            this.series = series;
+        }
+
+        @Override
+        public void run() {
+            try {
+                RegularTimePeriod period = new Millisecond();
+                int i = 0;
+                while (!this.stopped) {
+                    period = period.next();
+                    this.series.add(period, i % 17);
+                    if (i % 5 == 0) {
+                        this.series.addOrUpdate(period, i % 3);
+                    }
+                    i++;
+                }
+            }
+            catch (Throwable t) {
+                this.error = t;
+            }
+        }
+
+    }
+
+    /**
+     * A thread that modifies a {@link FastXYSeries} until it is stopped.
+     */
+    static class FastXYSeriesWriter extends Thread {
+
+        /** The series. */
+        private FastXYSeries series;
+
+        /** A flag that stops the thread. */
+        private volatile boolean stopped;
+
+        /** The error thrown by the thread, if any. */
+        private volatile Throwable error;
+
+        /**
+         * Creates a new writer.
+         *
+         * @param series  the series.
+         */
+        FastXYSeriesWriter(FastXYSeries series) {
+            this.series = series;
+        }
+
+        @Override
+        public void run() {
+            try {
+                double x = 0.0;
+                while (!this.stopped) {
+                    x = x + 1.0;
+                    this.series.add(x, Math.sin(x / 10.0));
+                    int count = this.series.getItemCount();
+                    if (x % 7 == 0) {
+                        this.series.updateByIndex(count / 2, x % 13);
+                    }
+                    if (x % 11 == 0 && count > 2) {
+                        this.series.remove(count / 3);
+                    }
+                }
+            }
+            catch (Throwable t) {
+                this.error = t;
+            }
+        }
+
+    }
+
+    /**
+     * Draws a chart into an image.
+     *
+     * @param chart  the chart.
+     * @param image  the image.
+     */
+    private static void draw(JFreeChart chart, BufferedImage image) {
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, image.getWidth(),
+                image.getHeight()));
+        g2.dispose();
+    }
+
+    /**
+     * A chart is drawn repeatedly while another thread appends, updates and
+     * removes items, and every snapshot read along the way is consistent.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testXYSeriesCollection() throws InterruptedException {
+        XYSeries series = new XYSeries("S1");
+        series.setMaximumItemCount(2000);
+        series.setConcurrent(true);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        assertTrue(dataset.isConcurrent());
+        JFreeChart chart = ChartFactory.createXYLineChart("Test", "X", "Y",
+                dataset);
+        ((XYPlot) chart.getPlot()).getRenderer().setBaseToolTipGenerator(
+                null);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        XYSeriesWriter writer = new XYSeriesWriter(series);
+        writer.start();
+        try {
+            for (int i = 0; i < DRAW_COUNT && writer.isAlive(); i++) {
+                draw(chart, image);
+                XYSeriesCollection snapshot
+                        = (XYSeriesCollection) dataset.getSnapshot();
+                int count = snapshot.getItemCount(0);
+                double previous = Double.NEGATIVE_INFINITY;
+                double minY = Double.POSITIVE_INFINITY;
+                double maxY = Double.NEGATIVE_INFINITY;
+                for (int item = 0; item < count; item++) {
+                    double x = snapshot.getXValue(0, item);
+                    assertTrue(x > previous);
+                    previous = x;
+                    minY = Math.min(minY, snapshot.getYValue(0, item));
+                    maxY = Math.max(maxY, snapshot.getYValue(0, item));
+                }
+                assertEquals(count, snapshot.getItemCount(0));
+                if (count > 0) {
+                    XYSeries s = snapshot.getSeries(0);
+                    assertEquals(minY, s.getMinY(), 0.0);
+                    assertEquals(maxY, s.getMaxY(), 0.0);
+                }
+            }
+        }
+        finally {
+            writer.stopped = true;
+            writer.join();
+        }
+        assertNull(writer.error);
+    }
+
+    /**
+     * A time series chart is drawn repeatedly while another thread appends
+     * and updates items.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testTimeSeriesCollection() throws InterruptedException {
+        TimeSeries series = new TimeSeries("S1");
+        series.setMaximumItemCount(2000);
+        series.setConcurrent(true);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(series);
+        assertTrue(dataset.isConcurrent());
+        JFreeChart chart = ChartFactory.createTimeSeriesChart("Test", "Time",
+                "Value", dataset);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        TimeSeriesWriter writer = new TimeSeriesWriter(series);
+        writer.start();
+        try {
+            for (int i = 0; i < DRAW_COUNT && writer.isAlive(); i++) {
+                draw(chart, image);
+                TimeSeriesCollection snapshot
+                        = (TimeSeriesCollection) dataset.getSnapshot();
+                int count = snapshot.getItemCount(0);
+                long previous = Long.MIN_VALUE;
+                for (int item = 0; item < count; item++) {
+                    long x = snapshot.getX(0, item).longValue();
+                    assertTrue(x > previous);
+                    previous = x;
+                }
+                assertEquals(count, snapshot.getItemCount(0));
+                assertTrue(count <= 2000);
+            }
+        }
+        finally {
+            writer.stopped = true;
+            writer.join();
+        }
+        assertNull(writer.error);
+    }
+
+    /**
+     * A chart is drawn repeatedly while another thread appends, updates and
+     * removes items in a {@link FastXYSeries}.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testFastXYSeriesCollection() throws InterruptedException {
+        FastXYSeries series = new FastXYSeries("S1");
+        series.setMaximumItemCount(2000);
+        series.setConcurrent(true);
+        FastXYSeriesCollection dataset = new FastXYSeriesCollection(series);
+        assertTrue(dataset.isConcurrent());
+        JFreeChart chart = ChartFactory.createXYLineChart("Test", "X", "Y",
+                dataset);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        FastXYSeriesWriter writer = new FastXYSeriesWriter(series);
+        writer.start();
+        try {
+            for (int i = 0; i < DRAW_COUNT && writer.isAlive(); i++) {
+                draw(chart, image);
+                FastXYSeriesCollection snapshot
+                        = (FastXYSeriesCollection) dataset.getSnapshot();
+                int count = snapshot.getItemCount(0);
+                double previous = Double.NEGATIVE_INFINITY;
+                double minY = Double.POSITIVE_INFINITY;
+                double maxY = Double.NEGATIVE_INFINITY;
+                for (int item = 0; item < count; item++) {
+                    double x = snapshot.getXValue(0, item);
+                    assertTrue(x > previous);
+                    previous = x;
+                    minY = Math.min(minY, snapshot.getYValue(0, item));
+                    maxY = Math.max(maxY, snapshot.getYValue(0, item));
+                }
+                assertEquals(count, snapshot.getItemCount(0));
+                assertTrue(count <= 2000);
+                if (count > 0) {
+                    FastXYSeries s = snapshot.getSeries(0);
+                    assertEquals(minY, s.getMinY(), 0.0);
+                    assertEquals(maxY, s.getMaxY(), 0.0);
+                }
+            }
+        }
+        finally {
+            writer.stopped = true;
+            writer.join();
+        }
+        assertNull(writer.error);
+    }
+
+    /**
+     * The collections reuse their snapshot until the data or the collection
+     * settings change.
+     */
+    @Test
+    public void testSnapshotReused() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.setConcurrent(true);
+        s1.add(1.0, 1.0);
+        XYSeriesCollection d1 = new XYSeriesCollection(s1);
+        Dataset snapshot = d1.getSnapshot();
+        assertSame(snapshot, d1.getSnapshot());
+        s1.add(2.0, 2.0);
+        assertNotSame(snapshot, d1.getSnapshot());
+        snapshot = d1.getSnapshot();
+        d1.setIntervalWidth(0.5);
+        assertNotSame(snapshot, d1.getSnapshot());
+        snapshot = d1.getSnapshot();
+        d1.addSeries(new XYSeries("S2"));
+        assertNotSame(snapshot, d1.getSnapshot());
+
+        TimeSeries s2 = new TimeSeries("S1");
+        s2.setConcurrent(true);
+        s2.add(new Millisecond(), 1.0);
+        TimeSeriesCollection d2 = new TimeSeriesCollection(s2);
+        snapshot = d2.getSnapshot();
+        assertSame(snapshot, d2.getSnapshot());
+        s2.add(new Millisecond().next(), 2.0);
+        assertNotSame(snapshot, d2.getSnapshot());
+        snapshot = d2.getSnapshot();
+        d2.setXPosition(TimePeriodAnchor.END);
+        assertNotSame(snapshot, d2.getSnapshot());
+
+        FastXYSeries s3 = new FastXYSeries("S1");
+        s3.setConcurrent(true);
+        s3.add(1.0, 1.0);
+        FastXYSeriesCollection d3 = new FastXYSeriesCollection(s3);
+        snapshot = d3.getSnapshot();
+        assertSame(snapshot, d3.getSnapshot());
+        s3.updateByIndex(0, 2.0);
+        assertNotSame(snapshot, d3.getSnapshot());
+        assertEquals(2.0, ((XYDataset) d3.getSnapshot()).getYValue(0, 0),
+                0.0);
+    }
+
+    /**
+     * The plot finds the axis ranges from the same snapshot that the
+     * renderer draws.
+     */
+    @Test
+    public void testDataRangeFromSnapshot() {
+        XYSeries series = new XYSeries("S1");
+        series.setConcurrent(true);
+        series.add(1.0, 1.0);
+        series.add(2.0, 5.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        final XYDataset[] bounded = new XYDataset[1];
+        final XYDataset[] drawn = new XYDataset[1];
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer() {
+            @Override
+            public Range findRangeBounds(XYDataset d) {
+                bounded[0] = d;
+                return super.findRangeBounds(d);
+            }
+            @Override
+            public XYItemRendererState initialise(Graphics2D g2,
+                    Rectangle2D dataArea, XYPlot plot, XYDataset d,
+                    PlotRenderingInfo info) {
+                drawn[0] = d;
+                return super.initialise(g2, dataArea, plot, d, info);
+            }
+        };
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        draw(chart, new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB));
+        assertNotSame(dataset, bounded[0]);
+        assertSame(bounded[0], drawn[0]);
+        assertEquals(new Range(1.0, 5.0), plot.getDataRange(
+                plot.getRangeAxis()));
+    }
+
+}
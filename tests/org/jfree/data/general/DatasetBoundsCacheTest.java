@@ -0,0 +1,293 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DatasetBoundsCacheTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DatasetBoundsCache} class.
+ */
+public class DatasetBoundsCacheTest {
+
+    /** The dataset used in the tests. */
+    private XYSeriesCollection dataset;
+
+    /** The series keys. */
+    private List keys;
+
+    /**
+     * Creates a dataset with two series and resets the statistics.
+     */
+    @Before
+    public void setUp() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 4.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 6.0);
+        XYSeries s2 = new XYSeries("S2");
+        s2.add(1.5, -1.0);
+        s2.add(2.5, 3.0);
+        this.dataset = new XYSeriesCollection();
+        this.dataset.addSeries(s1);
+        this.dataset.addSeries(s2);
+        this.keys = new ArrayList();
+        this.keys.add("S1");
+        this.keys.add("S2");
+        DatasetBoundsCache.setEnabled(true);
+        DatasetBoundsCache.resetStatistics();
+    }
+
+    /**
+     * Restores the default settings.
+     */
+    @After
+    public void tearDown() {
+        DatasetBoundsCache.setEnabled(true);
+    }
+
+    /**
+     * Checks the cached bounds against the bounds found by iteration.
+     *
+     * @param xRange  the x-range for the range bounds.
+     */
+    private void checkBounds(Range xRange) {
+        assertEquals(DatasetUtilities.iterateToFindDomainBounds(this.dataset,
+                this.keys, false), DatasetUtilities.findDomainBounds(
+                this.dataset, this.keys, false));
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(this.dataset,
+                this.keys, xRange, false), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, xRange, false));
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(this.dataset,
+                this.keys, xRange, true), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, xRange, true));
+    }
+
+    /**
+     * A repeated query is answered from the cache.
+     */
+    @Test
+    public void testHitAndMiss() {
+        Range xRange = new Range(0.0, 10.0);
+        assertEquals(new Range(-1.0, 6.0), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, xRange, false));
+        assertEquals(2, DatasetBoundsCache.getMissCount());
+        assertEquals(0, DatasetBoundsCache.getHitCount());
+        assertEquals(new Range(-1.0, 6.0), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, xRange, false));
+        assertEquals(2, DatasetBoundsCache.getMissCount());
+        assertEquals(2, DatasetBoundsCache.getHitCount());
+
+        // a different x-range that still covers all the items is a hit...
+        DatasetUtilities.findRangeBounds(this.dataset, this.keys,
+                new Range(0.5, 3.5), false);
+        assertEquals(4, DatasetBoundsCache.getHitCount());
+
+        // ...but one that excludes some items is not
+        assertEquals(new Range(-1.0, 4.0), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, new Range(0.5, 1.5), false));
+        assertEquals(4, DatasetBoundsCache.getMissCount());
+
+        assertEquals(new Range(1.0, 3.0), DatasetUtilities.findDomainBounds(
+                this.dataset, this.keys, false));
+        assertEquals(new Range(1.0, 3.0), DatasetUtilities.findDomainBounds(
+                this.dataset, this.keys, false));
+        assertEquals(6, DatasetBoundsCache.getMissCount());
+        assertEquals(6, DatasetBoundsCache.getHitCount());
+    }
+
+    /**
+     * Appending items updates the cached bounds without a full scan.
+     */
+    @Test
+    public void testAppend() {
+        Range xRange = new Range(0.0, 10.0);
+        checkBounds(xRange);
+        long misses = DatasetBoundsCache.getMissCount();
+        XYSeries s1 = this.dataset.getSeries(0);
+        s1.add(4.0, 9.0);
+        s1.add(5.0, -3.0);
+        assertEquals(6, DatasetBoundsCache.getIncrementalUpdateCount());
+        checkBounds(xRange);
+        assertEquals(new Range(-3.0, 9.0), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, xRange, false));
+        assertEquals(misses, DatasetBoundsCache.getMissCount());
+
+        // an item inserted before the end cannot be applied incrementally
+        s1.add(0.5, 20.0);
+        checkBounds(xRange);
+        assertEquals(misses + 6, DatasetBoundsCache.getMissCount());
+    }
+
+    /**
+     * Appending to a series with a maximum item count drops the first item,
+     * so the cached bounds must be recalculated.
+     */
+    @Test
+    public void testAppendWithMaximumItemCount() {
+        XYSeries s1 = this.dataset.getSeries(0);
+        s1.setMaximumItemCount(3);
+        Range xRange = new Range(0.0, 10.0);
+        checkBounds(xRange);
+        s1.add(4.0, 1.0);
+        assertEquals(0, DatasetBoundsCache.getIncrementalUpdateCount());
+        checkBounds(xRange);
+        assertEquals(new Range(1.0, 6.0), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, new Range(1.8, 10.0), false));
+    }
+
+    /**
+     * Updates and removals discard the cached bounds for the series.
+     */
+    @Test
+    public void testUpdateAndRemove() {
+        Range xRange = new Range(0.0, 10.0);
+        checkBounds(xRange);
+        XYSeries s1 = this.dataset.getSeries(0);
+        s1.updateByIndex(2, new Double(1.0));
+        checkBounds(xRange);
+        assertEquals(new Range(-1.0, 4.0), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, xRange, false));
+        s1.remove(0);
+        checkBounds(xRange);
+        s1.addOrUpdate(3.0, 7.0);
+        checkBounds(xRange);
+        s1.delete(0, 2);
+        checkBounds(xRange);
+        this.dataset.getSeries(1).clear();
+        assertNull(DatasetUtilities.findRangeBounds(this.dataset, this.keys,
+                xRange, false));
+        checkBounds(xRange);
+    }
+
+    /**
+     * Updates to the y-values keep the cached domain bounds.
+     */
+    @Test
+    public void testUpdateKeepsDomainBounds() {
+        Range xRange = new Range(0.0, 10.0);
+        checkBounds(xRange);
+        long hits = DatasetBoundsCache.getHitCount();
+        long misses = DatasetBoundsCache.getMissCount();
+        this.dataset.getSeries(0).updateByIndex(0, new Double(10.0));
+        assertEquals(new Range(1.0, 3.0), DatasetUtilities.findDomainBounds(
+                this.dataset, this.keys, false));
+        assertEquals(hits + 2, DatasetBoundsCache.getHitCount());
+        assertEquals(new Range(-1.0, 10.0), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, xRange, false));
+        assertEquals(misses + 1, DatasetBoundsCache.getMissCount());
+        checkBounds(xRange);
+    }
+
+    /**
+     * Changes to the series in the dataset clear the cache.
+     */
+    @Test
+    public void testSeriesAddedAndRemoved() {
+        Range xRange = new Range(0.0, 10.0);
+        checkBounds(xRange);
+        this.dataset.removeSeries(0);
+        this.keys.remove(0);
+        checkBounds(xRange);
+        XYSeries s3 = new XYSeries("S3");
+        s3.add(9.0, 99.0);
+        this.dataset.addSeries(s3);
+        this.keys.add("S3");
+        checkBounds(xRange);
+        assertEquals(new Range(-1.0, 99.0), DatasetUtilities.findRangeBounds(
+                this.dataset, this.keys, xRange, false));
+    }
+
+    /**
+     * Random changes to the series, checking the bounds after each change.
+     */
+    @Test
+    public void testRandomChanges() {
+        Random random = new Random(123L);
+        XYSeries s1 = this.dataset.getSeries(0);
+        XYSeries s2 = this.dataset.getSeries(1);
+        Range xRange = new Range(-20.0, 120.0);
+        double x = 10.0;
+        for (int i = 0; i < 500; i++) {
+            XYSeries s = random.nextBoolean() ? s1 : s2;
+            int action = random.nextInt(10);
+            if (action < 6 || s.getItemCount() == 0) {
+                x = x + random.nextDouble();
+                s.add(x, random.nextGaussian());
+            }
+            else if (action < 8) {
+                s.updateByIndex(random.nextInt(s.getItemCount()),
+                        new Double(random.nextGaussian()));
+            }
+            else {
+                s.remove(random.nextInt(s.getItemCount()));
+            }
+            checkBounds(xRange);
+        }
+        assertTrue(DatasetBoundsCache.getHitCount() > 0);
+        assertTrue(DatasetBoundsCache.getIncrementalUpdateCount() > 0);
+    }
+
+    /**
+     * When the cache is disabled, no statistics are recorded.
+     */
+    @Test
+    public void testDisabled() {
+        DatasetBoundsCache.setEnabled(false);
+        checkBounds(new Range(0.0, 10.0));
+        checkBounds(new Range(0.0, 10.0));
+        assertEquals(0, DatasetBoundsCache.getHitCount());
+        assertEquals(0, DatasetBoundsCache.getMissCount());
+    }
+
+}
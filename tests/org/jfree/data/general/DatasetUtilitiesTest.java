@@ -47,6 +47,7 @@
  * 16-May-2009 : Added
  *               testIterateToFindRangeBounds_MultiValueCategoryDataset() (DG);
  * 10-Sep-2009 : Added tests for bug 2849731 (DG);
+ * 18-Oct-2026 : Added testFindRangeBoundsWithPyramidIndex();
  *
  */
 
@@ -72,6 +73,8 @@ import org.jfree.data.statistics.MultiValueCategoryDataset;
 import org.jfree.data.xy.DefaultIntervalXYDataset;
 import org.jfree.data.xy.DefaultTableXYDataset;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.FastXYSeries;
+import org.jfree.data.xy.FastXYSeriesCollection;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -1418,4 +1421,43 @@ public class DatasetUtilitiesTest {
         assertTrue(Double.isNaN(DatasetUtilities.findYValue(dataset, 0, 3.0)));
     }
 
+    /**
+     * The range bounds found using the pyramid index of a dataset should
+     * match the bounds found by iteration.
+     */
+    @Test
+    public void testFindRangeBoundsWithPyramidIndex() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        FastXYSeries s2 = new FastXYSeries("S2");
+        s1.setPyramidIndexEnabled(true);
+        for (int i = 0; i < 5000; i++) {
+            s1.add(i, Math.sin(i / 100.0) * i);
+            s2.add(i * 2.0, i % 17);
+        }
+        s1.updateByIndex(2500, Double.NaN);
+        FastXYSeriesCollection dataset = new FastXYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        List visibleSeriesKeys = new ArrayList();
+        visibleSeriesKeys.add("S1");
+        Range[] xRanges = new Range[] {new Range(0.0, 4999.0),
+                new Range(123.5, 2345.0), new Range(2500.0, 2500.0),
+                new Range(-10.0, 7.0), new Range(6000.0, 7000.0)};
+        for (int i = 0; i < xRanges.length; i++) {
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset,
+                    visibleSeriesKeys, xRanges[i], false),
+                    DatasetUtilities.findRangeBounds(dataset,
+                    visibleSeriesKeys, xRanges[i], false));
+        }
+        assertNull(DatasetUtilities.findRangeBounds(dataset,
+                visibleSeriesKeys, new Range(2500.0, 2500.0), false));
+
+        // a series without an index is iterated over the x-range
+        visibleSeriesKeys.add("S2");
+        Range xRange = new Range(100.0, 120.0);
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset,
+                visibleSeriesKeys, xRange, false),
+                DatasetUtilities.findRangeBounds(dataset, visibleSeriesKeys,
+                xRange, false));
+    }
+
 }
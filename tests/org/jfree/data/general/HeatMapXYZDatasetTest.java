@@ -0,0 +1,123 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * HeatMapXYZDatasetTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.DomainOrder;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link HeatMapXYZDataset} class.
+ */
+public class HeatMapXYZDatasetTest implements DatasetChangeListener {
+
+    /** The last event received. */
+    private DatasetChangeEvent lastEvent;
+
+    /**
+     * Records the last event.
+     *
+     * @param event  the last event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.lastEvent = event;
+    }
+
+    /**
+     * Checks the items against the heat map.
+     */
+    @Test
+    public void testItems() {
+        DefaultHeatMapDataset heatMap = new DefaultHeatMapDataset(3, 2, 1.0,
+                4.0, 10.0, 14.0);
+        heatMap.setZValue(2, 1, 5.0);
+        HeatMapXYZDataset d = new HeatMapXYZDataset("S1", heatMap);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S1", d.getSeriesKey(0));
+        assertEquals(6, d.getItemCount(0));
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        assertEquals(3.0, d.getXValue(0, 5), 0.0);
+        assertEquals(12.0, d.getYValue(0, 5), 0.0);
+        assertEquals(5.0, d.getZValue(0, 5), 0.0);
+        assertEquals(5.0, d.getZ(0, 5).doubleValue(), 0.0);
+        assertEquals(2.0, d.getX(0, 2).doubleValue(), 0.0);
+        assertEquals(10.0, d.getY(0, 2).doubleValue(), 0.0);
+    }
+
+    /**
+     * Checks that changes to the heat map are passed on.
+     */
+    @Test
+    public void testChangeEvents() {
+        DefaultHeatMapDataset heatMap = new DefaultHeatMapDataset(3, 2, 1.0,
+                4.0, 10.0, 14.0);
+        HeatMapXYZDataset d = new HeatMapXYZDataset("S1", heatMap);
+        d.addChangeListener(this);
+        this.lastEvent = null;
+        heatMap.setZValue(1, 1, 2.0, true);
+        assertNotNull(this.lastEvent);
+    }
+
+    /**
+     * Some checks for the equals() method, and serialization.
+     */
+    @Test
+    public void testEquals() {
+        DefaultHeatMapDataset heatMap = new DefaultHeatMapDataset(3, 2, 1.0,
+                4.0, 10.0, 14.0);
+        HeatMapXYZDataset d1 = new HeatMapXYZDataset("S1", heatMap);
+        HeatMapXYZDataset d2 = new HeatMapXYZDataset("S1", heatMap);
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d2 = new HeatMapXYZDataset("S2", heatMap);
+        assertFalse(d1.equals(d2));
+
+        d2 = (HeatMapXYZDataset) TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+    }
+
+}
@@ -0,0 +1,171 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * RingBufferListTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RingBufferList} class.
+ */
+public class RingBufferListTest {
+
+    /**
+     * Add and remove items at the start of the list so that the storage
+     * wraps around, and check the contents.
+     */
+    @Test
+    public void testWrapAround() {
+        RingBufferList list = new RingBufferList();
+        for (int i = 0; i < 100; i++) {
+            list.add(new Integer(i));
+            if (list.size() > 10) {
+                assertEquals(new Integer(i - 10), list.remove(0));
+            }
+        }
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(new Integer(90 + i), list.get(i));
+        }
+    }
+
+    /**
+     * Apply the same random sequence of operations to a RingBufferList and
+     * an ArrayList and check that they stay equal.
+     */
+    @Test
+    public void testAgainstArrayList() {
+        RingBufferList list = new RingBufferList();
+        List expected = new ArrayList();
+        Random random = new Random(123L);
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(6);
+            int size = expected.size();
+            if (op < 2 || size == 0) {
+                int index = random.nextInt(size + 1);
+                Integer item = new Integer(i);
+                list.add(index, item);
+                expected.add(index, item);
+            }
+            else if (op == 2) {
+                list.add(new Integer(i));
+                expected.add(new Integer(i));
+            }
+            else if (op == 3) {
+                int index = random.nextInt(size);
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            else if (op == 4) {
+                int index = random.nextInt(size);
+                list.set(index, new Integer(-i));
+                expected.set(index, new Integer(-i));
+            }
+            else {
+                int from = random.nextInt(size);
+                int to = from + random.nextInt(Math.min(5, size - from) + 1);
+                list.subList(from, to).clear();
+                expected.subList(from, to).clear();
+            }
+            assertEquals(expected, list);
+        }
+    }
+
+    /**
+     * Check the bounds checking.
+     */
+    @Test
+    public void testIndexOutOfBounds() {
+        RingBufferList list = new RingBufferList();
+        list.add("A");
+        try {
+            list.get(1);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            list.add(2, "B");
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() {
+        RingBufferList l1 = new RingBufferList();
+        l1.add("A");
+        l1.add("B");
+        RingBufferList l2 = (RingBufferList) l1.clone();
+        assertTrue(l1 != l2);
+        assertEquals(l1, l2);
+        l1.remove(0);
+        assertEquals(2, l2.size());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferList l1 = new RingBufferList();
+        l1.add("A");
+        l1.add("B");
+        l1.remove(0);
+        l1.add("C");
+        RingBufferList l2 = (RingBufferList) TestUtilities.serialised(l1);
+        assertEquals(l1, l2);
+    }
+
+}
@@ -0,0 +1,343 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * DelimitedDataReaderTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.data.time.StreamingTimeSeriesCollection;
+import org.jfree.data.xy.DefaultHighLowDataset;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DelimitedDataReader} class.
+ */
+public class DelimitedDataReaderTest {
+
+    /**
+     * Writes a temporary file.
+     *
+     * @param content  the file content.
+     *
+     * @return The file.
+     */
+    private static File createFile(String content) throws IOException {
+        File file = File.createTempFile("DelimitedDataReaderTest", ".csv");
+        file.deleteOnExit();
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content.getBytes("UTF-8"));
+        }
+        finally {
+            out.close();
+        }
+        return file;
+    }
+
+    /**
+     * Quoted fields, skipped columns, CR-LF line ends, blank lines and
+     * missing values.
+     */
+    @Test
+    public void testReadXYDataset() throws IOException {
+        File file = createFile("﻿x,\"Name, full\",\"Y 1\",y2\r\n"
+                + "1,\"Smith, John\",2.5,-3\r\n"
+                + "\r\n"
+                + "2,Jones, .5 ,\r\n"
+                + "3,\"\",1e3\n"
+                + "4,x,\"7\",8");
+        DefaultXYDataset d = new DelimitedDataReader().readXYDataset(file, 0,
+                new int[] {2, 3});
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("Y 1", d.getSeriesKey(0));
+        assertEquals("y2", d.getSeriesKey(1));
+        assertEquals(4, d.getItemCount(0));
+        assertEquals(3.0, d.getXValue(1, 2), 0.0);
+        assertEquals(2.5, d.getYValue(0, 0), 0.0);
+        assertEquals(0.5, d.getYValue(0, 1), 0.0);
+        assertEquals(1000.0, d.getYValue(0, 2), 0.0);
+        assertEquals(7.0, d.getYValue(0, 3), 0.0);
+        assertEquals(-3.0, d.getYValue(1, 0), 0.0);
+        assertTrue(Double.isNaN(d.getYValue(1, 1)));
+        assertTrue(Double.isNaN(d.getYValue(1, 2)));
+        assertEquals(8.0, d.getYValue(1, 3), 0.0);
+
+        DelimitedDataReader reader = new DelimitedDataReader(';', '\'');
+        reader.setFirstLineHeader(false);
+        d = reader.readXYDataset(createFile("1;'2'\n3;4\n"), 0,
+                new int[] {1});
+        assertEquals("Column 2", d.getSeriesKey(0));
+        assertEquals(4.0, d.getYValue(0, 1), 0.0);
+    }
+
+    /**
+     * The numbers must be the same as those from Double.parseDouble().
+     */
+    @Test
+    public void testNumbers() throws IOException {
+        Random random = new Random(42L);
+        String[] texts = new String[60000];
+        for (int i = 0; i < texts.length; i++) {
+            double v;
+            switch (i % 6) {
+                case 0:
+                    v = random.nextDouble();
+                    break;
+                case 1:
+                    v = (random.nextDouble() - 0.5) * 1e6;
+                    break;
+                case 2:
+                    v = random.nextGaussian() * Math.pow(10.0,
+                            random.nextInt(80) - 40);
+                    break;
+                case 3:
+                    v = Math.round(random.nextDouble() * 1e8) / 100.0;
+                    break;
+                case 4:
+                    v = random.nextLong();
+                    break;
+                default:
+                    v = Double.longBitsToDouble(random.nextLong());
+                    break;
+            }
+            texts[i] = (i % 2 == 0) ? Double.toString(v)
+                    : String.format("%.12f", v);
+        }
+        texts[0] = "12345678901234567890123";
+        texts[1] = "0.000000000000000000000000123";
+        texts[2] = "-0";
+        texts[3] = "1.7976931348623157E308";
+        texts[4] = "4.9E-324";
+        texts[5] = "9007199254740993";
+        texts[6] = "NaN";
+        texts[7] = "-Infinity";
+        StringBuilder sb = new StringBuilder("a,b\n");
+        for (int i = 0; i < texts.length; i++) {
+            sb.append(i).append(',').append(texts[i]).append('\n');
+        }
+        double[][] values = new DelimitedDataReader().readColumns(
+                createFile(sb.toString()), new int[] {1, 0});
+        assertEquals(texts.length, values[0].length);
+        for (int i = 0; i < texts.length; i++) {
+            assertEquals(texts[i], Double.doubleToLongBits(
+                    Double.parseDouble(texts[i])),
+                    Double.doubleToLongBits(values[0][i]));
+            assertEquals(i, values[1][i], 0.0);
+        }
+    }
+
+    /**
+     * An invalid number is reported with its line number.
+     */
+    @Test
+    public void testInvalidNumber() throws IOException {
+        File file = createFile("x,y\n1,2\n3,4x\n");
+        try {
+            new DelimitedDataReader().readColumns(file, new int[] {1});
+            fail("Expected an IOException.");
+        }
+        catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith(
+                    "Invalid number '4x' on line 3"));
+        }
+    }
+
+    /**
+     * Dates in ISO-8601 formats, with and without a time zone, and in
+     * another format.
+     */
+    @Test
+    public void testReadTimeSeriesCollection() throws Exception {
+        TimeZone paris = TimeZone.getTimeZone("Europe/Paris");
+        SimpleDateFormat iso = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        iso.setTimeZone(paris);
+        String[] local = {"2014-03-30 01:59:59.999", "2014-03-30 03:00:00.000",
+                "2014-10-26 01:30:00.000", "2014-12-31 23:00:00.000"};
+        StringBuilder sb = new StringBuilder("date,v\n");
+        // out of order, to check that the rows are sorted
+        sb.append("2014-03-30T03:00:00.000,2\n");
+        sb.append(local[0]).append(",1\n");
+        sb.append("2014-10-26T01:30,3\n");
+        sb.append("2014-12-31T22:00:00Z,4\n");
+        sb.append(",5\n");
+        DelimitedDataReader reader = new DelimitedDataReader();
+        reader.setTimeZone(paris);
+        StreamingTimeSeriesCollection c = reader.readTimeSeriesCollection(
+                createFile(sb.toString()), 0, new int[] {1});
+        assertEquals(1, c.getSeriesCount());
+        assertEquals("v", c.getSeriesKey(0));
+        assertEquals(4, c.getItemCount());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(local[i], iso.parse(local[i]).getTime(),
+                    c.getTime(i));
+            assertEquals(i + 1.0, c.getYValue(0, i), 0.0);
+        }
+
+        sb = new StringBuilder("date,v\n");
+        sb.append("2014-06-01T12:00+02:00,1\n");
+        sb.append("2014-06-01,2\n");
+        sb.append("1401624000000,3\n");
+        sb.append("01/06/2014,4\n");
+        reader.setTimeZone(TimeZone.getTimeZone("UTC"));
+        SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        reader.setDateFormat(format);
+        c = reader.readTimeSeriesCollection(createFile(sb.toString()), 0,
+                new int[] {1});
+        // sorted by date, with equal dates in file order
+        long[] times = {1401580800000L, 1401580800000L, 1401616800000L,
+                1401624000000L};
+        double[] values = {2.0, 4.0, 1.0, 3.0};
+        for (int i = 0; i < 4; i++) {
+            assertEquals(times[i], c.getTime(i));
+            assertEquals(values[i], c.getYValue(0, i), 0.0);
+        }
+    }
+
+    /**
+     * A repeated column name gives unique series keys, and a repeated
+     * series column is rejected.
+     */
+    @Test
+    public void testDuplicateSeriesKeys() throws IOException {
+        File file = createFile("date,v,w,v\n1388620800000,1,2,3\n");
+        DelimitedDataReader reader = new DelimitedDataReader();
+        DefaultXYDataset d = reader.readXYDataset(file, 0,
+                new int[] {1, 2, 3});
+        assertEquals("v (column 2)", d.getSeriesKey(0));
+        assertEquals("w", d.getSeriesKey(1));
+        assertEquals("v (column 4)", d.getSeriesKey(2));
+        assertEquals(3.0, d.getYValue(2, 0), 0.0);
+        StreamingTimeSeriesCollection c = reader.readTimeSeriesCollection(
+                file, 0, new int[] {3, 1});
+        assertEquals("v (column 4)", c.getSeriesKey(0));
+        assertEquals("v (column 2)", c.getSeriesKey(1));
+        assertEquals(1.0, c.getYValue(1, 0), 0.0);
+        try {
+            reader.readTimeSeriesCollection(file, 0, new int[] {1, 1});
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            reader.readXYDataset(file, 0, new int[] {2, 2});
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Reads OHLC data with and without volumes.
+     */
+    @Test
+    public void testReadOHLCDataset() throws IOException {
+        File file = createFile("Date,Open,High,Low,Close,Volume\n"
+                + "2014-01-02Z,10,12,9,11,100\n"
+                + "2014-01-03Z,11,13,10,12,200\n");
+        DelimitedDataReader reader = new DelimitedDataReader();
+        DefaultHighLowDataset d = reader.readOHLCDataset(file, 0, 1, 2, 3, 4,
+                5);
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(1388707200000L, d.getXValue(0, 1), 0.0);
+        assertEquals(11.0, d.getOpenValue(0, 1), 0.0);
+        assertEquals(13.0, d.getHighValue(0, 1), 0.0);
+        assertEquals(10.0, d.getLowValue(0, 1), 0.0);
+        assertEquals(12.0, d.getCloseValue(0, 1), 0.0);
+        assertEquals(200.0, d.getVolumeValue(0, 1), 0.0);
+        d = reader.readOHLCDataset(file, 0, 1, 2, 3, 4, -1);
+        assertEquals(0.0, d.getVolumeValue(0, 1), 0.0);
+    }
+
+    /**
+     * A file large enough to be parsed in chunks gives the same values in
+     * the same order as a single chunk.
+     */
+    @Test
+    public void testParallel() throws IOException {
+        File file = File.createTempFile("DelimitedDataReaderTest", ".csv");
+        file.deleteOnExit();
+        int rows = 0;
+        Writer out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), "UTF-8"));
+        try {
+            out.write("i,text,value\n");
+            long bytes = 0;
+            while (bytes < 3L * DelimitedDataReader.MIN_BYTES_PER_TASK) {
+                String line = rows + ",\"a, b\"," + (rows * 0.25) + "\n";
+                out.write(line);
+                bytes += line.length();
+                rows++;
+            }
+        }
+        finally {
+            out.close();
+        }
+        DelimitedDataReader reader = new DelimitedDataReader();
+        double[][] values = reader.readColumns(file, new int[] {0, 2});
+        assertEquals(rows, values[0].length);
+        for (int i = 0; i < rows; i++) {
+            if (values[0][i] != i || values[1][i] != i * 0.25) {
+                fail("Row " + i + ": " + values[0][i] + ", " + values[1][i]);
+            }
+        }
+        reader.setParallel(false);
+        double[][] serial = reader.readColumns(file, new int[] {0, 2});
+        assertTrue(Arrays.equals(values[1], serial[1]));
+    }
+
+}
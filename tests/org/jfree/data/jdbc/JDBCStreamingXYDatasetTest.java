@@ -0,0 +1,337 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * JDBCStreamingXYDatasetTest.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link JDBCStreamingXYDataset} class.
+ */
+public class JDBCStreamingXYDatasetTest implements DatasetChangeListener {
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Counts the events received.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Rows are read into columns, in batches with one event per batch.
+     */
+    @Test
+    public void testExecuteQuery() throws Exception {
+        FakeDatabase db = new FakeDatabase(
+                new String[] {"X", "A", "NAME", "B"},
+                new int[] {Types.INTEGER, Types.DOUBLE, Types.VARCHAR,
+                        Types.DECIMAL});
+        for (int i = 0; i < 7; i++) {
+            db.addRow(i, i * 2.0, "row" + i, i == 4 ? null : -i);
+        }
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        d.setFetchSize(500);
+        d.setBatchSize(3);
+        d.addChangeListener(this);
+        assertEquals(7, d.executeQuery("SELECT ..."));
+        assertEquals(3, this.eventCount);
+        assertEquals(500, db.fetchSize);
+        assertFalse(d.isTimeSeries());
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("A", d.getSeriesKey(0));
+        assertEquals("B", d.getSeriesKey(1));
+        assertEquals(7, d.getItemCount());
+        assertEquals(5.0, d.getXValue(1, 5), 0.0);
+        assertEquals(10.0, d.getYValue(0, 5), 0.0);
+        assertEquals(-5.0, d.getYValue(1, 5), 0.0);
+        assertTrue(Double.isNaN(d.getYValue(1, 4)));
+        assertNull(d.getY(1, 4));
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        assertEquals(new Range(0.0, 6.0), d.getDomainBounds(false));
+        assertEquals(new Range(-6.0, 12.0), d.getRangeBounds(false));
+        assertEquals(new Range(-6.0, 0.0), d.getRangeBounds(
+                Collections.singletonList("B"), new Range(0.0, 10.0), false));
+        assertEquals(new Range(-3.0, 6.0), d.getRangeBounds(
+                Arrays.asList("A", "B"), new Range(2.5, 3.5), false));
+        assertNull(d.getRangeBounds(Collections.singletonList("C"),
+                new Range(0.0, 10.0), false));
+
+        // a second query replaces the rows
+        db.rows.subList(2, 7).clear();
+        assertEquals(2, d.executeQuery("SELECT ..."));
+        assertEquals(2, d.getItemCount());
+        assertEquals(new Range(-1.0, 2.0), d.getRangeBounds(false));
+    }
+
+    /**
+     * An incremental query appends the rows after the last timestamp, and
+     * does not change an earlier snapshot.
+     */
+    @Test
+    public void testExecuteIncrementalQuery() throws Exception {
+        FakeDatabase db = new FakeDatabase(new String[] {"T", "V"},
+                new int[] {Types.TIMESTAMP, Types.REAL});
+        for (int i = 0; i < 3; i++) {
+            db.addRow(new Timestamp(1000L * i), i);
+        }
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        try {
+            d.executeIncrementalQuery("SELECT ... WHERE T > ?");
+            fail("Expected an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+        d.executeQuery("SELECT ...");
+        assertTrue(d.isTimeSeries());
+        assertEquals(Long.valueOf(2000L), d.getX(0, 2));
+        assertTrue(d.isConcurrent());
+        JDBCStreamingXYDataset snapshot
+                = (JDBCStreamingXYDataset) d.getSnapshot();
+        assertSame(snapshot, d.getSnapshot());
+        assertFalse(snapshot.isConcurrent());
+
+        for (int i = 3; i < 2000; i++) {
+            db.addRow(new Timestamp(1000L * i), i);
+        }
+        d.addChangeListener(this);
+        assertEquals(1997, d.executeIncrementalQuery("SELECT ... WHERE T > ?"));
+        assertEquals(new Timestamp(2000L), db.parameter);
+        assertEquals(1, this.eventCount);
+        assertEquals(2000, d.getItemCount());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(1000.0 * i, d.getXValue(0, i), 0.0);
+            assertEquals(i, d.getYValue(0, i), 0.0);
+        }
+        assertEquals(new Range(0.0, 1999.0), d.getRangeBounds(false));
+        assertEquals(3, snapshot.getItemCount());
+        assertEquals(new Range(0.0, 2.0), snapshot.getRangeBounds(false));
+
+        // nothing new, no event
+        assertEquals(0, d.executeIncrementalQuery("SELECT ... WHERE T > ?"));
+        assertEquals(1, this.eventCount);
+    }
+
+    /**
+     * A query can run on a background thread.
+     */
+    @Test
+    public void testExecuteQueryInBackground() throws Exception {
+        FakeDatabase db = new FakeDatabase(new String[] {"X", "Y"},
+                new int[] {Types.BIGINT, Types.SMALLINT});
+        for (int i = 0; i < 100; i++) {
+            db.addRow(i, i % 7);
+        }
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> future = d.executeQueryInBackground("SELECT ...",
+                    executor);
+            assertEquals(Integer.valueOf(100), future.get());
+            assertEquals(100, d.getItemCount());
+            assertEquals(new Range(0.0, 6.0), d.getRangeBounds(false));
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A fake database with a single table, accessed through proxies for the
+     * JDBC interfaces.  A prepared statement selects the rows with a first
+     * column that is greater than the parameter.
+     */
+    static class FakeDatabase implements InvocationHandler {
+
+        /** The column labels. */
+        String[] labels;
+
+        /** The column types. */
+        int[] types;
+
+        /** The rows. */
+        List<Object[]> rows = new ArrayList<Object[]>();
+
+        /** The fetch size requested for the last statement. */
+        int fetchSize;
+
+        /** The parameter for the last prepared statement. */
+        Object parameter;
+
+        /** The rows returned by the last query. */
+        private List<Object[]> result;
+
+        /** The index of the current row in the result. */
+        private int cursor;
+
+        /** The last value read. */
+        private Object lastValue;
+
+        FakeDatabase(String[] labels, int[] types) {
+            this.labels = labels;
+            this.types = types;
+        }
+
+        void addRow(Object... values) {
+            this.rows.add(values);
+        }
+
+        Connection getConnection() {
+            return (Connection) proxy(Connection.class);
+        }
+
+        private Object proxy(Class c) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class[] {c}, this);
+        }
+
+        private static double toDouble(Object value) {
+            if (value instanceof java.util.Date) {
+                return ((java.util.Date) value).getTime();
+            }
+            return ((Number) value).doubleValue();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if (name.equals("createStatement")) {
+                this.parameter = null;
+                return proxy(Statement.class);
+            }
+            if (name.equals("prepareStatement")) {
+                return proxy(java.sql.PreparedStatement.class);
+            }
+            if (name.equals("setFetchSize")) {
+                this.fetchSize = (Integer) args[0];
+                return null;
+            }
+            if (name.equals("setTimestamp") || name.equals("setDouble")) {
+                this.parameter = args[1];
+                return null;
+            }
+            if (name.equals("executeQuery")) {
+                this.result = new ArrayList<Object[]>();
+                for (Object[] row : this.rows) {
+                    if (this.parameter == null || toDouble(row[0])
+                            > toDouble(this.parameter)) {
+                        this.result.add(row);
+                    }
+                }
+                this.cursor = -1;
+                return proxy(ResultSet.class);
+            }
+            if (name.equals("getMetaData")) {
+                return proxy(ResultSetMetaData.class);
+            }
+            if (name.equals("getColumnCount")) {
+                return this.labels.length;
+            }
+            if (name.equals("getColumnType")) {
+                return this.types[(Integer) args[0] - 1];
+            }
+            if (name.equals("getColumnLabel")) {
+                return this.labels[(Integer) args[0] - 1];
+            }
+            if (name.equals("getColumnClassName")) {
+                return "java.lang.Object";
+            }
+            if (name.equals("next")) {
+                this.cursor++;
+                return this.cursor < this.result.size();
+            }
+            if (name.startsWith("get") && args != null && args.length == 1) {
+                this.lastValue = this.result.get(this.cursor)[
+                        (Integer) args[0] - 1];
+                if (name.equals("getDouble")) {
+                    return this.lastValue == null ? 0.0
+                            : toDouble(this.lastValue);
+                }
+                return this.lastValue;
+            }
+            if (name.equals("wasNull")) {
+                return this.lastValue == null;
+            }
+            if (name.equals("close")) {
+                return null;
+            }
+            throw new UnsupportedOperationException(name);
+        }
+
+    }
+
+}
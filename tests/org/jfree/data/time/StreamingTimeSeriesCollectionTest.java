@@ -0,0 +1,370 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------------
+ * StreamingTimeSeriesCollectionTest.java
+ * --------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.util.PublicCloneable;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link StreamingTimeSeriesCollection} class.
+ */
+public class StreamingTimeSeriesCollectionTest
+        implements DatasetChangeListener {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Records the dataset change events.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        StreamingTimeSeriesCollection c1
+                = new StreamingTimeSeriesCollection(10);
+        StreamingTimeSeriesCollection c2
+                = new StreamingTimeSeriesCollection(10);
+        assertTrue(c1.equals(c2));
+
+        c1.addSeries("S1");
+        assertFalse(c1.equals(c2));
+        c2.addSeries("S1");
+        assertTrue(c1.equals(c2));
+
+        c1.append(1L, new float[] {1.0f});
+        assertFalse(c1.equals(c2));
+        c2.append(1L, new float[] {1.0f});
+        assertTrue(c1.equals(c2));
+
+        c1.append(2L, new float[] {2.0f});
+        c2.append(2L, new float[] {2.5f});
+        assertFalse(c1.equals(c2));
+
+        c1 = new StreamingTimeSeriesCollection(10, 5L);
+        c2 = new StreamingTimeSeriesCollection(10, 6L);
+        assertFalse(c1.equals(c2));
+        c2.setMaximumItemAge(5L);
+        assertTrue(c1.equals(c2));
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Equal collections with a different ring buffer layout.
+     */
+    @Test
+    public void testEquals2() {
+        StreamingTimeSeriesCollection c1
+                = new StreamingTimeSeriesCollection(3);
+        StreamingTimeSeriesCollection c2
+                = new StreamingTimeSeriesCollection(3);
+        c1.addSeries("S1");
+        c2.addSeries("S1");
+        c1.append(1L, new float[] {1.0f});
+        for (int i = 2; i <= 4; i++) {
+            c1.append(i, new float[] {i});
+            c2.append(i, new float[] {i});
+        }
+        assertTrue(c1.equals(c2));
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        StreamingTimeSeriesCollection c1
+                = new StreamingTimeSeriesCollection(10);
+        c1.addSeries("S1");
+        c1.append(1L, new float[] {1.0f});
+        StreamingTimeSeriesCollection c2
+                = (StreamingTimeSeriesCollection) c1.clone();
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+
+        // check independence
+        c1.append(2L, new float[] {2.0f});
+        assertFalse(c1.equals(c2));
+        c2.append(2L, new float[] {2.0f});
+        assertTrue(c1.equals(c2));
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    @Test
+    public void testPublicCloneable() {
+        StreamingTimeSeriesCollection c1
+                = new StreamingTimeSeriesCollection(10);
+        assertTrue(c1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        StreamingTimeSeriesCollection c1
+                = new StreamingTimeSeriesCollection(10, 100L);
+        c1.addSeries("S1");
+        c1.addSeries("S2");
+        c1.append(1L, new float[] {1.0f, Float.NaN});
+        StreamingTimeSeriesCollection c2 = (StreamingTimeSeriesCollection)
+                TestUtilities.serialised(c1);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Some checks for the append() method, including eviction of the
+     * oldest rows when the collection is full.
+     */
+    @Test
+    public void testAppend() {
+        StreamingTimeSeriesCollection c
+                = new StreamingTimeSeriesCollection(3);
+        c.addSeries("S1");
+        c.addChangeListener(this);
+        c.append(10L, new float[] {1.0f});
+        c.append(20L, new float[] {2.0f});
+        c.append(20L, new float[] {3.0f});
+        assertEquals(3, this.eventCount);
+        assertEquals(3, c.getItemCount(0));
+        c.append(35L, new float[] {4.0f});
+        assertEquals(3, c.getItemCount());
+        assertEquals(20.0, c.getXValue(0, 0), EPSILON);
+        assertEquals(2.0, c.getYValue(0, 0), EPSILON);
+        assertEquals(35L, c.getX(0, 2));
+        assertEquals(4.0, c.getY(0, 2).doubleValue(), EPSILON);
+
+        // timestamps must not go backwards
+        try {
+            c.append(34L, new float[] {5.0f});
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        // one value per series
+        try {
+            c.append(40L, new float[] {5.0f, 6.0f});
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            c.getYValue(0, 3);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        c.clear();
+        assertEquals(0, c.getItemCount());
+        assertNull(c.getDomainBounds(true));
+        c.append(1L, new float[] {7.0f});
+        assertEquals(7.0, c.getYValue(0, 0), EPSILON);
+    }
+
+    /**
+     * Rows older than the maximum item age are removed.
+     */
+    @Test
+    public void testMaximumItemAge() {
+        StreamingTimeSeriesCollection c
+                = new StreamingTimeSeriesCollection(100, 10L);
+        c.addSeries("S1");
+        c.append(0L, new float[] {1.0f});
+        c.append(5L, new float[] {2.0f});
+        c.append(10L, new float[] {3.0f});
+        assertEquals(3, c.getItemCount());
+        c.append(12L, new float[] {4.0f});
+        assertEquals(3, c.getItemCount());
+        assertEquals(5L, c.getTime(0));
+        c.setMaximumItemAge(5L);
+        assertEquals(2, c.getItemCount());
+        assertEquals(10L, c.getTime(0));
+    }
+
+    /**
+     * Series can be added and removed while there are rows.
+     */
+    @Test
+    public void testAddAndRemoveSeries() {
+        StreamingTimeSeriesCollection c
+                = new StreamingTimeSeriesCollection(10);
+        assertEquals(0, c.addSeries("S1"));
+        c.append(1L, new float[] {1.0f});
+        assertEquals(1, c.addSeries("S2"));
+        assertTrue(Double.isNaN(c.getYValue(1, 0)));
+        assertNull(c.getY(1, 0));
+        c.append(2L, new float[] {2.0f, 20.0f});
+        assertEquals(20.0, c.getYValue(1, 1), EPSILON);
+        assertEquals(new Range(1.0, 20.0), c.getRangeBounds(false));
+
+        try {
+            c.addSeries("S1");
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        c.removeSeries("S1");
+        assertEquals(1, c.getSeriesCount());
+        assertEquals("S2", c.getSeriesKey(0));
+        assertEquals(new Range(20.0, 20.0), c.getRangeBounds(false));
+        c.removeSeries(0);
+        assertEquals(0, c.getSeriesCount());
+        assertEquals(2, c.getItemCount());
+        assertNull(c.getRangeBounds(false));
+    }
+
+    /**
+     * Some checks for the getItemIndex() method.
+     */
+    @Test
+    public void testGetItemIndex() {
+        StreamingTimeSeriesCollection c
+                = new StreamingTimeSeriesCollection(3);
+        c.addSeries("S1");
+        assertEquals(-1, c.getItemIndex(5L));
+        for (int i = 0; i < 5; i++) {
+            c.append(i * 10L, new float[] {i});
+        }
+        // rows are now 20, 30, 40
+        assertEquals(0, c.getItemIndex(20L));
+        assertEquals(2, c.getItemIndex(40L));
+        assertEquals(-1, c.getItemIndex(10L));
+        assertEquals(-2, c.getItemIndex(25L));
+        assertEquals(-4, c.getItemIndex(45L));
+    }
+
+    /**
+     * Compares the range bounds with a brute force calculation while the
+     * buffers grow and wrap around.
+     */
+    @Test
+    public void testRangeBounds() {
+        StreamingTimeSeriesCollection c
+                = new StreamingTimeSeriesCollection(5000);
+        c.addSeries("S1");
+        c.addSeries("S2");
+        List keys = Arrays.asList(new String[] {"S2"});
+        Random random = new Random(1L);
+        for (int i = 0; i < 12000; i++) {
+            float v = random.nextFloat() * 100.0f;
+            if (i % 7 == 0) {
+                v = Float.NaN;
+            }
+            c.append(i, new float[] {v, random.nextFloat()});
+            if (i % 997 == 0 || i > 11990) {
+                assertEquals(bruteForceRange(c, 0, 0, c.getItemCount() - 1,
+                        c.getRangeBounds(false)), c.getRangeBounds(false));
+                long x0 = c.getTime(0) + random.nextInt(2000);
+                long x1 = x0 + random.nextInt(3000);
+                int first = c.getItemIndex(x0);
+                first = first < 0 ? -first - 1 : first;
+                int last = c.getItemIndex(x1);
+                last = last < 0 ? -last - 2 : last;
+                last = Math.min(last, c.getItemCount() - 1);
+                assertEquals(bruteForceRange(c, 1, first, last, null),
+                        c.getRangeBounds(keys, new Range(x0, x1), false));
+            }
+        }
+        assertEquals(new Range(7000.0, 11999.0), c.getDomainBounds(false));
+        assertEquals(new Range(7000.0, 11999.0),
+                c.getDomainBounds(keys, false));
+        assertNull(c.getDomainBounds(new ArrayList(), false));
+    }
+
+    /**
+     * Returns the range of the values for one or all series (when
+     * <code>all</code> is not <code>null</code>) by visiting every item.
+     */
+    private Range bruteForceRange(StreamingTimeSeriesCollection c,
+            int series, int first, int last, Range all) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < c.getSeriesCount(); s++) {
+            if (all == null && s != series) {
+                continue;
+            }
+            for (int i = first; i <= last; i++) {
+                double y = c.getYValue(s, i);
+                if (!Double.isNaN(y)) {
+                    min = Math.min(min, y);
+                    max = Math.max(max, y);
+                }
+            }
+        }
+        return min <= max ? new Range(min, max) : null;
+    }
+
+}
@@ -50,11 +50,18 @@
  * 09-Jun-2009 : Added testAdd_TimeSeriesDataItem (DG);
  * 31-Aug-2009 : Added new test for createCopy() method (DG);
  * 03-Dec-2011 : Added testBug3446965() (DG);
+ * 18-Oct-2026 : Added testRollingWindow();
+ * 18-Oct-2026 : Added testAddAll();
+ * 18-Oct-2026 : Added testChangeEventDetails();
+ * 18-Oct-2026 : Added testSnapshot();
+ * 18-Oct-2026 : Added testGetMillisecond();
+ * 18-Oct-2026 : Added testGetMillisecondConcurrentReaders();
  * 
  */
 
 package org.jfree.data.time;
 
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Locale;
@@ -70,6 +77,7 @@ import org.jfree.data.Range;
 
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.date.MonthConstants;
 import org.junit.Before;
@@ -92,6 +100,9 @@ public class TimeSeriesTest implements SeriesChangeListener {
     /** A flag that indicates whether or not a change event was fired. */
     private boolean gotSeriesChangeEvent = false;
 
+    /** The last change event received. */
+    private SeriesChangeEvent lastSeriesChangeEvent;
+
     /**
      * Common test setup.
      */
@@ -125,6 +136,7 @@ public class TimeSeriesTest implements SeriesChangeListener {
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
         this.gotSeriesChangeEvent = true;
+        this.lastSeriesChangeEvent = event;
     }
 
     /**
@@ -1203,4 +1215,291 @@ public class TimeSeriesTest implements SeriesChangeListener {
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.MIDDLE, tzone).isNaNRange());
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.END, tzone).isNaNRange());
     }
+
+    /**
+     * Check the y-bounds for a series that drops its oldest item each time
+     * a new item is added, including after items are inserted out of order.
+     */
+    @Test
+    public void testRollingWindow() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(3);
+        double[] values = {5.0, 1.0, 3.0, 4.0, 2.0, 6.0};
+        for (int i = 0; i < values.length; i++) {
+            s1.add(new Day(2 * i + 1, 1, 2010), values[i]);
+        }
+        assertEquals(3, s1.getItemCount());
+        assertEquals(2.0, s1.getMinY(), EPSILON);
+        assertEquals(6.0, s1.getMaxY(), EPSILON);
+
+        // insert an item before the end of the series
+        s1.add(new Day(8, 1, 2010), 0.5);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(6.0, s1.getMaxY(), EPSILON);
+        s1.add(new Day(13, 1, 2010), 7.0);
+        assertEquals(2.0, s1.getMinY(), EPSILON);
+        assertEquals(7.0, s1.getMaxY(), EPSILON);
+        s1.add(new Day(15, 1, 2010), 8.0);
+        assertEquals(6.0, s1.getMinY(), EPSILON);
+        assertEquals(8.0, s1.getMaxY(), EPSILON);
+
+        TimeSeries s2 = new TimeSeries("S2");
+        s2.setMaximumItemAge(2);
+        s2.add(new Day(1, 1, 2010), 9.0);
+        s2.add(new Day(2, 1, 2010), 1.0);
+        s2.add(new Day(3, 1, 2010), 2.0);
+        s2.add(new Day(4, 1, 2010), 3.0);
+        assertEquals(3, s2.getItemCount());
+        assertEquals(1.0, s2.getMinY(), EPSILON);
+        assertEquals(3.0, s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the addAll() methods.
+     */
+    @Test
+    public void testAddAll() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.add(new Year(2002), 2.0);
+        s1.addChangeListener(this);
+        this.gotSeriesChangeEvent = false;
+        s1.addAll(new RegularTimePeriod[] {new Year(2004), new Year(2003)},
+                new double[] {4.0, 3.0});
+        assertTrue(this.gotSeriesChangeEvent);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Year(2003), s1.getTimePeriod(1));
+        assertEquals(4.0, s1.getMaxY(), EPSILON);
+
+        s1.addAll(Arrays.asList(new TimeSeriesDataItem[] {
+                new TimeSeriesDataItem(new Year(2000), 0.0),
+                new TimeSeriesDataItem(new Year(2005), 5.0),
+                new TimeSeriesDataItem(new Year(2001), 1.0)}).iterator());
+        assertEquals(6, s1.getItemCount());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(new Year(2000 + i), s1.getTimePeriod(i));
+            assertEquals(i, s1.getValue(i).doubleValue(), EPSILON);
+        }
+        assertEquals(0.0, s1.getMinY(), EPSILON);
+
+        // a duplicate or a different period class leaves the series unchanged
+        try {
+            s1.addAll(new RegularTimePeriod[] {new Year(2006),
+                    new Year(2003)}, new double[] {6.0, 3.0});
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s1.addAll(new RegularTimePeriod[] {new Year(2006),
+                    new Month(1, 2007)}, new double[] {6.0, 7.0});
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(6, s1.getItemCount());
+
+        // the maximum item count is applied
+        s1.setMaximumItemCount(4);
+        s1.addAll(new RegularTimePeriod[] {new Year(2006), new Year(2007)},
+                new double[] {6.0, 7.0});
+        assertEquals(4, s1.getItemCount());
+        assertEquals(new Year(2004), s1.getTimePeriod(0));
+        assertEquals(4.0, s1.getMinY(), EPSILON);
+    }
+
+
+    /**
+     * Checks the last change event received.
+     *
+     * @param type  the expected type.
+     * @param first  the expected first item.
+     * @param last  the expected last item.
+     */
+    private void checkLastEvent(SeriesChangeType type, int first, int last) {
+        assertEquals(type, this.lastSeriesChangeEvent.getType());
+        assertEquals(first, this.lastSeriesChangeEvent.getFirstItem());
+        assertEquals(last, this.lastSeriesChangeEvent.getLastItem());
+    }
+
+    /**
+     * Check the change events describe the items that changed.
+     */
+    @Test
+    public void testChangeEventDetails() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.addChangeListener(this);
+        s1.add(new Year(2001), 1.0);
+        checkLastEvent(SeriesChangeType.APPEND, 0, 0);
+        s1.add(new Year(2003), 3.0);
+        checkLastEvent(SeriesChangeType.APPEND, 1, 1);
+        s1.add(new Year(2002), 2.0);
+        checkLastEvent(SeriesChangeType.STRUCTURE, -1, -1);
+        s1.update(new Year(2002), new Double(2.5));
+        checkLastEvent(SeriesChangeType.UPDATE, 1, 1);
+        s1.addOrUpdate(new Year(2003), 3.5);
+        checkLastEvent(SeriesChangeType.UPDATE, 2, 2);
+        s1.addOrUpdate(new Year(2004), 4.0);
+        checkLastEvent(SeriesChangeType.APPEND, 3, 3);
+        s1.delete(new Year(2002));
+        checkLastEvent(SeriesChangeType.REMOVE, 1, 1);
+        s1.delete(1, 2);
+        checkLastEvent(SeriesChangeType.REMOVE, 1, 2);
+        s1.add(new Year(2005), 5.0);
+        s1.add(new Year(2006), 6.0);
+        s1.setMaximumItemAge(1);
+        checkLastEvent(SeriesChangeType.REMOVE, 0, 0);
+        s1.clear();
+        checkLastEvent(SeriesChangeType.REMOVE, 0, 1);
+    }
+
+
+    /**
+     * A snapshot of a series in concurrent mode does not change when the
+     * series changes.
+     */
+    @Test
+    public void testSnapshot() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setConcurrent(true);
+        s1.add(new Year(2001), 1.0);
+        s1.add(new Year(2002), 2.0);
+        TimeSeries snapshot = (TimeSeries) s1.getSnapshot();
+        assertTrue(snapshot == s1.getSnapshot());
+        assertEquals(s1, snapshot);
+
+        s1.update(0, new Double(5.0));
+        s1.addOrUpdate(new Year(2002), 6.0);
+        s1.add(new Year(2003), 3.0);
+        assertEquals(2, snapshot.getItemCount());
+        assertEquals(1.0, snapshot.getValue(0).doubleValue(), EPSILON);
+        assertEquals(2.0, snapshot.getValue(1).doubleValue(), EPSILON);
+        assertEquals(2.0, snapshot.getMaxY(), EPSILON);
+
+        TimeSeries snapshot2 = (TimeSeries) s1.getSnapshot();
+        assertEquals(s1, snapshot2);
+        s1.delete(new Year(2001));
+        s1.clear();
+        assertEquals(3, snapshot2.getItemCount());
+        assertEquals(6.0, snapshot2.getMaxY(), EPSILON);
+        assertEquals(0, ((TimeSeries) s1.getSnapshot()).getItemCount());
+    }
+
+    /**
+     * The cached milliseconds must follow the changes to the series.
+     */
+    @Test
+    public void testGetMillisecond() throws CloneNotSupportedException {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(5);
+        for (int i = 1; i <= 8; i++) {
+            s1.add(new Day(i * 2, 1, 2014), i);
+            checkMilliseconds(s1, zone);
+        }
+        s1.add(new Day(11, 1, 2014), 9.0);  // insert
+        checkMilliseconds(s1, zone);
+        s1.addOrUpdate(new Day(13, 1, 2014), 10.0);
+        checkMilliseconds(s1, zone);
+        s1.delete(new Day(12, 1, 2014));
+        checkMilliseconds(s1, zone);
+        s1.delete(0, 1);
+        checkMilliseconds(s1, zone);
+        checkMilliseconds(s1, TimeZone.getTimeZone("America/New_York"));
+        s1.addAll(new RegularTimePeriod[] {new Day(1, 1, 2014),
+                new Day(20, 1, 2014)}, new double[] {1.0, 2.0});
+        checkMilliseconds(s1, zone);
+
+        TimeSeries s2 = s1.createCopy(0, 1);
+        s1.clear();
+        s1.add(new Day(1, 2, 2014), 1.0);
+        checkMilliseconds(s1, zone);
+        checkMilliseconds(s2, zone);
+        try {
+            s1.getMillisecond(1, TimePeriodAnchor.START, zone);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        // a snapshot keeps its milliseconds when the series changes
+        s1.setConcurrent(true);
+        s1.add(new Day(3, 2, 2014), 2.0);
+        checkMilliseconds(s1, TimeZone.getTimeZone("Europe/Paris"));
+        TimeSeries snapshot = (TimeSeries) s1.getSnapshot();
+        s1.add(new Day(2, 2, 2014), 3.0);
+        checkMilliseconds(s1, zone);
+        checkMilliseconds(snapshot, zone);
+        assertEquals(2, snapshot.getItemCount());
+        s1.add(new Day(1, 1, 2014), 4.0);  // insert before the snapshot items
+        checkMilliseconds(s1, zone);
+        checkMilliseconds(snapshot, zone);
+    }
+
+    /**
+     * Several threads that read the milliseconds of the same series (and so
+     * fill the cache, in two time zones) always see the correct values.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testGetMillisecondConcurrentReaders()
+            throws InterruptedException {
+        final TimeSeries series = new TimeSeries("S1");
+        RegularTimePeriod period = new Day(1, 1, 2014);
+        for (int i = 0; i < 2000; i++) {
+            series.add(period, i);
+            period = period.next();
+        }
+        final TimeZone[] zones = new TimeZone[] {
+                TimeZone.getTimeZone("Europe/Paris"),
+                TimeZone.getTimeZone("America/New_York")};
+        final Throwable[] errors = new Throwable[4];
+        Thread[] threads = new Thread[errors.length];
+        for (int t = 0; t < threads.length; t++) {
+            final int index = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < 20; i++) {
+                            checkMilliseconds(series, zones[(i + index) % 2]);
+                        }
+                    }
+                    catch (Throwable e) {
+                        errors[index] = e;
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+            assertNull(errors[t]);
+        }
+    }
+
+    /**
+     * Checks the milliseconds returned by the getMillisecond() method for
+     * each item in a series.
+     *
+     * @param series  the series.
+     * @param zone  the time zone.
+     */
+    private void checkMilliseconds(TimeSeries series, TimeZone zone) {
+        Calendar calendar = Calendar.getInstance(zone);
+        for (int i = 0; i < series.getItemCount(); i++) {
+            RegularTimePeriod period = series.getTimePeriod(i);
+            assertEquals(period.getFirstMillisecond(calendar),
+                    series.getMillisecond(i, TimePeriodAnchor.START, zone));
+            assertEquals(period.getMiddleMillisecond(calendar),
+                    series.getMillisecond(i, TimePeriodAnchor.MIDDLE, zone));
+            assertEquals(period.getLastMillisecond(calendar),
+                    series.getMillisecond(i, TimePeriodAnchor.END, zone));
+        }
+    }
+
 }
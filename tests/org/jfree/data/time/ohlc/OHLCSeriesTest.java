@@ -38,6 +38,7 @@
  * 27-Nov-2007 : Added testClear() method (DG);
  * 23-May-2009 : Added testHashCode() (DG);
  * 17-Jun-2009 : Added testRemove_int() (DG);
+ * 18-Oct-2026 : Added testAddAll();
  *
  */
 
@@ -49,6 +50,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.Arrays;
+
 import org.jfree.chart.TestUtilities;
 
 import org.jfree.data.general.SeriesChangeEvent;
@@ -259,4 +262,21 @@ public class OHLCSeriesTest implements SeriesChangeListener {
         assertTrue(s1.isEmpty());
     }
 
+    /**
+     * A simple check for the addAll() method.
+     */
+    @Test
+    public void testAddAll() {
+        OHLCSeries s1 = new OHLCSeries("s1");
+        s1.add(new Year(2007), 2.0, 4.0, 1.0, 3.0);
+        s1.addChangeListener(this);
+        s1.addAll(Arrays.asList(new OHLCItem[] {
+                new OHLCItem(new Year(2008), 3.0, 5.0, 2.0, 4.0),
+                new OHLCItem(new Year(2006), 1.0, 3.0, 0.0, 2.0)}).iterator());
+        assertNotNull(this.lastEvent);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Year(2006), s1.getPeriod(0));
+        assertEquals(new Year(2008), s1.getPeriod(2));
+    }
+
 }
@@ -0,0 +1,93 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DecimatedXYDatasetTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.jfree.data.DomainOrder;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DecimatedXYDataset} class.
+ */
+public class DecimatedXYDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for the item mapping.
+     */
+    @Test
+    public void testItemIndices() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, i * 10.0);
+            s2.add(i, i * 100.0);
+        }
+        XYSeriesCollection underlying = new XYSeriesCollection(s1);
+        underlying.addSeries(s2);
+        DecimatedXYDataset d = new DecimatedXYDataset(underlying);
+        assertSame(underlying, d.getUnderlyingDataset());
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("S2", d.getSeriesKey(1));
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        assertEquals(10, d.getItemCount(0));
+        assertNull(d.getItemIndices(0));
+
+        d.setItemIndices(0, new int[] {0, 4, 9});
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(10, d.getItemCount(1));
+        assertEquals(4.0, d.getXValue(0, 1), EPSILON);
+        assertEquals(40.0, d.getYValue(0, 1), EPSILON);
+        assertEquals(9.0, d.getX(0, 2).doubleValue(), EPSILON);
+        assertEquals(90.0, d.getY(0, 2).doubleValue(), EPSILON);
+        assertEquals(4, d.getUnderlyingItem(0, 1));
+        assertEquals(300.0, d.getYValue(1, 3), EPSILON);
+
+        d.setItemIndices(0, null);
+        assertEquals(10, d.getItemCount(0));
+        assertEquals(50.0, d.getYValue(0, 5), EPSILON);
+    }
+
+}
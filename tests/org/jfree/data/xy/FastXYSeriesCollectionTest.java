@@ -0,0 +1,193 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * FastXYSeriesCollectionTest.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.util.PublicCloneable;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link FastXYSeriesCollection} class.
+ */
+public class FastXYSeriesCollectionTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        FastXYSeries s1 = new FastXYSeries("Series");
+        s1.add(1.0, 1.1);
+        FastXYSeriesCollection c1 = new FastXYSeriesCollection();
+        c1.addSeries(s1);
+        FastXYSeries s2 = new FastXYSeries("Series");
+        s2.add(1.0, 1.1);
+        FastXYSeriesCollection c2 = new FastXYSeriesCollection();
+        c2.addSeries(s2);
+        assertTrue(c1.equals(c2));
+        assertTrue(c2.equals(c1));
+
+        c1.addSeries(new FastXYSeries("Empty Series"));
+        assertFalse(c1.equals(c2));
+        c2.addSeries(new FastXYSeries("Empty Series"));
+        assertTrue(c1.equals(c2));
+
+        c1.setIntervalWidth(5.0);
+        assertFalse(c1.equals(c2));
+        c2.setIntervalWidth(5.0);
+        assertTrue(c1.equals(c2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        FastXYSeries s1 = new FastXYSeries("Series");
+        s1.add(1.0, 1.1);
+        FastXYSeriesCollection c1 = new FastXYSeriesCollection();
+        c1.addSeries(s1);
+        FastXYSeriesCollection c2 = (FastXYSeriesCollection) c1.clone();
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+
+        // check independence
+        s1.setDescription("XYZ");
+        assertFalse(c1.equals(c2));
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    @Test
+    public void testPublicCloneable() {
+        FastXYSeriesCollection c1 = new FastXYSeriesCollection();
+        assertTrue(c1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        FastXYSeries s1 = new FastXYSeries("Series");
+        s1.add(1.0, 1.1);
+        FastXYSeriesCollection c1 = new FastXYSeriesCollection();
+        c1.addSeries(s1);
+        FastXYSeriesCollection c2
+                = (FastXYSeriesCollection) TestUtilities.serialised(c1);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Adding a series with a duplicate key is not permitted.
+     */
+    @Test
+    public void testAddSeries() {
+        FastXYSeriesCollection c = new FastXYSeriesCollection();
+        c.addSeries(new FastXYSeries("s1"));
+        try {
+            c.addSeries(new FastXYSeries("s1"));
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(1, c.getSeriesCount());
+    }
+
+    /**
+     * Some checks for the value accessors.
+     */
+    @Test
+    public void testValues() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, Double.NaN);
+        FastXYSeriesCollection c = new FastXYSeriesCollection(s1);
+        assertEquals(DomainOrder.ASCENDING, c.getDomainOrder());
+        assertEquals(2, c.getItemCount(0));
+        assertEquals(1.0, c.getXValue(0, 0), EPSILON);
+        assertEquals(1.1, c.getYValue(0, 0), EPSILON);
+        assertEquals(1.1, c.getY(0, 0).doubleValue(), EPSILON);
+        assertTrue(Double.isNaN(c.getYValue(0, 1)));
+        c.setIntervalWidth(1.0);
+        assertEquals(0.5, c.getStartXValue(0, 0), EPSILON);
+        assertEquals(1.5, c.getEndXValue(0, 0), EPSILON);
+    }
+
+    /**
+     * Some checks for the getDomainBounds() and getRangeBounds() methods.
+     */
+    @Test
+    public void testBounds() {
+        FastXYSeriesCollection c = new FastXYSeriesCollection();
+        assertNull(c.getDomainBounds(false));
+        assertNull(c.getRangeBounds(false));
+        FastXYSeries s1 = new FastXYSeries("S1");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        c.addSeries(s1);
+        FastXYSeries s2 = new FastXYSeries("S2");
+        s2.add(-1.0, 5.0);
+        c.addSeries(s2);
+        assertEquals(new Range(-1.0, 2.0), c.getDomainBounds(false));
+        assertEquals(new Range(1.1, 5.0), c.getRangeBounds(false));
+        assertEquals(new Range(1.1, 5.0),
+                DatasetUtilities.findRangeBounds(c));
+        s2.add(3.0, -3.0);
+        assertEquals(new Range(-1.0, 3.0), c.getDomainBounds(false));
+        assertEquals(-3.0, c.getRangeLowerBound(false), EPSILON);
+    }
+
+}
@@ -0,0 +1,458 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * FastXYSeriesTest.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ * 18-Oct-2026 : Added testRollingWindow();
+ * 18-Oct-2026 : Added testPyramidIndex();
+ * 18-Oct-2026 : Added testAddAll();
+ * 18-Oct-2026 : Added testSnapshot();
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link FastXYSeries} class.
+ */
+public class FastXYSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        FastXYSeries s1 = new FastXYSeries("Series");
+        s1.add(1.0, 1.1);
+        FastXYSeries s2 = new FastXYSeries("Series");
+        s2.add(1.0, 1.1);
+        assertTrue(s1.equals(s2));
+        assertTrue(s2.equals(s1));
+
+        s1.setKey("Series X");
+        assertFalse(s1.equals(s2));
+        s2.setKey("Series X");
+        assertTrue(s1.equals(s2));
+
+        s1.add(2.0, 2.2);
+        assertFalse(s1.equals(s2));
+        s2.add(2.0, 2.2);
+        assertTrue(s1.equals(s2));
+
+        s1.setMaximumItemCount(10);
+        assertFalse(s1.equals(s2));
+        s2.setMaximumItemCount(10);
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        FastXYSeries s1 = new FastXYSeries("Series");
+        s1.add(1.0, 1.1);
+        FastXYSeries s2 = (FastXYSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertTrue(s1.getClass() == s2.getClass());
+        assertTrue(s1.equals(s2));
+
+        // check independence
+        s1.add(2.0, 2.2);
+        assertFalse(s1.equals(s2));
+        s2.add(2.0, 2.2);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        FastXYSeries s1 = new FastXYSeries("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, Double.NaN);
+        FastXYSeries s2 = (FastXYSeries) TestUtilities.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items added out of order are sorted, and duplicates follow any
+     * existing items with the same x-value.
+     */
+    @Test
+    public void testAddSorted() {
+        FastXYSeries s1 = new FastXYSeries("Series");
+        s1.add(5.0, 5.0);
+        s1.add(1.0, 1.0);
+        s1.add(3.0, 3.0);
+        s1.add(3.0, 33.0);
+        s1.add(7.0, 7.0);
+        assertEquals(5, s1.getItemCount());
+        assertEquals(1.0, s1.getXValue(0), EPSILON);
+        assertEquals(3.0, s1.getYValue(1), EPSILON);
+        assertEquals(33.0, s1.getYValue(2), EPSILON);
+        assertEquals(5.0, s1.getXValue(3), EPSILON);
+        assertEquals(7.0, s1.getXValue(4), EPSILON);
+    }
+
+    /**
+     * A series that does not allow duplicates should reject them.
+     */
+    @Test
+    public void testAddDuplicate() {
+        FastXYSeries s1 = new FastXYSeries("Series", true, false);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        try {
+            s1.add(1.0, 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        FastXYSeries s2 = new FastXYSeries("Series", false, false);
+        s2.add(2.0, 2.0);
+        s2.add(1.0, 1.0);
+        assertEquals(2.0, s2.getXValue(0), EPSILON);
+        try {
+            s2.add(2.0, 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the indexOf() method.
+     */
+    @Test
+    public void testIndexOf() {
+        FastXYSeries s1 = new FastXYSeries("Series 1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        assertEquals(0, s1.indexOf(1.0));
+        assertEquals(1, s1.indexOf(2.0));
+        assertEquals(2, s1.indexOf(3.0));
+        assertEquals(-4, s1.indexOf(99.9));
+        assertEquals(-2, s1.indexOf(1.5));
+
+        FastXYSeries s2 = new FastXYSeries("Series 2", false);
+        s2.add(3.0, 3.0);
+        s2.add(1.0, 1.0);
+        assertEquals(0, s2.indexOf(3.0));
+        assertEquals(1, s2.indexOf(1.0));
+        assertEquals(-1, s2.indexOf(2.0));
+    }
+
+    /**
+     * Some checks for the addOrUpdate() method.
+     */
+    @Test
+    public void testAddOrUpdate() {
+        FastXYSeries series = new FastXYSeries("S1", true, false);
+        assertTrue(Double.isNaN(series.addOrUpdate(1.0, 1.0)));
+        assertEquals(1.0, series.addOrUpdate(1.0, 2.0), EPSILON);
+        assertEquals(1, series.getItemCount());
+        assertEquals(2.0, series.getYValue(0), EPSILON);
+        assertEquals(2.0, series.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Check that the maximum item count is respected and that the bounds
+     * are maintained as items are dropped.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        s1.setMaximumItemCount(2);
+        s1.add(1.0, 100.0);
+        s1.add(2.0, 1.0);
+        s1.add(3.0, 2.0);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(2.0, s1.getXValue(0), EPSILON);
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(3.0, s1.getMaxX(), EPSILON);
+        assertEquals(1.0, s1.getMinY(), EPSILON);
+        assertEquals(2.0, s1.getMaxY(), EPSILON);
+
+        s1.setMaximumItemCount(1);
+        assertEquals(1, s1.getItemCount());
+        assertEquals(3.0, s1.getMinX(), EPSILON);
+
+        // a negative maximum is rejected and leaves the series unchanged
+        try {
+            s1.setMaximumItemCount(-1);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(1, s1.getMaximumItemCount());
+        assertEquals(1, s1.getItemCount());
+    }
+
+    /**
+     * Some checks for the cached bounds values.
+     */
+    @Test
+    public void testBounds() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        assertTrue(Double.isNaN(s1.getMinX()));
+        assertTrue(Double.isNaN(s1.getMaxY()));
+        s1.add(1.0, 11.0);
+        s1.add(2.0, Double.NaN);
+        s1.add(3.0, 33.0);
+        assertEquals(1.0, s1.getMinX(), EPSILON);
+        assertEquals(3.0, s1.getMaxX(), EPSILON);
+        assertEquals(11.0, s1.getMinY(), EPSILON);
+        assertEquals(33.0, s1.getMaxY(), EPSILON);
+
+        s1.updateByIndex(2, 22.0);
+        assertEquals(22.0, s1.getMaxY(), EPSILON);
+        s1.remove(0);
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(22.0, s1.getMinY(), EPSILON);
+        try {
+            s1.delete(1, 0);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(2, s1.getItemCount());
+        s1.delete(0, 1);
+        assertEquals(0, s1.getItemCount());
+        assertTrue(Double.isNaN(s1.getMinX()));
+        assertTrue(Double.isNaN(s1.getMinY()));
+    }
+
+    /**
+     * Add enough items to force the arrays to grow several times.
+     */
+    @Test
+    public void testGrowth() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        for (int i = 999; i >= 0; i--) {
+            s1.add(i, i * 2.0, false);
+        }
+        assertEquals(1000, s1.getItemCount());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, s1.getXValue(i), EPSILON);
+            assertEquals(i * 2.0, s1.getYValue(i), EPSILON);
+        }
+        double[][] array = s1.toArray();
+        assertEquals(1000, array[0].length);
+        assertEquals(1998.0, array[1][999], EPSILON);
+    }
+
+    /**
+     * Check the bounds for a series that drops its oldest item each time a
+     * new item is added, with enough items to wrap the storage many times.
+     */
+    @Test
+    public void testRollingWindow() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        s1.setMaximumItemCount(10);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, (i % 7) * 10.0 + (i % 3), false);
+            assertEquals(Math.min(i + 1, 10), s1.getItemCount());
+            int first = Math.max(0, i - 9);
+            assertEquals(first, s1.getXValue(0), EPSILON);
+            assertEquals(first, s1.getMinX(), EPSILON);
+            assertEquals(i, s1.getMaxX(), EPSILON);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int j = first; j <= i; j++) {
+                double y = (j % 7) * 10.0 + (j % 3);
+                min = Math.min(min, y);
+                max = Math.max(max, y);
+            }
+            assertEquals(min, s1.getMinY(), EPSILON);
+            assertEquals(max, s1.getMaxY(), EPSILON);
+        }
+        assertEquals(995, s1.indexOf(995.0) + 990);
+    }
+
+    /**
+     * The pyramid index is maintained incrementally for appends and removals
+     * from the front, and rebuilt after other changes.
+     */
+    @Test
+    public void testPyramidIndex() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        FastXYSeriesCollection dataset = new FastXYSeriesCollection(s1);
+        assertNull(s1.getPyramidIndex());
+        s1.setPyramidIndexEnabled(true);
+        XYPyramidIndex index = s1.getPyramidIndex();
+        s1.setMaximumItemCount(100);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, i % 50, false);
+        }
+        assertSame(index, s1.getPyramidIndex());
+        assertEquals(100, index.getItemCount());
+        assertEquals(new Range(0.0, 49.0), index.findYRange(dataset, 0, 0,
+                99));
+        assertEquals(new Range(10.0, 20.0), index.findYRange(dataset, 0, 10,
+                20));
+
+        s1.updateByIndex(15, 99.0);
+        XYPyramidIndex rebuilt = s1.getPyramidIndex();
+        assertNotSame(index, rebuilt);
+        assertEquals(new Range(10.0, 99.0), rebuilt.findYRange(dataset, 0,
+                10, 20));
+        assertSame(rebuilt, dataset.getPyramidIndex(0));
+
+        s1.setPyramidIndexEnabled(false);
+        assertNull(dataset.getPyramidIndex(0));
+    }
+
+    /**
+     * Some checks for the addAll() method.
+     */
+    @Test
+    public void testAddAll() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        s1.setPyramidIndexEnabled(true);
+        s1.add(2.0, 20.0);
+        s1.add(4.0, 40.0);
+        s1.addAll(new double[] {6.0, 5.0}, new double[] {60.0, 50.0});
+        s1.addAll(new double[] {4.0, 1.0, 3.0},
+                new double[] {41.0, 10.0, 30.0});
+        double[][] expected = new double[][] {
+            {1.0, 2.0, 3.0, 4.0, 4.0, 5.0, 6.0},
+            {10.0, 20.0, 30.0, 40.0, 41.0, 50.0, 60.0}};
+        assertTrue(Arrays.deepEquals(expected, s1.toArray()));
+        assertEquals(1.0, s1.getMinX(), EPSILON);
+        assertEquals(60.0, s1.getMaxY(), EPSILON);
+        assertEquals(7, s1.getPyramidIndex().getItemCount());
+
+        // a random batch gives the same result as adding one at a time
+        Random random = new Random(42L);
+        FastXYSeries s2 = new FastXYSeries("S2");
+        FastXYSeries s3 = new FastXYSeries("S3");
+        for (int batch = 0; batch < 5; batch++) {
+            double[] x = new double[100];
+            double[] y = new double[100];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = random.nextInt(50);
+                y[i] = random.nextDouble();
+                s3.add(x[i], y[i]);
+            }
+            s2.addAll(x, y);
+            assertTrue(Arrays.deepEquals(s3.toArray(), s2.toArray()));
+        }
+
+        // a duplicate leaves the series unchanged
+        FastXYSeries s4 = new FastXYSeries("S4", true, false);
+        s4.add(1.0, 1.0);
+        try {
+            s4.addAll(new double[] {2.0, 1.0}, new double[] {2.0, 1.0});
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s4.getItemCount());
+
+        // the maximum item count is applied
+        FastXYSeries s5 = new FastXYSeries("S5");
+        s5.setMaximumItemCount(3);
+        s5.add(1.0, 1.0);
+        s5.addAll(new double[] {2.0, 3.0, 4.0}, new double[] {9.0, 3.0, 4.0});
+        assertEquals(3, s5.getItemCount());
+        assertEquals(2.0, s5.getMinX(), EPSILON);
+        assertEquals(9.0, s5.getMaxY(), EPSILON);
+        s5.addAll(new double[] {0.5, 5.0}, new double[] {0.5, 5.0});
+        assertEquals(3.0, s5.getXValue(0), EPSILON);
+        assertEquals(3.0, s5.getMinY(), EPSILON);
+    }
+
+    /**
+     * A snapshot of a series in concurrent mode does not change when the
+     * series changes.
+     */
+    @Test
+    public void testSnapshot() {
+        FastXYSeries s1 = new FastXYSeries("S1");
+        s1.setConcurrent(true);
+        s1.setMaximumItemCount(3);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        FastXYSeries snapshot = (FastXYSeries) s1.getSnapshot();
+        assertSame(snapshot, s1.getSnapshot());
+        assertEquals(s1, snapshot);
+
+        s1.updateByIndex(0, 5.0);
+        s1.add(3.0, 3.0);
+        s1.add(4.0, 4.0);
+        assertEquals(2, snapshot.getItemCount());
+        assertEquals(1.0, snapshot.getXValue(0), EPSILON);
+        assertEquals(1.0, snapshot.getYValue(0), EPSILON);
+        assertEquals(2.0, snapshot.getMaxY(), EPSILON);
+
+        FastXYSeries snapshot2 = (FastXYSeries) s1.getSnapshot();
+        assertNotSame(snapshot, snapshot2);
+        assertEquals(s1, snapshot2);
+        assertEquals(2.0, snapshot2.getXValue(0), EPSILON);
+        s1.remove(0);
+        s1.clear();
+        assertEquals(3, snapshot2.getItemCount());
+        assertEquals(4.0, snapshot2.getMaxY(), EPSILON);
+        assertEquals(0, ((FastXYSeries) s1.getSnapshot()).getItemCount());
+    }
+
+}
@@ -36,6 +36,7 @@
  * -------
  * 21-Feb-2005 : Version 1 (DG);
  * 06-Oct-2005 : Updated for testEquals() for method name change (DG);
+ * 18-Oct-2026 : Added testIntervalWidthAfterChanges();
  *
  */
 
@@ -45,6 +46,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
 
+import java.util.Random;
+
 import org.jfree.chart.TestUtilities;
 import org.junit.Test;
 
@@ -53,6 +56,8 @@ import org.junit.Test;
  */
 public class IntervalXYDelegateTest {
 
+    private static final double EPSILON = 0.0000000001;
+
     /**
      * Confirm that the equals method can distinguish all the required fields.
      */
@@ -119,4 +124,63 @@ public class IntervalXYDelegateTest {
         assertEquals(d1, d2);
     }
 
+
+    /**
+     * Returns the interval width calculated from scratch for a dataset.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The interval width.
+     */
+    private double recalculatedWidth(XYDataset dataset) {
+        IntervalXYDelegate d = new IntervalXYDelegate(dataset, false);
+        d.setAutoWidth(true);
+        return d.getIntervalWidth();
+    }
+
+    /**
+     * The automatic interval width is maintained as items are appended,
+     * updated, inserted and removed.
+     */
+    @Test
+    public void testIntervalWidthAfterChanges() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection c = new XYSeriesCollection();
+        c.addSeries(s1);
+        c.addSeries(s2);
+        c.setAutoWidth(true);
+        s1.add(1.0, 1.0);
+        s1.add(5.0, 2.0);
+        assertEquals(4.0, c.getIntervalWidth(), EPSILON);
+        s1.add(7.0, 3.0);
+        assertEquals(2.0, c.getIntervalWidth(), EPSILON);
+        s2.add(7.5, 1.0);
+        s2.add(8.0, 1.0);
+        assertEquals(0.5, c.getIntervalWidth(), EPSILON);
+        s2.updateByIndex(0, new Double(9.0));
+        assertEquals(0.5, c.getIntervalWidth(), EPSILON);
+        s2.remove(0);
+        assertEquals(2.0, c.getIntervalWidth(), EPSILON);
+
+        Random random = new Random(456L);
+        for (int i = 0; i < 200; i++) {
+            XYSeries s = random.nextBoolean() ? s1 : s2;
+            int action = random.nextInt(10);
+            double x = random.nextInt(1000) / 10.0;
+            if (action < 6) {
+                double last = s.getItemCount() > 0
+                        ? s.getMaxX() : 0.0;
+                s.add(last + random.nextInt(50) / 10.0 + 0.1, i);
+            }
+            else if (action < 8) {
+                s.add(x, i);
+            }
+            else if (s.getItemCount() > 0) {
+                s.remove(random.nextInt(s.getItemCount()));
+            }
+            assertEquals(recalculatedWidth(c), c.getIntervalWidth(), EPSILON);
+        }
+    }
+
 }
@@ -0,0 +1,192 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * XYPyramidIndexTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link XYPyramidIndex} class.
+ */
+public class XYPyramidIndexTest {
+
+    /**
+     * Returns the y-range for some items by iterating over them.
+     *
+     * @param s  the series.
+     * @param first  the first item.
+     * @param last  the last item.
+     *
+     * @return The range.
+     */
+    private Range iterateYRange(FastXYSeries s, int first, int last) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = first; i <= last; i++) {
+            double y = s.getYValue(i);
+            if (!Double.isNaN(y)) {
+                min = Math.min(min, y);
+                max = Math.max(max, y);
+            }
+        }
+        return min <= max ? new Range(min, max) : null;
+    }
+
+    /**
+     * Checks findYRange() against the y-ranges found by iteration for random
+     * item ranges, while items are appended and removed from the front.
+     */
+    @Test
+    public void testFindYRange() {
+        Random random = new Random(17L);
+        FastXYSeries s = new FastXYSeries("S");
+        FastXYSeriesCollection dataset = new FastXYSeriesCollection(s);
+        XYPyramidIndex index = new XYPyramidIndex(2);
+        int x = 0;
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 500; i++) {
+                double y = random.nextInt(10) == 0 ? Double.NaN
+                        : random.nextGaussian();
+                s.add(x++, y, false);
+                index.add(y);
+            }
+            int remove = 1 + random.nextInt(200);
+            s.delete(0, remove - 1);
+            index.removeFirst(remove);
+            assertEquals(s.getItemCount(), index.getItemCount());
+            for (int trial = 0; trial < 50; trial++) {
+                int a = random.nextInt(s.getItemCount());
+                int b = random.nextInt(s.getItemCount());
+                int first = Math.min(a, b);
+                int last = Math.max(a, b);
+                assertEquals(iterateYRange(s, first, last),
+                        index.findYRange(dataset, 0, first, last));
+            }
+        }
+    }
+
+    /**
+     * The items selected must be ascending and distinct, must include the
+     * first and last items and all NaN items, and must include items with
+     * the minimum and maximum y-values.
+     */
+    @Test
+    public void testSelectItems() {
+        Random random = new Random(29L);
+        FastXYSeries s = new FastXYSeries("S");
+        FastXYSeriesCollection dataset = new FastXYSeriesCollection(s);
+        XYPyramidIndex index = new XYPyramidIndex();
+        for (int i = 0; i < 100000; i++) {
+            double y = (i == 54321) ? Double.NaN : random.nextGaussian();
+            s.add(i, y, false);
+            index.add(y);
+        }
+        int[] items = index.selectItems(dataset, 0, 1003, 98765, 200);
+        assertTrue(items.length < 4 * 400);
+        assertEquals(1003, items[0]);
+        assertEquals(98765, items[items.length - 1]);
+        boolean nan = false;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < items.length; i++) {
+            if (i > 0) {
+                assertTrue(items[i - 1] < items[i]);
+            }
+            double y = s.getYValue(items[i]);
+            if (Double.isNaN(y)) {
+                nan = true;
+            }
+            else {
+                min = Math.min(min, y);
+                max = Math.max(max, y);
+            }
+        }
+        assertTrue(nan);
+        assertEquals(iterateYRange(s, 1003, 98765), new Range(min, max));
+
+        // buckets no bigger than the leaves are no help
+        assertNull(index.selectItems(dataset, 0, 0, 999, 500));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        FastXYSeries s = new FastXYSeries("S");
+        FastXYSeriesCollection dataset = new FastXYSeriesCollection(s);
+        XYPyramidIndex i1 = new XYPyramidIndex(1);
+        for (int i = 0; i < 10; i++) {
+            s.add(i, i);
+            i1.add(i);
+        }
+        XYPyramidIndex i2 = (XYPyramidIndex) i1.clone();
+        assertEquals(i1.getLevelCount(), i2.getLevelCount());
+        i1.add(99.0);
+        assertEquals(10, i2.getItemCount());
+        assertEquals(new Range(0.0, 9.0), i2.findYRange(dataset, 0, 0, 9));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that it still works.
+     */
+    @Test
+    public void testSerialization() {
+        FastXYSeries s = new FastXYSeries("S");
+        FastXYSeriesCollection dataset = new FastXYSeriesCollection(s);
+        XYPyramidIndex i1 = new XYPyramidIndex(1);
+        for (int i = 0; i < 10; i++) {
+            s.add(i, -i);
+            i1.add(-i);
+        }
+        XYPyramidIndex i2 = (XYPyramidIndex) TestUtilities.serialised(i1);
+        assertEquals(i1.getItemCount(), i2.getItemCount());
+        assertEquals(new Range(-8.0, -2.0), i2.findYRange(dataset, 0, 2, 8));
+    }
+
+}
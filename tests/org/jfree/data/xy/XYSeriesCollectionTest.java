@@ -44,6 +44,7 @@
  * 17-May-2010 : Added checks for duplicate series names (DG);
  * 08-Jan-2012 : Added testBug3445507() (DG);
  * 28-Jul-2012 : Added testSeriesRename() (DG);
+ * 18-Oct-2026 : Added testBatch();
  *
  */
 
@@ -57,9 +58,15 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jfree.chart.TestUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.util.PublicCloneable;
 
 import org.junit.Test;
@@ -534,4 +541,44 @@ public class XYSeriesCollectionTest {
         // change because "C" is already the key for the other series in the
         // collection
     }
+
+    /**
+     * A batch of changes to the series in a collection sends a single event
+     * that describes the combined change.
+     */
+    @Test
+    public void testBatch() {
+        final List events = new ArrayList();
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        dataset.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                events.add(event);
+            }
+        });
+        dataset.beginBatch();
+        s2.add(1.0, 1.0);
+        s2.addAll(new double[] {2.0, 3.0}, new double[] {2.0, 3.0});
+        assertTrue(events.isEmpty());
+        dataset.endBatch();
+        assertEquals(1, events.size());
+        DatasetChangeEvent event = (DatasetChangeEvent) events.get(0);
+        assertEquals(1, event.getSeries());
+        assertEquals(SeriesChangeType.APPEND, event.getType());
+        assertEquals(0, event.getFirstItem());
+        assertEquals(2, event.getLastItem());
+
+        dataset.beginBatch();
+        s1.add(1.0, 1.0);
+        s2.add(4.0, 4.0);
+        dataset.endBatch();
+        assertEquals(2, events.size());
+        event = (DatasetChangeEvent) events.get(1);
+        assertEquals(-1, event.getSeries());
+        assertEquals(SeriesChangeType.STRUCTURE, event.getType());
+    }
 }
@@ -41,6 +41,10 @@
  * 01-May-2008 : Added testAddOrUpdate3() (DG);
  * 24-Nov-2008 : Added testBug1955483() (DG);
  * 06-Mar-2009 : Added tests for cached bounds values (DG);
+ * 18-Oct-2026 : Added testRollingWindow();
+ * 18-Oct-2026 : Added testChangeEventDetails();
+ * 18-Oct-2026 : Added testAddAll() and testBatch();
+ * 18-Oct-2026 : Added testSnapshot();
  *
  */
 
@@ -49,8 +53,15 @@ package org.jfree.data.xy;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.jfree.chart.TestUtilities;
 
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
@@ -806,4 +817,230 @@ public class XYSeriesTest {
         c.removeSeries(1);
         s1.setKey("S2");
     }
+
+    /**
+     * Check the bounds for a series that drops its oldest item each time a
+     * new item is added.
+     */
+    @Test
+    public void testRollingWindow() {
+        XYSeries s1 = new XYSeries("S1", false);
+        s1.setMaximumItemCount(3);
+        s1.add(5.0, 50.0);
+        s1.add(1.0, 10.0);
+        s1.add(3.0, 30.0);
+        s1.add(4.0, 40.0);
+        assertEquals(1.0, s1.getMinX(), EPSILON);
+        assertEquals(4.0, s1.getMaxX(), EPSILON);
+        assertEquals(10.0, s1.getMinY(), EPSILON);
+        s1.add(2.0, null);
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(30.0, s1.getMinY(), EPSILON);
+        assertEquals(40.0, s1.getMaxY(), EPSILON);
+        s1.add(6.0, 60.0);
+        s1.add(7.0, 70.0);
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(60.0, s1.getMinY(), EPSILON);
+        s1.remove(0);
+        assertEquals(6.0, s1.getMinX(), EPSILON);
+        s1.updateByIndex(0, new Double(1.0));
+        assertEquals(1.0, s1.getMinY(), EPSILON);
+        s1.add(8.0, 80.0);
+        s1.add(9.0, 90.0);
+        assertEquals(70.0, s1.getMinY(), EPSILON);
+        assertEquals(7.0, s1.getMinX(), EPSILON);
+    }
+
+    /**
+     * Checks the item range and type for an event.
+     *
+     * @param event  the event.
+     * @param type  the expected type.
+     * @param first  the expected first item.
+     * @param last  the expected last item.
+     */
+    private void checkEvent(SeriesChangeEvent event, SeriesChangeType type,
+            int first, int last) {
+        assertEquals(type, event.getType());
+        assertEquals(first, event.getFirstItem());
+        assertEquals(last, event.getLastItem());
+    }
+
+    /**
+     * Check the change events describe the items that changed.
+     */
+    @Test
+    public void testChangeEventDetails() {
+        final List events = new ArrayList();
+        XYSeries s1 = new XYSeries("S1");
+        s1.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                events.add(event);
+            }
+        });
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        checkEvent((SeriesChangeEvent) events.get(1), SeriesChangeType.APPEND,
+                1, 1);
+        s1.add(0.5, 3.0);
+        checkEvent((SeriesChangeEvent) events.get(2),
+                SeriesChangeType.STRUCTURE, -1, -1);
+        s1.updateByIndex(1, new Double(4.0));
+        checkEvent((SeriesChangeEvent) events.get(3), SeriesChangeType.UPDATE,
+                1, 1);
+        s1.remove(0);
+        checkEvent((SeriesChangeEvent) events.get(4), SeriesChangeType.REMOVE,
+                0, 0);
+        s1.setMaximumItemCount(1);
+        checkEvent((SeriesChangeEvent) events.get(5), SeriesChangeType.REMOVE,
+                0, 0);
+        s1.add(3.0, 3.0);
+        checkEvent((SeriesChangeEvent) events.get(6), SeriesChangeType.APPEND,
+                0, 0);
+        s1.clear();
+        checkEvent((SeriesChangeEvent) events.get(7), SeriesChangeType.REMOVE,
+                0, 0);
+    }
+
+    /**
+     * Some checks for the addAll() methods.
+     */
+    @Test
+    public void testAddAll() {
+        final List events = new ArrayList();
+        XYSeries s1 = new XYSeries("S1");
+        s1.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                events.add(event);
+            }
+        });
+        s1.add(2.0, 20.0);
+        s1.add(4.0, 40.0);
+
+        // items after the existing items are appended
+        s1.addAll(new double[] {6.0, 5.0}, new double[] {60.0, 50.0});
+        assertEquals(3, events.size());
+        checkEvent((SeriesChangeEvent) events.get(2), SeriesChangeType.APPEND,
+                2, 3);
+        assertEquals(5.0, s1.getX(2));
+        assertEquals(6.0, s1.getX(3));
+
+        // other items are merged, after any duplicates
+        s1.addAll(Arrays.asList(new XYDataItem[] {
+                new XYDataItem(4.0, 41.0), new XYDataItem(1.0, 10.0),
+                new XYDataItem(3.0, 30.0)}).iterator());
+        assertEquals(4, events.size());
+        checkEvent((SeriesChangeEvent) events.get(3),
+                SeriesChangeType.STRUCTURE, -1, -1);
+        assertEquals(7, s1.getItemCount());
+        double[][] expected = new double[][] {
+            {1.0, 2.0, 3.0, 4.0, 4.0, 5.0, 6.0},
+            {10.0, 20.0, 30.0, 40.0, 41.0, 50.0, 60.0}};
+        assertTrue(Arrays.deepEquals(expected, s1.toArray()));
+        assertEquals(1.0, s1.getMinX(), EPSILON);
+        assertEquals(60.0, s1.getMaxY(), EPSILON);
+
+        // a duplicate leaves the series unchanged
+        XYSeries s2 = new XYSeries("S2", true, false);
+        s2.add(1.0, 1.0);
+        try {
+            s2.addAll(new double[] {0.0, 1.0}, new double[] {0.0, 1.0});
+            fail("Should have thrown a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s2.getItemCount());
+
+        // the maximum item count is applied
+        XYSeries s3 = new XYSeries("S3");
+        s3.setMaximumItemCount(3);
+        s3.add(1.0, 1.0);
+        s3.addAll(new double[] {2.0, 3.0, 4.0}, new double[] {9.0, 3.0, 4.0});
+        assertEquals(3, s3.getItemCount());
+        assertEquals(2.0, s3.getMinX(), EPSILON);
+        assertEquals(9.0, s3.getMaxY(), EPSILON);
+        s3.addAll(new double[] {5.0}, new double[] {5.0});
+        assertEquals(3.0, s3.getMinY(), EPSILON);
+    }
+
+    /**
+     * A batch of changes sends a single event.
+     */
+    @Test
+    public void testBatch() {
+        final List events = new ArrayList();
+        XYSeries s1 = new XYSeries("S1");
+        s1.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                events.add(event);
+            }
+        });
+        s1.beginBatch();
+        s1.add(1.0, 1.0);
+        s1.beginBatch();
+        s1.add(2.0, 2.0);
+        s1.endBatch();
+        s1.add(3.0, 3.0);
+        assertEquals(0, events.size());
+        s1.endBatch();
+        assertEquals(1, events.size());
+        checkEvent((SeriesChangeEvent) events.get(0), SeriesChangeType.APPEND,
+                0, 2);
+
+        s1.beginBatch();
+        s1.add(4.0, 4.0);
+        s1.updateByIndex(0, new Double(0.0));
+        s1.endBatch();
+        assertEquals(2, events.size());
+        checkEvent((SeriesChangeEvent) events.get(1),
+                SeriesChangeType.STRUCTURE, -1, -1);
+
+        // an empty batch sends no event
+        s1.beginBatch();
+        s1.endBatch();
+        assertEquals(2, events.size());
+        try {
+            s1.endBatch();
+            fail("Should have thrown an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+
+    /**
+     * A snapshot of a series in concurrent mode does not change when the
+     * series changes.
+     */
+    @Test
+    public void testSnapshot() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.setConcurrent(true);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        XYSeries snapshot = (XYSeries) s1.getSnapshot();
+        assertTrue(snapshot == s1.getSnapshot());
+        assertEquals(s1, snapshot);
+
+        s1.updateByIndex(0, new Double(5.0));
+        s1.add(3.0, 3.0);
+        assertEquals(2, snapshot.getItemCount());
+        assertEquals(1.0, snapshot.getY(0));
+        assertEquals(2.0, snapshot.getMaxY(), EPSILON);
+
+        XYSeries snapshot2 = (XYSeries) s1.getSnapshot();
+        assertFalse(snapshot == snapshot2);
+        assertEquals(s1, snapshot2);
+        s1.remove(0);
+        s1.clear();
+        assertEquals(3, snapshot2.getItemCount());
+        assertEquals(5.0, snapshot2.getY(0));
+        assertEquals(0, ((XYSeries) s1.getSnapshot()).getItemCount());
+    }
+
 }